@@ -434,6 +434,16 @@ public interface Item extends Serializable, KryoSerializable {
         throw new UnsupportedOperationException("Operation not defined for type " + this.getDynamicType());
     }
 
+    /**
+     * Returns the instant of the item as milliseconds since the epoch, if it is a atomic item of type dateTimeItem or
+     * dateItem or timeItem, without building a DateTime if the item does not hold one already.
+     *
+     * @return the milliseconds since the epoch.
+     */
+    default long getEpochMillis() {
+        return getDateTimeValue().getMillis();
+    }
+
     /**
      * Returns the byte[] value of the item, if it is a atomic item of type hexBinary or Base64Binary.
      *
@@ -2,10 +2,14 @@ package org.rumbledb.api;
 
 import java.net.URI;
 import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.rumbledb.compiler.VisitorHelpers;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.InteractiveSession;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.expressions.module.MainModule;
 import org.rumbledb.runtime.RuntimeIterator;
 import sparksoniq.spark.SparkSessionManager;
@@ -23,15 +27,18 @@ import sparksoniq.spark.SparkSessionManager;
 public class Rumble {
 
     private RumbleRuntimeConfiguration configuration;
+    private Set<QueryCancellation> runningQueries;
 
     /**
-     * Creates a new Rumble instance. This does NOT initialize Spark. You need to do so before instantiating Rumble.
+     * Creates a new Rumble instance. This does NOT initialize Spark: the Spark session is only created lazily, if a
+     * query actually reaches a distributed operator. Queries that are executed entirely locally never create one.
      *
      * @param configuration a RumbleRuntimeConfiguration object containing the configuration.
      */
     public Rumble(RumbleRuntimeConfiguration configuration) {
         this.configuration = configuration;
         SparkSessionManager.COLLECT_ITEM_LIMIT = this.configuration.getResultSizeCap();
+        this.runningQueries = ConcurrentHashMap.newKeySet();
     }
 
     /**
@@ -41,16 +48,58 @@ public class Rumble {
      * @return the resulting sequence as an ItemIterator.
      */
     public SequenceOfItems runQuery(String query) {
-        MainModule mainModule = VisitorHelpers.parseMainModuleFromQuery(
-            query,
-            this.configuration
-        );
-        DynamicContext dynamicContext = VisitorHelpers.createDynamicContext(mainModule, this.configuration);
-        RuntimeIterator iterator = VisitorHelpers.generateRuntimeIterator(
-            mainModule,
-            this.configuration
-        );
-        return new SequenceOfItems(iterator, dynamicContext, this.configuration);
+        QueryCancellation cancellation = startQuery();
+        try {
+            MainModule mainModule = VisitorHelpers.parseMainModuleFromQuery(
+                query,
+                this.configuration
+            );
+            DynamicContext dynamicContext = VisitorHelpers.createDynamicContext(mainModule, this.configuration);
+            RuntimeIterator iterator = VisitorHelpers.generateRuntimeIterator(
+                mainModule,
+                this.configuration
+            );
+            return createSequence(mainModule, iterator, dynamicContext, cancellation);
+        } catch (Exception e) {
+            cancellation.release();
+            cancellation.throwIfCancelled();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a query within an interactive session and returns an iterator over the resulting sequence of Items. The
+     * global variables of the session are in scope in the query, and the global variables declared in its prolog are
+     * kept in the session for the next queries.
+     *
+     * @param query the content of the JSONiq main module.
+     * @param session the interactive session.
+     * @return the resulting sequence as an ItemIterator.
+     */
+    public SequenceOfItems runQuery(String query, InteractiveSession session) {
+        QueryCancellation cancellation = startQuery();
+        try {
+            MainModule mainModule = VisitorHelpers.parseMainModuleFromQuery(
+                query,
+                this.configuration,
+                session
+            );
+            DynamicContext dynamicContext = VisitorHelpers.createDynamicContext(
+                mainModule,
+                this.configuration,
+                session
+            );
+            session.retainVariables(mainModule, dynamicContext);
+            RuntimeIterator iterator = VisitorHelpers.generateRuntimeIterator(
+                mainModule,
+                this.configuration
+            );
+            return createSequence(mainModule, iterator, dynamicContext, cancellation);
+        } catch (Exception e) {
+            cancellation.release();
+            cancellation.throwIfCancelled();
+            throw e;
+        }
     }
 
     /**
@@ -61,16 +110,59 @@ public class Rumble {
      * @return the resulting sequence as an ItemIterator.
      */
     public SequenceOfItems runQuery(URI location) throws IOException {
-        MainModule mainModule = VisitorHelpers.parseMainModuleFromLocation(
-            location,
-            this.configuration
-        );
-        DynamicContext dynamicContext = VisitorHelpers.createDynamicContext(mainModule, this.configuration);
-        RuntimeIterator iterator = VisitorHelpers.generateRuntimeIterator(
-            mainModule,
-            this.configuration
-        );
-        return new SequenceOfItems(iterator, dynamicContext, this.configuration);
+        QueryCancellation cancellation = startQuery();
+        try {
+            MainModule mainModule = VisitorHelpers.parseMainModuleFromLocation(
+                location,
+                this.configuration
+            );
+            DynamicContext dynamicContext = VisitorHelpers.createDynamicContext(mainModule, this.configuration);
+            RuntimeIterator iterator = VisitorHelpers.generateRuntimeIterator(
+                mainModule,
+                this.configuration
+            );
+            return createSequence(mainModule, iterator, dynamicContext, cancellation);
+        } catch (Exception e) {
+            cancellation.release();
+            cancellation.throwIfCancelled();
+            throw e;
+        }
+    }
+
+    private SequenceOfItems createSequence(
+            MainModule mainModule,
+            RuntimeIterator iterator,
+            DynamicContext dynamicContext,
+            QueryCancellation cancellation
+    ) {
+        SequenceOfItems sequence = new SequenceOfItems(iterator, dynamicContext, this.configuration, cancellation);
+        sequence.setCompilationTimes(mainModule.getParsingTime(), mainModule.getTranslationTime());
+        sequence.setParsedWithFullLL(mainModule.isParsedWithFullLL());
+        return sequence;
+    }
+
+    // the query runs in its own Spark job group, and is cancelled after the configured timeout
+    private QueryCancellation startQuery() {
+        this.runningQueries.removeIf(QueryCancellation::isReleased);
+        QueryCancellation cancellation = new QueryCancellation();
+        cancellation.bindToCurrentThread();
+        if (this.configuration.getQueryTimeout() > 0) {
+            cancellation.cancelAfter(this.configuration.getQueryTimeout());
+        }
+        this.runningQueries.add(cancellation);
+        return cancellation;
+    }
+
+    /**
+     * Cancels the queries run with this instance that are still being evaluated, or whose results were not closed
+     * yet. Their Spark jobs are cancelled immediately, and their evaluation throws a QueryCancelledException.
+     */
+    public void cancelRunningQueries() {
+        for (QueryCancellation cancellation : this.runningQueries) {
+            if (!cancellation.isReleased()) {
+                cancellation.cancel("The query was cancelled.");
+            }
+        }
     }
 
     /**
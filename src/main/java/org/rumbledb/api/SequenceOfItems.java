@@ -7,8 +7,13 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.QueryCancellation;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.items.structured.JSoundDataFrame;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.ItemType;
 
+import sparksoniq.spark.RDDLocalIterator;
 import sparksoniq.spark.SparkSessionManager;
 
 /**
@@ -25,7 +30,8 @@ import sparksoniq.spark.SparkSessionManager;
  * The number of items returned by the iterator API is capped by the collect-item-limit parameter of Spark to avoid an
  * overflow.
  * For big sequences, it is preferable to obtain it as an RDD, also via this class, if the sequence is too big to be
- * collected locally.
+ * collected locally. Alternatively, with the streaming-output parameter, a sequence computed with Spark is pulled to
+ * the driver one partition at a time by the iterator API, without any cap.
  *
  * @author Ghislain Fourny, Stefan Irimescu, Can Berker Cikis
  */
@@ -35,23 +41,63 @@ public class SequenceOfItems {
     private DynamicContext dynamicContext;
     private RumbleRuntimeConfiguration configuration;
     private boolean isOpen;
+    private JSoundDataFrame nativeDataFrame;
+    private boolean nativeDataFrameComputed;
+    private RDDLocalIterator<Item> streamingIterator;
+    private RDDLocalIterator<Row> streamingRowIterator;
+    private ItemType streamingItemType;
+    private QueryCancellation cancellation;
+    private long parsingTime;
+    private long translationTime;
+    private boolean parsedWithFullLL;
 
     public SequenceOfItems(
             RuntimeIterator iterator,
             DynamicContext dynamicContext,
             RumbleRuntimeConfiguration configuration
+    ) {
+        this(iterator, dynamicContext, configuration, new QueryCancellation());
+    }
+
+    public SequenceOfItems(
+            RuntimeIterator iterator,
+            DynamicContext dynamicContext,
+            RumbleRuntimeConfiguration configuration,
+            QueryCancellation cancellation
     ) {
         this.iterator = iterator;
         this.isOpen = false;
         this.dynamicContext = dynamicContext;
         this.configuration = configuration;
+        this.cancellation = cancellation;
     }
 
     /**
      * Opens the iterator.
      */
     public void open() {
-        this.iterator.open(this.dynamicContext);
+        this.cancellation.bindToCurrentThread();
+        try {
+            if (this.configuration.isStreamingOutput() && this.iterator.isDataFrame()) {
+                // the rows are converted to items on the driver
+                JSoundDataFrame dataFrame = this.iterator.getDataFrame(this.dynamicContext);
+                this.streamingRowIterator = new RDDLocalIterator<>(
+                        dataFrame.javaRDD(),
+                        this.configuration.isPrefetchPartitions()
+                );
+                this.streamingItemType = dataFrame.getItemType();
+            } else if (this.configuration.isStreamingOutput() && this.iterator.isRDDOrDataFrame()) {
+                this.streamingIterator = new RDDLocalIterator<>(
+                        this.iterator.getRDD(this.dynamicContext),
+                        this.configuration.isPrefetchPartitions()
+                );
+            } else {
+                this.iterator.open(this.dynamicContext);
+            }
+        } catch (Exception e) {
+            this.cancellation.throwIfCancelled();
+            throw e;
+        }
         this.isOpen = true;
     }
 
@@ -65,11 +111,37 @@ public class SequenceOfItems {
     }
 
     /**
-     * Closes the iterator.
+     * Closes the iterator. The query is then done: its timeout is stopped, and the data cached for it is released.
      */
     public void close() {
-        this.iterator.close();
+        if (this.streamingIterator != null) {
+            this.streamingIterator.close();
+            this.streamingIterator = null;
+        } else if (this.streamingRowIterator != null) {
+            this.streamingRowIterator.close();
+            this.streamingRowIterator = null;
+        } else if (this.isOpen) {
+            this.iterator.close();
+        }
         this.isOpen = false;
+        this.cancellation.release();
+    }
+
+    /**
+     * Cancels the query, possibly from another thread. Its running Spark jobs are cancelled immediately, and the
+     * thread iterating over the sequence (or materializing it) gets a QueryCancelledException.
+     */
+    public void cancel() {
+        this.cancellation.cancel("The query was cancelled.");
+    }
+
+    /**
+     * Returns the cancellation state of the query.
+     *
+     * @return the cancellation state.
+     */
+    public QueryCancellation getCancellation() {
+        return this.cancellation;
     }
 
     /**
@@ -78,17 +150,43 @@ public class SequenceOfItems {
      * @return true if there are more items, false otherwise.
      */
     public boolean hasNext() {
-        return this.iterator.hasNext();
+        try {
+            if (this.streamingIterator != null) {
+                return this.streamingIterator.hasNext();
+            }
+            if (this.streamingRowIterator != null) {
+                return this.streamingRowIterator.hasNext();
+            }
+            return this.iterator.hasNext();
+        } catch (Exception e) {
+            this.cancellation.throwIfCancelled();
+            throw e;
+        }
     }
 
     /**
      * Returns the current item and moves on to the next one. The number of items the iterator can returned is capped by
-     * Spark's settings (collect-item-limit).
+     * Spark's settings (collect-item-limit), unless the sequence is streamed.
      *
      * @return the next item.
      */
     public Item next() {
-        return this.iterator.next();
+        try {
+            if (this.streamingIterator != null) {
+                return this.streamingIterator.next();
+            }
+            if (this.streamingRowIterator != null) {
+                return ItemParser.getItemFromRow(
+                    this.streamingRowIterator.next(),
+                    this.iterator.getMetadata(),
+                    this.streamingItemType
+                );
+            }
+            return this.iterator.next();
+        } catch (Exception e) {
+            this.cancellation.throwIfCancelled();
+            throw e;
+        }
     }
 
     /**
@@ -109,9 +207,32 @@ public class SequenceOfItems {
         return this.iterator.isDataFrame();
     }
 
+    /**
+     * Checks whether the sequence can be obtained as a data frame, either because the iterator is a data frame or
+     * because it can be computed with a native Spark SQL query, as is the case for FLWOR expressions returning objects
+     * whose values are all available natively.
+     *
+     * @return true if it can be obtained as a data frame.
+     */
+    public boolean convertibleToDataFrame() {
+        return availableAsDataFrame() || getNativeDataFrame() != null;
+    }
+
+    private JSoundDataFrame getNativeDataFrame() {
+        if (!this.nativeDataFrameComputed) {
+            if (this.iterator.isRDDOrDataFrame() && !this.iterator.isDataFrame()) {
+                this.cancellation.bindToCurrentThread();
+                this.nativeDataFrame = this.iterator.tryNativeDataFrame(this.dynamicContext);
+            }
+            this.nativeDataFrameComputed = true;
+        }
+        return this.nativeDataFrame;
+    }
+
     /**
      * Returns the sequence of items as an RDD of Items rather than iterating over them locally.
      * It is not possible to do so if the iterator is open.
+     * The sequence should be closed once the result is consumed, so that the data cached for the query is released.
      *
      * @return an RDD of Items.
      */
@@ -119,12 +240,14 @@ public class SequenceOfItems {
         if (this.isOpen) {
             throw new RuntimeException("Cannot obtain an RDD if the iterator is open.");
         }
+        this.cancellation.bindToCurrentThread();
         return this.iterator.getRDD(this.dynamicContext);
     }
 
     /**
      * Returns the sequence of items as a data frame rather than iterating over them locally.
      * It is not possible to do so if the iterator is open.
+     * The sequence should be closed once the result is consumed, so that the data cached for the query is released.
      *
      * @return a data frame.
      */
@@ -132,10 +255,26 @@ public class SequenceOfItems {
         if (this.isOpen) {
             throw new RuntimeException("Cannot obtain an RDD if the iterator is open.");
         }
+        this.cancellation.bindToCurrentThread();
+        if (!availableAsDataFrame() && getNativeDataFrame() != null) {
+            return getNativeDataFrame().getDataFrame();
+        }
         return this.iterator.getDataFrame(this.dynamicContext).getDataFrame();
     }
 
     public long populateList(List<Item> resultList) {
+        this.cancellation.bindToCurrentThread();
+        try {
+            return populateListLocally(resultList);
+        } catch (Exception e) {
+            this.cancellation.throwIfCancelled();
+            throw e;
+        } finally {
+            this.cancellation.release();
+        }
+    }
+
+    private long populateListLocally(List<Item> resultList) {
         resultList.clear();
         this.iterator.open(this.dynamicContext);
         Item result = null;
@@ -171,12 +310,55 @@ public class SequenceOfItems {
 
     public long populateListWithWarningOnlyIfCapReached(List<Item> resultList) {
         if (this.availableAsRDD()) {
-            JavaRDD<Item> rdd = this.iterator.getRDD(this.dynamicContext);
-            return SparkSessionManager.collectRDDwithLimitWarningOnly(rdd, resultList);
+            this.cancellation.bindToCurrentThread();
+            try {
+                JavaRDD<Item> rdd = this.iterator.getRDD(this.dynamicContext);
+                return SparkSessionManager.collectRDDwithLimitWarningOnly(rdd, resultList);
+            } catch (Exception e) {
+                this.cancellation.throwIfCancelled();
+                throw e;
+            } finally {
+                this.cancellation.release();
+            }
         } else {
             return populateList(resultList);
         }
     }
 
+    void setCompilationTimes(long parsingTime, long translationTime) {
+        this.parsingTime = parsingTime;
+        this.translationTime = translationTime;
+    }
+
+    /**
+     * Returns the time it took to lex and parse the query.
+     *
+     * @return the time in milliseconds.
+     */
+    public long getParsingTime() {
+        return this.parsingTime;
+    }
+
+    /**
+     * Returns the time it took to translate and statically analyze the query, including its imported modules.
+     *
+     * @return the time in milliseconds.
+     */
+    public long getTranslationTime() {
+        return this.translationTime;
+    }
+
+    void setParsedWithFullLL(boolean parsedWithFullLL) {
+        this.parsedWithFullLL = parsedWithFullLL;
+    }
 
+    /**
+     * Checks whether the query had to be parsed again with full LL prediction, because the faster SLL prediction
+     * failed.
+     *
+     * @return true if the second parsing stage was needed.
+     */
+    public boolean isParsedWithFullLL() {
+        return this.parsedWithFullLL;
+    }
 }
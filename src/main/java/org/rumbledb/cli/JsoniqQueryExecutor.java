@@ -27,6 +27,7 @@ import org.apache.spark.sql.Row;
 import org.rumbledb.api.Item;
 import org.rumbledb.api.Rumble;
 import org.rumbledb.api.SequenceOfItems;
+import org.rumbledb.context.InteractiveSession;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.exceptions.CliException;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -46,9 +47,11 @@ import java.util.stream.Collectors;
 
 public class JsoniqQueryExecutor {
     private RumbleRuntimeConfiguration configuration;
+    private Rumble rumble;
 
     public JsoniqQueryExecutor(RumbleRuntimeConfiguration configuration) {
         this.configuration = configuration;
+        this.rumble = new Rumble(configuration);
         SparkSessionManager.COLLECT_ITEM_LIMIT = configuration.getResultSizeCap();
     }
 
@@ -101,7 +104,6 @@ public class JsoniqQueryExecutor {
         List<Item> outputList = null;
 
         long startTime = System.currentTimeMillis();
-        Rumble rumble = new Rumble(this.configuration);
         SequenceOfItems sequence = null;
         if (this.configuration.getQuery() != null) {
             if (this.configuration.getQueryPath() != null) {
@@ -109,24 +111,50 @@ public class JsoniqQueryExecutor {
                         "It is not possible to specify both a --query and a --query-path. It is either or."
                 );
             }
-            sequence = rumble.runQuery(this.configuration.getQuery());
+            sequence = this.rumble.runQuery(this.configuration.getQuery());
         } else {
-            sequence = rumble.runQuery(queryUri);
+            sequence = this.rumble.runQuery(queryUri);
         }
 
-        if (
-            !(this.configuration.getOutputFormat().equals("json")
-                || this.configuration.getOutputFormat().equals("tyson")
-                || this.configuration.getOutputFormat().equals("xml-json-hybrid"))
-                &&
-                !sequence.availableAsDataFrame()
-        ) {
+        try {
+            outputList = outputSequence(sequence, outputPath, outputUri);
+        } catch (Exception e) {
+            sequence.getCancellation().throwIfCancelled();
+            throw e;
+        } finally {
+            sequence.getCancellation().release();
+        }
+
+        long endTime = System.currentTimeMillis();
+        long totalTime = endTime - startTime;
+        if (logPath != null) {
+            String time = "[ParseTime] " + sequence.getParsingTime();
+            time += "\n[TranslationTime] " + sequence.getTranslationTime();
+            time += "\n[ExecTime] " + totalTime;
+            time += "\n[ProfilerCount] " + Profiler.get();
+            FileSystemUtil.append(
+                logUri,
+                Collections.singletonList(time),
+                this.configuration,
+                ExceptionMetadata.EMPTY_METADATA
+            );
+        }
+        return outputList;
+    }
+
+    // writes or prints the result of a query, and returns it if it is materialized
+    private List<Item> outputSequence(SequenceOfItems sequence, String outputPath, URI outputUri)
+            throws IOException {
+        boolean isJSONOutput = this.configuration.getOutputFormat().equals("json")
+            || this.configuration.getOutputFormat().equals("tyson")
+            || this.configuration.getOutputFormat().equals("xml-json-hybrid");
+        if (!isJSONOutput && !sequence.convertibleToDataFrame()) {
             throw new CliException(
                     "Rumble cannot output another format than json or tyson or xml-json-hybrid if the query does not output a structured collection. You can create a structured collection from a sequence of objects by calling the function annotate(<your query here> , <a schema here>)."
             );
         }
 
-        if (sequence.availableAsDataFrame() && outputPath != null) {
+        if ((sequence.availableAsDataFrame() || !isJSONOutput) && outputPath != null) {
             Dataset<Row> df = sequence.getAsDataFrame();
             if (this.configuration.getNumberOfOutputPartitions() > 0) {
                 df = df.repartition(this.configuration.getNumberOfOutputPartitions());
@@ -161,8 +189,10 @@ public class JsoniqQueryExecutor {
             }
 
             outputRDD.saveAsTextFile(outputPath);
+        } else if (this.configuration.isStreamingOutput() && sequence.availableAsRDD()) {
+            printStreamingOutput(sequence);
         } else {
-            outputList = new ArrayList<>();
+            List<Item> outputList = new ArrayList<>();
             long materializationCount = sequence.populateListWithWarningOnlyIfCapReached(outputList);
             Serializer serializer = this.configuration.getSerializer();
             List<String> lines = outputList.stream().map(x -> serializer.serialize(x)).collect(Collectors.toList());
@@ -185,32 +215,55 @@ public class JsoniqQueryExecutor {
                     );
                 }
             }
+            return outputList;
         }
+        return null;
+    }
 
-        long endTime = System.currentTimeMillis();
-        long totalTime = endTime - startTime;
-        if (logPath != null) {
-            String time = "[ExecTime] " + totalTime;
-            time += "\n[ProfilerCount] " + Profiler.get();
-            FileSystemUtil.append(
-                logUri,
-                Collections.singletonList(time),
-                this.configuration,
-                ExceptionMetadata.EMPTY_METADATA
-            );
+    private void printStreamingOutput(SequenceOfItems sequence) {
+        Serializer serializer = this.configuration.getSerializer();
+        long count = 0;
+        sequence.open();
+        try {
+            while (sequence.hasNext()) {
+                if (SparkSessionManager.LIMIT_COLLECT() && count == SparkSessionManager.COLLECT_ITEM_LIMIT) {
+                    System.err.println(
+                        "Warning! The output sequence contains more than "
+                            + count
+                            + " items but its materialization was capped at "
+                            + SparkSessionManager.COLLECT_ITEM_LIMIT
+                            + " items. This value can be configured with the --materialization-cap parameter at startup"
+                    );
+                    break;
+                }
+                System.out.println(serializer.serialize(sequence.next()));
+                count++;
+            }
+        } finally {
+            sequence.close();
         }
-        return outputList;
     }
 
     public long runInteractive(String query, List<Item> resultList) throws IOException {
-        Rumble rumble = new Rumble(this.configuration);
-        SequenceOfItems sequence = rumble.runQuery(query);
+        return runInteractive(query, null, resultList);
+    }
+
+    public long runInteractive(String query, InteractiveSession session, List<Item> resultList) throws IOException {
+        SequenceOfItems sequence = session == null
+            ? this.rumble.runQuery(query)
+            : this.rumble.runQuery(query, session);
         if (!sequence.availableAsRDD()) {
             return sequence.populateList(resultList);
         }
         resultList.clear();
-        JavaRDD<Item> rdd = sequence.getAsRDD();
-        return SparkSessionManager.collectRDDwithLimitWarningOnly(rdd, resultList);
+        return sequence.populateListWithWarningOnlyIfCapReached(resultList);
+    }
+
+    /**
+     * Cancels the queries that are being run, e.g., when the user presses Ctrl+C in the shell.
+     */
+    public void cancelRunningQueries() {
+        this.rumble.cancelRunningQueries();
     }
 
 }
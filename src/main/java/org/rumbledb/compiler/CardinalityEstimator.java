@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.compiler;
+
+import java.math.BigInteger;
+import java.net.URI;
+
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.context.BuiltinFunctionCatalogue;
+import org.rumbledb.context.FunctionIdentifier;
+import org.rumbledb.context.Name;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.expressions.CommaExpression;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.miscellaneous.RangeExpression;
+import org.rumbledb.expressions.primary.FunctionCallExpression;
+import org.rumbledb.expressions.primary.IntegerLiteralExpression;
+import org.rumbledb.expressions.primary.StringLiteralExpression;
+import org.rumbledb.runtime.functions.input.FileSystemUtil;
+import org.rumbledb.types.SequenceType.Arity;
+
+/**
+ * Lightweight, purely static estimates of the cardinality of expressions and of the size of the inputs read by
+ * input functions. These estimates are used by the execution mode visitor to override the syntactic choice between
+ * local and distributed execution. All methods return -1 when no reliable estimate is available, in which case the
+ * syntactic choice is kept.
+ */
+public class CardinalityEstimator {
+
+    private static final Name JSON_FILE = new Name(Name.JN_NS, "jn", "json-file");
+    private static final Name TEXT_FILE = new Name(Name.JN_NS, "jn", "text-file");
+    private static final Name UNPARSED_TEXT_LINES = new Name(Name.FN_NS, "fn", "unparsed-text-lines");
+
+    /**
+     * Estimates the number of items an expression returns.
+     *
+     * @param expression the expression.
+     * @return the estimated number of items, or -1 if unknown.
+     */
+    public static long estimateCardinality(Expression expression) {
+        if (expression instanceof CommaExpression) {
+            long result = 0;
+            for (Expression e : ((CommaExpression) expression).getExpressions()) {
+                long cardinality = estimateCardinality(e);
+                if (cardinality == -1) {
+                    return -1;
+                }
+                result += cardinality;
+            }
+            return result;
+        }
+        if (expression instanceof RangeExpression) {
+            RangeExpression range = (RangeExpression) expression;
+            if (
+                !(range.getLeftExpression() instanceof IntegerLiteralExpression)
+                    || !(range.getRightExpression() instanceof IntegerLiteralExpression)
+            ) {
+                return -1;
+            }
+            BigInteger from = new BigInteger(
+                    ((IntegerLiteralExpression) range.getLeftExpression()).getLexicalValue()
+            );
+            BigInteger to = new BigInteger(
+                    ((IntegerLiteralExpression) range.getRightExpression()).getLexicalValue()
+            );
+            if (to.compareTo(from) < 0) {
+                return 0;
+            }
+            BigInteger count = to.subtract(from).add(BigInteger.ONE);
+            return count.bitLength() < 63 ? count.longValue() : Long.MAX_VALUE;
+        }
+        if (expression.getStaticSequenceType() == null) {
+            return -1;
+        }
+        Arity arity = expression.getStaticSequenceType().getArity();
+        if (arity.equals(Arity.Zero)) {
+            return 0;
+        }
+        if (arity.equals(Arity.One) || arity.equals(Arity.OneOrZero)) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Estimates the size in bytes of the input read by a call to a line-based input function (json-file, text-file,
+     * unparsed-text-lines) whose path is a string literal, and for which the number of partitions is not explicitly
+     * requested.
+     *
+     * @param expression the function call expression.
+     * @param configuration the configuration.
+     * @return the estimated size in bytes, or -1 if unknown or not applicable.
+     */
+    public static long estimateInputSize(FunctionCallExpression expression, RumbleRuntimeConfiguration configuration) {
+        if (!isLocallyReadableInputFunction(expression.getFunctionIdentifier())) {
+            return -1;
+        }
+        if (!(expression.getArguments().get(0) instanceof StringLiteralExpression)) {
+            return -1;
+        }
+        String url = ((StringLiteralExpression) expression.getArguments().get(0)).getValue();
+        url = url.replaceAll(" ", "%20");
+        try {
+            URI uri = FileSystemUtil.resolveURI(
+                expression.getStaticContext().getStaticBaseURI(),
+                url,
+                expression.getMetadata()
+            );
+            return FileSystemUtil.getSize(uri, configuration);
+        } catch (RumbleException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Tells whether the function is an input function that can also read its input locally.
+     *
+     * @param identifier the function identifier.
+     * @return true if the input function can be evaluated locally.
+     */
+    public static boolean isLocallyReadableInputFunction(FunctionIdentifier identifier) {
+        if (!BuiltinFunctionCatalogue.exists(identifier) || identifier.getArity() != 1) {
+            return false;
+        }
+        Name name = BuiltinFunctionCatalogue.getBuiltinFunction(identifier).getIdentifier().getName();
+        return name.equals(JSON_FILE) || name.equals(TEXT_FILE) || name.equals(UNPARSED_TEXT_LINES);
+    }
+}
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
 
+import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.BuiltinFunctionCatalogue;
 import org.rumbledb.context.FunctionIdentifier;
 import org.rumbledb.context.InScopeVariable;
@@ -52,6 +53,7 @@ import org.rumbledb.expressions.primary.FunctionCallExpression;
 import org.rumbledb.expressions.primary.InlineFunctionExpression;
 import org.rumbledb.expressions.primary.VariableReferenceExpression;
 import org.rumbledb.expressions.typing.ValidateTypeExpression;
+import org.rumbledb.runtime.functions.input.JsonSchemaInferrer;
 import org.rumbledb.types.SequenceType;
 import org.rumbledb.types.SequenceType.Arity;
 
@@ -61,9 +63,11 @@ import org.rumbledb.types.SequenceType.Arity;
 public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
 
     private VisitorConfig visitorConfig;
+    private RumbleRuntimeConfiguration configuration;
 
-    ExecutionModeVisitor() {
+    ExecutionModeVisitor(RumbleRuntimeConfiguration configuration) {
         this.visitorConfig = VisitorConfig.staticContextVisitorInitialPassConfig;
+        this.configuration = configuration;
     }
 
     void setVisitorConfig(VisitorConfig visitorConfig) {
@@ -217,6 +221,23 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
                 );
         }
         expression.initFunctionCallHighestExecutionMode(this.visitorConfig);
+        if (
+            this.configuration.getLocalExecutionThreshold() > 0
+                && CardinalityEstimator.isLocallyReadableInputFunction(identifier)
+        ) {
+            // Small inputs are cheaper to read on the driver than to schedule Spark jobs for.
+            long size = CardinalityEstimator.estimateInputSize(expression, this.configuration);
+            if (size != -1 && size <= this.configuration.getLocalExecutionThreshold()) {
+                expression.setHighestExecutionMode(ExecutionMode.LOCAL);
+            }
+        }
+        if (
+            expression.getHighestExecutionMode(this.visitorConfig).equals(ExecutionMode.RDD)
+                && JsonSchemaInferrer.inferItemType(expression, this.configuration) != null
+        ) {
+            // Regular JSON Lines files are read into DataFrames, which benefit from native Spark SQL.
+            expression.setHighestExecutionMode(ExecutionMode.DATAFRAME);
+        }
         return argument;
     }
     // endregion
@@ -275,6 +296,17 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
     public StaticContext visitForClause(ForClause clause, StaticContext argument) {
         this.visit(clause.getExpression(), clause.getExpression().getStaticContext());
         clause.initHighestExecutionMode(this.visitorConfig);
+        if (
+            this.configuration.getParallelExecutionThreshold() > 0
+                && clause.getPreviousClause() == null
+                && clause.getExpression().getHighestExecutionMode(this.visitorConfig).equals(ExecutionMode.LOCAL)
+        ) {
+            // Large locally produced sequences are distributed so that the rest of the FLWOR runs in parallel.
+            long cardinality = CardinalityEstimator.estimateCardinality(clause.getExpression());
+            if (cardinality != -1 && cardinality >= this.configuration.getParallelExecutionThreshold()) {
+                clause.setHighestExecutionMode(ExecutionMode.DATAFRAME);
+            }
+        }
 
         argument.setVariableStorageMode(
             clause.getVariableName(),
@@ -0,0 +1,455 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+package org.rumbledb.compiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.rumbledb.context.BuiltinFunction;
+import org.rumbledb.context.BuiltinFunctionCatalogue;
+import org.rumbledb.context.Name;
+import org.rumbledb.context.StaticContext;
+import org.rumbledb.expressions.AbstractNodeVisitor;
+import org.rumbledb.expressions.CommaExpression;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.arithmetic.AdditiveExpression;
+import org.rumbledb.expressions.arithmetic.MultiplicativeExpression;
+import org.rumbledb.expressions.arithmetic.UnaryExpression;
+import org.rumbledb.expressions.comparison.ComparisonExpression;
+import org.rumbledb.expressions.control.ConditionalExpression;
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.CountClause;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.ForClause;
+import org.rumbledb.expressions.flowr.GroupByClause;
+import org.rumbledb.expressions.flowr.GroupByVariableDeclaration;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.logic.AndExpression;
+import org.rumbledb.expressions.logic.NotExpression;
+import org.rumbledb.expressions.logic.OrExpression;
+import org.rumbledb.expressions.miscellaneous.StringConcatExpression;
+import org.rumbledb.expressions.postfix.ArrayLookupExpression;
+import org.rumbledb.expressions.postfix.ArrayUnboxingExpression;
+import org.rumbledb.expressions.postfix.ObjectLookupExpression;
+import org.rumbledb.expressions.primary.BooleanLiteralExpression;
+import org.rumbledb.expressions.primary.ContextItemExpression;
+import org.rumbledb.expressions.primary.DecimalLiteralExpression;
+import org.rumbledb.expressions.primary.DoubleLiteralExpression;
+import org.rumbledb.expressions.primary.FunctionCallExpression;
+import org.rumbledb.expressions.primary.IntegerLiteralExpression;
+import org.rumbledb.expressions.primary.NullLiteralExpression;
+import org.rumbledb.expressions.primary.StringLiteralExpression;
+import org.rumbledb.expressions.primary.VariableReferenceExpression;
+import org.rumbledb.expressions.typing.CastExpression;
+import org.rumbledb.expressions.typing.CastableExpression;
+import org.rumbledb.expressions.typing.InstanceOfExpression;
+import org.rumbledb.expressions.typing.TreatExpression;
+
+
+/**
+ * This visitor finds the expressions that need not be evaluated every time they are reached, and marks them for the
+ * runtime iterator visitor.
+ *
+ * Only pure expressions are considered: literals, variable references, operators, casts, navigation and calls to
+ * builtin functions without side effects, executed locally. Among them:
+ * - expressions that depend neither on variables nor on the context item are folded into constants at compile time;
+ * - expressions inside a FLWOR clause that do not depend on the variables bound by this FLWOR are evaluated once per
+ * FLWOR rather than once per tuple (in particular, once per partition rather than once per row in UDFs);
+ * - identical expressions in the same scope share their value, as if bound to a common let variable.
+ * Shared values are cached at runtime and only computed again if the values of the variables they depend on change.
+ */
+public class ExpressionRewritingVisitor extends AbstractNodeVisitor<Void> {
+
+    private static final String[] pureBuiltinFunctionPackages = {
+        "org.rumbledb.runtime.functions.arrays",
+        "org.rumbledb.runtime.functions.booleans",
+        "org.rumbledb.runtime.functions.datetime",
+        "org.rumbledb.runtime.functions.durations",
+        "org.rumbledb.runtime.functions.numerics",
+        "org.rumbledb.runtime.functions.object",
+        "org.rumbledb.runtime.functions.sequences",
+        "org.rumbledb.runtime.functions.strings" };
+
+    // these functions are stable within a query, but the value they return is only known at runtime
+    private static final String[] unfoldableBuiltinFunctions = { "current-dateTime", "current-date", "current-time" };
+
+    // these functions take the context item as an implicit argument when called without arguments
+    private static final String[] contextDependentBuiltinFunctions = {
+        "string",
+        "string-length",
+        "number",
+        "normalize-space" };
+
+    private Map<Expression, Analysis> analyses;
+    private Map<Expression, Expression> commonSubexpressionGroups;
+    // variables bound by the enclosing FLWOR, or null if not in a FLWOR clause evaluated once per tuple
+    private Set<Name> loopVariables;
+    // the static context of the enclosing FLWOR, in which invariant expressions must be able to be evaluated
+    private StaticContext loopContext;
+
+    ExpressionRewritingVisitor() {
+        this.analyses = new IdentityHashMap<>();
+        this.commonSubexpressionGroups = new IdentityHashMap<>();
+        this.loopVariables = null;
+    }
+
+    private static class Analysis {
+        private boolean pure;
+        private boolean foldable;
+        private Set<Name> freeVariables;
+        private String key;
+    }
+
+    /**
+     * Marks the expressions of a tree.
+     *
+     * @param root the root of the tree, usually a module.
+     */
+    void rewriteTree(Node root) {
+        findCommonSubexpressions(root);
+        this.visit(root, null);
+    }
+
+    @Override
+    protected Void defaultAction(Node node, Void argument) {
+        if (node instanceof Expression && rewrite((Expression) node)) {
+            return argument;
+        }
+        return visitDescendants(node, argument);
+    }
+
+    @Override
+    public Void visitFlowrExpression(FlworExpression expression, Void argument) {
+        Set<Name> previousLoopVariables = this.loopVariables;
+        StaticContext previousLoopContext = this.loopContext;
+        this.loopContext = expression.getStaticContext();
+        Set<Name> boundVariables = new HashSet<>();
+        Clause clause = expression.getReturnClause().getFirstClause();
+        // the expression of the first clause is evaluated only once
+        this.loopVariables = null;
+        while (clause != null) {
+            this.visit(clause, argument);
+            boundVariables.addAll(getBoundVariables(clause));
+            this.loopVariables = boundVariables;
+            clause = clause.getNextClause();
+        }
+        this.loopVariables = previousLoopVariables;
+        this.loopContext = previousLoopContext;
+        return argument;
+    }
+
+    /**
+     * Marks the expression if it can be folded or if its value can be shared.
+     *
+     * @param expression the expression.
+     * @return true if the expression was marked, in which case its subexpressions need not be visited.
+     */
+    private boolean rewrite(Expression expression) {
+        Analysis analysis = analyze(expression);
+        if (!analysis.pure || isTrivial(expression)) {
+            return false;
+        }
+        if (analysis.foldable) {
+            expression.setFoldable(true);
+            return true;
+        }
+        if (isLoopInvariant(analysis)) {
+            expression.setSharedValueGroup(expression);
+            return true;
+        }
+        Expression group = this.commonSubexpressionGroups.get(expression);
+        if (group != null) {
+            expression.setSharedValueGroup(group);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isLoopInvariant(Analysis analysis) {
+        if (
+            this.loopVariables == null
+                || this.loopContext == null
+                || !Collections.disjoint(analysis.freeVariables, this.loopVariables)
+        ) {
+            return false;
+        }
+        // variables bound inside the clause (quantifiers, predicates, etc) also change for every tuple
+        for (Name variable : analysis.freeVariables) {
+            if (variable.equals(Name.CONTEXT_ITEM) || !this.loopContext.isInScope(variable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Groups the pure expressions that are identical and in the same scope. Only groups with at least two members are
+     * kept.
+     *
+     * @param root the root of the tree.
+     */
+    private void findCommonSubexpressions(Node root) {
+        Map<StaticContext, Map<String, List<Expression>>> candidates = new IdentityHashMap<>();
+        List<Node> nodes = new ArrayList<>();
+        nodes.add(root);
+        while (!nodes.isEmpty()) {
+            Node node = nodes.remove(nodes.size() - 1);
+            if (node instanceof Expression) {
+                Expression expression = (Expression) node;
+                Analysis analysis = analyze(expression);
+                if (
+                    analysis.pure
+                        && !analysis.foldable
+                        && !isTrivial(expression)
+                        && expression.getStaticContext() != null
+                ) {
+                    candidates.computeIfAbsent(expression.getStaticContext(), k -> new HashMap<>())
+                        .computeIfAbsent(analysis.key, k -> new ArrayList<>())
+                        .add(expression);
+                }
+            }
+            nodes.addAll(getChildren(node));
+        }
+        for (Map<String, List<Expression>> groups : candidates.values()) {
+            for (List<Expression> group : groups.values()) {
+                if (group.size() > 1) {
+                    for (Expression expression : group) {
+                        this.commonSubexpressionGroups.put(expression, group.get(0));
+                    }
+                }
+            }
+        }
+    }
+
+    private Analysis analyze(Expression expression) {
+        Analysis analysis = this.analyses.get(expression);
+        if (analysis != null) {
+            return analysis;
+        }
+        analysis = new Analysis();
+        analysis.freeVariables = new HashSet<>();
+        analysis.pure = isPure(expression)
+            && expression.getHighestExecutionMode(VisitorConfig.staticContextVisitorIntermediatePassConfig).isLocal();
+        if (!analysis.pure) {
+            this.analyses.put(expression, analysis);
+            return analysis;
+        }
+        analysis.foldable = true;
+        StringBuilder key = new StringBuilder();
+        key.append(expression.getClass().getSimpleName());
+        key.append(getAttributes(expression));
+        key.append("(");
+        if (expression instanceof VariableReferenceExpression) {
+            analysis.freeVariables.add(((VariableReferenceExpression) expression).getVariableName());
+            analysis.foldable = false;
+        }
+        if (expression instanceof ContextItemExpression) {
+            analysis.freeVariables.add(Name.CONTEXT_ITEM);
+            analysis.foldable = false;
+        }
+        if (
+            expression instanceof FunctionCallExpression
+                && isOneOf((FunctionCallExpression) expression, unfoldableBuiltinFunctions)
+        ) {
+            analysis.foldable = false;
+        }
+        for (Node child : expression.getChildren()) {
+            Analysis childAnalysis = analyze((Expression) child);
+            analysis.pure = analysis.pure && childAnalysis.pure;
+            analysis.foldable = analysis.foldable && childAnalysis.foldable;
+            analysis.freeVariables.addAll(childAnalysis.freeVariables);
+            key.append(childAnalysis.key);
+            key.append(",");
+        }
+        key.append(")");
+        analysis.key = key.toString();
+        if (!analysis.pure) {
+            analysis.foldable = false;
+        }
+        this.analyses.put(expression, analysis);
+        return analysis;
+    }
+
+    private static boolean isPure(Expression expression) {
+        if (
+            isTrivial(expression)
+                || expression instanceof AdditiveExpression
+                || expression instanceof MultiplicativeExpression
+                || expression instanceof UnaryExpression
+                || expression instanceof ComparisonExpression
+                || expression instanceof AndExpression
+                || expression instanceof OrExpression
+                || expression instanceof NotExpression
+                || expression instanceof StringConcatExpression
+                || expression instanceof CastExpression
+                || expression instanceof CastableExpression
+                || expression instanceof InstanceOfExpression
+                || expression instanceof TreatExpression
+                || expression instanceof ConditionalExpression
+                || expression instanceof CommaExpression
+                || expression instanceof ObjectLookupExpression
+                || expression instanceof ArrayLookupExpression
+                || expression instanceof ArrayUnboxingExpression
+        ) {
+            return true;
+        }
+        if (expression instanceof FunctionCallExpression) {
+            FunctionCallExpression call = (FunctionCallExpression) expression;
+            if (!BuiltinFunctionCatalogue.exists(call.getFunctionIdentifier()) || call.getArguments().contains(null)) {
+                return false;
+            }
+            if (call.getArguments().isEmpty() && isOneOf(call, contextDependentBuiltinFunctions)) {
+                return false;
+            }
+            BuiltinFunction function = BuiltinFunctionCatalogue.getBuiltinFunction(call.getFunctionIdentifier());
+            String packageName = function.getFunctionIteratorClass().getPackage().getName();
+            for (String pureBuiltinFunctionPackage : pureBuiltinFunctionPackages) {
+                if (packageName.startsWith(pureBuiltinFunctionPackage)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTrivial(Expression expression) {
+        return expression instanceof IntegerLiteralExpression
+            || expression instanceof DecimalLiteralExpression
+            || expression instanceof DoubleLiteralExpression
+            || expression instanceof StringLiteralExpression
+            || expression instanceof BooleanLiteralExpression
+            || expression instanceof NullLiteralExpression
+            || expression instanceof VariableReferenceExpression
+            || expression instanceof ContextItemExpression;
+    }
+
+    private static boolean isOneOf(FunctionCallExpression call, String[] functionNames) {
+        for (String functionName : functionNames) {
+            if (call.getFunctionName().getLocalName().equals(functionName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns what distinguishes an expression from other expressions of the same class with the same children.
+     *
+     * @param expression the expression.
+     * @return the attributes of the expression as a string.
+     */
+    private static String getAttributes(Expression expression) {
+        if (expression instanceof VariableReferenceExpression) {
+            return "[" + ((VariableReferenceExpression) expression).getVariableName() + "]";
+        }
+        if (expression instanceof IntegerLiteralExpression) {
+            return "[" + ((IntegerLiteralExpression) expression).getLexicalValue() + "]";
+        }
+        if (expression instanceof DecimalLiteralExpression) {
+            return "[" + ((DecimalLiteralExpression) expression).getValue() + "]";
+        }
+        if (expression instanceof DoubleLiteralExpression) {
+            return "[" + ((DoubleLiteralExpression) expression).getValue() + "]";
+        }
+        if (expression instanceof StringLiteralExpression) {
+            return "["
+                + ((StringLiteralExpression) expression).getValue().length()
+                + ":"
+                + ((StringLiteralExpression) expression).getValue()
+                + "]";
+        }
+        if (expression instanceof BooleanLiteralExpression) {
+            return "[" + ((BooleanLiteralExpression) expression).getValue() + "]";
+        }
+        if (expression instanceof AdditiveExpression) {
+            return "[" + ((AdditiveExpression) expression).isMinus() + "]";
+        }
+        if (expression instanceof MultiplicativeExpression) {
+            return "[" + ((MultiplicativeExpression) expression).getMultiplicativeOperator() + "]";
+        }
+        if (expression instanceof UnaryExpression) {
+            return "[" + ((UnaryExpression) expression).isNegated() + "]";
+        }
+        if (expression instanceof ComparisonExpression) {
+            return "[" + ((ComparisonExpression) expression).getComparisonOperator() + "]";
+        }
+        if (expression instanceof CastExpression) {
+            return "[" + ((CastExpression) expression).getSequenceType() + "]";
+        }
+        if (expression instanceof CastableExpression) {
+            return "[" + ((CastableExpression) expression).getSequenceType() + "]";
+        }
+        if (expression instanceof InstanceOfExpression) {
+            return "[" + ((InstanceOfExpression) expression).getSequenceType() + "]";
+        }
+        if (expression instanceof TreatExpression) {
+            return "[" + ((TreatExpression) expression).getSequenceType() + "]";
+        }
+        if (expression instanceof FunctionCallExpression) {
+            return "[" + ((FunctionCallExpression) expression).getFunctionIdentifier() + "]";
+        }
+        return "";
+    }
+
+    private static List<Node> getChildren(Node node) {
+        if (node instanceof FlworExpression) {
+            List<Node> result = new ArrayList<>();
+            Clause clause = ((FlworExpression) node).getReturnClause().getFirstClause();
+            while (clause != null) {
+                result.add(clause);
+                clause = clause.getNextClause();
+            }
+            return result;
+        }
+        List<Node> result = new ArrayList<>();
+        for (Node child : node.getChildren()) {
+            if (child != null) {
+                result.add(child);
+            }
+        }
+        return result;
+    }
+
+    private static Set<Name> getBoundVariables(Clause clause) {
+        Set<Name> result = new HashSet<>();
+        if (clause instanceof ForClause) {
+            result.add(((ForClause) clause).getVariableName());
+            if (((ForClause) clause).getPositionalVariableName() != null) {
+                result.add(((ForClause) clause).getPositionalVariableName());
+            }
+        } else if (clause instanceof LetClause) {
+            result.add(((LetClause) clause).getVariableName());
+        } else if (clause instanceof CountClause) {
+            result.add(((CountClause) clause).getCountVariable().getVariableName());
+        } else if (clause instanceof GroupByClause) {
+            for (GroupByVariableDeclaration variable : ((GroupByClause) clause).getGroupVariables()) {
+                result.add(variable.getVariableName());
+            }
+        }
+        return result;
+    }
+}
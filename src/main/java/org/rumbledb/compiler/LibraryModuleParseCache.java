@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.compiler;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the parse trees of the library modules imported by the queries run in this JVM (shell, server or Java
+ * API), so that a module imported by many queries is only lexed and parsed once.
+ *
+ * Entries are keyed by the resolved location of the module, and are only used if the module content is still the
+ * same as when it was parsed, so that a modified module is parsed again. Parse trees are not modified by the
+ * translation, so that they can be translated by several queries at the same time. The translated modules themselves
+ * are not cached, because the later compilation passes annotate and prune them for their importing main module.
+ */
+final class LibraryModuleParseCache {
+
+    private static final int MAXIMUM_SIZE = 256;
+    // in access order, so that the least recently used module is evicted first
+    private static final Map<URI, Entry> entries = new LinkedHashMap<URI, Entry>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<URI, Entry> eldest) {
+            return size() > MAXIMUM_SIZE;
+        }
+    };
+    private static final AtomicLong hits = new AtomicLong();
+
+    private LibraryModuleParseCache() {
+    }
+
+    /**
+     * Returns the parse tree of a library module, if it was already parsed with the same content.
+     *
+     * @param location the resolved location of the module.
+     * @param content the current content of the module.
+     * @param treeClass the class of the parse tree (JSONiq or XQuery).
+     * @param <T> the class of the parse tree.
+     * @return the parse tree, or null if it must be parsed.
+     */
+    static <T extends ParserRuleContext> T get(URI location, String content, Class<T> treeClass) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(location);
+        }
+        if (entry == null || !entry.content.equals(content) || !treeClass.isInstance(entry.tree)) {
+            return null;
+        }
+        hits.incrementAndGet();
+        return treeClass.cast(entry.tree);
+    }
+
+    /**
+     * Keeps the parse tree of a library module.
+     *
+     * @param location the resolved location of the module.
+     * @param content the content of the module that was parsed.
+     * @param tree the parse tree.
+     */
+    static void put(URI location, String content, ParserRuleContext tree) {
+        synchronized (entries) {
+            entries.put(location, new Entry(content, tree));
+        }
+    }
+
+    /**
+     * Returns the number of times a parse tree was found in the cache.
+     *
+     * @return the number of cache hits.
+     */
+    static long getNumberOfHits() {
+        return hits.get();
+    }
+
+    private static final class Entry {
+        private final String content;
+        private final ParserRuleContext tree;
+
+        private Entry(String content, ParserRuleContext tree) {
+            this.content = content;
+            this.tree = tree;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+package org.rumbledb.compiler;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.rumbledb.context.BuiltinFunctionCatalogue;
+import org.rumbledb.context.FunctionIdentifier;
+import org.rumbledb.expressions.AbstractNodeVisitor;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.module.FunctionDeclaration;
+import org.rumbledb.expressions.module.MainModule;
+import org.rumbledb.expressions.postfix.DynamicFunctionCallExpression;
+import org.rumbledb.expressions.primary.FunctionCallExpression;
+import org.rumbledb.expressions.primary.InlineFunctionExpression;
+
+
+/**
+ * This visitor checks that the functions declared with the %memoize annotation can be memoized, i.e., that their
+ * results only depend on their arguments and that they have no observable side effects. Their bodies must be executed
+ * locally and may not call trace, perform dynamic function calls or call user-defined functions that do so. For
+ * functions that do not qualify, a warning is output and memoization is turned off. The functions declared in
+ * imported library modules are reached through the prolog of the main module and checked in the same way.
+ */
+public class MemoizationVisitor extends AbstractNodeVisitor<Void> {
+
+    private static final String[] nonMemoizableBuiltinFunctions = { "trace" };
+
+    private Map<FunctionIdentifier, InlineFunctionExpression> declaredFunctions;
+
+    MemoizationVisitor() {
+        this.declaredFunctions = new HashMap<>();
+    }
+
+    @Override
+    public Void visitMainModule(MainModule mainModule, Void argument) {
+        // also collects the declarations of the imported library modules, which are children of the prolog
+        visitDescendants(mainModule, argument);
+        for (InlineFunctionExpression function : this.declaredFunctions.values()) {
+            if (function.isMemoized() && !isMemoizable(function, new HashSet<>())) {
+                System.err.println(
+                    "[WARNING] Function "
+                        + function.getFunctionIdentifier()
+                        + " cannot be memoized, as it may have side effects or be executed in parallel. "
+                        + "The %memoize annotation is ignored."
+                );
+                function.setMemoized(false);
+            }
+        }
+        return argument;
+    }
+
+    @Override
+    public Void visitFunctionDeclaration(FunctionDeclaration declaration, Void argument) {
+        this.declaredFunctions.put(
+            declaration.getFunctionIdentifier(),
+            (InlineFunctionExpression) declaration.getExpression()
+        );
+        return argument;
+    }
+
+    private boolean isMemoizable(InlineFunctionExpression function, Set<FunctionIdentifier> visitedFunctions) {
+        if (!visitedFunctions.add(function.getFunctionIdentifier())) {
+            return true;
+        }
+        if (!function.getBody().getHighestExecutionMode(VisitorConfig.runtimeIteratorVisitorConfig).isLocal()) {
+            return false;
+        }
+        return isMemoizable(function.getBody(), visitedFunctions);
+    }
+
+    private boolean isMemoizable(Node node, Set<FunctionIdentifier> visitedFunctions) {
+        if (node instanceof DynamicFunctionCallExpression) {
+            return false;
+        }
+        if (node instanceof FunctionCallExpression) {
+            FunctionIdentifier identifier = ((FunctionCallExpression) node).getFunctionIdentifier();
+            if (BuiltinFunctionCatalogue.exists(identifier)) {
+                for (String name : nonMemoizableBuiltinFunctions) {
+                    if (identifier.getName().getLocalName().equals(name)) {
+                        return false;
+                    }
+                }
+            } else {
+                InlineFunctionExpression callee = this.declaredFunctions.get(identifier);
+                if (callee == null || !isMemoizable(callee, visitedFunctions)) {
+                    return false;
+                }
+            }
+        }
+        for (Node child : node.getChildren()) {
+            if (child != null && !isMemoizable(child, visitedFunctions)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
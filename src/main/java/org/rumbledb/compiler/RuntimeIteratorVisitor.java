@@ -34,6 +34,10 @@ import org.rumbledb.expressions.typing.CastExpression;
 import org.rumbledb.expressions.typing.CastableExpression;
 import org.rumbledb.expressions.AbstractNodeVisitor;
 import org.rumbledb.expressions.CommaExpression;
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.expressions.Expression;
 import org.rumbledb.expressions.Node;
 import org.rumbledb.expressions.arithmetic.AdditiveExpression;
@@ -47,6 +51,7 @@ import org.rumbledb.expressions.control.TryCatchExpression;
 import org.rumbledb.expressions.control.TypeSwitchExpression;
 import org.rumbledb.expressions.control.TypeswitchCase;
 import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.expressions.flowr.CountClause;
 import org.rumbledb.expressions.flowr.FlworExpression;
 import org.rumbledb.expressions.flowr.GroupByVariableDeclaration;
@@ -55,6 +60,7 @@ import org.rumbledb.expressions.flowr.GroupByClause;
 import org.rumbledb.expressions.flowr.LetClause;
 import org.rumbledb.expressions.flowr.OrderByClause;
 import org.rumbledb.expressions.flowr.OrderByClauseSortingKey;
+import org.rumbledb.expressions.flowr.ReturnClause;
 import org.rumbledb.expressions.flowr.WhereClause;
 import org.rumbledb.expressions.logic.AndExpression;
 import org.rumbledb.expressions.logic.NotExpression;
@@ -87,8 +93,10 @@ import org.rumbledb.expressions.primary.StringLiteralExpression;
 import org.rumbledb.expressions.primary.VariableReferenceExpression;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.CommaExpressionIterator;
+import org.rumbledb.runtime.ConstantRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
+import org.rumbledb.runtime.SharedValueIterator;
 import org.rumbledb.runtime.arithmetics.AdditiveOperationIterator;
 import org.rumbledb.runtime.arithmetics.MultiplicativeOperationIterator;
 import org.rumbledb.runtime.arithmetics.UnaryOperationIterator;
@@ -111,7 +119,10 @@ import org.rumbledb.runtime.flwor.expression.OrderByClauseAnnotatedChildIterator
 import org.rumbledb.runtime.functions.DynamicFunctionCallIterator;
 import org.rumbledb.runtime.functions.FunctionRuntimeIterator;
 import org.rumbledb.runtime.functions.NamedFunctionRefRuntimeIterator;
+import org.rumbledb.runtime.functions.SelfTailCallIterator;
 import org.rumbledb.runtime.functions.StaticUserDefinedFunctionCallIterator;
+import org.rumbledb.runtime.functions.TailCallLoopIterator;
+import org.rumbledb.runtime.functions.input.JsonFileFunctionIterator;
 import org.rumbledb.runtime.logics.AndOperationIterator;
 import org.rumbledb.runtime.logics.NotOperationIterator;
 import org.rumbledb.runtime.logics.OrOperationIterator;
@@ -142,24 +153,93 @@ import org.rumbledb.types.BuiltinTypesCatalogue;
 import org.rumbledb.types.SequenceType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator> {
 
     private VisitorConfig visitorConfig;
     private RumbleRuntimeConfiguration config;
+    // self tail calls of the function whose body is being visited
+    private Set<FunctionCallExpression> selfTailCalls;
+    private TailCallLoopIterator.PendingCall pendingTailCall;
+    private List<SequenceType> tailCallParameterTypes;
+    // values shared by the occurrences of common subexpressions, see ExpressionRewritingVisitor
+    private Map<Expression, SharedValueIterator.SharedValue> sharedValues;
+
+    private static final int MAX_FOLDED_ITEMS = 100;
 
     public RuntimeIteratorVisitor(RumbleRuntimeConfiguration config) {
         this.visitorConfig = VisitorConfig.runtimeIteratorVisitorConfig;
         this.config = config;
+        this.sharedValues = new IdentityHashMap<>();
     }
 
     @Override
     public RuntimeIterator visit(Node node, RuntimeIterator argument) {
-        return node.accept(this, argument);
+        RuntimeIterator result = node.accept(this, argument);
+        if (!(node instanceof Expression)) {
+            return result;
+        }
+        Expression expression = (Expression) node;
+        if (expression.isFoldable()) {
+            return foldConstant(expression, result);
+        }
+        if (expression.getSharedValueGroup() != null) {
+            RuntimeIterator runtimeIterator = new SharedValueIterator(
+                    result,
+                    this.sharedValues.computeIfAbsent(
+                        expression.getSharedValueGroup(),
+                        k -> new SharedValueIterator.SharedValue()
+                    ),
+                    expression.getMetadata()
+            );
+            runtimeIterator.setStaticContext(expression.getStaticContext());
+            return runtimeIterator;
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates an expression that does not depend on the dynamic context at compile time. If it fails or returns
+     * too many or non-atomic items, it is left for the runtime.
+     *
+     * @param expression the foldable expression.
+     * @param iterator the iterator of the expression.
+     * @return an iterator returning the precomputed value.
+     */
+    private RuntimeIterator foldConstant(Expression expression, RuntimeIterator iterator) {
+        List<Item> items;
+        try {
+            // a copy is evaluated, so that the iterator is left untouched if it fails
+            items = iterator.deepCopy().materialize(new DynamicContext(this.config));
+        } catch (RumbleException e) {
+            return iterator;
+        }
+        if (items.size() > MAX_FOLDED_ITEMS || items.stream().anyMatch(item -> !item.isAtomic())) {
+            return iterator;
+        }
+        List<RuntimeIterator> constants = new ArrayList<>();
+        for (Item item : items) {
+            RuntimeIterator constant = new ConstantRuntimeIterator(item, ExecutionMode.LOCAL, expression.getMetadata());
+            constant.setStaticContext(expression.getStaticContext());
+            constants.add(constant);
+        }
+        if (constants.size() == 1) {
+            return constants.get(0);
+        }
+        RuntimeIterator runtimeIterator = new CommaExpressionIterator(
+                constants,
+                ExecutionMode.LOCAL,
+                expression.getMetadata()
+        );
+        runtimeIterator.setStaticContext(expression.getStaticContext());
+        return runtimeIterator;
     }
 
     @Override
@@ -497,12 +577,35 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
             paramNameToSequenceTypes.put(paramEntry.getKey(), paramEntry.getValue());
         }
         SequenceType returnType = expression.getReturnType();
+
+        Set<FunctionCallExpression> previousSelfTailCalls = this.selfTailCalls;
+        TailCallLoopIterator.PendingCall previousPendingTailCall = this.pendingTailCall;
+        List<SequenceType> previousTailCallParameterTypes = this.tailCallParameterTypes;
+        this.selfTailCalls = findSelfTailCalls(expression);
+        this.pendingTailCall = this.selfTailCalls.isEmpty() ? null : new TailCallLoopIterator.PendingCall();
+        this.tailCallParameterTypes = new ArrayList<>(paramNameToSequenceTypes.values());
+
         RuntimeIterator bodyIterator = this.visit(expression.getBody(), argument);
+        if (this.pendingTailCall != null) {
+            bodyIterator = new TailCallLoopIterator(
+                    bodyIterator,
+                    new ArrayList<>(paramNameToSequenceTypes.keySet()),
+                    this.pendingTailCall,
+                    expression.getBody().getMetadata()
+            );
+            bodyIterator.setStaticContext(expression.getBody().getStaticContext());
+        }
+
+        this.selfTailCalls = previousSelfTailCalls;
+        this.pendingTailCall = previousPendingTailCall;
+        this.tailCallParameterTypes = previousTailCallParameterTypes;
+
         RuntimeIterator runtimeIterator = new FunctionRuntimeIterator(
                 expression.getName(),
                 paramNameToSequenceTypes,
                 returnType,
                 bodyIterator,
+                expression.isMemoized(),
                 expression.getHighestExecutionMode(this.visitorConfig),
                 expression.getMetadata()
         );
@@ -510,6 +613,128 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
         return runtimeIterator;
     }
 
+    /**
+     * Finds the calls of a named function to itself that are in tail position in its body, i.e., whose results are
+     * the results of the function call itself. These calls are executed as a loop rather than by nesting a new body
+     * iterator, which would otherwise grow the Java stack with the recursion depth.
+     *
+     * Only local function bodies with locally stored parameters are considered. Tail positions are the branches of
+     * conditional, switch and typeswitch expressions, the return clause of FLWOR expressions made only of let and
+     * where clauses, and, if the return type does not constrain the cardinality, the last operand of a comma
+     * expression.
+     *
+     * @param expression the function.
+     * @return the self tail calls (possibly empty).
+     */
+    private Set<FunctionCallExpression> findSelfTailCalls(InlineFunctionExpression expression) {
+        Set<FunctionCallExpression> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (expression.getName() == null || expression.getBody() == null) {
+            return result;
+        }
+        for (Name parameter : expression.getParams().keySet()) {
+            if (!expression.getStaticContext().getVariableStorageMode(parameter).equals(ExecutionMode.LOCAL)) {
+                return result;
+            }
+        }
+        SequenceType returnType = expression.getReturnType();
+        boolean concatenationAllowed = returnType == null
+            || returnType.equals(SequenceType.ITEM_STAR)
+            || (!returnType.isEmptySequence() && returnType.getArity().equals(SequenceType.Arity.ZeroOrMore));
+        collectSelfTailCalls(
+            expression.getBody(),
+            expression.getFunctionIdentifier(),
+            expression.getParams().keySet(),
+            concatenationAllowed,
+            result
+        );
+        return result;
+    }
+
+    private void collectSelfTailCalls(
+            Expression expression,
+            FunctionIdentifier identifier,
+            Set<Name> parameters,
+            boolean concatenationAllowed,
+            Set<FunctionCallExpression> result
+    ) {
+        if (expression == null || !expression.getHighestExecutionMode(this.visitorConfig).isLocal()) {
+            return;
+        }
+        if (expression instanceof FunctionCallExpression) {
+            FunctionCallExpression call = (FunctionCallExpression) expression;
+            if (call.getFunctionIdentifier().equals(identifier) && !call.getArguments().contains(null)) {
+                result.add(call);
+            }
+        } else if (expression instanceof ConditionalExpression) {
+            ConditionalExpression conditional = (ConditionalExpression) expression;
+            collectSelfTailCalls(conditional.getBranch(), identifier, parameters, concatenationAllowed, result);
+            collectSelfTailCalls(conditional.getElseBranch(), identifier, parameters, concatenationAllowed, result);
+        } else if (expression instanceof SwitchExpression) {
+            SwitchExpression switchExpression = (SwitchExpression) expression;
+            for (SwitchCase switchCase : switchExpression.getCases()) {
+                collectSelfTailCalls(
+                    switchCase.getReturnExpression(),
+                    identifier,
+                    parameters,
+                    concatenationAllowed,
+                    result
+                );
+            }
+            collectSelfTailCalls(
+                switchExpression.getDefaultExpression(),
+                identifier,
+                parameters,
+                concatenationAllowed,
+                result
+            );
+        } else if (expression instanceof TypeSwitchExpression) {
+            TypeSwitchExpression typeSwitchExpression = (TypeSwitchExpression) expression;
+            List<TypeswitchCase> cases = new ArrayList<>(typeSwitchExpression.getCases());
+            cases.add(typeSwitchExpression.getDefaultCase());
+            for (TypeswitchCase typeswitchCase : cases) {
+                // case variables are bound in the same dynamic context as the parameters
+                if (typeswitchCase.getVariableName() != null && parameters.contains(typeswitchCase.getVariableName())) {
+                    continue;
+                }
+                collectSelfTailCalls(
+                    typeswitchCase.getReturnExpression(),
+                    identifier,
+                    parameters,
+                    concatenationAllowed,
+                    result
+                );
+            }
+        } else if (expression instanceof FlworExpression) {
+            Clause clause = ((FlworExpression) expression).getReturnClause().getFirstClause();
+            while (clause.getClauseType() != FLWOR_CLAUSES.RETURN) {
+                if (
+                    clause.getClauseType() != FLWOR_CLAUSES.LET && clause.getClauseType() != FLWOR_CLAUSES.WHERE
+                ) {
+                    return;
+                }
+                clause = clause.getNextClause();
+            }
+            collectSelfTailCalls(
+                ((ReturnClause) clause).getReturnExpr(),
+                identifier,
+                parameters,
+                concatenationAllowed,
+                result
+            );
+        } else if (expression instanceof CommaExpression && concatenationAllowed) {
+            List<Expression> expressions = ((CommaExpression) expression).getExpressions();
+            if (!expressions.isEmpty()) {
+                collectSelfTailCalls(
+                    expressions.get(expressions.size() - 1),
+                    identifier,
+                    parameters,
+                    concatenationAllowed,
+                    result
+                );
+            }
+        }
+    }
+
     @Override
     public RuntimeIterator visitFunctionCall(FunctionCallExpression expression, RuntimeIterator argument) {
         List<RuntimeIterator> arguments = new ArrayList<>();
@@ -527,7 +752,15 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
         FunctionIdentifier identifier = new FunctionIdentifier(fnName, arity);
 
         RuntimeIterator runtimeIterator = null;
-        if (BuiltinFunctionCatalogue.exists(identifier)) {
+        if (this.selfTailCalls != null && this.selfTailCalls.contains(expression)) {
+            runtimeIterator = new SelfTailCallIterator(
+                    fnName,
+                    arguments,
+                    this.tailCallParameterTypes,
+                    this.pendingTailCall,
+                    iteratorMetadata
+            );
+        } else if (BuiltinFunctionCatalogue.exists(identifier)) {
             runtimeIterator = NamedFunctions.getBuiltInFunctionIterator(
                 identifier,
                 arguments,
@@ -539,6 +772,10 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
                 this.config.isCheckReturnTypeOfBuiltinFunctions(),
                 iteratorMetadata
             );
+            if (runtimeIterator instanceof JsonFileFunctionIterator) {
+                // the file is not sampled again when it is read
+                ((JsonFileFunctionIterator) runtimeIterator).setInferredItemType(expression.getInferredItemType());
+            }
         } else {
             runtimeIterator = new StaticUserDefinedFunctionCallIterator(
                     identifier,
@@ -434,13 +434,21 @@ public class TranslationVisitor extends org.rumbledb.parser.JsoniqBaseVisitor<No
             bodyExpression = new CommaExpression(createMetadataFromContext(ctx));
         }
 
-        return new InlineFunctionExpression(
+        InlineFunctionExpression functionExpression = new InlineFunctionExpression(
                 name,
                 fnParams,
                 fnReturnType,
                 bodyExpression,
                 createMetadataFromContext(ctx)
         );
+        for (JsoniqParser.AnnotationContext annotation : ctx.annotations().annotation()) {
+            Name annotationName = parseName(annotation.name, false, false);
+            if (annotationName.getNamespace() == null && annotationName.getLocalName().equals("memoize")) {
+                functionExpression.setMemoized(true);
+            }
+            // other annotations are ignored
+        }
+        return functionExpression;
     }
 
     @Override
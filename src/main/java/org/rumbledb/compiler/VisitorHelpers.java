@@ -6,15 +6,21 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.commons.io.IOUtils;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.InteractiveSession;
 import org.rumbledb.context.FunctionIdentifier;
 import org.rumbledb.context.StaticContext;
 import org.rumbledb.context.UserDefinedFunctionExecutionModes;
@@ -36,6 +42,34 @@ import org.rumbledb.runtime.functions.input.FileSystemUtil;
 
 public class VisitorHelpers {
 
+    private static final String[] WARM_UP_QUERIES = new String[] {
+        "declare variable $threshold as integer external := 10;\n"
+            + "declare function local:f($x as item*, $y) as item* { if ($x[1] gt $y) then $x else ($y, $x) };\n"
+            + "for $o at $i in json-file(\"input.json\")[$$.a.b[[1]] eq \"c\"]\n"
+            + "let $s := sum($o.values[]) div count($o.values[])\n"
+            + "where $o.x ge $threshold and not($o.y = (1, 2, 3)) or exists($o.z)\n"
+            + "group by $k := $o.key, $t := string($o.kind)\n"
+            + "order by $k descending empty least, count($o) ascending\n"
+            + "count $c\n"
+            + "return { \"key\" : $k, \"count\" : count($o), \"items\" : [ $o ! ($$.a || \"-\" || $$.b) ],"
+            + " \"f\" : local:f(($c, $i), 1), \"s\" : $s cast as double?, \"m\" : max($o.m) instance of integer }",
+        "switch ($x) case 1 return \"a\" default return \"b\",\n"
+            + "typeswitch ($y) case $z as string return $z case object return keys($y) default return (),\n"
+            + "try { 1 div 0 } catch * { () },\n"
+            + "some $v in 1 to 10 satisfies $v mod 2 eq 0, every $w in (1, 2) satisfies $w lt 3,\n"
+            + "[ 1, 2, 3 ][], { \"a\" : 1 }.a, (1 to 10)[position() lt 3], -$n + 2 * 3 - 4 idiv 5" };
+
+    private static final String[] XQUERY_WARM_UP_QUERIES = new String[] {
+        "xquery version \"3.1\";\n"
+            + "declare function local:f($x as item()*) as item()* { if ($x[1] gt 0) then $x else () };\n"
+            + "for $o at $i in (1 to 10)\n"
+            + "let $s := sum(($o, $i)) div 2\n"
+            + "where $o ge 2 and not($o = (1, 2, 3)) or exists($o)\n"
+            + "group by $k := $o mod 2\n"
+            + "order by $k descending empty least\n"
+            + "count $c\n"
+            + "return map { \"key\" : $k, \"items\" : array { $o ! string(.) }, \"f\" : local:f(($c, $i)) }" };
+
     public static RuntimeIterator generateRuntimeIterator(Node node, RumbleRuntimeConfiguration conf) {
         RuntimeIterator result = new RuntimeIteratorVisitor(conf).visit(node, null);
         if (conf.isPrintIteratorTree()) {
@@ -54,6 +88,14 @@ public class VisitorHelpers {
         new ModulePruningVisitor(conf).visit(node, null);
     }
 
+    private static void checkMemoizedFunctions(Node node) {
+        new MemoizationVisitor().visit(node, null);
+    }
+
+    private static void rewriteExpressions(Node node) {
+        new ExpressionRewritingVisitor().rewriteTree(node);
+    }
+
     private static void inferTypes(Module module, RumbleRuntimeConfiguration conf) {
         new InferTypeVisitor(conf).visit(module, module.getStaticContext());
         if (conf.printInferredTypes() || conf.isPrintIteratorTree()) {
@@ -91,15 +133,40 @@ public class VisitorHelpers {
     }
 
     public static MainModule parseMainModuleFromQuery(String query, RumbleRuntimeConfiguration configuration) {
+        return parseMainModuleFromQuery(query, configuration, null);
+    }
+
+    /**
+     * Parses and analyzes a main module, in which the variables of an interactive session are in scope.
+     *
+     * @param query the content of the main module.
+     * @param configuration the configuration.
+     * @param session the interactive session, or null.
+     * @return the main module.
+     */
+    public static MainModule parseMainModuleFromQuery(
+            String query,
+            RumbleRuntimeConfiguration configuration,
+            InteractiveSession session
+    ) {
         URI location = FileSystemUtil.resolveURIAgainstWorkingDirectory(
             ".",
             configuration,
             ExceptionMetadata.EMPTY_METADATA
         );
-        return parseMainModule(query, location, configuration);
+        return parseMainModule(query, location, configuration, session);
     }
 
     public static MainModule parseMainModule(String query, URI uri, RumbleRuntimeConfiguration configuration) {
+        return parseMainModule(query, uri, configuration, null);
+    }
+
+    private static MainModule parseMainModule(
+            String query,
+            URI uri,
+            RumbleRuntimeConfiguration configuration,
+            InteractiveSession session
+    ) {
         CharStream stream = CharStreams.fromString(query);
         StringBuffer sb = new StringBuffer();
         sb.append((char) stream.LA(1));
@@ -109,9 +176,9 @@ public class VisitorHelpers {
         sb.append((char) stream.LA(5));
         sb.append((char) stream.LA(6));
         if (sb.toString().equals("xquery")) {
-            return parseXQueryMainModule(query, uri, configuration);
+            return parseXQueryMainModule(query, uri, configuration, session);
         } else {
-            return parseJSONiqMainModule(query, uri, configuration);
+            return parseJSONiqMainModule(query, uri, configuration, session);
         }
 
     }
@@ -119,7 +186,8 @@ public class VisitorHelpers {
     public static MainModule parseJSONiqMainModule(
             String query,
             URI uri,
-            RumbleRuntimeConfiguration configuration
+            RumbleRuntimeConfiguration configuration,
+            InteractiveSession session
     ) {
         CharStream stream = CharStreams.fromString(query);
         JsoniqLexer lexer = new JsoniqLexer(stream);
@@ -127,20 +195,26 @@ public class VisitorHelpers {
         parser.setErrorHandler(new BailErrorStrategy());
         StaticContext moduleContext = new StaticContext(uri, configuration);
         moduleContext.setUserDefinedFunctionsExecutionModes(new UserDefinedFunctionExecutionModes());
+        if (session != null) {
+            session.declareVariables(moduleContext);
+        }
         TranslationVisitor visitor = new TranslationVisitor(moduleContext, true, configuration, query);
         try {
             // TODO Handle module extras
-            JsoniqParser.ModuleAndThisIsItContext module = parser.moduleAndThisIsIt();
+            long startTime = System.currentTimeMillis();
+            JsoniqParser.ModuleAndThisIsItContext module = parseInTwoStages(
+                parser,
+                JsoniqParser::moduleAndThisIsIt
+            );
             JsoniqParser.MainModuleContext main = module.module().main;
             if (main == null) {
                 throw new ParsingException("A library module is not executable.", ExceptionMetadata.EMPTY_METADATA);
             }
+            long parsingTime = System.currentTimeMillis() - startTime;
             MainModule mainModule = (MainModule) visitor.visit(main);
-            pruneModules(mainModule, configuration);
-            resolveDependencies(mainModule, configuration);
-            populateStaticContext(mainModule, configuration);
-            inferTypes(mainModule, configuration);
-            populateExecutionModes(mainModule, configuration);
+            analyzeMainModule(mainModule, configuration);
+            mainModule.setCompilationTimes(parsingTime, System.currentTimeMillis() - startTime - parsingTime);
+            mainModule.setParsedWithFullLL(parser.getInterpreter().getPredictionMode() == PredictionMode.LL);
             return mainModule;
         } catch (ParseCancellationException ex) {
             ParsingException e = new ParsingException(
@@ -160,7 +234,8 @@ public class VisitorHelpers {
     public static MainModule parseXQueryMainModule(
             String query,
             URI uri,
-            RumbleRuntimeConfiguration configuration
+            RumbleRuntimeConfiguration configuration,
+            InteractiveSession session
     ) {
         CharStream stream = CharStreams.fromString(query);
         XQueryLexer lexer = new XQueryLexer(stream);
@@ -168,19 +243,22 @@ public class VisitorHelpers {
         parser.setErrorHandler(new BailErrorStrategy());
         StaticContext moduleContext = new StaticContext(uri, configuration);
         moduleContext.setUserDefinedFunctionsExecutionModes(new UserDefinedFunctionExecutionModes());
+        if (session != null) {
+            session.declareVariables(moduleContext);
+        }
         XQueryTranslationVisitor visitor = new XQueryTranslationVisitor(moduleContext, true, configuration, query);
         try {
             // TODO Handle module extras
-            XQueryParser.MainModuleContext main = parser.module().mainModule();
+            long startTime = System.currentTimeMillis();
+            XQueryParser.MainModuleContext main = parseInTwoStages(parser, XQueryParser::module).mainModule();
             if (main == null) {
                 throw new ParsingException("A library module is not executable.", ExceptionMetadata.EMPTY_METADATA);
             }
+            long parsingTime = System.currentTimeMillis() - startTime;
             MainModule mainModule = (MainModule) visitor.visit(main);
-            pruneModules(mainModule, configuration);
-            resolveDependencies(mainModule, configuration);
-            populateStaticContext(mainModule, configuration);
-            inferTypes(mainModule, configuration);
-            populateExecutionModes(mainModule, configuration);
+            analyzeMainModule(mainModule, configuration);
+            mainModule.setCompilationTimes(parsingTime, System.currentTimeMillis() - startTime - parsingTime);
+            mainModule.setParsedWithFullLL(parser.getInterpreter().getPredictionMode() == PredictionMode.LL);
             return mainModule;
         } catch (ParseCancellationException ex) {
             ParsingException e = new ParsingException(
@@ -236,8 +314,21 @@ public class VisitorHelpers {
         TranslationVisitor visitor = new TranslationVisitor(moduleContext, false, configuration, query);
         try {
             // TODO Handle module extras
-            JsoniqParser.ModuleAndThisIsItContext module = parser.moduleAndThisIsIt();
-            JsoniqParser.LibraryModuleContext main = module.module().libraryModule();
+            JsoniqParser.LibraryModuleContext main = LibraryModuleParseCache.get(
+                uri,
+                query,
+                JsoniqParser.LibraryModuleContext.class
+            );
+            if (main == null) {
+                JsoniqParser.ModuleAndThisIsItContext module = parseInTwoStages(
+                    parser,
+                    JsoniqParser::moduleAndThisIsIt
+                );
+                main = module.module().libraryModule();
+                if (main != null) {
+                    LibraryModuleParseCache.put(uri, query, main);
+                }
+            }
             LibraryModule libraryModule = (LibraryModule) visitor.visit(main);
             resolveDependencies(libraryModule, configuration);
             // no static context population, as this is done in a single shot via the importing main module.
@@ -274,7 +365,17 @@ public class VisitorHelpers {
         XQueryTranslationVisitor visitor = new XQueryTranslationVisitor(moduleContext, false, configuration, query);
         try {
             // TODO Handle module extras
-            XQueryParser.LibraryModuleContext main = parser.module().libraryModule();
+            XQueryParser.LibraryModuleContext main = LibraryModuleParseCache.get(
+                uri,
+                query,
+                XQueryParser.LibraryModuleContext.class
+            );
+            if (main == null) {
+                main = parseInTwoStages(parser, XQueryParser::module).libraryModule();
+                if (main != null) {
+                    LibraryModuleParseCache.put(uri, query, main);
+                }
+            }
             LibraryModule libraryModule = (LibraryModule) visitor.visit(main);
             resolveDependencies(libraryModule, configuration);
             // no static context population, as this is done in a single shot via the importing main module.
@@ -294,11 +395,77 @@ public class VisitorHelpers {
         }
     }
 
+    private static void analyzeMainModule(MainModule mainModule, RumbleRuntimeConfiguration configuration) {
+        pruneModules(mainModule, configuration);
+        resolveDependencies(mainModule, configuration);
+        populateStaticContext(mainModule, configuration);
+        inferTypes(mainModule, configuration);
+        populateExecutionModes(mainModule, configuration);
+        checkMemoizedFunctions(mainModule);
+        rewriteExpressions(mainModule);
+    }
+
+    /**
+     * Parses with the faster SLL prediction mode first, which succeeds for almost all queries, and only parses again
+     * with full LL prediction if it fails, be it because of a syntax error or of an input that SLL cannot predict.
+     * The parser must use a bail-out error strategy. The DFA caches of the generated parsers are static, so that what
+     * is learnt while parsing a query is reused for the next ones.
+     *
+     * @param parser the parser.
+     * @param rule the start rule.
+     * @param <P> the class of the parser.
+     * @param <T> the class of the parse tree.
+     * @return the parse tree.
+     */
+    private static <P extends Parser, T extends ParserRuleContext> T parseInTwoStages(P parser, Function<P, T> rule) {
+        List<ANTLRErrorListener> errorListeners = new ArrayList<>(parser.getErrorListeners());
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return rule.apply(parser);
+        } catch (ParseCancellationException e) {
+            parser.reset();
+            errorListeners.forEach(parser::addErrorListener);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return rule.apply(parser);
+        }
+    }
+
+    /**
+     * Returns the number of times an imported library module was not parsed again, because its parse tree was cached.
+     *
+     * @return the number of cache hits since the JVM started.
+     */
+    public static long getNumberOfCachedLibraryModuleParses() {
+        return LibraryModuleParseCache.getNumberOfHits();
+    }
+
+    /**
+     * Parses a few representative queries, so that the DFA caches of the parsers are warm when the first actual
+     * queries are parsed, e.g., when starting the server.
+     */
+    public static void warmUpParsers() {
+        for (String query : WARM_UP_QUERIES) {
+            JsoniqParser parser = new JsoniqParser(
+                    new CommonTokenStream(new JsoniqLexer(CharStreams.fromString(query)))
+            );
+            parser.setErrorHandler(new BailErrorStrategy());
+            parseInTwoStages(parser, JsoniqParser::moduleAndThisIsIt);
+        }
+        for (String query : XQUERY_WARM_UP_QUERIES) {
+            XQueryParser parser = new XQueryParser(
+                    new CommonTokenStream(new XQueryLexer(CharStreams.fromString(query)))
+            );
+            parser.setErrorHandler(new BailErrorStrategy());
+            parseInTwoStages(parser, XQueryParser::module);
+        }
+    }
+
     private static void populateExecutionModes(Module module, RumbleRuntimeConfiguration conf) {
         if (conf.isPrintIteratorTree()) {
             printTree(module, conf);
         }
-        ExecutionModeVisitor visitor = new ExecutionModeVisitor();
+        ExecutionModeVisitor visitor = new ExecutionModeVisitor(conf);
         visitor.visit(module, module.getStaticContext());
 
 
@@ -364,6 +531,25 @@ public class VisitorHelpers {
         return visitor.visit(node, null);
     }
 
+    /**
+     * Creates the dynamic context of a main module, in which the variables of an interactive session are bound.
+     *
+     * @param node the main module.
+     * @param configuration the configuration.
+     * @param session the interactive session.
+     * @return the dynamic context.
+     */
+    public static DynamicContext createDynamicContext(
+            Node node,
+            RumbleRuntimeConfiguration configuration,
+            InteractiveSession session
+    ) {
+        DynamicContext context = new DynamicContext(configuration);
+        session.bindVariables(context);
+        DynamicContextVisitor visitor = new DynamicContextVisitor(configuration);
+        return visitor.visit(node, context);
+    }
+
     private static void setLocalExecutionForUnsetUserDefinedFunctions(
             UserDefinedFunctionExecutionModes userDefinedFunctionExecutionModes
     ) {
@@ -59,6 +59,8 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
     private String logPath;
     private String query;
     private String shell;
+    private long localExecutionThreshold;
+    private long parallelExecutionThreshold;
 
 
     private static final RumbleRuntimeConfiguration defaultConfiguration = new RumbleRuntimeConfiguration();
@@ -233,6 +235,18 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
         } else {
             this.shell = null;
         }
+
+        if (this.arguments.containsKey("local-execution-threshold")) {
+            this.localExecutionThreshold = Long.parseLong(this.arguments.get("local-execution-threshold"));
+        } else {
+            this.localExecutionThreshold = 0;
+        }
+
+        if (this.arguments.containsKey("parallel-execution-threshold")) {
+            this.parallelExecutionThreshold = Long.parseLong(this.arguments.get("parallel-execution-threshold"));
+        } else {
+            this.parallelExecutionThreshold = 0;
+        }
     }
 
     public boolean getOverwrite() {
@@ -312,6 +326,48 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
         return this;
     }
 
+    /**
+     * Gets the size in bytes under which an input file read by a distributed input function is read locally instead
+     * of with Spark. A value of 0 disables this optimization.
+     *
+     * @return the current threshold in bytes.
+     */
+    public long getLocalExecutionThreshold() {
+        return this.localExecutionThreshold;
+    }
+
+    /**
+     * Sets the size in bytes under which an input file read by a distributed input function is read locally instead
+     * of with Spark. A value of 0 disables this optimization.
+     *
+     * @param threshold the threshold in bytes.
+     */
+    public RumbleRuntimeConfiguration setLocalExecutionThreshold(long threshold) {
+        this.localExecutionThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Gets the number of items from which a locally produced sequence iterated over by a starting for clause is
+     * distributed with Spark. A value of 0 disables this optimization.
+     *
+     * @return the current threshold in number of items.
+     */
+    public long getParallelExecutionThreshold() {
+        return this.parallelExecutionThreshold;
+    }
+
+    /**
+     * Sets the number of items from which a locally produced sequence iterated over by a starting for clause is
+     * distributed with Spark. A value of 0 disables this optimization.
+     *
+     * @param threshold the threshold in number of items.
+     */
+    public RumbleRuntimeConfiguration setParallelExecutionThreshold(long threshold) {
+        this.parallelExecutionThreshold = threshold;
+        return this;
+    }
+
     public List<Item> getExternalVariableValue(Name name) {
         if (this.externalVariableValues.containsKey(name)) {
             return this.externalVariableValues.get(name);
@@ -369,8 +425,148 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
             && this.arguments.get("escape-backticks").equals("yes");
     }
 
+    /**
+     * Checks whether the group by clause should look for hot grouping keys in a sample of its input and, if it finds
+     * any, spread them over several salted sub-groups that are merged in a second aggregation.
+     *
+     * @return true if skew-resistant grouping is activated.
+     */
+    public boolean isSkewResistantGroupBy() {
+        return this.arguments.containsKey("skew-resistant-group-by")
+            && this.arguments.get("skew-resistant-group-by").equals("yes");
+    }
+
+    /**
+     * Gets the number of salted sub-groups over which each hot grouping key is spread.
+     *
+     * @return the number of sub-groups.
+     */
+    public int getGroupBySaltPartitions() {
+        if (this.arguments.containsKey("group-by-salt-partitions")) {
+            return Integer.parseInt(this.arguments.get("group-by-salt-partitions"));
+        }
+        return 16;
+    }
+
+    /**
+     * Gets the approximate number of bytes of tuples that order by and group by clauses evaluated locally may buffer
+     * in memory before spilling them to local temporary files.
+     *
+     * @return the memory budget in bytes.
+     */
+    public long getLocalMemoryBudget() {
+        if (this.arguments.containsKey("local-memory-budget")) {
+            return Long.parseLong(this.arguments.get("local-memory-budget")) * 1024 * 1024;
+        }
+        return Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    /**
+     * Checks whether json-file() should infer a schema from a sample of the lines of its input and, if the sample is
+     * homogeneous, return a DataFrame instead of an RDD of items.
+     *
+     * @return true if schema inference is activated.
+     */
+    public boolean isJsonFileSchemaInference() {
+        return this.arguments.containsKey("json-file-schema-inference")
+            && this.arguments.get("json-file-schema-inference").equals("yes");
+    }
+
+    /**
+     * Gets the fraction of the lines of a JSON Lines file that are sampled to infer its schema.
+     *
+     * @return the sampled fraction.
+     */
+    public double getJsonFileSchemaSampleFraction() {
+        if (this.arguments.containsKey("json-file-schema-sample-fraction")) {
+            return Double.parseDouble(this.arguments.get("json-file-schema-sample-fraction"));
+        }
+        return 0.01;
+    }
+
+    /**
+     * Checks whether the items of a query result computed with Spark should be pulled to the driver one partition at a
+     * time when iterating over them or printing them, rather than collected all at once.
+     *
+     * @return true if streaming is activated.
+     */
+    public boolean isStreamingOutput() {
+        return this.arguments.containsKey("streaming-output")
+            && this.arguments.get("streaming-output").equals("yes");
+    }
+
+    /**
+     * Checks whether, when streaming a query result, the next partition should be computed in the background while
+     * the current one is consumed.
+     *
+     * @return true if prefetching is activated.
+     */
+    public boolean isPrefetchPartitions() {
+        return !this.arguments.containsKey("prefetch-partitions")
+            || this.arguments.get("prefetch-partitions").equals("yes");
+    }
+
+    /**
+     * Returns the maximum duration of a query, after which it is cancelled.
+     *
+     * @return the timeout in seconds, or 0 if queries are never cancelled.
+     */
+    public long getQueryTimeout() {
+        if (this.arguments.containsKey("timeout")) {
+            return Long.parseLong(this.arguments.get("timeout"));
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the identifier of the interactive session of a query sent to the HTTP server. The global variables
+     * declared by the queries of a session stay in scope for its next queries.
+     *
+     * @return the session identifier, or null if the query does not belong to a session.
+     */
+    public String getSessionId() {
+        return this.arguments.get("session");
+    }
+
+    /**
+     * Returns the duration after which a session of the HTTP server that is not used is closed, and the values of its
+     * variables are removed from Spark storage.
+     *
+     * @return the timeout in seconds, or 0 if sessions are only closed explicitly or when there are too many.
+     */
+    public long getSessionTimeout() {
+        if (this.arguments.containsKey("session-timeout")) {
+            return Long.parseLong(this.arguments.get("session-timeout"));
+        }
+        return 3600;
+    }
+
+    /**
+     * Returns the number of items from which the value of a local variable captured by the closures of Spark jobs is
+     * shipped to the executors as a broadcast variable, rather than serialized within each closure.
+     *
+     * @return the threshold, or 0 if local variable values are never broadcast.
+     */
+    public int getLocalVariableBroadcastThreshold() {
+        if (this.arguments.containsKey("local-variable-broadcast-threshold")) {
+            return Integer.parseInt(this.arguments.get("local-variable-broadcast-threshold"));
+        }
+        return 10000;
+    }
+
+    /**
+     * Checks whether the models fitted by RumbleML estimators should be kept in memory, so that fitting the same
+     * estimator with the same parameters on the same data again returns the model fitted before.
+     *
+     * @return true if the cache of fitted models is activated.
+     */
+    public boolean isFittedModelCache() {
+        return this.arguments.containsKey("fitted-model-cache")
+            && this.arguments.get("fitted-model-cache").equals("yes");
+    }
+
     public boolean isLocal() {
-        String masterConfig = SparkSessionManager.getInstance().getJavaSparkContext().getConf().get("spark.master");
+        String masterConfig = SparkSessionManager.getInstance().getSparkConfiguration().get("spark.master");
         return masterConfig.contains("local");
     }
 
@@ -379,51 +575,46 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
         StringBuffer sb = new StringBuffer();
         sb.append(
             "App name: "
-                + SparkSessionManager.getInstance().getJavaSparkContext().getConf().get("spark.app.name", "(not set)")
+                + SparkSessionManager.getInstance().getSparkConfiguration().get("spark.app.name", "(not set)")
                 + "\n"
         );
         sb.append(
             "Master: "
-                + SparkSessionManager.getInstance().getJavaSparkContext().getConf().get("spark.master", "(not set)")
+                + SparkSessionManager.getInstance().getSparkConfiguration().get("spark.master", "(not set)")
                 + "\n"
         );
         sb.append(
             "Driver's memory: "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getSparkConfiguration()
                     .get("spark.driver.memory", "(not set)")
                 + "\n"
         );
         sb.append(
             "Number of executors (only applies if running on a cluster): "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getSparkConfiguration()
                     .get("spark.executor.instances", "(not set)")
                 + "\n"
         );
         sb.append(
             "Cores per executor (only applies if running on a cluster): "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getSparkConfiguration()
                     .get("spark.executor.cores", "(not set)")
                 + "\n"
         );
         sb.append(
             "Memory per executor (only applies if running on a cluster): "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getSparkConfiguration()
                     .get("spark.executor.memory", "(not set)")
                 + "\n"
         );
         sb.append(
             "Dynamic allocation: "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getSparkConfiguration()
                     .get("spark.dynamicAllocation.enabled", "(not set)")
                 + "\n"
         );
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.context;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoSerializable;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.JavaSerializer;
+import org.apache.spark.broadcast.Broadcast;
+import org.rumbledb.api.Item;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The value of a local variable that is shipped to the executors as a Spark broadcast variable rather than within the
+ * closures that capture it. Only the broadcast handle is serialized, and the items are fetched the first time they
+ * are accessed (once per executor, as Spark keeps broadcast values in the block manager).
+ */
+public class BroadcastItemList extends AbstractList<Item> implements Serializable, KryoSerializable {
+
+    private static final long serialVersionUID = 1L;
+    private Broadcast<List<Item>> broadcast;
+    private int size;
+    private transient List<Item> items;
+
+    /**
+     * The default constructor is for Kryo deserialization purposes.
+     */
+    public BroadcastItemList() {
+    }
+
+    /**
+     * Broadcasts the items of a variable value. This must be called on the driver.
+     *
+     * @param items the items.
+     */
+    BroadcastItemList(List<Item> items) {
+        this.broadcast = SparkSessionManager.getInstance()
+            .getJavaSparkContext()
+            .broadcast(new ArrayList<>(items));
+        this.size = items.size();
+        this.items = items;
+    }
+
+    /**
+     * Checks whether this list broadcasts the given items, so that the broadcast can be reused when the same variable
+     * value is shipped again.
+     *
+     * @param items a variable value.
+     * @return true if this list was created from these very items.
+     */
+    boolean broadcasts(List<Item> items) {
+        return this.items == items;
+    }
+
+    private List<Item> getItems() {
+        if (this.items == null) {
+            this.items = this.broadcast.value();
+        }
+        return this.items;
+    }
+
+    @Override
+    public Item get(int index) {
+        return getItems().get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output) {
+        kryo.writeObject(output, this.broadcast, new JavaSerializer());
+        output.writeInt(this.size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void read(Kryo kryo, Input input) {
+        this.broadcast = kryo.readObject(input, Broadcast.class, new JavaSerializer());
+        this.size = input.readInt();
+    }
+}
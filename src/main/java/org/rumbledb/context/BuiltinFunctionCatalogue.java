@@ -142,6 +142,8 @@ import org.rumbledb.types.SequenceType;
 import sparksoniq.spark.ml.AnnotateFunctionIterator;
 import sparksoniq.spark.ml.GetEstimatorFunctionIterator;
 import sparksoniq.spark.ml.GetTransformerFunctionIterator;
+import sparksoniq.spark.ml.LoadTransformerFunctionIterator;
+import sparksoniq.spark.ml.SaveTransformerFunctionIterator;
 
 public class BuiltinFunctionCatalogue {
     private static final HashMap<FunctionIdentifier, BuiltinFunction> builtinFunctions;
@@ -2513,6 +2515,37 @@ public class BuiltinFunctionCatalogue {
         BuiltinFunction.BuiltinFunctionExecutionMode.LOCAL
     );
 
+    /**
+     * function that saves a transformer with the persistence of SparkML
+     */
+    static final BuiltinFunction save_transformer = createBuiltinFunction(
+        new Name(
+                Name.JN_NS,
+                "jn",
+                "save-transformer"
+        ),
+        "function(object*, object) as object*",
+        "string",
+        "string",
+        SaveTransformerFunctionIterator.class,
+        BuiltinFunction.BuiltinFunctionExecutionMode.LOCAL
+    );
+
+    /**
+     * function that loads a transformer saved with the persistence of SparkML
+     */
+    static final BuiltinFunction load_transformer = createBuiltinFunction(
+        new Name(
+                Name.JN_NS,
+                "jn",
+                "load-transformer"
+        ),
+        "string",
+        "function(object*, object) as object*",
+        LoadTransformerFunctionIterator.class,
+        BuiltinFunction.BuiltinFunctionExecutionMode.LOCAL
+    );
+
     /**
      * function converts given RDD or local data to a DataFrame using a schema
      */
@@ -2733,6 +2766,8 @@ public class BuiltinFunctionCatalogue {
         builtinFunctions.put(get_transformer2.getIdentifier(), get_transformer2);
         builtinFunctions.put(get_estimator.getIdentifier(), get_estimator);
         builtinFunctions.put(get_estimator2.getIdentifier(), get_estimator2);
+        builtinFunctions.put(save_transformer.getIdentifier(), save_transformer);
+        builtinFunctions.put(load_transformer.getIdentifier(), load_transformer);
         builtinFunctions.put(annotate.getIdentifier(), annotate);
 
         builtinFunctions.put(trace.getIdentifier(), trace);
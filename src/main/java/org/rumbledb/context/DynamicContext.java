@@ -64,7 +64,7 @@ public class DynamicContext implements Serializable, KryoSerializable {
      */
     public DynamicContext(RumbleRuntimeConfiguration conf) {
         this.parent = null;
-        this.variableValues = new VariableValues();
+        this.variableValues = new VariableValues(conf == null ? 0 : conf.getLocalVariableBroadcastThreshold());
         this.conf = conf;
         this.namedFunctions = new NamedFunctions();
         this.inScopeSchemaTypes = new InScopeSchemaTypes();
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.context;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.storage.StorageLevel;
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.expressions.module.MainModule;
+import org.rumbledb.expressions.module.VariableDeclaration;
+import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.types.SequenceType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state of an interactive session (shell or server session) that outlives single queries: the global variables
+ * declared in the prolog of a query stay in scope for the following queries of the session, with their values.
+ *
+ * Variables whose value is an RDD or a DataFrame are persisted in Spark storage (memory and disk), so that their
+ * input is read and parsed only once for the whole session. They are unpersisted when they are forgotten or declared
+ * again.
+ */
+public class InteractiveSession {
+
+    private final Map<Name, SessionVariable> variables;
+
+    public InteractiveSession() {
+        this.variables = new LinkedHashMap<>();
+    }
+
+    /**
+     * Declares the variables of the session in the static context of a main module, before the module is analyzed.
+     *
+     * @param moduleContext the static context of the main module.
+     */
+    public synchronized void declareVariables(StaticContext moduleContext) {
+        for (SessionVariable variable : this.variables.values()) {
+            moduleContext.addVariable(variable.name, variable.sequenceType, ExceptionMetadata.EMPTY_METADATA);
+            moduleContext.setVariableStorageMode(variable.name, variable.storageMode);
+        }
+    }
+
+    /**
+     * Binds the values of the variables of the session in the dynamic context of a main module, before its own
+     * declarations are evaluated.
+     *
+     * @param moduleContext the dynamic context of the main module.
+     */
+    public synchronized void bindVariables(DynamicContext moduleContext) {
+        VariableValues values = moduleContext.getVariableValues();
+        for (SessionVariable variable : this.variables.values()) {
+            if (variable.dataFrame != null) {
+                values.addVariableValue(variable.name, variable.dataFrame);
+            } else if (variable.rdd != null) {
+                values.addVariableValue(variable.name, variable.rdd);
+            } else {
+                values.addVariableValue(variable.name, variable.items);
+            }
+        }
+    }
+
+    /**
+     * Keeps the global variables declared in the prolog of a main module for the next queries of the session.
+     *
+     * @param mainModule the main module, after static analysis.
+     * @param moduleContext the dynamic context of the main module, in which its declarations were evaluated.
+     */
+    public synchronized void retainVariables(MainModule mainModule, DynamicContext moduleContext) {
+        StaticContext staticContext = mainModule.getStaticContext();
+        VariableValues values = moduleContext.getVariableValues();
+        for (VariableDeclaration declaration : mainModule.getProlog().getVariableDeclarations()) {
+            Name name = declaration.getVariableName();
+            SequenceType sequenceType = staticContext.getVariableSequenceType(name);
+            SessionVariable variable;
+            if (values.isDataFrame(name, declaration.getMetadata())) {
+                JSoundDataFrame dataFrame = values.getDataFrameVariableValue(name, declaration.getMetadata());
+                dataFrame.getDataFrame().persist(StorageLevel.MEMORY_AND_DISK());
+                variable = new SessionVariable(name, sequenceType, ExecutionMode.DATAFRAME, null, null, dataFrame);
+            } else if (values.isRDD(name, declaration.getMetadata())) {
+                JavaRDD<Item> rdd = values.getRDDVariableValue(name, declaration.getMetadata());
+                if (rdd.getStorageLevel().equals(StorageLevel.NONE())) {
+                    rdd.persist(StorageLevel.MEMORY_AND_DISK());
+                }
+                variable = new SessionVariable(name, sequenceType, ExecutionMode.RDD, null, rdd, null);
+            } else {
+                List<Item> items = values.getLocalVariableValue(name, declaration.getMetadata());
+                variable = new SessionVariable(name, sequenceType, ExecutionMode.LOCAL, items, null, null);
+            }
+            SessionVariable previous = this.variables.put(name, variable);
+            if (previous != null) {
+                release(previous);
+            }
+        }
+    }
+
+    /**
+     * Forgets a variable of the session, and removes its value from Spark storage.
+     *
+     * @param name the name of the variable.
+     * @return true if the session had this variable.
+     */
+    public synchronized boolean forgetVariable(Name name) {
+        SessionVariable variable = this.variables.remove(name);
+        if (variable == null) {
+            return false;
+        }
+        release(variable);
+        return true;
+    }
+
+    /**
+     * Forgets all the variables of the session, and removes their values from Spark storage.
+     */
+    public synchronized void forgetAllVariables() {
+        for (SessionVariable variable : this.variables.values()) {
+            variable.unpersist();
+        }
+        this.variables.clear();
+    }
+
+    // unpersists the value of a variable, unless another variable (e.g., declared as $x := $y) still holds it
+    private void release(SessionVariable variable) {
+        for (SessionVariable other : this.variables.values()) {
+            if (
+                (variable.rdd != null && other.rdd == variable.rdd)
+                    || (variable.dataFrame != null && other.dataFrame == variable.dataFrame)
+            ) {
+                return;
+            }
+        }
+        variable.unpersist();
+    }
+
+    /**
+     * Describes the variables of the session, one per line, with their static types and how they are stored.
+     *
+     * @return the descriptions.
+     */
+    public synchronized List<String> describeVariables() {
+        List<String> result = new ArrayList<>();
+        for (SessionVariable variable : this.variables.values()) {
+            result.add("$" + variable.name + " as " + variable.sequenceType + " (" + variable.describeStorage() + ")");
+        }
+        return result;
+    }
+
+    private static class SessionVariable {
+        private final Name name;
+        private final SequenceType sequenceType;
+        private final ExecutionMode storageMode;
+        private final List<Item> items;
+        private final JavaRDD<Item> rdd;
+        private final JSoundDataFrame dataFrame;
+
+        private SessionVariable(
+                Name name,
+                SequenceType sequenceType,
+                ExecutionMode storageMode,
+                List<Item> items,
+                JavaRDD<Item> rdd,
+                JSoundDataFrame dataFrame
+        ) {
+            this.name = name;
+            this.sequenceType = sequenceType;
+            this.storageMode = storageMode;
+            this.items = items;
+            this.rdd = rdd;
+            this.dataFrame = dataFrame;
+        }
+
+        private void unpersist() {
+            if (this.dataFrame != null) {
+                this.dataFrame.getDataFrame().unpersist();
+            }
+            if (this.rdd != null) {
+                this.rdd.unpersist();
+            }
+        }
+
+        private String describeStorage() {
+            if (this.dataFrame != null) {
+                return "cached DataFrame";
+            }
+            if (this.rdd != null) {
+                return "cached RDD";
+            }
+            return this.items.size() + " local items";
+        }
+    }
+}
@@ -148,9 +148,15 @@ public class NamedFunctions implements Serializable, KryoSerializable {
         return this.userDefinedFunctions.containsKey(identifier);
     }
 
+    /**
+     * Returns the function item of a user-defined function. It is shared by all calls, which draw body iterators from
+     * its pool: use {@link FunctionItem#deepCopy()} before modifying its closure.
+     *
+     * @param identifier the function identifier.
+     * @return the function item.
+     */
     public FunctionItem getUserDefinedFunction(FunctionIdentifier identifier) {
-        FunctionItem functionItem = this.userDefinedFunctions.get(identifier);
-        return functionItem.deepCopy();
+        return this.userDefinedFunctions.get(identifier);
     }
 
     public static RuntimeIterator getBuiltInFunctionIterator(
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.context;
+
+import org.apache.spark.TaskContext;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.QueryCancelledException;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The cancellation state of a query. Each query runs its Spark jobs in its own Spark job group, which is cancelled
+ * (interrupting the tasks) when the query is cancelled or times out. The local parts of the query stop cooperatively:
+ * the local loops of FLWOR clauses, ranges, function calls and tail-recursive loops call
+ * {@link #checkCurrentQuery(ExceptionMetadata)}, which throws once the query that the current thread is evaluating was
+ * cancelled. Other local iterators are not interrupted, e.g., a builtin function finishes computing its result before
+ * the next check.
+ */
+public class QueryCancellation {
+
+    private static final AtomicLong queryCounter = new AtomicLong();
+    private static final ThreadLocal<QueryCancellation> currentQuery = new ThreadLocal<>();
+    private static ScheduledExecutorService timer;
+
+    private final String jobGroupId;
+    private volatile String cancellationMessage;
+    private ScheduledFuture<?> timeout;
+    private volatile boolean released;
+
+    public QueryCancellation() {
+        this.jobGroupId = "rumble-query-" + queryCounter.incrementAndGet();
+    }
+
+    /**
+     * Makes the current thread evaluate this query: its Spark jobs go to the job group of the query, and its local
+     * iterators stop if the query is cancelled.
+     */
+    public void bindToCurrentThread() {
+        currentQuery.set(this);
+        SparkSessionManager.getInstance().bindQuery(this.jobGroupId);
+        SparkSessionManager.getInstance().setJobGroup(this.jobGroupId);
+    }
+
+    /**
+     * Cancels the query after some time, unless it is released before.
+     *
+     * @param seconds the maximum duration of the query, in seconds.
+     */
+    public synchronized void cancelAfter(long seconds) {
+        this.timeout = getTimer().schedule(
+            () -> cancel("The query was cancelled because it took more than " + seconds + " seconds."),
+            seconds,
+            TimeUnit.SECONDS
+        );
+    }
+
+    /**
+     * Cancels the query. The running Spark jobs of the query are cancelled immediately, and the thread evaluating it
+     * gets a {@link QueryCancelledException}.
+     *
+     * @param message the message of the exception.
+     */
+    public void cancel(String message) {
+        if (this.cancellationMessage != null) {
+            return;
+        }
+        this.cancellationMessage = message;
+        SparkSessionManager.getInstance().cancelJobGroup(this.jobGroupId);
+    }
+
+    /**
+     * Returns the Spark job group of the query, to which its Spark jobs belong.
+     *
+     * @return the identifier of the job group.
+     */
+    public String getJobGroupId() {
+        return this.jobGroupId;
+    }
+
+    public boolean isCancelled() {
+        return this.cancellationMessage != null;
+    }
+
+    public boolean isReleased() {
+        return this.released;
+    }
+
+    /**
+     * Throws a {@link QueryCancelledException} if the query was cancelled. This is called when the evaluation of the
+     * query fails, so that the SparkException of a cancelled job is reported as a cancellation.
+     */
+    public void throwIfCancelled() {
+        if (this.cancellationMessage != null) {
+            throw new QueryCancelledException(this.cancellationMessage, ExceptionMetadata.EMPTY_METADATA);
+        }
+    }
+
+    /**
+     * Stops the timeout of a query that is done, releases the data cached for it, and unbinds it from the current
+     * thread, whose next Spark jobs no longer belong to the job group of the query.
+     */
+    public synchronized void release() {
+        this.released = true;
+        if (this.timeout != null) {
+            this.timeout.cancel(false);
+            this.timeout = null;
+        }
+        if (currentQuery.get() == this) {
+            currentQuery.remove();
+        }
+        SparkSessionManager.getInstance().releaseJobGroup(this.jobGroupId);
+        SparkSessionManager.getInstance().releaseQuery(this.jobGroupId);
+    }
+
+    /**
+     * Throws if the query evaluated by the current thread was cancelled. In a Spark task, throws if the task was
+     * killed.
+     *
+     * @param metadata the metadata of the iterator checking.
+     */
+    public static void checkCurrentQuery(ExceptionMetadata metadata) {
+        QueryCancellation query = currentQuery.get();
+        if (query != null && query.cancellationMessage != null) {
+            throw new QueryCancelledException(query.cancellationMessage, metadata);
+        }
+        TaskContext task = TaskContext.get();
+        if (task != null) {
+            task.killTaskIfInterrupted();
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getTimer() {
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rumble-query-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return timer;
+    }
+}
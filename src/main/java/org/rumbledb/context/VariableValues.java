@@ -24,6 +24,7 @@ import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.KryoSerializable;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
+import org.apache.spark.TaskContext;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.sql.Row;
 import org.rumbledb.api.Item;
@@ -37,24 +38,44 @@ import org.rumbledb.items.structured.JSoundDataFrame;
 import sparksoniq.jsoniq.tuple.FlworTuple;
 import sparksoniq.spark.SparkSessionManager;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class VariableValues implements Serializable, KryoSerializable {
 
     private static final long serialVersionUID = 1L;
+    private static final AtomicLong bindingCounter = new AtomicLong();
     private Map<Name, List<Item>> localVariableValues;
     private Map<Name, Item> localVariableCounts;
     private Map<Name, JavaRDD<Item>> rddVariableValues;
     private Map<Name, JSoundDataFrame> dataFrameVariableValues;
     private VariableValues parent;
+    // local variable values with at least this many items are broadcast when shipped to the executors (0: never)
+    private transient int broadcastThreshold;
+    private transient Map<Name, BroadcastItemList> broadcastValues;
+    // identifies the current binding of the variables bound here, assigned on demand and dropped when rebound
+    private transient Map<Name, Long> bindings;
 
     public VariableValues() {
+        this(0);
+    }
+
+    /**
+     * Creates the variable values of a module context.
+     *
+     * @param broadcastThreshold the number of items from which a local variable value captured by a closure is
+     *        shipped to the executors as a broadcast variable, or 0 to never do so.
+     */
+    public VariableValues(int broadcastThreshold) {
         this.parent = null;
+        this.broadcastThreshold = broadcastThreshold;
         this.localVariableCounts = new HashMap<>();
         this.localVariableValues = new HashMap<>();
         this.rddVariableValues = new HashMap<>();
@@ -66,6 +87,7 @@ public class VariableValues implements Serializable, KryoSerializable {
             throw new OurBadException("Variable values defined with null parent");
         }
         this.parent = parent;
+        this.broadcastThreshold = parent.broadcastThreshold;
         this.localVariableCounts = new HashMap<>();
         this.localVariableValues = new HashMap<>();
         this.rddVariableValues = new HashMap<>();
@@ -82,6 +104,7 @@ public class VariableValues implements Serializable, KryoSerializable {
             throw new OurBadException("Variable values defined with null parent");
         }
         this.parent = parent;
+        this.broadcastThreshold = parent.broadcastThreshold;
         this.localVariableCounts = new HashMap<>();
         this.localVariableValues = localVariableValues;
         this.rddVariableValues = rddVariableValues;
@@ -149,18 +172,57 @@ public class VariableValues implements Serializable, KryoSerializable {
 
     public void addVariableValue(Name varName, List<Item> value) {
         this.localVariableValues.put(varName, value);
+        unbind(varName);
     }
 
     public void addVariableValue(Name varName, JavaRDD<Item> value) {
         this.rddVariableValues.put(varName, value);
+        unbind(varName);
     }
 
     public void addVariableValue(Name varName, JSoundDataFrame value) {
         this.dataFrameVariableValues.put(varName, value);
+        unbind(varName);
     }
 
     public void addVariableCount(Name varName, Item count) {
         this.localVariableCounts.put(varName, count);
+        unbind(varName);
+    }
+
+    /**
+     * Returns a number that identifies the current binding of a variable. It is the same as long as the variable is
+     * not bound again, and differs from the numbers of all other bindings, even if the same value is bound again.
+     *
+     * @param varName the name of the variable.
+     * @param metadata the metadata for errors.
+     * @return the identifier of the binding.
+     */
+    public long getBinding(Name varName, ExceptionMetadata metadata) {
+        if (
+            this.localVariableValues.containsKey(varName)
+                || this.localVariableCounts.containsKey(varName)
+                || this.rddVariableValues.containsKey(varName)
+                || this.dataFrameVariableValues.containsKey(varName)
+        ) {
+            if (this.bindings == null) {
+                this.bindings = new HashMap<>();
+            }
+            return this.bindings.computeIfAbsent(varName, k -> bindingCounter.incrementAndGet());
+        }
+        if (this.parent != null) {
+            return this.parent.getBinding(varName, metadata);
+        }
+        throw new OurBadException(
+                "Runtime error retrieving variable " + varName + " value",
+                metadata
+        );
+    }
+
+    private void unbind(Name varName) {
+        if (this.bindings != null) {
+            this.bindings.remove(varName);
+        }
     }
 
     public List<Item> getLocalVariableValue(Name varName, ExceptionMetadata metadata) {
@@ -251,7 +313,7 @@ public class VariableValues implements Serializable, KryoSerializable {
         this.localVariableCounts.remove(varName);
         this.rddVariableValues.remove(varName);
         this.dataFrameVariableValues.remove(varName);
-
+        unbind(varName);
     }
 
     public void removeAllVariables() {
@@ -259,12 +321,56 @@ public class VariableValues implements Serializable, KryoSerializable {
         this.localVariableCounts.clear();
         this.rddVariableValues.clear();
         this.dataFrameVariableValues.clear();
+        this.bindings = null;
+    }
+
+    /**
+     * Gets the local variable values to serialize: on the driver, those with at least as many items as the broadcast
+     * threshold are replaced with lists that only ship the handle of a broadcast variable. A value is broadcast once,
+     * however many closures capture it.
+     *
+     * @return the local variable values to serialize.
+     */
+    private synchronized Map<Name, List<Item>> getLocalVariableValuesToShip() {
+        if (this.broadcastThreshold <= 0 || TaskContext.get() != null) {
+            return this.localVariableValues;
+        }
+        Map<Name, List<Item>> result = null;
+        for (Map.Entry<Name, List<Item>> entry : this.localVariableValues.entrySet()) {
+            List<Item> value = entry.getValue();
+            if (value.size() < this.broadcastThreshold || value instanceof BroadcastItemList) {
+                continue;
+            }
+            if (this.broadcastValues == null) {
+                this.broadcastValues = new HashMap<>();
+            }
+            BroadcastItemList broadcastValue = this.broadcastValues.get(entry.getKey());
+            if (broadcastValue == null || !broadcastValue.broadcasts(value)) {
+                broadcastValue = new BroadcastItemList(value);
+                this.broadcastValues.put(entry.getKey(), broadcastValue);
+            }
+            if (result == null) {
+                result = new HashMap<>(this.localVariableValues);
+            }
+            result.put(entry.getKey(), broadcastValue);
+        }
+        return result == null ? this.localVariableValues : result;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("parent", this.parent);
+        fields.put("localVariableValues", getLocalVariableValuesToShip());
+        fields.put("localVariableCounts", this.localVariableCounts);
+        fields.put("rddVariableValues", this.rddVariableValues);
+        fields.put("dataFrameVariableValues", this.dataFrameVariableValues);
+        out.writeFields();
     }
 
     @Override
     public void write(Kryo kryo, Output output) {
         kryo.writeObjectOrNull(output, this.parent, VariableValues.class);
-        kryo.writeObject(output, this.localVariableValues);
+        kryo.writeObject(output, getLocalVariableValuesToShip());
         // kryo.writeObject(output, this.rddVariableValues);
         // kryo.writeObject(output, this.dataFrameVariableValues);
     }
@@ -291,6 +397,7 @@ public class VariableValues implements Serializable, KryoSerializable {
     public void setPosition(long position) {
         List<Item> list = Arrays.asList(ItemFactory.getInstance().createLongItem(position));
         this.localVariableValues.put(Name.CONTEXT_POSITION, list);
+        unbind(Name.CONTEXT_POSITION);
     }
 
     public Item getLast() {
@@ -306,6 +413,7 @@ public class VariableValues implements Serializable, KryoSerializable {
     public void setLast(long last) {
         List<Item> list = Arrays.asList(ItemFactory.getInstance().createLongItem(last));
         this.localVariableValues.put(Name.CONTEXT_COUNT, list);
+        unbind(Name.CONTEXT_COUNT);
     }
 
     @Override
@@ -342,24 +450,28 @@ public class VariableValues implements Serializable, KryoSerializable {
             if (name.getNamespace().equals(targetNamespace)) {
                 List<Item> items = moduleValues.localVariableValues.get(name);
                 this.localVariableValues.put(name, items);
+                unbind(name);
             }
         }
         for (Name name : moduleValues.localVariableCounts.keySet()) {
             if (name.getNamespace().equals(targetNamespace)) {
                 Item item = moduleValues.localVariableCounts.get(name);
                 this.localVariableCounts.put(name, item);
+                unbind(name);
             }
         }
         for (Name name : moduleValues.rddVariableValues.keySet()) {
             if (name.getNamespace().equals(targetNamespace)) {
                 JavaRDD<Item> items = moduleValues.rddVariableValues.get(name);
                 this.rddVariableValues.put(name, items);
+                unbind(name);
             }
         }
         for (Name name : moduleValues.dataFrameVariableValues.keySet()) {
             if (name.getNamespace().equals(targetNamespace)) {
                 JSoundDataFrame items = moduleValues.dataFrameVariableValues.get(name);
                 this.dataFrameVariableValues.put(name, items);
+                unbind(name);
             }
         }
     }
@@ -60,6 +60,7 @@ public enum ErrorCode {
     InvalidSelectorErrorCode("JNTY0018"),
 
     CannotMaterializeErrorCode("RBDY0005"),
+    QueryCancelledErrorCode("RBDY0006"),
 
 
     UnrecognizedRumbleMLClassReferenceErrorCode("RBML0001"),
@@ -41,6 +41,10 @@ public abstract class Expression extends Node {
 
     protected SequenceType staticSequenceType;
 
+    private boolean foldable;
+
+    private Expression sharedValueGroup;
+
     protected Expression(ExceptionMetadata metadata) {
         super(metadata);
     }
@@ -97,6 +101,37 @@ public abstract class Expression extends Node {
         this.staticSequenceType = staticSequenceType;
     }
 
+    /**
+     * Tells whether the value of this expression does not depend on the dynamic context, so that it can be computed
+     * once at compile time. Set by the rewriting pass.
+     *
+     * @return true if the expression can be folded into a constant.
+     */
+    public boolean isFoldable() {
+        return this.foldable;
+    }
+
+    public void setFoldable(boolean foldable) {
+        this.foldable = foldable;
+    }
+
+    /**
+     * Returns the group of expressions this expression shares its value with, identified by its first member, or
+     * null. The value of an expression in a group is cached and only computed again when the values of the variables
+     * it depends on change. This is used to evaluate common subexpressions once, and to evaluate expressions that do
+     * not depend on the tuple of the enclosing FLWOR clause once per FLWOR rather than once per tuple. Set by the
+     * rewriting pass.
+     *
+     * @return the first expression of the group, or null.
+     */
+    public Expression getSharedValueGroup() {
+        return this.sharedValueGroup;
+    }
+
+    public void setSharedValueGroup(Expression sharedValueGroup) {
+        this.sharedValueGroup = sharedValueGroup;
+    }
+
     @Override
     public void print(StringBuffer buffer, int indent) {
         for (int i = 0; i < indent; ++i) {
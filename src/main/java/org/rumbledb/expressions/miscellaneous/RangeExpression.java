@@ -40,6 +40,14 @@ public class RangeExpression extends Expression {
         this.rightExpression = rightExpression;
     }
 
+    public Expression getLeftExpression() {
+        return this.leftExpression;
+    }
+
+    public Expression getRightExpression() {
+        return this.rightExpression;
+    }
+
     @Override
     public <T> T accept(AbstractNodeVisitor<T> visitor, T argument) {
         return visitor.visitRangeExpr(this, argument);
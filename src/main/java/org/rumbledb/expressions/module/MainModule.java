@@ -36,6 +36,9 @@ public class MainModule extends Module {
     protected StaticContext staticContext;
     private final Prolog prolog;
     private final Expression expression;
+    private long parsingTime;
+    private long translationTime;
+    private boolean parsedWithFullLL;
 
     public MainModule(Prolog prolog, Expression expression, ExceptionMetadata metadata) {
         super(metadata);
@@ -62,6 +65,44 @@ public class MainModule extends Module {
         return this.expression;
     }
 
+    /**
+     * Returns the time it took to lex and parse the main module.
+     *
+     * @return the time in milliseconds.
+     */
+    public long getParsingTime() {
+        return this.parsingTime;
+    }
+
+    /**
+     * Returns the time it took to translate the parse tree to an expression tree (including the imported modules)
+     * and to analyze it statically.
+     *
+     * @return the time in milliseconds.
+     */
+    public long getTranslationTime() {
+        return this.translationTime;
+    }
+
+    public void setCompilationTimes(long parsingTime, long translationTime) {
+        this.parsingTime = parsingTime;
+        this.translationTime = translationTime;
+    }
+
+    /**
+     * Checks whether the main module had to be parsed again with full LL prediction, because the faster SLL
+     * prediction failed.
+     *
+     * @return true if the second parsing stage was needed.
+     */
+    public boolean isParsedWithFullLL() {
+        return this.parsedWithFullLL;
+    }
+
+    public void setParsedWithFullLL(boolean parsedWithFullLL) {
+        this.parsedWithFullLL = parsedWithFullLL;
+    }
+
     @Override
     public List<Node> getChildren() {
         List<Node> result = new ArrayList<>();
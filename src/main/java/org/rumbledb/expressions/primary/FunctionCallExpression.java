@@ -34,6 +34,7 @@ import org.rumbledb.expressions.AbstractNodeVisitor;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.expressions.Expression;
 import org.rumbledb.expressions.Node;
+import org.rumbledb.types.ItemType;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -43,6 +44,9 @@ public class FunctionCallExpression extends Expression {
     private final FunctionIdentifier identifier;
     private final List<Expression> arguments; // null for placeholder
     private final boolean isPartialApplication;
+    // the type inferred for the objects read by a call to json-file(), see JsonSchemaInferrer
+    private ItemType inferredItemType;
+    private boolean isItemTypeInferred;
 
     public FunctionCallExpression(
             Name functionName,
@@ -81,6 +85,24 @@ public class FunctionCallExpression extends Expression {
         return this.isPartialApplication;
     }
 
+    public boolean isItemTypeInferred() {
+        return this.isItemTypeInferred;
+    }
+
+    /**
+     * Returns the type inferred from a sample of the file read by a call to json-file().
+     *
+     * @return the inferred type, or null if no type could be inferred.
+     */
+    public ItemType getInferredItemType() {
+        return this.inferredItemType;
+    }
+
+    public void setInferredItemType(ItemType inferredItemType) {
+        this.inferredItemType = inferredItemType;
+        this.isItemTypeInferred = true;
+    }
+
     @Override
     public final void initHighestExecutionMode(VisitorConfig visitorConfig) {
         throw new OurBadException("Function call expressions do not use the highestExecutionMode initializer");
@@ -41,6 +41,7 @@ public class InlineFunctionExpression extends Expression {
     private final Map<Name, SequenceType> params;
     private final SequenceType returnType;
     private final Expression body;
+    private boolean memoized;
 
     public InlineFunctionExpression(
             Name name,
@@ -65,6 +66,19 @@ public class InlineFunctionExpression extends Expression {
         return this.functionIdentifier;
     }
 
+    /**
+     * Tells whether calls to this function are memoized (%memoize annotation).
+     *
+     * @return true if the results of calls are cached.
+     */
+    public boolean isMemoized() {
+        return this.memoized;
+    }
+
+    public void setMemoized(boolean memoized) {
+        this.memoized = memoized;
+    }
+
     public Map<Name, SequenceType> getParams() {
         return this.params;
     }
@@ -147,7 +161,7 @@ public class InlineFunctionExpression extends Expression {
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
         if (this.name != null) {
-            sb.append("declare function " + this.name.toString() + "(");
+            sb.append("declare " + (this.memoized ? "%memoize " : "") + "function " + this.name.toString() + "(");
         } else {
             sb.append("function (");
         }
@@ -262,6 +262,11 @@ public class AnnotatedItem implements Item {
         return this.itemToAnnotate.getDateTimeValue();
     }
 
+    @Override
+    public long getEpochMillis() {
+        return this.itemToAnnotate.getEpochMillis();
+    }
+
     @Override
     public byte[] getBinaryValue() {
         return this.itemToAnnotate.getBinaryValue();
@@ -5,9 +5,11 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
 import org.rumbledb.api.Item;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.types.BuiltinTypesCatalogue;
 import org.rumbledb.runtime.misc.ComparisonIterator;
 import org.rumbledb.types.ItemType;
@@ -15,8 +17,10 @@ import org.rumbledb.types.ItemType;
 public class DateItem implements Item {
 
     private static final long serialVersionUID = 1L;
-    private DateTime value;
+    private long millis;
+    private DateTimeZone zone;
     private boolean hasTimeZone = true;
+    private transient DateTime value;
 
     public DateItem() {
         super();
@@ -24,15 +28,19 @@ public class DateItem implements Item {
 
     DateItem(DateTime value, boolean hasTimeZone) {
         super();
+        this.millis = value.getMillis();
+        this.zone = value.getZone();
         this.value = value;
         this.hasTimeZone = hasTimeZone;
     }
 
     DateItem(String dateTimeString) {
-        this.value = DateTimeItem.parseDateTime(dateTimeString, BuiltinTypesCatalogue.dateItem);
-        if (!dateTimeString.endsWith("Z") && this.value.getZone() == DateTimeZone.getDefault()) {
+        DateTimeLexicalParser parser = DateTimeLexicalParser.parseDate(dateTimeString);
+        this.millis = parser.getMillis();
+        this.zone = parser.getZone();
+        if (this.zone == null) {
             this.hasTimeZone = false;
-            this.value = this.value.withZoneRetainFields(DateTimeZone.UTC);
+            this.zone = DateTimeZone.UTC;
         }
     }
 
@@ -51,14 +59,22 @@ public class DateItem implements Item {
     }
 
     public DateTime getValue() {
-        return this.value;
+        return getDateTimeValue();
     }
 
     @Override
     public DateTime getDateTimeValue() {
+        if (this.value == null) {
+            this.value = new DateTime(this.millis, this.zone);
+        }
         return this.value;
     }
 
+    @Override
+    public long getEpochMillis() {
+        return this.millis;
+    }
+
     @Override
     public String getStringValue() {
         String value = this.getValue().toString();
@@ -89,22 +105,23 @@ public class DateItem implements Item {
 
     @Override
     public int hashCode() {
-        return this.getValue().hashCode();
+        // same as the hash code of the Joda-Time value, so that the order of hash-based groups does not change
+        return Long.hashCode(this.millis) + ISOChronology.getInstance(this.zone).hashCode();
     }
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.getDateTimeValue().getMillis(), true);
+        output.writeLong(this.millis, true);
         output.writeBoolean(this.hasTimeZone);
-        output.writeString(this.getDateTimeValue().getZone().getID());
+        output.writeString(this.zone.getID());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
+        this.millis = input.readLong(true);
         this.hasTimeZone = input.readBoolean();
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
-        this.value = new DateTime(millis, zone);
+        this.zone = DateTimeZone.forID(input.readString());
+        this.value = null;
     }
 
     @Override
@@ -116,4 +133,17 @@ public class DateItem implements Item {
     public boolean isAtomic() {
         return true;
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext context) {
+        // dates are compared in the implicit timezone, like DataFrame dates
+        if (this.hasTimeZone || this.getValue().getYear() < 1 || this.getValue().getYear() > 9999) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        return new NativeClauseContext(
+                context,
+                "DATE'" + this.getValue().toString("yyyy-MM-dd") + "'",
+                BuiltinTypesCatalogue.dateItem
+        );
+    }
 }
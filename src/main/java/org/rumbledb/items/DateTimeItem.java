@@ -5,56 +5,24 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.DateTimeFormatterBuilder;
-import org.joda.time.format.DateTimeParser;
-import org.joda.time.format.ISODateTimeFormat;
+import org.joda.time.chrono.ISOChronology;
 import org.rumbledb.api.Item;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.types.BuiltinTypesCatalogue;
 import org.rumbledb.runtime.misc.ComparisonIterator;
 import org.rumbledb.types.ItemType;
 
-import java.util.regex.Pattern;
-
-import static org.joda.time.format.ISODateTimeFormat.dateElementParser;
 
 public class DateTimeItem implements Item {
 
-    private static final String yearFrag = "((-)?(([1-9]\\d\\d(\\d)+)|(0\\d\\d\\d)))";
-    private static final String monthFrag = "((0[1-9])|(1[0-2]))";
-    private static final String dayFrag = "((0[1-9])|([1-2]\\d)|(3[0-1]))";
-    private static final String hourFrag = "(([0-1]\\d)|(2[0-3]))";
-    private static final String minuteFrag = "([0-5]\\d)";
-    private static final String secondFrag = "(([0-5]\\d)(\\.(\\d)+)?)";
-    private static final String endOfDayFrag = "(24:00:00(\\.(0)+)?)";
-    private static final String timezoneFrag = "(Z|([+\\-])(((0\\d|1[0-3]):" + minuteFrag + ")|(14:00)))";
-    private static final String dateFrag = "(" + yearFrag + '-' + monthFrag + '-' + dayFrag + ")";
-    private static final String timeFrag = "(("
-        + hourFrag
-        + ":"
-        + minuteFrag
-        + ":"
-        + secondFrag
-        + ")|("
-        + endOfDayFrag
-        + "))";
-
-    private static final String dateTimeLexicalRep = dateFrag + "T" + timeFrag + "(" + timezoneFrag + ")?";
-    private static final String dateTimeStampLexicalRep = dateFrag + "T" + timeFrag + timezoneFrag;
-    private static final String dateLexicalRep = "(" + dateFrag + "(" + timezoneFrag + ")?)";
-    private static final String timeLexicalRep = "(" + timeFrag + "(" + timezoneFrag + ")?)";
-
-    private static final Pattern dateTimePattern = Pattern.compile(dateTimeLexicalRep);
-    private static final Pattern dateTimeStampPattern = Pattern.compile(dateTimeStampLexicalRep);
-    private static final Pattern datePattern = Pattern.compile(dateLexicalRep);
-    private static final Pattern timePattern = Pattern.compile(timeLexicalRep);
-
-
     private static final long serialVersionUID = 1L;
-    private DateTime value;
+    private long millis;
+    private DateTimeZone zone;
     private boolean hasTimeZone = true;
+    // only built when a Joda-Time view is needed, e.g. for formatting or arithmetic
+    private transient DateTime value;
 
     public DateTimeItem() {
         super();
@@ -62,15 +30,19 @@ public class DateTimeItem implements Item {
 
     DateTimeItem(DateTime value, boolean hasTimeZone) {
         super();
+        this.millis = value.getMillis();
+        this.zone = value.getZone();
         this.value = value;
         this.hasTimeZone = hasTimeZone;
     }
 
     DateTimeItem(String dateTimeString) {
-        this.value = parseDateTime(dateTimeString, BuiltinTypesCatalogue.dateTimeItem);
-        if (!dateTimeString.endsWith("Z") && this.value.getZone() == DateTimeZone.getDefault()) {
+        DateTimeLexicalParser parser = DateTimeLexicalParser.parseDateTime(dateTimeString, false);
+        this.millis = parser.getMillis();
+        this.zone = parser.getZone();
+        if (this.zone == null) {
             this.hasTimeZone = false;
-            this.value = this.value.withZoneRetainFields(DateTimeZone.UTC);
+            this.zone = DateTimeZone.UTC;
         }
     }
 
@@ -90,19 +62,28 @@ public class DateTimeItem implements Item {
 
     @Override
     public DateTime getDateTimeValue() {
+        if (this.value == null) {
+            this.value = new DateTime(this.millis, this.zone);
+        }
         return this.value;
     }
 
+    @Override
+    public long getEpochMillis() {
+        return this.millis;
+    }
+
     @Override
     public String getStringValue() {
-        String value = this.value.toString();
-        String zoneString = this.value.getZone() == DateTimeZone.UTC
+        DateTime dateTime = getDateTimeValue();
+        String value = dateTime.toString();
+        String zoneString = this.zone == DateTimeZone.UTC
             ? "Z"
-            : this.value.getZone().toString().equals(DateTimeZone.getDefault().toString())
+            : this.zone.toString().equals(DateTimeZone.getDefault().toString())
                 ? ""
                 : value.substring(value.length() - 6);
         value = value.substring(0, value.length() - zoneString.length());
-        value = this.value.getMillisOfSecond() == 0 ? value.substring(0, value.length() - 4) : value;
+        value = dateTime.getMillisOfSecond() == 0 ? value.substring(0, value.length() - 4) : value;
         return value + (this.hasTimeZone ? zoneString : "");
     }
 
@@ -128,100 +109,47 @@ public class DateTimeItem implements Item {
 
     @Override
     public int hashCode() {
-        return this.value.hashCode();
+        // same as the hash code of the Joda-Time value, so that the order of hash-based groups does not change
+        return Long.hashCode(this.millis) + ISOChronology.getInstance(this.zone).hashCode();
     }
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.value.getMillis(), true);
+        output.writeLong(this.millis, true);
         output.writeBoolean(this.hasTimeZone);
-        output.writeString(this.value.getZone().getID());
+        output.writeString(this.zone.getID());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
+        this.millis = input.readLong(true);
         this.hasTimeZone = input.readBoolean();
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
-        this.value = new DateTime(millis, zone);
-    }
-
-    static DateTimeFormatter getDateTimeFormatter(ItemType dateTimeType) {
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeStampItem)) {
-            return ISODateTimeFormat.dateTimeParser().withOffsetParsed();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeItem)) {
-            return ISODateTimeFormat.dateTimeParser().withOffsetParsed();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateItem)) {
-            DateTimeParser dtParser = new DateTimeFormatterBuilder().appendOptional(
-                ((new DateTimeFormatterBuilder()).appendTimeZoneOffset("Z", true, 2, 4).toFormatter()).getParser()
-            ).toParser();
-            return (new DateTimeFormatterBuilder()).append(dateElementParser())
-                .appendOptional(dtParser)
-                .toFormatter()
-                .withOffsetParsed();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.timeItem)) {
-            return ISODateTimeFormat.timeParser().withOffsetParsed();
-        }
-        throw new IllegalArgumentException();
-    }
-
-    static boolean checkInvalidDateTimeFormat(String dateTime, ItemType dateTimeType) {
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeStampItem)) {
-            return dateTimeStampPattern.matcher(dateTime).matches();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeItem)) {
-            return dateTimePattern.matcher(dateTime).matches();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateItem)) {
-            return datePattern.matcher(dateTime).matches();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.timeItem)) {
-            return timePattern.matcher(dateTime).matches();
-        }
-        return false;
-    }
-
-    private static String fixEndOfDay(String dateTime) {
-        String endOfDay = "24:00:00";
-        String startOfDay = "00:00:00";
-        if (dateTime.contains(endOfDay)) {
-            if (dateTime.indexOf(endOfDay) == 0) {
-                return startOfDay;
-            }
-            int indexOfT = dateTime.indexOf('T');
-            if (
-                indexOfT < 1
-                    || indexOfT != dateTime.indexOf(endOfDay) - 1
-                    || !Character.isDigit(dateTime.charAt(indexOfT - 1))
-            ) {
-                throw new IllegalArgumentException();
-            }
-            int dayValue;
-            try {
-                dayValue = Character.getNumericValue(dateTime.charAt(indexOfT - 1));
-            } catch (Exception e) {
-                throw new IllegalArgumentException();
-            }
-            return dateTime.substring(0, indexOfT - 1)
-                +
-                (dayValue + 1)
-                + "T"
-                + startOfDay
-                +
-                dateTime.substring(indexOfT + endOfDay.length() + 1);
-        }
-        return dateTime;
-    }
-
+        this.zone = DateTimeZone.forID(input.readString());
+        this.value = null;
+    }
+
+    /**
+     * Parses the lexical representation of a date or time type.
+     *
+     * @param dateTime the lexical value.
+     * @param dateTimeType one of dateTime, dateTimeStamp, date or time.
+     * @return the parsed value, in UTC if the lexical value has no timezone.
+     * @throws IllegalArgumentException if the lexical value is invalid.
+     */
     static DateTime parseDateTime(String dateTime, ItemType dateTimeType) throws IllegalArgumentException {
-        if (!checkInvalidDateTimeFormat(dateTime, dateTimeType)) {
+        DateTimeLexicalParser parser;
+        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeStampItem)) {
+            parser = DateTimeLexicalParser.parseDateTime(dateTime, true);
+        } else if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeItem)) {
+            parser = DateTimeLexicalParser.parseDateTime(dateTime, false);
+        } else if (dateTimeType.equals(BuiltinTypesCatalogue.dateItem)) {
+            parser = DateTimeLexicalParser.parseDate(dateTime);
+        } else if (dateTimeType.equals(BuiltinTypesCatalogue.timeItem)) {
+            parser = DateTimeLexicalParser.parseTime(dateTime);
+        } else {
             throw new IllegalArgumentException();
         }
-        dateTime = fixEndOfDay(dateTime);
-        return DateTime.parse(dateTime, getDateTimeFormatter(dateTimeType));
+        return new DateTime(parser.getMillis(), parser.getZone() == null ? DateTimeZone.UTC : parser.getZone());
     }
 
     @Override
@@ -233,4 +161,18 @@ public class DateTimeItem implements Item {
     public boolean isAtomic() {
         return true;
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext context) {
+        // timestamps are compared as instants, so the literal is given in UTC rather than in the session time zone
+        DateTime instant = new DateTime(this.millis, DateTimeZone.UTC);
+        if (instant.getYear() < 1 || instant.getYear() > 9999) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        return new NativeClauseContext(
+                context,
+                "TIMESTAMP'" + instant.toString("yyyy-MM-dd'T'HH:mm:ss.SSS") + "Z'",
+                BuiltinTypesCatalogue.dateTimeItem
+        );
+    }
 }
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * Parser for the lexical representations of xs:dateTime, xs:dateTimeStamp, xs:date and xs:time, which computes the
+ * milliseconds since the epoch directly from the fields, in the proleptic Gregorian calendar, without going through
+ * Joda-Time. Fractional seconds are truncated to milliseconds. Values without a timezone are interpreted in UTC.
+ */
+final class DateTimeLexicalParser {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    private final String lexicalValue;
+    private int position;
+
+    private long millis;
+    private DateTimeZone zone;
+
+    private DateTimeLexicalParser(String lexicalValue) {
+        this.lexicalValue = lexicalValue;
+        this.position = 0;
+    }
+
+    /**
+     * Parses an xs:dateTime, or an xs:dateTimeStamp if the timezone is required.
+     *
+     * @param lexicalValue the lexical value.
+     * @param timezoneRequired whether a timezone is required.
+     * @return the parser holding the parsed value.
+     * @throws IllegalArgumentException if the lexical value is invalid.
+     */
+    static DateTimeLexicalParser parseDateTime(String lexicalValue, boolean timezoneRequired) {
+        DateTimeLexicalParser parser = new DateTimeLexicalParser(lexicalValue);
+        long days = parser.parseDate();
+        parser.expect('T');
+        long time = parser.parseTime();
+        parser.parseTimezone(timezoneRequired);
+        parser.setMillis(days * MILLIS_PER_DAY + time);
+        return parser;
+    }
+
+    /**
+     * Parses an xs:date.
+     *
+     * @param lexicalValue the lexical value.
+     * @return the parser holding the parsed value.
+     * @throws IllegalArgumentException if the lexical value is invalid.
+     */
+    static DateTimeLexicalParser parseDate(String lexicalValue) {
+        DateTimeLexicalParser parser = new DateTimeLexicalParser(lexicalValue);
+        long days = parser.parseDate();
+        parser.parseTimezone(false);
+        parser.setMillis(days * MILLIS_PER_DAY);
+        return parser;
+    }
+
+    /**
+     * Parses an xs:time, on the first day of the epoch. 24:00:00 is the same as 00:00:00.
+     *
+     * @param lexicalValue the lexical value.
+     * @return the parser holding the parsed value.
+     * @throws IllegalArgumentException if the lexical value is invalid.
+     */
+    static DateTimeLexicalParser parseTime(String lexicalValue) {
+        DateTimeLexicalParser parser = new DateTimeLexicalParser(lexicalValue);
+        long time = parser.parseTime() % MILLIS_PER_DAY;
+        parser.parseTimezone(false);
+        parser.setMillis(time);
+        return parser;
+    }
+
+    /**
+     * Returns the parsed instant.
+     *
+     * @return the milliseconds since the epoch.
+     */
+    long getMillis() {
+        return this.millis;
+    }
+
+    /**
+     * Returns the parsed timezone.
+     *
+     * @return the timezone, or null if the lexical value has no timezone.
+     */
+    DateTimeZone getZone() {
+        return this.zone;
+    }
+
+    private void setMillis(long localMillis) {
+        if (this.position != this.lexicalValue.length()) {
+            throw new IllegalArgumentException();
+        }
+        this.millis = this.zone == null ? localMillis : localMillis - this.zone.getOffset(0);
+    }
+
+    // returns the number of days since the epoch
+    private long parseDate() {
+        boolean negative = false;
+        if (peek() == '-') {
+            negative = true;
+            this.position++;
+        }
+        int start = this.position;
+        long year = parseDigits(1, 10);
+        int length = this.position - start;
+        if (length < 4 || (length > 4 && this.lexicalValue.charAt(start) == '0')) {
+            throw new IllegalArgumentException();
+        }
+        if (negative) {
+            year = -year;
+        }
+        expect('-');
+        int month = (int) parseDigits(2, 2);
+        expect('-');
+        int day = (int) parseDigits(2, 2);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw new IllegalArgumentException();
+        }
+        return daysSinceEpoch(year, month, day);
+    }
+
+    // returns the number of milliseconds since midnight, which is a full day for 24:00:00
+    private long parseTime() {
+        int hours = (int) parseDigits(2, 2);
+        expect(':');
+        int minutes = (int) parseDigits(2, 2);
+        expect(':');
+        int seconds = (int) parseDigits(2, 2);
+        int millis = 0;
+        boolean zeroFraction = true;
+        if (peek() == '.') {
+            this.position++;
+            int start = this.position;
+            while (isDigit(peek())) {
+                int digit = this.lexicalValue.charAt(this.position) - '0';
+                int index = this.position - start;
+                if (index < 3) {
+                    millis = millis * 10 + digit;
+                }
+                zeroFraction &= digit == 0;
+                this.position++;
+            }
+            int length = this.position - start;
+            if (length == 0) {
+                throw new IllegalArgumentException();
+            }
+            for (int index = length; index < 3; index++) {
+                millis *= 10;
+            }
+        }
+        if (hours == 24 && minutes == 0 && seconds == 0 && zeroFraction) {
+            return MILLIS_PER_DAY;
+        }
+        if (hours > 23 || minutes > 59 || seconds > 59) {
+            throw new IllegalArgumentException();
+        }
+        return hours * MILLIS_PER_HOUR + minutes * MILLIS_PER_MINUTE + seconds * MILLIS_PER_SECOND + millis;
+    }
+
+    private void parseTimezone(boolean required) {
+        char c = peek();
+        if (c == 'Z') {
+            this.position++;
+            this.zone = DateTimeZone.UTC;
+            return;
+        }
+        if (c != '+' && c != '-') {
+            if (required) {
+                throw new IllegalArgumentException();
+            }
+            return;
+        }
+        this.position++;
+        int hours = (int) parseDigits(2, 2);
+        expect(':');
+        int minutes = (int) parseDigits(2, 2);
+        if (minutes > 59 || hours > 14 || (hours == 14 && minutes != 0)) {
+            throw new IllegalArgumentException();
+        }
+        this.zone = c == '-'
+            ? DateTimeZone.forOffsetHoursMinutes(-hours, -minutes)
+            : DateTimeZone.forOffsetHoursMinutes(hours, minutes);
+    }
+
+    private long parseDigits(int minimumLength, int maximumLength) {
+        long result = 0;
+        int start = this.position;
+        while (this.position - start < maximumLength && isDigit(peek())) {
+            result = result * 10 + (this.lexicalValue.charAt(this.position) - '0');
+            this.position++;
+        }
+        if (this.position - start < minimumLength || isDigit(peek())) {
+            throw new IllegalArgumentException();
+        }
+        return result;
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw new IllegalArgumentException();
+        }
+        this.position++;
+    }
+
+    private char peek() {
+        return this.position < this.lexicalValue.length() ? this.lexicalValue.charAt(this.position) : '\0';
+    }
+
+    // only ASCII digits are allowed in lexical values, unlike in Character.isDigit()
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // days since 1970-01-01 in the proleptic Gregorian calendar, with a year 0
+    static long daysSinceEpoch(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
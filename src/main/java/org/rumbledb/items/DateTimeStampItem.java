@@ -5,6 +5,7 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
 import org.rumbledb.api.Item;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
@@ -16,7 +17,9 @@ import org.rumbledb.types.ItemType;
 public class DateTimeStampItem implements Item {
 
     private static final long serialVersionUID = 1L;
-    private DateTime value;
+    private long millis;
+    private DateTimeZone zone;
+    private transient DateTime value;
 
     public DateTimeStampItem() {
         super();
@@ -25,18 +28,17 @@ public class DateTimeStampItem implements Item {
     DateTimeStampItem(DateTime value, boolean checkTimezone) {
         super();
         if (checkTimezone) {
-            this.value = DateTimeItem.parseDateTime(
-                this.value.toString(),
-                BuiltinTypesCatalogue.dateTimeStampItem
-            );
-        } else {
-            this.value = value;
+            value = DateTimeItem.parseDateTime(value.toString(), BuiltinTypesCatalogue.dateTimeStampItem);
         }
-
+        this.millis = value.getMillis();
+        this.zone = value.getZone();
+        this.value = value;
     }
 
     DateTimeStampItem(String dateTimeStampString) {
-        this.value = DateTimeItem.parseDateTime(dateTimeStampString, BuiltinTypesCatalogue.dateTimeStampItem);
+        DateTimeLexicalParser parser = DateTimeLexicalParser.parseDateTime(dateTimeStampString, true);
+        this.millis = parser.getMillis();
+        this.zone = parser.getZone();
     }
 
     @Override
@@ -55,19 +57,28 @@ public class DateTimeStampItem implements Item {
 
     @Override
     public DateTime getDateTimeValue() {
+        if (this.value == null) {
+            this.value = new DateTime(this.millis, this.zone);
+        }
         return this.value;
     }
 
+    @Override
+    public long getEpochMillis() {
+        return this.millis;
+    }
+
     @Override
     public String getStringValue() {
-        String value = this.value.toString();
-        String zoneString = this.value.getZone() == DateTimeZone.UTC
+        DateTime dateTime = getDateTimeValue();
+        String value = dateTime.toString();
+        String zoneString = this.zone == DateTimeZone.UTC
             ? "Z"
-            : this.value.getZone().toString().equals(DateTimeZone.getDefault().toString())
+            : this.zone.toString().equals(DateTimeZone.getDefault().toString())
                 ? ""
                 : value.substring(value.length() - 6);
         value = value.substring(0, value.length() - zoneString.length());
-        value = this.value.getMillisOfSecond() == 0 ? value.substring(0, value.length() - 4) : value;
+        value = dateTime.getMillisOfSecond() == 0 ? value.substring(0, value.length() - 4) : value;
         return value + zoneString;
     }
 
@@ -93,20 +104,21 @@ public class DateTimeStampItem implements Item {
 
     @Override
     public int hashCode() {
-        return this.value.hashCode();
+        // same as the hash code of the Joda-Time value, so that the order of hash-based groups does not change
+        return Long.hashCode(this.millis) + ISOChronology.getInstance(this.zone).hashCode();
     }
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.value.getMillis(), true);
-        output.writeString(this.value.getZone().getID());
+        output.writeLong(this.millis, true);
+        output.writeString(this.zone.getID());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
-        this.value = new DateTime(millis, zone);
+        this.millis = input.readLong(true);
+        this.zone = DateTimeZone.forID(input.readString());
+        this.value = null;
     }
 
     @Override
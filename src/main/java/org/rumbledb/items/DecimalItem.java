@@ -131,7 +131,7 @@ public class DecimalItem implements Item {
 
     @Override
     public NativeClauseContext generateNativeQuery(NativeClauseContext context) {
-        return new NativeClauseContext(context, this.value.toString(), BuiltinTypesCatalogue.stringItem);
+        return new NativeClauseContext(context, this.value.toString(), BuiltinTypesCatalogue.decimalItem);
     }
 
     public boolean isNumeric() {
@@ -153,6 +153,12 @@ public class DoubleItem implements Item {
 
     @Override
     public NativeClauseContext generateNativeQuery(NativeClauseContext context) {
+        if (Double.isInfinite(this.value)) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (Double.isNaN(this.value)) {
+            return NativeClauseContext.NoNativeQuery;
+        }
         return new NativeClauseContext(context, "" + this.value, BuiltinTypesCatalogue.doubleItem);
     }
 
@@ -22,11 +22,14 @@ package org.rumbledb.items;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,7 +42,6 @@ import org.rumbledb.context.FunctionIdentifier;
 import org.rumbledb.context.Name;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.OurBadException;
-import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.items.structured.JSoundDataFrame;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.types.BuiltinTypesCatalogue;
@@ -57,6 +59,7 @@ import sparksoniq.spark.ml.ApplyTransformerRuntimeIterator;
 public class FunctionItem implements Item {
 
     private static final long serialVersionUID = 1L;
+    private static final int MEMOIZATION_CACHE_CAPACITY = 10000;
     private FunctionIdentifier identifier;
     private List<Name> parameterNames;
 
@@ -67,6 +70,9 @@ public class FunctionItem implements Item {
     private Map<Name, List<Item>> localVariablesInClosure;
     private Map<Name, JavaRDD<Item>> RDDVariablesInClosure;
     private Map<Name, JSoundDataFrame> dataFrameVariablesInClosure;
+    private transient Deque<RuntimeIterator> bodyIteratorPool;
+    private boolean memoized;
+    private transient Map<List<String>, List<Item>> memoizedResults;
 
     protected FunctionItem() {
         super();
@@ -237,6 +243,7 @@ public class FunctionItem implements Item {
         kryo.writeObject(output, this.RDDVariablesInClosure);
         kryo.writeObject(output, this.dataFrameVariablesInClosure);
         kryo.writeObject(output, this.dynamicModuleContext);
+        output.writeBoolean(this.memoized);
 
         // convert RuntimeIterator to byte[] data
         try {
@@ -267,6 +274,7 @@ public class FunctionItem implements Item {
         this.RDDVariablesInClosure = kryo.readObject(input, HashMap.class);
         this.dataFrameVariablesInClosure = kryo.readObject(input, HashMap.class);
         this.dynamicModuleContext = kryo.readObject(input, DynamicContext.class);
+        this.memoized = input.readBoolean();
 
         try {
             int dataLength = input.readInt();
@@ -286,23 +294,100 @@ public class FunctionItem implements Item {
         return BuiltinTypesCatalogue.anyFunctionItem;
     }
 
+    /**
+     * Copies this function item with a copy of its body and of its closure, so that the closure of the copy can be
+     * populated independently. Closure values and the module context are shared.
+     *
+     * @return the copy.
+     */
     public FunctionItem deepCopy() {
-        try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(bos);
-            oos.writeObject(this);
-            oos.flush();
-            byte[] data = bos.toByteArray();
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            ObjectInputStream ois = new ObjectInputStream(bis);
-            return (FunctionItem) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            RumbleException rumbleException = new OurBadException(
-                    "Error while deep copying the function body runtimeIterator"
+        FunctionItem copy = new FunctionItem(
+                this.identifier,
+                this.parameterNames,
+                this.signature,
+                this.dynamicModuleContext,
+                this.bodyIterator.deepCopy(),
+                new HashMap<>(this.localVariablesInClosure),
+                new HashMap<>(this.RDDVariablesInClosure),
+                new HashMap<>(this.dataFrameVariablesInClosure)
+        );
+        copy.memoized = this.memoized;
+        copy.memoizedResults = getMemoizedResults();
+        return copy;
+    }
+
+    /**
+     * Tells whether the results of calls to this function are cached (%memoize annotation).
+     *
+     * @return true if calls are memoized.
+     */
+    public boolean isMemoized() {
+        return this.memoized;
+    }
+
+    /**
+     * Turns on the caching of call results, which are then shared with the copies of this function item. The cache is
+     * bounded and evicts the least recently used results.
+     */
+    public void enableMemoization() {
+        this.memoized = true;
+    }
+
+    private synchronized Map<List<String>, List<Item>> getMemoizedResults() {
+        if (this.memoized && this.memoizedResults == null) {
+            this.memoizedResults = Collections.synchronizedMap(
+                new LinkedHashMap<List<String>, List<Item>>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<List<String>, List<Item>> eldest) {
+                        return size() > MEMOIZATION_CACHE_CAPACITY;
+                    }
+                }
             );
-            rumbleException.initCause(e);
-            throw rumbleException;
         }
+        return this.memoizedResults;
+    }
+
+    /**
+     * Looks up the result of a previous call with the same arguments.
+     *
+     * @param arguments the key built from the (atomic) argument values.
+     * @return the result, or null if it is not cached.
+     */
+    public List<Item> getMemoizedResult(List<String> arguments) {
+        return getMemoizedResults().get(arguments);
+    }
+
+    public void memoizeResult(List<String> arguments, List<Item> result) {
+        getMemoizedResults().put(arguments, result);
+    }
+
+    /**
+     * Returns a copy of the body iterator that is not used by any other call to this function. Copies are pooled and
+     * reused across calls, so that there are only as many of them as there are simultaneously active calls (i.e., the
+     * recursion depth), and calling a function does not require copying its body.
+     *
+     * @return a body iterator that can be opened.
+     */
+    public synchronized RuntimeIterator acquireBodyIterator() {
+        if (this.bodyIteratorPool == null) {
+            this.bodyIteratorPool = new ArrayDeque<>();
+        }
+        RuntimeIterator bodyIterator = this.bodyIteratorPool.poll();
+        if (bodyIterator == null) {
+            bodyIterator = this.bodyIterator.deepCopy();
+        }
+        return bodyIterator;
+    }
+
+    /**
+     * Gives back a body iterator obtained with {@link #acquireBodyIterator()}, once the call is closed.
+     *
+     * @param bodyIterator the body iterator, which must be closed.
+     */
+    public synchronized void releaseBodyIterator(RuntimeIterator bodyIterator) {
+        this.bodyIteratorPool.push(bodyIterator);
     }
 
     public void populateClosureFromDynamicContext(DynamicContext dynamicContext, ExceptionMetadata metadata) {
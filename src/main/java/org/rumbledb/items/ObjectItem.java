@@ -136,6 +136,11 @@ public class ObjectItem implements Item {
         }
     }
 
+    protected void setContent(List<String> keys, List<Item> values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
     @Override
     public Item getItemByKey(String s) {
         if (this.keys.contains(s)) {
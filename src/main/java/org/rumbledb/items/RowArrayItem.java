@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.spark.sql.types.DataType;
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.types.ItemType;
+
+import java.util.List;
+
+/**
+ * An array item backed by the values of an array column of a DataFrame row. The members are only converted to items
+ * when they are looked up. The array is fully materialized before it is modified or serialized with Kryo.
+ */
+public class RowArrayItem extends ArrayItem {
+
+    private static final long serialVersionUID = 1L;
+    private Object[] values;
+    private DataType elementType;
+    private ExceptionMetadata metadata;
+    private ItemType memberType;
+    private Item[] members;
+
+    public RowArrayItem() {
+        super();
+    }
+
+    /**
+     * Creates an array item backed by column values.
+     *
+     * @param values the values of the array column.
+     * @param elementType the DataFrame type of the values.
+     * @param metadata exception metadata if an error is thrown while converting a member.
+     * @param memberType the type to annotate the members with, or null for no annotation.
+     */
+    public RowArrayItem(Object[] values, DataType elementType, ExceptionMetadata metadata, ItemType memberType) {
+        super();
+        this.values = values;
+        this.elementType = elementType;
+        this.metadata = metadata;
+        this.memberType = memberType;
+        this.members = new Item[values.length];
+    }
+
+    private boolean isMaterialized() {
+        return this.values == null;
+    }
+
+    @Override
+    public Item getItemAt(int i) {
+        if (isMaterialized()) {
+            return super.getItemAt(i);
+        }
+        Item member = this.members[i];
+        if (member == null) {
+            member = ItemParser.convertValueToItem(this.values[i], this.elementType, this.metadata, this.memberType);
+            this.members[i] = member;
+        }
+        return member;
+    }
+
+    @Override
+    public int getSize() {
+        if (isMaterialized()) {
+            return super.getSize();
+        }
+        return this.values.length;
+    }
+
+    @Override
+    public List<Item> getItems() {
+        materialize();
+        return super.getItems();
+    }
+
+    @Override
+    public void append(Item other) {
+        materialize();
+        super.append(other);
+    }
+
+    @Override
+    public void putItem(Item value) {
+        materialize();
+        super.putItem(value);
+    }
+
+    private void materialize() {
+        if (isMaterialized()) {
+            return;
+        }
+        for (int i = 0; i < this.values.length; ++i) {
+            super.append(getItemAt(i));
+        }
+        this.values = null;
+        this.members = null;
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output) {
+        materialize();
+        super.write(kryo, output);
+    }
+}
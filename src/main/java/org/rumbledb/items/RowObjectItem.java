@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructField;
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.DuplicateObjectKeyException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.OurBadException;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.types.FieldDescriptor;
+import org.rumbledb.types.ItemType;
+import scala.Option;
+import sparksoniq.spark.SparkSessionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An object item backed by a DataFrame row. The values of the fields are only converted to items when they are
+ * looked up, so that navigating into a few fields of a wide row does not pay for the conversion of the whole row.
+ *
+ * As in the eager conversion, NULL columns are absent from the object, except for columns of the null type. The
+ * object is fully materialized before it is modified or serialized with Kryo, and is deserialized in its
+ * materialized form.
+ */
+public class RowObjectItem extends ObjectItem {
+
+    private static final long serialVersionUID = 1L;
+    private Row row;
+    private ExceptionMetadata metadata;
+    private ItemType itemType;
+    private Map<String, FieldDescriptor> content;
+    // the keys of the present fields, computed on first use, until the object is materialized
+    private List<String> presentKeys;
+    private Item[] fieldValues;
+
+    public RowObjectItem() {
+        super();
+    }
+
+    /**
+     * Creates an object item backed by a row.
+     *
+     * @param row the DataFrame row.
+     * @param metadata exception metadata if an error is thrown while converting a field.
+     * @param itemType the object type whose field types annotate the field values, or null for no annotation.
+     * @param content the field descriptors of itemType, or null for no annotation.
+     */
+    public RowObjectItem(
+            Row row,
+            ExceptionMetadata metadata,
+            ItemType itemType,
+            Map<String, FieldDescriptor> content
+    ) {
+        super();
+        this.row = row;
+        this.metadata = metadata;
+        this.itemType = itemType;
+        this.content = content;
+        this.presentKeys = null;
+        this.fieldValues = new Item[row.length()];
+    }
+
+    private boolean isMaterialized() {
+        return this.row == null;
+    }
+
+    // NULL values in DataFrames are mapped to absent in JSONiq.
+    private boolean isPresent(int i) {
+        StructField field = this.row.schema().fields()[i];
+        if (field.dataType().equals(DataTypes.NullType)) {
+            return !field.name().equals(SparkSessionManager.emptyObjectJSONiqItemColumnName);
+        }
+        return !this.row.isNullAt(i);
+    }
+
+    private Item getFieldValue(int i) {
+        Item value = this.fieldValues[i];
+        if (value != null) {
+            return value;
+        }
+        StructField field = this.row.schema().fields()[i];
+        ItemType fieldItemType = null;
+        if (this.content != null) {
+            FieldDescriptor descriptor = this.content.get(field.name());
+            if (descriptor != null) {
+                fieldItemType = descriptor.getType();
+                if (fieldItemType == null) {
+                    throw new OurBadException(
+                            "Type for field "
+                                + field.name()
+                                + " in type "
+                                + this.itemType.getIdentifierString()
+                                + " is null."
+                    );
+                }
+            }
+        }
+        value = ItemParser.getItemFromRowField(this.row, i, this.metadata, fieldItemType);
+        this.fieldValues[i] = value;
+        return value;
+    }
+
+    @Override
+    public List<String> getKeys() {
+        if (isMaterialized()) {
+            return super.getKeys();
+        }
+        if (this.presentKeys == null) {
+            String[] fieldNames = this.row.schema().fieldNames();
+            List<String> keys = new ArrayList<>(fieldNames.length);
+            Set<String> distinctKeys = new HashSet<>();
+            for (int i = 0; i < fieldNames.length; ++i) {
+                if (isPresent(i)) {
+                    if (!distinctKeys.add(fieldNames[i])) {
+                        throw new DuplicateObjectKeyException(fieldNames[i], this.metadata);
+                    }
+                    keys.add(fieldNames[i]);
+                }
+            }
+            this.presentKeys = keys;
+        }
+        return this.presentKeys;
+    }
+
+    @Override
+    public List<Item> getValues() {
+        if (isMaterialized()) {
+            return super.getValues();
+        }
+        List<Item> values = new ArrayList<>();
+        for (String key : getKeys()) {
+            values.add(getItemByKey(key));
+        }
+        return values;
+    }
+
+    @Override
+    public Item getItemByKey(String s) {
+        if (isMaterialized()) {
+            return super.getItemByKey(s);
+        }
+        Option<Object> index = this.row.schema().getFieldIndex(s);
+        if (index.isEmpty()) {
+            return null;
+        }
+        int i = (Integer) index.get();
+        if (!isPresent(i)) {
+            return null;
+        }
+        return getFieldValue(i);
+    }
+
+    @Override
+    public void putItemByKey(String s, Item value) {
+        materialize();
+        super.putItemByKey(s, value);
+    }
+
+    private void materialize() {
+        if (isMaterialized()) {
+            return;
+        }
+        List<String> keys = getKeys();
+        List<Item> values = getValues();
+        this.row = null;
+        this.content = null;
+        this.presentKeys = null;
+        this.fieldValues = null;
+        setContent(keys, values);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output) {
+        materialize();
+        super.write(kryo, output);
+    }
+}
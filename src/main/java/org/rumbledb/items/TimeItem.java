@@ -5,6 +5,7 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
 import org.rumbledb.api.Item;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
@@ -16,8 +17,10 @@ import org.rumbledb.types.ItemType;
 public class TimeItem implements Item {
 
     private static final long serialVersionUID = 1L;
-    private DateTime value;
+    private long millis;
+    private DateTimeZone zone;
     private boolean hasTimeZone = true;
+    private transient DateTime value;
 
     public TimeItem() {
         super();
@@ -25,15 +28,19 @@ public class TimeItem implements Item {
 
     TimeItem(DateTime value, boolean hasTimeZone) {
         super();
+        this.millis = value.getMillis();
+        this.zone = value.getZone();
         this.value = value;
         this.hasTimeZone = hasTimeZone;
     }
 
     TimeItem(String dateTimeString) {
-        this.value = DateTimeItem.parseDateTime(dateTimeString, BuiltinTypesCatalogue.timeItem);
-        if (!dateTimeString.endsWith("Z") && this.value.getZone() == DateTimeZone.getDefault()) {
+        DateTimeLexicalParser parser = DateTimeLexicalParser.parseTime(dateTimeString);
+        this.millis = parser.getMillis();
+        this.zone = parser.getZone();
+        if (this.zone == null) {
             this.hasTimeZone = false;
-            this.value = this.value.withZoneRetainFields(DateTimeZone.UTC);
+            this.zone = DateTimeZone.UTC;
         }
     }
 
@@ -53,9 +60,17 @@ public class TimeItem implements Item {
 
     @Override
     public DateTime getDateTimeValue() {
+        if (this.value == null) {
+            this.value = new DateTime(this.millis, this.zone);
+        }
         return this.value;
     }
 
+    @Override
+    public long getEpochMillis() {
+        return this.millis;
+    }
+
     @Override
     public boolean getEffectiveBooleanValue() {
         return false;
@@ -78,32 +93,34 @@ public class TimeItem implements Item {
 
     @Override
     public int hashCode() {
-        return this.value.hashCode();
+        // same as the hash code of the Joda-Time value, so that the order of hash-based groups does not change
+        return Long.hashCode(this.millis) + ISOChronology.getInstance(this.zone).hashCode();
     }
 
     @Override
     public String getStringValue() {
-        String value = this.value.toString();
-        String zoneString = this.value.getZone() == DateTimeZone.UTC ? "Z" : value.substring(value.length() - 6);
+        DateTime dateTime = getDateTimeValue();
+        String value = dateTime.toString();
+        String zoneString = this.zone == DateTimeZone.UTC ? "Z" : value.substring(value.length() - 6);
         value = value.substring(0, value.length() - zoneString.length());
-        value = this.value.getMillisOfSecond() == 0 ? value.substring(0, value.length() - 4) : value;
+        value = dateTime.getMillisOfSecond() == 0 ? value.substring(0, value.length() - 4) : value;
         int dateTimeSeparatorIndex = value.indexOf("T");
         return value.substring(dateTimeSeparatorIndex + 1) + (this.hasTimeZone ? zoneString : "");
     }
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.value.getMillis(), true);
+        output.writeLong(this.millis, true);
         output.writeBoolean(this.hasTimeZone);
-        output.writeString(this.value.getZone().getID());
+        output.writeString(this.zone.getID());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
+        this.millis = input.readLong(true);
         this.hasTimeZone = input.readBoolean();
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
-        this.value = new DateTime(millis, zone);
+        this.zone = DateTimeZone.forID(input.readString());
+        this.value = null;
     }
 
     @Override
@@ -40,6 +40,8 @@ import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.exceptions.ParsingException;
 import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.items.ItemFactory;
+import org.rumbledb.items.RowArrayItem;
+import org.rumbledb.items.RowObjectItem;
 
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
@@ -141,7 +143,8 @@ public class ItemParser implements Serializable {
     }
 
     /**
-     * Converts a DataFrame row to an item.
+     * Converts a DataFrame row to an item. Rows that do not hold a single atomic value are converted to objects whose
+     * fields are only converted when they are looked up.
      * 
      * @param row the DataFrame row.
      * @param metadata exception metadata is an error is thrown.
@@ -149,8 +152,6 @@ public class ItemParser implements Serializable {
      * @return the converted item.
      */
     public static Item getItemFromRow(Row row, ExceptionMetadata metadata, ItemType itemType) {
-        List<String> keys = new ArrayList<>();
-        List<Item> values = new ArrayList<>();
         StructType schema = row.schema();
         StructField[] fields = schema.fields();
         String[] fieldnames = schema.fieldNames();
@@ -170,39 +171,20 @@ public class ItemParser implements Serializable {
             }
         }
 
-        for (int i = 0; i < fields.length; ++i) {
-            StructField field = fields[i];
-            DataType fieldType = field.dataType();
-            String fieldName = field.name();
-            ItemType fieldItemType = null;
-            if (content != null) {
-                FieldDescriptor descriptor = content.get(fieldName);
-                if (descriptor != null) {
-                    fieldItemType = descriptor.getType();
-                    if (fieldItemType == null) {
-                        throw new OurBadException(
-                                "Type for field "
-                                    + fieldName
-                                    + " in type "
-                                    + itemType.getIdentifierString()
-                                    + " is null."
-                        );
-                    }
-                }
-            }
-            Item newItem = convertValueToItem(row, i, null, fieldType, metadata, fieldItemType);
-            // NULL values in DataFrames are mapped to absent in JSONiq.
-            if (
-                !newItem.isNull()
-                    || (!fieldName.equals(SparkSessionManager.emptyObjectJSONiqItemColumnName)
-                        && fieldType.equals(DataTypes.NullType))
-            ) {
-                keys.add(fieldName);
-                values.add(newItem);
-            }
-        }
+        return new RowObjectItem(row, metadata, itemType, content);
+    }
 
-        return ItemFactory.getInstance().createObjectItem(keys, values, metadata);
+    /**
+     * Converts a column of a DataFrame row to an item.
+     *
+     * @param row the DataFrame row.
+     * @param i the index of the column.
+     * @param metadata exception metadata is an error is thrown.
+     * @param itemType the type to annotate the output item with (it can be null for no annotation).
+     * @return the converted item.
+     */
+    public static Item getItemFromRowField(Row row, int i, ExceptionMetadata metadata, ItemType itemType) {
+        return convertValueToItem(row, i, null, row.schema().fields()[i].dataType(), metadata, itemType);
     }
 
     public static Item convertValueToItem(
@@ -306,13 +288,13 @@ public class ItemParser implements Serializable {
                 return ItemFactory.getInstance().createAnnotatedItem(item, itemType);
             }
         } else if (fieldType.equals(DataTypes.LongType)) {
-            BigDecimal value;
+            long value;
             if (row != null) {
-                value = new BigDecimal(row.getLong(i));
+                value = row.getLong(i);
             } else {
-                value = new BigDecimal((Long) o);
+                value = (Long) o;
             }
-            Item item = ItemFactory.getInstance().createDecimalItem(value);
+            Item item = ItemFactory.getInstance().createLongItem(value);
             if (itemType == null || itemType.equals(BuiltinTypesCatalogue.longItem)) {
                 return item;
             } else {
@@ -392,21 +374,18 @@ public class ItemParser implements Serializable {
             if (itemType != null && !itemType.equals(BuiltinTypesCatalogue.item)) {
                 memberType = itemType.getArrayContentFacet();
             }
-            List<Item> members = new ArrayList<>();
+            Object[] values;
             if (row != null) {
-                List<Object> objects = row.getList(i);
-                for (Object object : objects) {
-                    members.add(convertValueToItem(object, dataType, metadata, memberType));
-                }
+                values = row.getList(i).toArray();
             } else {
                 @SuppressWarnings("unchecked")
                 Object arrayObject = ((WrappedArray<Object>) o).array();
-                for (int index = 0; index < Array.getLength(arrayObject); index++) {
-                    Object value = Array.get(arrayObject, index);
-                    members.add(convertValueToItem(value, dataType, metadata, memberType));
+                values = new Object[Array.getLength(arrayObject)];
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = Array.get(arrayObject, index);
                 }
             }
-            Item item = ItemFactory.getInstance().createArrayItem(members);
+            Item item = new RowArrayItem(values, dataType, metadata, memberType);
             if (itemType == null || itemType.equals(BuiltinTypesCatalogue.arrayItem)) {
                 return item;
             } else {
@@ -56,10 +56,14 @@ moduleImport            : 'import' 'module' ('namespace' prefix=NCName '=')? tar
 
 varDecl                 : 'declare' 'variable' varRef (Kas sequenceType)? ((':=' exprSingle) | (external='external' (':=' exprSingle)?));
 
-functionDecl            : 'declare' 'function' fn_name=qname '(' paramList? ')'
+functionDecl            : 'declare' annotations 'function' fn_name=qname '(' paramList? ')'
                           (Kas return_type=sequenceType)?
                           ('{' (fn_body=expr)? '}' | 'external');
 
+annotations             : annotation*;
+
+annotation              : '%' name=qname;
+
 typeDecl                : 'declare' 'type' type_name=qname 'as' (schema=schemaLanguage)? type_definition=exprSingle;
 
 schemaLanguage          : 'jsound' 'compact'
@@ -30,17 +30,17 @@ public class JsoniqLexer extends Lexer {
 		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
 		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, T__51=52, 
 		T__52=53, T__53=54, T__54=55, T__55=56, T__56=57, T__57=58, T__58=59, 
-		T__59=60, T__60=61, T__61=62, T__62=63, T__63=64, Kfor=65, Klet=66, Kwhere=67, 
-		Kgroup=68, Kby=69, Korder=70, Kreturn=71, Kif=72, Kin=73, Kas=74, Kat=75, 
-		Kallowing=76, Kempty=77, Kcount=78, Kstable=79, Kascending=80, Kdescending=81, 
-		Ksome=82, Kevery=83, Ksatisfies=84, Kcollation=85, Kgreatest=86, Kleast=87, 
-		Kswitch=88, Kcase=89, Ktry=90, Kcatch=91, Kdefault=92, Kthen=93, Kelse=94, 
-		Ktypeswitch=95, Kor=96, Kand=97, Knot=98, Kto=99, Kinstance=100, Kof=101, 
-		Kstatically=102, Kis=103, Ktreat=104, Kcast=105, Kcastable=106, Kversion=107, 
-		Kjsoniq=108, Kunordered=109, Ktrue=110, Kfalse=111, STRING=112, ArgumentPlaceholder=113, 
-		NullLiteral=114, Literal=115, NumericLiteral=116, IntegerLiteral=117, 
-		DecimalLiteral=118, DoubleLiteral=119, WS=120, NCName=121, XQComment=122, 
-		ContentChar=123;
+		T__59=60, T__60=61, T__61=62, T__62=63, T__63=64, T__64=65, Kfor=66, Klet=67, 
+		Kwhere=68, Kgroup=69, Kby=70, Korder=71, Kreturn=72, Kif=73, Kin=74, Kas=75, 
+		Kat=76, Kallowing=77, Kempty=78, Kcount=79, Kstable=80, Kascending=81, 
+		Kdescending=82, Ksome=83, Kevery=84, Ksatisfies=85, Kcollation=86, Kgreatest=87, 
+		Kleast=88, Kswitch=89, Kcase=90, Ktry=91, Kcatch=92, Kdefault=93, Kthen=94, 
+		Kelse=95, Ktypeswitch=96, Kor=97, Kand=98, Knot=99, Kto=100, Kinstance=101, 
+		Kof=102, Kstatically=103, Kis=104, Ktreat=105, Kcast=106, Kcastable=107, 
+		Kversion=108, Kjsoniq=109, Kunordered=110, Ktrue=111, Kfalse=112, STRING=113, 
+		ArgumentPlaceholder=114, NullLiteral=115, Literal=116, NumericLiteral=117, 
+		IntegerLiteral=118, DecimalLiteral=119, DoubleLiteral=120, WS=121, NCName=122, 
+		XQComment=123, ContentChar=124;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -57,9 +57,9 @@ public class JsoniqLexer extends Lexer {
 		"T__33", "T__34", "T__35", "T__36", "T__37", "T__38", "T__39", "T__40", 
 		"T__41", "T__42", "T__43", "T__44", "T__45", "T__46", "T__47", "T__48", 
 		"T__49", "T__50", "T__51", "T__52", "T__53", "T__54", "T__55", "T__56", 
-		"T__57", "T__58", "T__59", "T__60", "T__61", "T__62", "T__63", "Kfor", 
-		"Klet", "Kwhere", "Kgroup", "Kby", "Korder", "Kreturn", "Kif", "Kin", 
-		"Kas", "Kat", "Kallowing", "Kempty", "Kcount", "Kstable", "Kascending", 
+		"T__57", "T__58", "T__59", "T__60", "T__61", "T__62", "T__63", "T__64", 
+		"Kfor", "Klet", "Kwhere", "Kgroup", "Kby", "Korder", "Kreturn", "Kif", 
+		"Kin", "Kas", "Kat", "Kallowing", "Kempty", "Kcount", "Kstable", "Kascending", 
 		"Kdescending", "Ksome", "Kevery", "Ksatisfies", "Kcollation", "Kgreatest", 
 		"Kleast", "Kswitch", "Kcase", "Ktry", "Kcatch", "Kdefault", "Kthen", "Kelse", 
 		"Ktypeswitch", "Kor", "Kand", "Knot", "Kto", "Kinstance", "Kof", "Kstatically", 
@@ -75,18 +75,19 @@ public class JsoniqLexer extends Lexer {
 		"'ordered'", "'decimal-format'", "':'", "'decimal-separator'", "'grouping-separator'", 
 		"'infinity'", "'minus-sign'", "'NaN'", "'percent'", "'per-mille'", "'zero-digit'", 
 		"'digit'", "'pattern-separator'", "'import'", "','", "'variable'", "':='", 
-		"'external'", "'function'", "'('", "')'", "'{'", "'}'", "'type'", "'jsound'", 
-		"'compact'", "'verbose'", "'json'", "'schema'", "'$'", "'|'", "'*'", "'eq'", 
-		"'ne'", "'lt'", "'le'", "'gt'", "'ge'", "'!='", "'<'", "'<='", "'>'", 
-		"'>='", "'||'", "'+'", "'-'", "'div'", "'idiv'", "'mod'", "'validate'", 
-		"'!'", "'['", "']'", "'.'", "'$$'", "'#'", "'{|'", "'|}'", "'for'", "'let'", 
-		"'where'", "'group'", "'by'", "'order'", "'return'", "'if'", "'in'", "'as'", 
-		"'at'", "'allowing'", "'empty'", "'count'", "'stable'", "'ascending'", 
-		"'descending'", "'some'", "'every'", "'satisfies'", "'collation'", "'greatest'", 
-		"'least'", "'switch'", "'case'", "'try'", "'catch'", "'default'", "'then'", 
-		"'else'", "'typeswitch'", "'or'", "'and'", "'not'", "'to'", "'instance'", 
-		"'of'", "'statically'", "'is'", "'treat'", "'cast'", "'castable'", "'version'", 
-		"'jsoniq'", "'unordered'", "'true'", "'false'", null, "'?'", "'null'"
+		"'external'", "'function'", "'('", "')'", "'{'", "'}'", "'%'", "'type'", 
+		"'jsound'", "'compact'", "'verbose'", "'json'", "'schema'", "'$'", "'|'", 
+		"'*'", "'eq'", "'ne'", "'lt'", "'le'", "'gt'", "'ge'", "'!='", "'<'", 
+		"'<='", "'>'", "'>='", "'||'", "'+'", "'-'", "'div'", "'idiv'", "'mod'", 
+		"'validate'", "'!'", "'['", "']'", "'.'", "'$$'", "'#'", "'{|'", "'|}'", 
+		"'for'", "'let'", "'where'", "'group'", "'by'", "'order'", "'return'", 
+		"'if'", "'in'", "'as'", "'at'", "'allowing'", "'empty'", "'count'", "'stable'", 
+		"'ascending'", "'descending'", "'some'", "'every'", "'satisfies'", "'collation'", 
+		"'greatest'", "'least'", "'switch'", "'case'", "'try'", "'catch'", "'default'", 
+		"'then'", "'else'", "'typeswitch'", "'or'", "'and'", "'not'", "'to'", 
+		"'instance'", "'of'", "'statically'", "'is'", "'treat'", "'cast'", "'castable'", 
+		"'version'", "'jsoniq'", "'unordered'", "'true'", "'false'", null, "'?'", 
+		"'null'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
@@ -94,8 +95,8 @@ public class JsoniqLexer extends Lexer {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, "Kfor", "Klet", "Kwhere", "Kgroup", "Kby", 
-		"Korder", "Kreturn", "Kif", "Kin", "Kas", "Kat", "Kallowing", "Kempty", 
+		null, null, null, null, null, null, "Kfor", "Klet", "Kwhere", "Kgroup", 
+		"Kby", "Korder", "Kreturn", "Kif", "Kin", "Kas", "Kat", "Kallowing", "Kempty", 
 		"Kcount", "Kstable", "Kascending", "Kdescending", "Ksome", "Kevery", "Ksatisfies", 
 		"Kcollation", "Kgreatest", "Kleast", "Kswitch", "Kcase", "Ktry", "Kcatch", 
 		"Kdefault", "Kthen", "Kelse", "Ktypeswitch", "Kor", "Kand", "Knot", "Kto", 
@@ -162,7 +163,7 @@ public class JsoniqLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2}\u03fa\b\1\4\2\t"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2~\u03fe\b\1\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -176,333 +177,334 @@ public class JsoniqLexer extends Lexer {
 		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k\t"+
 		"k\4l\tl\4m\tm\4n\tn\4o\to\4p\tp\4q\tq\4r\tr\4s\ts\4t\tt\4u\tu\4v\tv\4"+
 		"w\tw\4x\tx\4y\ty\4z\tz\4{\t{\4|\t|\4}\t}\4~\t~\4\177\t\177\4\u0080\t\u0080"+
-		"\4\u0081\t\u0081\4\u0082\t\u0082\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
-		"\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6"+
-		"\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3"+
-		"\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n"+
-		"\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13"+
-		"\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f"+
-		"\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3"+
-		"\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3"+
-		"\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3"+
-		"\21\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3"+
-		"\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3"+
-		"\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3"+
-		"\25\3\25\3\25\3\25\3\25\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3"+
-		"\27\3\27\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3"+
-		"\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\34\3\34\3\35\3"+
-		"\35\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3 \3 \3!\3!\3!\3"+
-		"!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3$\3$\3$"+
-		"\3$\3$\3$\3$\3%\3%\3&\3&\3\'\3\'\3(\3(\3(\3)\3)\3)\3*\3*\3*\3+\3+\3+\3"+
-		",\3,\3,\3-\3-\3-\3.\3.\3.\3/\3/\3\60\3\60\3\60\3\61\3\61\3\62\3\62\3\62"+
-		"\3\63\3\63\3\63\3\64\3\64\3\65\3\65\3\66\3\66\3\66\3\66\3\67\3\67\3\67"+
-		"\3\67\3\67\38\38\38\38\39\39\39\39\39\39\39\39\39\3:\3:\3;\3;\3<\3<\3"+
-		"=\3=\3>\3>\3>\3?\3?\3@\3@\3@\3A\3A\3A\3B\3B\3B\3B\3C\3C\3C\3C\3D\3D\3"+
-		"D\3D\3D\3D\3E\3E\3E\3E\3E\3E\3F\3F\3F\3G\3G\3G\3G\3G\3G\3H\3H\3H\3H\3"+
-		"H\3H\3H\3I\3I\3I\3J\3J\3J\3K\3K\3K\3L\3L\3L\3M\3M\3M\3M\3M\3M\3M\3M\3"+
-		"M\3N\3N\3N\3N\3N\3N\3O\3O\3O\3O\3O\3O\3P\3P\3P\3P\3P\3P\3P\3Q\3Q\3Q\3"+
-		"Q\3Q\3Q\3Q\3Q\3Q\3Q\3R\3R\3R\3R\3R\3R\3R\3R\3R\3R\3R\3S\3S\3S\3S\3S\3"+
-		"T\3T\3T\3T\3T\3T\3U\3U\3U\3U\3U\3U\3U\3U\3U\3U\3V\3V\3V\3V\3V\3V\3V\3"+
-		"V\3V\3V\3W\3W\3W\3W\3W\3W\3W\3W\3W\3X\3X\3X\3X\3X\3X\3Y\3Y\3Y\3Y\3Y\3"+
-		"Y\3Y\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3"+
-		"]\3]\3]\3]\3^\3^\3^\3^\3^\3_\3_\3_\3_\3_\3`\3`\3`\3`\3`\3`\3`\3`\3`\3"+
-		"`\3`\3a\3a\3a\3b\3b\3b\3b\3c\3c\3c\3c\3d\3d\3d\3e\3e\3e\3e\3e\3e\3e\3"+
-		"e\3e\3f\3f\3f\3g\3g\3g\3g\3g\3g\3g\3g\3g\3g\3g\3h\3h\3h\3i\3i\3i\3i\3"+
-		"i\3i\3j\3j\3j\3j\3j\3k\3k\3k\3k\3k\3k\3k\3k\3k\3l\3l\3l\3l\3l\3l\3l\3"+
-		"l\3m\3m\3m\3m\3m\3m\3m\3n\3n\3n\3n\3n\3n\3n\3n\3n\3n\3o\3o\3o\3o\3o\3"+
-		"p\3p\3p\3p\3p\3p\3q\3q\3q\7q\u0388\nq\fq\16q\u038b\13q\3q\3q\3r\3r\3r"+
-		"\5r\u0392\nr\3s\3s\3s\3s\3s\3s\3t\3t\3u\3u\3v\3v\3v\3v\3v\3w\3w\3x\3x"+
-		"\3x\5x\u03a8\nx\3y\3y\3z\3z\3z\3z\3z\7z\u03b1\nz\fz\16z\u03b4\13z\5z\u03b6"+
-		"\nz\3{\3{\3{\3{\3{\7{\u03bd\n{\f{\16{\u03c0\13{\5{\u03c2\n{\5{\u03c4\n"+
-		"{\3{\3{\5{\u03c8\n{\3{\3{\3|\6|\u03cd\n|\r|\16|\u03ce\3}\3}\3}\3}\3~\3"+
-		"~\7~\u03d7\n~\f~\16~\u03da\13~\3\177\5\177\u03dd\n\177\3\u0080\3\u0080"+
-		"\5\u0080\u03e1\n\u0080\3\u0081\3\u0081\3\u0081\3\u0081\3\u0081\3\u0081"+
-		"\3\u0081\3\u0081\7\u0081\u03eb\n\u0081\f\u0081\16\u0081\u03ee\13\u0081"+
-		"\3\u0081\6\u0081\u03f1\n\u0081\r\u0081\16\u0081\u03f2\3\u0081\3\u0081"+
-		"\3\u0081\3\u0081\3\u0082\3\u0082\2\2\u0083\3\3\5\4\7\5\t\6\13\7\r\b\17"+
-		"\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+"+
-		"\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+"+
-		"U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081"+
-		"B\u0083C\u0085D\u0087E\u0089F\u008bG\u008dH\u008fI\u0091J\u0093K\u0095"+
-		"L\u0097M\u0099N\u009bO\u009dP\u009fQ\u00a1R\u00a3S\u00a5T\u00a7U\u00a9"+
-		"V\u00abW\u00adX\u00afY\u00b1Z\u00b3[\u00b5\\\u00b7]\u00b9^\u00bb_\u00bd"+
-		"`\u00bfa\u00c1b\u00c3c\u00c5d\u00c7e\u00c9f\u00cbg\u00cdh\u00cfi\u00d1"+
-		"j\u00d3k\u00d5l\u00d7m\u00d9n\u00dbo\u00ddp\u00dfq\u00e1r\u00e3\2\u00e5"+
-		"\2\u00e7\2\u00e9s\u00ebt\u00edu\u00efv\u00f1w\u00f3x\u00f5y\u00f7\2\u00f9"+
-		"z\u00fb{\u00fd\2\u00ff\2\u0101|\u0103}\3\2\17\4\2$$^^\n\2$$\61\61^^dd"+
-		"hhppttvv\5\2\62;CHch\3\2\62;\4\2GGgg\4\2--//\5\2\13\f\17\17\"\"\20\2C"+
-		"\\aac|\u00c2\u00d8\u00da\u00f8\u00fa\u0301\u0372\u037f\u0381\u2001\u200e"+
-		"\u200f\u2072\u2191\u2c02\u2ff1\u3003\ud801\uf902\ufdd1\ufdf2\uffff\7\2"+
-		"//\62;\u00b9\u00b9\u0302\u0371\u2041\u2042\3\2<<\3\2++\4\2**<<\7\2$$("+
-		")>>}}\177\177\2\u0406\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2"+
-		"\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25"+
-		"\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2"+
-		"\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2"+
-		"\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3"+
-		"\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2"+
-		"\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2"+
-		"Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3"+
-		"\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2"+
-		"\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2"+
-		"w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2"+
-		"\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b"+
-		"\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2"+
-		"\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d"+
-		"\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2"+
-		"\2\2\u00a7\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab\3\2\2\2\2\u00ad\3\2\2\2\2\u00af"+
-		"\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7\3\2\2"+
-		"\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2\2\2\u00bf\3\2\2\2\2\u00c1"+
-		"\3\2\2\2\2\u00c3\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2\2\2\u00c9\3\2\2"+
-		"\2\2\u00cb\3\2\2\2\2\u00cd\3\2\2\2\2\u00cf\3\2\2\2\2\u00d1\3\2\2\2\2\u00d3"+
-		"\3\2\2\2\2\u00d5\3\2\2\2\2\u00d7\3\2\2\2\2\u00d9\3\2\2\2\2\u00db\3\2\2"+
-		"\2\2\u00dd\3\2\2\2\2\u00df\3\2\2\2\2\u00e1\3\2\2\2\2\u00e9\3\2\2\2\2\u00eb"+
-		"\3\2\2\2\2\u00ed\3\2\2\2\2\u00ef\3\2\2\2\2\u00f1\3\2\2\2\2\u00f3\3\2\2"+
-		"\2\2\u00f5\3\2\2\2\2\u00f9\3\2\2\2\2\u00fb\3\2\2\2\2\u0101\3\2\2\2\2\u0103"+
-		"\3\2\2\2\3\u0105\3\2\2\2\5\u0107\3\2\2\2\7\u010e\3\2\2\2\t\u0118\3\2\2"+
-		"\2\13\u011a\3\2\2\2\r\u0122\3\2\2\2\17\u012b\3\2\2\2\21\u0133\3\2\2\2"+
-		"\23\u0142\3\2\2\2\25\u0144\3\2\2\2\27\u0156\3\2\2\2\31\u0169\3\2\2\2\33"+
-		"\u0172\3\2\2\2\35\u017d\3\2\2\2\37\u0181\3\2\2\2!\u0189\3\2\2\2#\u0193"+
-		"\3\2\2\2%\u019e\3\2\2\2\'\u01a4\3\2\2\2)\u01b6\3\2\2\2+\u01bd\3\2\2\2"+
-		"-\u01bf\3\2\2\2/\u01c8\3\2\2\2\61\u01cb\3\2\2\2\63\u01d4\3\2\2\2\65\u01dd"+
-		"\3\2\2\2\67\u01df\3\2\2\29\u01e1\3\2\2\2;\u01e3\3\2\2\2=\u01e5\3\2\2\2"+
-		"?\u01ea\3\2\2\2A\u01f1\3\2\2\2C\u01f9\3\2\2\2E\u0201\3\2\2\2G\u0206\3"+
-		"\2\2\2I\u020d\3\2\2\2K\u020f\3\2\2\2M\u0211\3\2\2\2O\u0213\3\2\2\2Q\u0216"+
-		"\3\2\2\2S\u0219\3\2\2\2U\u021c\3\2\2\2W\u021f\3\2\2\2Y\u0222\3\2\2\2["+
-		"\u0225\3\2\2\2]\u0228\3\2\2\2_\u022a\3\2\2\2a\u022d\3\2\2\2c\u022f\3\2"+
-		"\2\2e\u0232\3\2\2\2g\u0235\3\2\2\2i\u0237\3\2\2\2k\u0239\3\2\2\2m\u023d"+
-		"\3\2\2\2o\u0242\3\2\2\2q\u0246\3\2\2\2s\u024f\3\2\2\2u\u0251\3\2\2\2w"+
-		"\u0253\3\2\2\2y\u0255\3\2\2\2{\u0257\3\2\2\2}\u025a\3\2\2\2\177\u025c"+
-		"\3\2\2\2\u0081\u025f\3\2\2\2\u0083\u0262\3\2\2\2\u0085\u0266\3\2\2\2\u0087"+
-		"\u026a\3\2\2\2\u0089\u0270\3\2\2\2\u008b\u0276\3\2\2\2\u008d\u0279\3\2"+
-		"\2\2\u008f\u027f\3\2\2\2\u0091\u0286\3\2\2\2\u0093\u0289\3\2\2\2\u0095"+
-		"\u028c\3\2\2\2\u0097\u028f\3\2\2\2\u0099\u0292\3\2\2\2\u009b\u029b\3\2"+
-		"\2\2\u009d\u02a1\3\2\2\2\u009f\u02a7\3\2\2\2\u00a1\u02ae\3\2\2\2\u00a3"+
-		"\u02b8\3\2\2\2\u00a5\u02c3\3\2\2\2\u00a7\u02c8\3\2\2\2\u00a9\u02ce\3\2"+
-		"\2\2\u00ab\u02d8\3\2\2\2\u00ad\u02e2\3\2\2\2\u00af\u02eb\3\2\2\2\u00b1"+
-		"\u02f1\3\2\2\2\u00b3\u02f8\3\2\2\2\u00b5\u02fd\3\2\2\2\u00b7\u0301\3\2"+
-		"\2\2\u00b9\u0307\3\2\2\2\u00bb\u030f\3\2\2\2\u00bd\u0314\3\2\2\2\u00bf"+
-		"\u0319\3\2\2\2\u00c1\u0324\3\2\2\2\u00c3\u0327\3\2\2\2\u00c5\u032b\3\2"+
-		"\2\2\u00c7\u032f\3\2\2\2\u00c9\u0332\3\2\2\2\u00cb\u033b\3\2\2\2\u00cd"+
-		"\u033e\3\2\2\2\u00cf\u0349\3\2\2\2\u00d1\u034c\3\2\2\2\u00d3\u0352\3\2"+
-		"\2\2\u00d5\u0357\3\2\2\2\u00d7\u0360\3\2\2\2\u00d9\u0368\3\2\2\2\u00db"+
-		"\u036f\3\2\2\2\u00dd\u0379\3\2\2\2\u00df\u037e\3\2\2\2\u00e1\u0384\3\2"+
-		"\2\2\u00e3\u038e\3\2\2\2\u00e5\u0393\3\2\2\2\u00e7\u0399\3\2\2\2\u00e9"+
-		"\u039b\3\2\2\2\u00eb\u039d\3\2\2\2\u00ed\u03a2\3\2\2\2\u00ef\u03a7\3\2"+
-		"\2\2\u00f1\u03a9\3\2\2\2\u00f3\u03b5\3\2\2\2\u00f5\u03c3\3\2\2\2\u00f7"+
-		"\u03cc\3\2\2\2\u00f9\u03d0\3\2\2\2\u00fb\u03d4\3\2\2\2\u00fd\u03dc\3\2"+
-		"\2\2\u00ff\u03e0\3\2\2\2\u0101\u03e2\3\2\2\2\u0103\u03f8\3\2\2\2\u0105"+
-		"\u0106\7=\2\2\u0106\4\3\2\2\2\u0107\u0108\7o\2\2\u0108\u0109\7q\2\2\u0109"+
-		"\u010a\7f\2\2\u010a\u010b\7w\2\2\u010b\u010c\7n\2\2\u010c\u010d\7g\2\2"+
-		"\u010d\6\3\2\2\2\u010e\u010f\7p\2\2\u010f\u0110\7c\2\2\u0110\u0111\7o"+
-		"\2\2\u0111\u0112\7g\2\2\u0112\u0113\7u\2\2\u0113\u0114\7r\2\2\u0114\u0115"+
-		"\7c\2\2\u0115\u0116\7e\2\2\u0116\u0117\7g\2\2\u0117\b\3\2\2\2\u0118\u0119"+
-		"\7?\2\2\u0119\n\3\2\2\2\u011a\u011b\7f\2\2\u011b\u011c\7g\2\2\u011c\u011d"+
-		"\7e\2\2\u011d\u011e\7n\2\2\u011e\u011f\7c\2\2\u011f\u0120\7t\2\2\u0120"+
-		"\u0121\7g\2\2\u0121\f\3\2\2\2\u0122\u0123\7q\2\2\u0123\u0124\7t\2\2\u0124"+
-		"\u0125\7f\2\2\u0125\u0126\7g\2\2\u0126\u0127\7t\2\2\u0127\u0128\7k\2\2"+
-		"\u0128\u0129\7p\2\2\u0129\u012a\7i\2\2\u012a\16\3\2\2\2\u012b\u012c\7"+
-		"q\2\2\u012c\u012d\7t\2\2\u012d\u012e\7f\2\2\u012e\u012f\7g\2\2\u012f\u0130"+
-		"\7t\2\2\u0130\u0131\7g\2\2\u0131\u0132\7f\2\2\u0132\20\3\2\2\2\u0133\u0134"+
-		"\7f\2\2\u0134\u0135\7g\2\2\u0135\u0136\7e\2\2\u0136\u0137\7k\2\2\u0137"+
-		"\u0138\7o\2\2\u0138\u0139\7c\2\2\u0139\u013a\7n\2\2\u013a\u013b\7/\2\2"+
-		"\u013b\u013c\7h\2\2\u013c\u013d\7q\2\2\u013d\u013e\7t\2\2\u013e\u013f"+
-		"\7o\2\2\u013f\u0140\7c\2\2\u0140\u0141\7v\2\2\u0141\22\3\2\2\2\u0142\u0143"+
-		"\7<\2\2\u0143\24\3\2\2\2\u0144\u0145\7f\2\2\u0145\u0146\7g\2\2\u0146\u0147"+
-		"\7e\2\2\u0147\u0148\7k\2\2\u0148\u0149\7o\2\2\u0149\u014a\7c\2\2\u014a"+
-		"\u014b\7n\2\2\u014b\u014c\7/\2\2\u014c\u014d\7u\2\2\u014d\u014e\7g\2\2"+
-		"\u014e\u014f\7r\2\2\u014f\u0150\7c\2\2\u0150\u0151\7t\2\2\u0151\u0152"+
-		"\7c\2\2\u0152\u0153\7v\2\2\u0153\u0154\7q\2\2\u0154\u0155\7t\2\2\u0155"+
-		"\26\3\2\2\2\u0156\u0157\7i\2\2\u0157\u0158\7t\2\2\u0158\u0159\7q\2\2\u0159"+
-		"\u015a\7w\2\2\u015a\u015b\7r\2\2\u015b\u015c\7k\2\2\u015c\u015d\7p\2\2"+
-		"\u015d\u015e\7i\2\2\u015e\u015f\7/\2\2\u015f\u0160\7u\2\2\u0160\u0161"+
-		"\7g\2\2\u0161\u0162\7r\2\2\u0162\u0163\7c\2\2\u0163\u0164\7t\2\2\u0164"+
-		"\u0165\7c\2\2\u0165\u0166\7v\2\2\u0166\u0167\7q\2\2\u0167\u0168\7t\2\2"+
-		"\u0168\30\3\2\2\2\u0169\u016a\7k\2\2\u016a\u016b\7p\2\2\u016b\u016c\7"+
-		"h\2\2\u016c\u016d\7k\2\2\u016d\u016e\7p\2\2\u016e\u016f\7k\2\2\u016f\u0170"+
-		"\7v\2\2\u0170\u0171\7{\2\2\u0171\32\3\2\2\2\u0172\u0173\7o\2\2\u0173\u0174"+
-		"\7k\2\2\u0174\u0175\7p\2\2\u0175\u0176\7w\2\2\u0176\u0177\7u\2\2\u0177"+
-		"\u0178\7/\2\2\u0178\u0179\7u\2\2\u0179\u017a\7k\2\2\u017a\u017b\7i\2\2"+
-		"\u017b\u017c\7p\2\2\u017c\34\3\2\2\2\u017d\u017e\7P\2\2\u017e\u017f\7"+
-		"c\2\2\u017f\u0180\7P\2\2\u0180\36\3\2\2\2\u0181\u0182\7r\2\2\u0182\u0183"+
-		"\7g\2\2\u0183\u0184\7t\2\2\u0184\u0185\7e\2\2\u0185\u0186\7g\2\2\u0186"+
-		"\u0187\7p\2\2\u0187\u0188\7v\2\2\u0188 \3\2\2\2\u0189\u018a\7r\2\2\u018a"+
-		"\u018b\7g\2\2\u018b\u018c\7t\2\2\u018c\u018d\7/\2\2\u018d\u018e\7o\2\2"+
-		"\u018e\u018f\7k\2\2\u018f\u0190\7n\2\2\u0190\u0191\7n\2\2\u0191\u0192"+
-		"\7g\2\2\u0192\"\3\2\2\2\u0193\u0194\7|\2\2\u0194\u0195\7g\2\2\u0195\u0196"+
-		"\7t\2\2\u0196\u0197\7q\2\2\u0197\u0198\7/\2\2\u0198\u0199\7f\2\2\u0199"+
-		"\u019a\7k\2\2\u019a\u019b\7i\2\2\u019b\u019c\7k\2\2\u019c\u019d\7v\2\2"+
-		"\u019d$\3\2\2\2\u019e\u019f\7f\2\2\u019f\u01a0\7k\2\2\u01a0\u01a1\7i\2"+
-		"\2\u01a1\u01a2\7k\2\2\u01a2\u01a3\7v\2\2\u01a3&\3\2\2\2\u01a4\u01a5\7"+
-		"r\2\2\u01a5\u01a6\7c\2\2\u01a6\u01a7\7v\2\2\u01a7\u01a8\7v\2\2\u01a8\u01a9"+
-		"\7g\2\2\u01a9\u01aa\7t\2\2\u01aa\u01ab\7p\2\2\u01ab\u01ac\7/\2\2\u01ac"+
-		"\u01ad\7u\2\2\u01ad\u01ae\7g\2\2\u01ae\u01af\7r\2\2\u01af\u01b0\7c\2\2"+
-		"\u01b0\u01b1\7t\2\2\u01b1\u01b2\7c\2\2\u01b2\u01b3\7v\2\2\u01b3\u01b4"+
-		"\7q\2\2\u01b4\u01b5\7t\2\2\u01b5(\3\2\2\2\u01b6\u01b7\7k\2\2\u01b7\u01b8"+
-		"\7o\2\2\u01b8\u01b9\7r\2\2\u01b9\u01ba\7q\2\2\u01ba\u01bb\7t\2\2\u01bb"+
-		"\u01bc\7v\2\2\u01bc*\3\2\2\2\u01bd\u01be\7.\2\2\u01be,\3\2\2\2\u01bf\u01c0"+
-		"\7x\2\2\u01c0\u01c1\7c\2\2\u01c1\u01c2\7t\2\2\u01c2\u01c3\7k\2\2\u01c3"+
-		"\u01c4\7c\2\2\u01c4\u01c5\7d\2\2\u01c5\u01c6\7n\2\2\u01c6\u01c7\7g\2\2"+
-		"\u01c7.\3\2\2\2\u01c8\u01c9\7<\2\2\u01c9\u01ca\7?\2\2\u01ca\60\3\2\2\2"+
-		"\u01cb\u01cc\7g\2\2\u01cc\u01cd\7z\2\2\u01cd\u01ce\7v\2\2\u01ce\u01cf"+
-		"\7g\2\2\u01cf\u01d0\7t\2\2\u01d0\u01d1\7p\2\2\u01d1\u01d2\7c\2\2\u01d2"+
-		"\u01d3\7n\2\2\u01d3\62\3\2\2\2\u01d4\u01d5\7h\2\2\u01d5\u01d6\7w\2\2\u01d6"+
-		"\u01d7\7p\2\2\u01d7\u01d8\7e\2\2\u01d8\u01d9\7v\2\2\u01d9\u01da\7k\2\2"+
-		"\u01da\u01db\7q\2\2\u01db\u01dc\7p\2\2\u01dc\64\3\2\2\2\u01dd\u01de\7"+
-		"*\2\2\u01de\66\3\2\2\2\u01df\u01e0\7+\2\2\u01e08\3\2\2\2\u01e1\u01e2\7"+
-		"}\2\2\u01e2:\3\2\2\2\u01e3\u01e4\7\177\2\2\u01e4<\3\2\2\2\u01e5\u01e6"+
-		"\7v\2\2\u01e6\u01e7\7{\2\2\u01e7\u01e8\7r\2\2\u01e8\u01e9\7g\2\2\u01e9"+
-		">\3\2\2\2\u01ea\u01eb\7l\2\2\u01eb\u01ec\7u\2\2\u01ec\u01ed\7q\2\2\u01ed"+
-		"\u01ee\7w\2\2\u01ee\u01ef\7p\2\2\u01ef\u01f0\7f\2\2\u01f0@\3\2\2\2\u01f1"+
-		"\u01f2\7e\2\2\u01f2\u01f3\7q\2\2\u01f3\u01f4\7o\2\2\u01f4\u01f5\7r\2\2"+
-		"\u01f5\u01f6\7c\2\2\u01f6\u01f7\7e\2\2\u01f7\u01f8\7v\2\2\u01f8B\3\2\2"+
-		"\2\u01f9\u01fa\7x\2\2\u01fa\u01fb\7g\2\2\u01fb\u01fc\7t\2\2\u01fc\u01fd"+
-		"\7d\2\2\u01fd\u01fe\7q\2\2\u01fe\u01ff\7u\2\2\u01ff\u0200\7g\2\2\u0200"+
-		"D\3\2\2\2\u0201\u0202\7l\2\2\u0202\u0203\7u\2\2\u0203\u0204\7q\2\2\u0204"+
-		"\u0205\7p\2\2\u0205F\3\2\2\2\u0206\u0207\7u\2\2\u0207\u0208\7e\2\2\u0208"+
-		"\u0209\7j\2\2\u0209\u020a\7g\2\2\u020a\u020b\7o\2\2\u020b\u020c\7c\2\2"+
-		"\u020cH\3\2\2\2\u020d\u020e\7&\2\2\u020eJ\3\2\2\2\u020f\u0210\7~\2\2\u0210"+
-		"L\3\2\2\2\u0211\u0212\7,\2\2\u0212N\3\2\2\2\u0213\u0214\7g\2\2\u0214\u0215"+
-		"\7s\2\2\u0215P\3\2\2\2\u0216\u0217\7p\2\2\u0217\u0218\7g\2\2\u0218R\3"+
-		"\2\2\2\u0219\u021a\7n\2\2\u021a\u021b\7v\2\2\u021bT\3\2\2\2\u021c\u021d"+
-		"\7n\2\2\u021d\u021e\7g\2\2\u021eV\3\2\2\2\u021f\u0220\7i\2\2\u0220\u0221"+
-		"\7v\2\2\u0221X\3\2\2\2\u0222\u0223\7i\2\2\u0223\u0224\7g\2\2\u0224Z\3"+
-		"\2\2\2\u0225\u0226\7#\2\2\u0226\u0227\7?\2\2\u0227\\\3\2\2\2\u0228\u0229"+
-		"\7>\2\2\u0229^\3\2\2\2\u022a\u022b\7>\2\2\u022b\u022c\7?\2\2\u022c`\3"+
-		"\2\2\2\u022d\u022e\7@\2\2\u022eb\3\2\2\2\u022f\u0230\7@\2\2\u0230\u0231"+
-		"\7?\2\2\u0231d\3\2\2\2\u0232\u0233\7~\2\2\u0233\u0234\7~\2\2\u0234f\3"+
-		"\2\2\2\u0235\u0236\7-\2\2\u0236h\3\2\2\2\u0237\u0238\7/\2\2\u0238j\3\2"+
-		"\2\2\u0239\u023a\7f\2\2\u023a\u023b\7k\2\2\u023b\u023c\7x\2\2\u023cl\3"+
-		"\2\2\2\u023d\u023e\7k\2\2\u023e\u023f\7f\2\2\u023f\u0240\7k\2\2\u0240"+
-		"\u0241\7x\2\2\u0241n\3\2\2\2\u0242\u0243\7o\2\2\u0243\u0244\7q\2\2\u0244"+
-		"\u0245\7f\2\2\u0245p\3\2\2\2\u0246\u0247\7x\2\2\u0247\u0248\7c\2\2\u0248"+
-		"\u0249\7n\2\2\u0249\u024a\7k\2\2\u024a\u024b\7f\2\2\u024b\u024c\7c\2\2"+
-		"\u024c\u024d\7v\2\2\u024d\u024e\7g\2\2\u024er\3\2\2\2\u024f\u0250\7#\2"+
-		"\2\u0250t\3\2\2\2\u0251\u0252\7]\2\2\u0252v\3\2\2\2\u0253\u0254\7_\2\2"+
-		"\u0254x\3\2\2\2\u0255\u0256\7\60\2\2\u0256z\3\2\2\2\u0257\u0258\7&\2\2"+
-		"\u0258\u0259\7&\2\2\u0259|\3\2\2\2\u025a\u025b\7%\2\2\u025b~\3\2\2\2\u025c"+
-		"\u025d\7}\2\2\u025d\u025e\7~\2\2\u025e\u0080\3\2\2\2\u025f\u0260\7~\2"+
-		"\2\u0260\u0261\7\177\2\2\u0261\u0082\3\2\2\2\u0262\u0263\7h\2\2\u0263"+
-		"\u0264\7q\2\2\u0264\u0265\7t\2\2\u0265\u0084\3\2\2\2\u0266\u0267\7n\2"+
-		"\2\u0267\u0268\7g\2\2\u0268\u0269\7v\2\2\u0269\u0086\3\2\2\2\u026a\u026b"+
-		"\7y\2\2\u026b\u026c\7j\2\2\u026c\u026d\7g\2\2\u026d\u026e\7t\2\2\u026e"+
-		"\u026f\7g\2\2\u026f\u0088\3\2\2\2\u0270\u0271\7i\2\2\u0271\u0272\7t\2"+
-		"\2\u0272\u0273\7q\2\2\u0273\u0274\7w\2\2\u0274\u0275\7r\2\2\u0275\u008a"+
-		"\3\2\2\2\u0276\u0277\7d\2\2\u0277\u0278\7{\2\2\u0278\u008c\3\2\2\2\u0279"+
-		"\u027a\7q\2\2\u027a\u027b\7t\2\2\u027b\u027c\7f\2\2\u027c\u027d\7g\2\2"+
-		"\u027d\u027e\7t\2\2\u027e\u008e\3\2\2\2\u027f\u0280\7t\2\2\u0280\u0281"+
-		"\7g\2\2\u0281\u0282\7v\2\2\u0282\u0283\7w\2\2\u0283\u0284\7t\2\2\u0284"+
-		"\u0285\7p\2\2\u0285\u0090\3\2\2\2\u0286\u0287\7k\2\2\u0287\u0288\7h\2"+
-		"\2\u0288\u0092\3\2\2\2\u0289\u028a\7k\2\2\u028a\u028b\7p\2\2\u028b\u0094"+
-		"\3\2\2\2\u028c\u028d\7c\2\2\u028d\u028e\7u\2\2\u028e\u0096\3\2\2\2\u028f"+
-		"\u0290\7c\2\2\u0290\u0291\7v\2\2\u0291\u0098\3\2\2\2\u0292\u0293\7c\2"+
-		"\2\u0293\u0294\7n\2\2\u0294\u0295\7n\2\2\u0295\u0296\7q\2\2\u0296\u0297"+
-		"\7y\2\2\u0297\u0298\7k\2\2\u0298\u0299\7p\2\2\u0299\u029a\7i\2\2\u029a"+
-		"\u009a\3\2\2\2\u029b\u029c\7g\2\2\u029c\u029d\7o\2\2\u029d\u029e\7r\2"+
-		"\2\u029e\u029f\7v\2\2\u029f\u02a0\7{\2\2\u02a0\u009c\3\2\2\2\u02a1\u02a2"+
-		"\7e\2\2\u02a2\u02a3\7q\2\2\u02a3\u02a4\7w\2\2\u02a4\u02a5\7p\2\2\u02a5"+
-		"\u02a6\7v\2\2\u02a6\u009e\3\2\2\2\u02a7\u02a8\7u\2\2\u02a8\u02a9\7v\2"+
-		"\2\u02a9\u02aa\7c\2\2\u02aa\u02ab\7d\2\2\u02ab\u02ac\7n\2\2\u02ac\u02ad"+
-		"\7g\2\2\u02ad\u00a0\3\2\2\2\u02ae\u02af\7c\2\2\u02af\u02b0\7u\2\2\u02b0"+
-		"\u02b1\7e\2\2\u02b1\u02b2\7g\2\2\u02b2\u02b3\7p\2\2\u02b3\u02b4\7f\2\2"+
-		"\u02b4\u02b5\7k\2\2\u02b5\u02b6\7p\2\2\u02b6\u02b7\7i\2\2\u02b7\u00a2"+
-		"\3\2\2\2\u02b8\u02b9\7f\2\2\u02b9\u02ba\7g\2\2\u02ba\u02bb\7u\2\2\u02bb"+
-		"\u02bc\7e\2\2\u02bc\u02bd\7g\2\2\u02bd\u02be\7p\2\2\u02be\u02bf\7f\2\2"+
-		"\u02bf\u02c0\7k\2\2\u02c0\u02c1\7p\2\2\u02c1\u02c2\7i\2\2\u02c2\u00a4"+
-		"\3\2\2\2\u02c3\u02c4\7u\2\2\u02c4\u02c5\7q\2\2\u02c5\u02c6\7o\2\2\u02c6"+
-		"\u02c7\7g\2\2\u02c7\u00a6\3\2\2\2\u02c8\u02c9\7g\2\2\u02c9\u02ca\7x\2"+
-		"\2\u02ca\u02cb\7g\2\2\u02cb\u02cc\7t\2\2\u02cc\u02cd\7{\2\2\u02cd\u00a8"+
-		"\3\2\2\2\u02ce\u02cf\7u\2\2\u02cf\u02d0\7c\2\2\u02d0\u02d1\7v\2\2\u02d1"+
-		"\u02d2\7k\2\2\u02d2\u02d3\7u\2\2\u02d3\u02d4\7h\2\2\u02d4\u02d5\7k\2\2"+
-		"\u02d5\u02d6\7g\2\2\u02d6\u02d7\7u\2\2\u02d7\u00aa\3\2\2\2\u02d8\u02d9"+
-		"\7e\2\2\u02d9\u02da\7q\2\2\u02da\u02db\7n\2\2\u02db\u02dc\7n\2\2\u02dc"+
-		"\u02dd\7c\2\2\u02dd\u02de\7v\2\2\u02de\u02df\7k\2\2\u02df\u02e0\7q\2\2"+
-		"\u02e0\u02e1\7p\2\2\u02e1\u00ac\3\2\2\2\u02e2\u02e3\7i\2\2\u02e3\u02e4"+
-		"\7t\2\2\u02e4\u02e5\7g\2\2\u02e5\u02e6\7c\2\2\u02e6\u02e7\7v\2\2\u02e7"+
-		"\u02e8\7g\2\2\u02e8\u02e9\7u\2\2\u02e9\u02ea\7v\2\2\u02ea\u00ae\3\2\2"+
-		"\2\u02eb\u02ec\7n\2\2\u02ec\u02ed\7g\2\2\u02ed\u02ee\7c\2\2\u02ee\u02ef"+
-		"\7u\2\2\u02ef\u02f0\7v\2\2\u02f0\u00b0\3\2\2\2\u02f1\u02f2\7u\2\2\u02f2"+
-		"\u02f3\7y\2\2\u02f3\u02f4\7k\2\2\u02f4\u02f5\7v\2\2\u02f5\u02f6\7e\2\2"+
-		"\u02f6\u02f7\7j\2\2\u02f7\u00b2\3\2\2\2\u02f8\u02f9\7e\2\2\u02f9\u02fa"+
-		"\7c\2\2\u02fa\u02fb\7u\2\2\u02fb\u02fc\7g\2\2\u02fc\u00b4\3\2\2\2\u02fd"+
-		"\u02fe\7v\2\2\u02fe\u02ff\7t\2\2\u02ff\u0300\7{\2\2\u0300\u00b6\3\2\2"+
-		"\2\u0301\u0302\7e\2\2\u0302\u0303\7c\2\2\u0303\u0304\7v\2\2\u0304\u0305"+
-		"\7e\2\2\u0305\u0306\7j\2\2\u0306\u00b8\3\2\2\2\u0307\u0308\7f\2\2\u0308"+
-		"\u0309\7g\2\2\u0309\u030a\7h\2\2\u030a\u030b\7c\2\2\u030b\u030c\7w\2\2"+
-		"\u030c\u030d\7n\2\2\u030d\u030e\7v\2\2\u030e\u00ba\3\2\2\2\u030f\u0310"+
-		"\7v\2\2\u0310\u0311\7j\2\2\u0311\u0312\7g\2\2\u0312\u0313\7p\2\2\u0313"+
-		"\u00bc\3\2\2\2\u0314\u0315\7g\2\2\u0315\u0316\7n\2\2\u0316\u0317\7u\2"+
-		"\2\u0317\u0318\7g\2\2\u0318\u00be\3\2\2\2\u0319\u031a\7v\2\2\u031a\u031b"+
-		"\7{\2\2\u031b\u031c\7r\2\2\u031c\u031d\7g\2\2\u031d\u031e\7u\2\2\u031e"+
-		"\u031f\7y\2\2\u031f\u0320\7k\2\2\u0320\u0321\7v\2\2\u0321\u0322\7e\2\2"+
-		"\u0322\u0323\7j\2\2\u0323\u00c0\3\2\2\2\u0324\u0325\7q\2\2\u0325\u0326"+
-		"\7t\2\2\u0326\u00c2\3\2\2\2\u0327\u0328\7c\2\2\u0328\u0329\7p\2\2\u0329"+
-		"\u032a\7f\2\2\u032a\u00c4\3\2\2\2\u032b\u032c\7p\2\2\u032c\u032d\7q\2"+
-		"\2\u032d\u032e\7v\2\2\u032e\u00c6\3\2\2\2\u032f\u0330\7v\2\2\u0330\u0331"+
-		"\7q\2\2\u0331\u00c8\3\2\2\2\u0332\u0333\7k\2\2\u0333\u0334\7p\2\2\u0334"+
-		"\u0335\7u\2\2\u0335\u0336\7v\2\2\u0336\u0337\7c\2\2\u0337\u0338\7p\2\2"+
-		"\u0338\u0339\7e\2\2\u0339\u033a\7g\2\2\u033a\u00ca\3\2\2\2\u033b\u033c"+
-		"\7q\2\2\u033c\u033d\7h\2\2\u033d\u00cc\3\2\2\2\u033e\u033f\7u\2\2\u033f"+
-		"\u0340\7v\2\2\u0340\u0341\7c\2\2\u0341\u0342\7v\2\2\u0342\u0343\7k\2\2"+
-		"\u0343\u0344\7e\2\2\u0344\u0345\7c\2\2\u0345\u0346\7n\2\2\u0346\u0347"+
-		"\7n\2\2\u0347\u0348\7{\2\2\u0348\u00ce\3\2\2\2\u0349\u034a\7k\2\2\u034a"+
-		"\u034b\7u\2\2\u034b\u00d0\3\2\2\2\u034c\u034d\7v\2\2\u034d\u034e\7t\2"+
-		"\2\u034e\u034f\7g\2\2\u034f\u0350\7c\2\2\u0350\u0351\7v\2\2\u0351\u00d2"+
-		"\3\2\2\2\u0352\u0353\7e\2\2\u0353\u0354\7c\2\2\u0354\u0355\7u\2\2\u0355"+
-		"\u0356\7v\2\2\u0356\u00d4\3\2\2\2\u0357\u0358\7e\2\2\u0358\u0359\7c\2"+
-		"\2\u0359\u035a\7u\2\2\u035a\u035b\7v\2\2\u035b\u035c\7c\2\2\u035c\u035d"+
-		"\7d\2\2\u035d\u035e\7n\2\2\u035e\u035f\7g\2\2\u035f\u00d6\3\2\2\2\u0360"+
-		"\u0361\7x\2\2\u0361\u0362\7g\2\2\u0362\u0363\7t\2\2\u0363\u0364\7u\2\2"+
-		"\u0364\u0365\7k\2\2\u0365\u0366\7q\2\2\u0366\u0367\7p\2\2\u0367\u00d8"+
-		"\3\2\2\2\u0368\u0369\7l\2\2\u0369\u036a\7u\2\2\u036a\u036b\7q\2\2\u036b"+
-		"\u036c\7p\2\2\u036c\u036d\7k\2\2\u036d\u036e\7s\2\2\u036e\u00da\3\2\2"+
-		"\2\u036f\u0370\7w\2\2\u0370\u0371\7p\2\2\u0371\u0372\7q\2\2\u0372\u0373"+
-		"\7t\2\2\u0373\u0374\7f\2\2\u0374\u0375\7g\2\2\u0375\u0376\7t\2\2\u0376"+
-		"\u0377\7g\2\2\u0377\u0378\7f\2\2\u0378\u00dc\3\2\2\2\u0379\u037a\7v\2"+
-		"\2\u037a\u037b\7t\2\2\u037b\u037c\7w\2\2\u037c\u037d\7g\2\2\u037d\u00de"+
-		"\3\2\2\2\u037e\u037f\7h\2\2\u037f\u0380\7c\2\2\u0380\u0381\7n\2\2\u0381"+
-		"\u0382\7u\2\2\u0382\u0383\7g\2\2\u0383\u00e0\3\2\2\2\u0384\u0389\7$\2"+
-		"\2\u0385\u0388\5\u00e3r\2\u0386\u0388\n\2\2\2\u0387\u0385\3\2\2\2\u0387"+
-		"\u0386\3\2\2\2\u0388\u038b\3\2\2\2\u0389\u0387\3\2\2\2\u0389\u038a\3\2"+
-		"\2\2\u038a\u038c\3\2\2\2\u038b\u0389\3\2\2\2\u038c\u038d\7$\2\2\u038d"+
-		"\u00e2\3\2\2\2\u038e\u0391\7^\2\2\u038f\u0392\t\3\2\2\u0390\u0392\5\u00e5"+
-		"s\2\u0391\u038f\3\2\2\2\u0391\u0390\3\2\2\2\u0392\u00e4\3\2\2\2\u0393"+
-		"\u0394\7w\2\2\u0394\u0395\5\u00e7t\2\u0395\u0396\5\u00e7t\2\u0396\u0397"+
-		"\5\u00e7t\2\u0397\u0398\5\u00e7t\2\u0398\u00e6\3\2\2\2\u0399\u039a\t\4"+
-		"\2\2\u039a\u00e8\3\2\2\2\u039b\u039c\7A\2\2\u039c\u00ea\3\2\2\2\u039d"+
-		"\u039e\7p\2\2\u039e\u039f\7w\2\2\u039f\u03a0\7n\2\2\u03a0\u03a1\7n\2\2"+
-		"\u03a1\u00ec\3\2\2\2\u03a2\u03a3\5\u00efx\2\u03a3\u00ee\3\2\2\2\u03a4"+
-		"\u03a8\5\u00f1y\2\u03a5\u03a8\5\u00f3z\2\u03a6\u03a8\5\u00f5{\2\u03a7"+
-		"\u03a4\3\2\2\2\u03a7\u03a5\3\2\2\2\u03a7\u03a6\3\2\2\2\u03a8\u00f0\3\2"+
-		"\2\2\u03a9\u03aa\5\u00f7|\2\u03aa\u00f2\3\2\2\2\u03ab\u03ac\7\60\2\2\u03ac"+
-		"\u03b6\5\u00f7|\2\u03ad\u03ae\5\u00f7|\2\u03ae\u03b2\7\60\2\2\u03af\u03b1"+
-		"\t\5\2\2\u03b0\u03af\3\2\2\2\u03b1\u03b4\3\2\2\2\u03b2\u03b0\3\2\2\2\u03b2"+
-		"\u03b3\3\2\2\2\u03b3\u03b6\3\2\2\2\u03b4\u03b2\3\2\2\2\u03b5\u03ab\3\2"+
-		"\2\2\u03b5\u03ad\3\2\2\2\u03b6\u00f4\3\2\2\2\u03b7\u03b8\7\60\2\2\u03b8"+
-		"\u03c4\5\u00f7|\2\u03b9\u03c1\5\u00f7|\2\u03ba\u03be\7\60\2\2\u03bb\u03bd"+
-		"\t\5\2\2\u03bc\u03bb\3\2\2\2\u03bd\u03c0\3\2\2\2\u03be\u03bc\3\2\2\2\u03be"+
-		"\u03bf\3\2\2\2\u03bf\u03c2\3\2\2\2\u03c0\u03be\3\2\2\2\u03c1\u03ba\3\2"+
-		"\2\2\u03c1\u03c2\3\2\2\2\u03c2\u03c4\3\2\2\2\u03c3\u03b7\3\2\2\2\u03c3"+
-		"\u03b9\3\2\2\2\u03c4\u03c5\3\2\2\2\u03c5\u03c7\t\6\2\2\u03c6\u03c8\t\7"+
-		"\2\2\u03c7\u03c6\3\2\2\2\u03c7\u03c8\3\2\2\2\u03c8\u03c9\3\2\2\2\u03c9"+
-		"\u03ca\5\u00f7|\2\u03ca\u00f6\3\2\2\2\u03cb\u03cd\t\5\2\2\u03cc\u03cb"+
-		"\3\2\2\2\u03cd\u03ce\3\2\2\2\u03ce\u03cc\3\2\2\2\u03ce\u03cf\3\2\2\2\u03cf"+
-		"\u00f8\3\2\2\2\u03d0\u03d1\t\b\2\2\u03d1\u03d2\3\2\2\2\u03d2\u03d3\b}"+
-		"\2\2\u03d3\u00fa\3\2\2\2\u03d4\u03d8\5\u00fd\177\2\u03d5\u03d7\5\u00ff"+
-		"\u0080\2\u03d6\u03d5\3\2\2\2\u03d7\u03da\3\2\2\2\u03d8\u03d6\3\2\2\2\u03d8"+
-		"\u03d9\3\2\2\2\u03d9\u00fc\3\2\2\2\u03da\u03d8\3\2\2\2\u03db\u03dd\t\t"+
-		"\2\2\u03dc\u03db\3\2\2\2\u03dd\u00fe\3\2\2\2\u03de\u03e1\5\u00fd\177\2"+
-		"\u03df\u03e1\t\n\2\2\u03e0\u03de\3\2\2\2\u03e0\u03df\3\2\2\2\u03e1\u0100"+
-		"\3\2\2\2\u03e2\u03e3\7*\2\2\u03e3\u03ec\7<\2\2\u03e4\u03eb\5\u0101\u0081"+
-		"\2\u03e5\u03e6\7*\2\2\u03e6\u03eb\n\13\2\2\u03e7\u03e8\7<\2\2\u03e8\u03eb"+
-		"\n\f\2\2\u03e9\u03eb\n\r\2\2\u03ea\u03e4\3\2\2\2\u03ea\u03e5\3\2\2\2\u03ea"+
-		"\u03e7\3\2\2\2\u03ea\u03e9\3\2\2\2\u03eb\u03ee\3\2\2\2\u03ec\u03ea\3\2"+
-		"\2\2\u03ec\u03ed\3\2\2\2\u03ed\u03f0\3\2\2\2\u03ee\u03ec\3\2\2\2\u03ef"+
-		"\u03f1\7<\2\2\u03f0\u03ef\3\2\2\2\u03f1\u03f2\3\2\2\2\u03f2\u03f0\3\2"+
-		"\2\2\u03f2\u03f3\3\2\2\2\u03f3\u03f4\3\2\2\2\u03f4\u03f5\7+\2\2\u03f5"+
-		"\u03f6\3\2\2\2\u03f6\u03f7\b\u0081\2\2\u03f7\u0102\3\2\2\2\u03f8\u03f9"+
-		"\n\16\2\2\u03f9\u0104\3\2\2\2\24\2\u0387\u0389\u0391\u03a7\u03b2\u03b5"+
-		"\u03be\u03c1\u03c3\u03c7\u03ce\u03d8\u03dc\u03e0\u03ea\u03ec\u03f2\3\2"+
-		"\3\2";
+		"\4\u0081\t\u0081\4\u0082\t\u0082\4\u0083\t\u0083\3\2\3\2\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\6\3\6"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3"+
+		"\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t"+
+		"\3\t\3\t\3\t\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3"+
+		"\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r"+
+		"\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3"+
+		"\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3"+
+		"\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3"+
+		"\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3"+
+		"\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3"+
+		"\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\27\3\27\3\27\3\27\3"+
+		"\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3"+
+		"\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3"+
+		"\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37\3 \3 \3 \3 \3 \3!\3!\3!\3!\3!\3"+
+		"!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3#\3#\3#\3$\3$\3$"+
+		"\3$\3$\3%\3%\3%\3%\3%\3%\3%\3&\3&\3\'\3\'\3(\3(\3)\3)\3)\3*\3*\3*\3+\3"+
+		"+\3+\3,\3,\3,\3-\3-\3-\3.\3.\3.\3/\3/\3/\3\60\3\60\3\61\3\61\3\61\3\62"+
+		"\3\62\3\63\3\63\3\63\3\64\3\64\3\64\3\65\3\65\3\66\3\66\3\67\3\67\3\67"+
+		"\3\67\38\38\38\38\38\39\39\39\39\3:\3:\3:\3:\3:\3:\3:\3:\3:\3;\3;\3<\3"+
+		"<\3=\3=\3>\3>\3?\3?\3?\3@\3@\3A\3A\3A\3B\3B\3B\3C\3C\3C\3C\3D\3D\3D\3"+
+		"D\3E\3E\3E\3E\3E\3E\3F\3F\3F\3F\3F\3F\3G\3G\3G\3H\3H\3H\3H\3H\3H\3I\3"+
+		"I\3I\3I\3I\3I\3I\3J\3J\3J\3K\3K\3K\3L\3L\3L\3M\3M\3M\3N\3N\3N\3N\3N\3"+
+		"N\3N\3N\3N\3O\3O\3O\3O\3O\3O\3P\3P\3P\3P\3P\3P\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3"+
+		"R\3R\3R\3R\3R\3R\3R\3R\3R\3R\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3T\3T\3"+
+		"T\3T\3T\3U\3U\3U\3U\3U\3U\3V\3V\3V\3V\3V\3V\3V\3V\3V\3V\3W\3W\3W\3W\3"+
+		"W\3W\3W\3W\3W\3W\3X\3X\3X\3X\3X\3X\3X\3X\3X\3Y\3Y\3Y\3Y\3Y\3Y\3Z\3Z\3"+
+		"Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3]\3]\3^\3^\3"+
+		"^\3^\3^\3^\3^\3^\3_\3_\3_\3_\3_\3`\3`\3`\3`\3`\3a\3a\3a\3a\3a\3a\3a\3"+
+		"a\3a\3a\3a\3b\3b\3b\3c\3c\3c\3c\3d\3d\3d\3d\3e\3e\3e\3f\3f\3f\3f\3f\3"+
+		"f\3f\3f\3f\3g\3g\3g\3h\3h\3h\3h\3h\3h\3h\3h\3h\3h\3h\3i\3i\3i\3j\3j\3"+
+		"j\3j\3j\3j\3k\3k\3k\3k\3k\3l\3l\3l\3l\3l\3l\3l\3l\3l\3m\3m\3m\3m\3m\3"+
+		"m\3m\3m\3n\3n\3n\3n\3n\3n\3n\3o\3o\3o\3o\3o\3o\3o\3o\3o\3o\3p\3p\3p\3"+
+		"p\3p\3q\3q\3q\3q\3q\3q\3r\3r\3r\7r\u038c\nr\fr\16r\u038f\13r\3r\3r\3s"+
+		"\3s\3s\5s\u0396\ns\3t\3t\3t\3t\3t\3t\3u\3u\3v\3v\3w\3w\3w\3w\3w\3x\3x"+
+		"\3y\3y\3y\5y\u03ac\ny\3z\3z\3{\3{\3{\3{\3{\7{\u03b5\n{\f{\16{\u03b8\13"+
+		"{\5{\u03ba\n{\3|\3|\3|\3|\3|\7|\u03c1\n|\f|\16|\u03c4\13|\5|\u03c6\n|"+
+		"\5|\u03c8\n|\3|\3|\5|\u03cc\n|\3|\3|\3}\6}\u03d1\n}\r}\16}\u03d2\3~\3"+
+		"~\3~\3~\3\177\3\177\7\177\u03db\n\177\f\177\16\177\u03de\13\177\3\u0080"+
+		"\5\u0080\u03e1\n\u0080\3\u0081\3\u0081\5\u0081\u03e5\n\u0081\3\u0082\3"+
+		"\u0082\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082\7\u0082\u03ef\n"+
+		"\u0082\f\u0082\16\u0082\u03f2\13\u0082\3\u0082\6\u0082\u03f5\n\u0082\r"+
+		"\u0082\16\u0082\u03f6\3\u0082\3\u0082\3\u0082\3\u0082\3\u0083\3\u0083"+
+		"\2\2\u0084\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33"+
+		"\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67"+
+		"\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65"+
+		"i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081B\u0083C\u0085D\u0087E\u0089F\u008b"+
+		"G\u008dH\u008fI\u0091J\u0093K\u0095L\u0097M\u0099N\u009bO\u009dP\u009f"+
+		"Q\u00a1R\u00a3S\u00a5T\u00a7U\u00a9V\u00abW\u00adX\u00afY\u00b1Z\u00b3"+
+		"[\u00b5\\\u00b7]\u00b9^\u00bb_\u00bd`\u00bfa\u00c1b\u00c3c\u00c5d\u00c7"+
+		"e\u00c9f\u00cbg\u00cdh\u00cfi\u00d1j\u00d3k\u00d5l\u00d7m\u00d9n\u00db"+
+		"o\u00ddp\u00dfq\u00e1r\u00e3s\u00e5\2\u00e7\2\u00e9\2\u00ebt\u00edu\u00ef"+
+		"v\u00f1w\u00f3x\u00f5y\u00f7z\u00f9\2\u00fb{\u00fd|\u00ff\2\u0101\2\u0103"+
+		"}\u0105~\3\2\17\4\2$$^^\n\2$$\61\61^^ddhhppttvv\5\2\62;CHch\3\2\62;\4"+
+		"\2GGgg\4\2--//\5\2\13\f\17\17\"\"\20\2C\\aac|\u00c2\u00d8\u00da\u00f8"+
+		"\u00fa\u0301\u0372\u037f\u0381\u2001\u200e\u200f\u2072\u2191\u2c02\u2ff1"+
+		"\u3003\ud801\uf902\ufdd1\ufdf2\uffff\7\2//\62;\u00b9\u00b9\u0302\u0371"+
+		"\u2041\u2042\3\2<<\3\2++\4\2**<<\7\2$$()>>}}\177\177\2\u040a\2\3\3\2\2"+
+		"\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3"+
+		"\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2"+
+		"\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2"+
+		"\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2"+
+		"\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3"+
+		"\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2"+
+		"\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2"+
+		"W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3"+
+		"\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2"+
+		"\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2"+
+		"}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2"+
+		"\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f"+
+		"\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2"+
+		"\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1"+
+		"\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7\3\2\2\2\2\u00a9\3\2\2"+
+		"\2\2\u00ab\3\2\2\2\2\u00ad\3\2\2\2\2\u00af\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3"+
+		"\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7\3\2\2\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2"+
+		"\2\2\u00bd\3\2\2\2\2\u00bf\3\2\2\2\2\u00c1\3\2\2\2\2\u00c3\3\2\2\2\2\u00c5"+
+		"\3\2\2\2\2\u00c7\3\2\2\2\2\u00c9\3\2\2\2\2\u00cb\3\2\2\2\2\u00cd\3\2\2"+
+		"\2\2\u00cf\3\2\2\2\2\u00d1\3\2\2\2\2\u00d3\3\2\2\2\2\u00d5\3\2\2\2\2\u00d7"+
+		"\3\2\2\2\2\u00d9\3\2\2\2\2\u00db\3\2\2\2\2\u00dd\3\2\2\2\2\u00df\3\2\2"+
+		"\2\2\u00e1\3\2\2\2\2\u00e3\3\2\2\2\2\u00eb\3\2\2\2\2\u00ed\3\2\2\2\2\u00ef"+
+		"\3\2\2\2\2\u00f1\3\2\2\2\2\u00f3\3\2\2\2\2\u00f5\3\2\2\2\2\u00f7\3\2\2"+
+		"\2\2\u00fb\3\2\2\2\2\u00fd\3\2\2\2\2\u0103\3\2\2\2\2\u0105\3\2\2\2\3\u0107"+
+		"\3\2\2\2\5\u0109\3\2\2\2\7\u0110\3\2\2\2\t\u011a\3\2\2\2\13\u011c\3\2"+
+		"\2\2\r\u0124\3\2\2\2\17\u012d\3\2\2\2\21\u0135\3\2\2\2\23\u0144\3\2\2"+
+		"\2\25\u0146\3\2\2\2\27\u0158\3\2\2\2\31\u016b\3\2\2\2\33\u0174\3\2\2\2"+
+		"\35\u017f\3\2\2\2\37\u0183\3\2\2\2!\u018b\3\2\2\2#\u0195\3\2\2\2%\u01a0"+
+		"\3\2\2\2\'\u01a6\3\2\2\2)\u01b8\3\2\2\2+\u01bf\3\2\2\2-\u01c1\3\2\2\2"+
+		"/\u01ca\3\2\2\2\61\u01cd\3\2\2\2\63\u01d6\3\2\2\2\65\u01df\3\2\2\2\67"+
+		"\u01e1\3\2\2\29\u01e3\3\2\2\2;\u01e5\3\2\2\2=\u01e7\3\2\2\2?\u01e9\3\2"+
+		"\2\2A\u01ee\3\2\2\2C\u01f5\3\2\2\2E\u01fd\3\2\2\2G\u0205\3\2\2\2I\u020a"+
+		"\3\2\2\2K\u0211\3\2\2\2M\u0213\3\2\2\2O\u0215\3\2\2\2Q\u0217\3\2\2\2S"+
+		"\u021a\3\2\2\2U\u021d\3\2\2\2W\u0220\3\2\2\2Y\u0223\3\2\2\2[\u0226\3\2"+
+		"\2\2]\u0229\3\2\2\2_\u022c\3\2\2\2a\u022e\3\2\2\2c\u0231\3\2\2\2e\u0233"+
+		"\3\2\2\2g\u0236\3\2\2\2i\u0239\3\2\2\2k\u023b\3\2\2\2m\u023d\3\2\2\2o"+
+		"\u0241\3\2\2\2q\u0246\3\2\2\2s\u024a\3\2\2\2u\u0253\3\2\2\2w\u0255\3\2"+
+		"\2\2y\u0257\3\2\2\2{\u0259\3\2\2\2}\u025b\3\2\2\2\177\u025e\3\2\2\2\u0081"+
+		"\u0260\3\2\2\2\u0083\u0263\3\2\2\2\u0085\u0266\3\2\2\2\u0087\u026a\3\2"+
+		"\2\2\u0089\u026e\3\2\2\2\u008b\u0274\3\2\2\2\u008d\u027a\3\2\2\2\u008f"+
+		"\u027d\3\2\2\2\u0091\u0283\3\2\2\2\u0093\u028a\3\2\2\2\u0095\u028d\3\2"+
+		"\2\2\u0097\u0290\3\2\2\2\u0099\u0293\3\2\2\2\u009b\u0296\3\2\2\2\u009d"+
+		"\u029f\3\2\2\2\u009f\u02a5\3\2\2\2\u00a1\u02ab\3\2\2\2\u00a3\u02b2\3\2"+
+		"\2\2\u00a5\u02bc\3\2\2\2\u00a7\u02c7\3\2\2\2\u00a9\u02cc\3\2\2\2\u00ab"+
+		"\u02d2\3\2\2\2\u00ad\u02dc\3\2\2\2\u00af\u02e6\3\2\2\2\u00b1\u02ef\3\2"+
+		"\2\2\u00b3\u02f5\3\2\2\2\u00b5\u02fc\3\2\2\2\u00b7\u0301\3\2\2\2\u00b9"+
+		"\u0305\3\2\2\2\u00bb\u030b\3\2\2\2\u00bd\u0313\3\2\2\2\u00bf\u0318\3\2"+
+		"\2\2\u00c1\u031d\3\2\2\2\u00c3\u0328\3\2\2\2\u00c5\u032b\3\2\2\2\u00c7"+
+		"\u032f\3\2\2\2\u00c9\u0333\3\2\2\2\u00cb\u0336\3\2\2\2\u00cd\u033f\3\2"+
+		"\2\2\u00cf\u0342\3\2\2\2\u00d1\u034d\3\2\2\2\u00d3\u0350\3\2\2\2\u00d5"+
+		"\u0356\3\2\2\2\u00d7\u035b\3\2\2\2\u00d9\u0364\3\2\2\2\u00db\u036c\3\2"+
+		"\2\2\u00dd\u0373\3\2\2\2\u00df\u037d\3\2\2\2\u00e1\u0382\3\2\2\2\u00e3"+
+		"\u0388\3\2\2\2\u00e5\u0392\3\2\2\2\u00e7\u0397\3\2\2\2\u00e9\u039d\3\2"+
+		"\2\2\u00eb\u039f\3\2\2\2\u00ed\u03a1\3\2\2\2\u00ef\u03a6\3\2\2\2\u00f1"+
+		"\u03ab\3\2\2\2\u00f3\u03ad\3\2\2\2\u00f5\u03b9\3\2\2\2\u00f7\u03c7\3\2"+
+		"\2\2\u00f9\u03d0\3\2\2\2\u00fb\u03d4\3\2\2\2\u00fd\u03d8\3\2\2\2\u00ff"+
+		"\u03e0\3\2\2\2\u0101\u03e4\3\2\2\2\u0103\u03e6\3\2\2\2\u0105\u03fc\3\2"+
+		"\2\2\u0107\u0108\7=\2\2\u0108\4\3\2\2\2\u0109\u010a\7o\2\2\u010a\u010b"+
+		"\7q\2\2\u010b\u010c\7f\2\2\u010c\u010d\7w\2\2\u010d\u010e\7n\2\2\u010e"+
+		"\u010f\7g\2\2\u010f\6\3\2\2\2\u0110\u0111\7p\2\2\u0111\u0112\7c\2\2\u0112"+
+		"\u0113\7o\2\2\u0113\u0114\7g\2\2\u0114\u0115\7u\2\2\u0115\u0116\7r\2\2"+
+		"\u0116\u0117\7c\2\2\u0117\u0118\7e\2\2\u0118\u0119\7g\2\2\u0119\b\3\2"+
+		"\2\2\u011a\u011b\7?\2\2\u011b\n\3\2\2\2\u011c\u011d\7f\2\2\u011d\u011e"+
+		"\7g\2\2\u011e\u011f\7e\2\2\u011f\u0120\7n\2\2\u0120\u0121\7c\2\2\u0121"+
+		"\u0122\7t\2\2\u0122\u0123\7g\2\2\u0123\f\3\2\2\2\u0124\u0125\7q\2\2\u0125"+
+		"\u0126\7t\2\2\u0126\u0127\7f\2\2\u0127\u0128\7g\2\2\u0128\u0129\7t\2\2"+
+		"\u0129\u012a\7k\2\2\u012a\u012b\7p\2\2\u012b\u012c\7i\2\2\u012c\16\3\2"+
+		"\2\2\u012d\u012e\7q\2\2\u012e\u012f\7t\2\2\u012f\u0130\7f\2\2\u0130\u0131"+
+		"\7g\2\2\u0131\u0132\7t\2\2\u0132\u0133\7g\2\2\u0133\u0134\7f\2\2\u0134"+
+		"\20\3\2\2\2\u0135\u0136\7f\2\2\u0136\u0137\7g\2\2\u0137\u0138\7e\2\2\u0138"+
+		"\u0139\7k\2\2\u0139\u013a\7o\2\2\u013a\u013b\7c\2\2\u013b\u013c\7n\2\2"+
+		"\u013c\u013d\7/\2\2\u013d\u013e\7h\2\2\u013e\u013f\7q\2\2\u013f\u0140"+
+		"\7t\2\2\u0140\u0141\7o\2\2\u0141\u0142\7c\2\2\u0142\u0143\7v\2\2\u0143"+
+		"\22\3\2\2\2\u0144\u0145\7<\2\2\u0145\24\3\2\2\2\u0146\u0147\7f\2\2\u0147"+
+		"\u0148\7g\2\2\u0148\u0149\7e\2\2\u0149\u014a\7k\2\2\u014a\u014b\7o\2\2"+
+		"\u014b\u014c\7c\2\2\u014c\u014d\7n\2\2\u014d\u014e\7/\2\2\u014e\u014f"+
+		"\7u\2\2\u014f\u0150\7g\2\2\u0150\u0151\7r\2\2\u0151\u0152\7c\2\2\u0152"+
+		"\u0153\7t\2\2\u0153\u0154\7c\2\2\u0154\u0155\7v\2\2\u0155\u0156\7q\2\2"+
+		"\u0156\u0157\7t\2\2\u0157\26\3\2\2\2\u0158\u0159\7i\2\2\u0159\u015a\7"+
+		"t\2\2\u015a\u015b\7q\2\2\u015b\u015c\7w\2\2\u015c\u015d\7r\2\2\u015d\u015e"+
+		"\7k\2\2\u015e\u015f\7p\2\2\u015f\u0160\7i\2\2\u0160\u0161\7/\2\2\u0161"+
+		"\u0162\7u\2\2\u0162\u0163\7g\2\2\u0163\u0164\7r\2\2\u0164\u0165\7c\2\2"+
+		"\u0165\u0166\7t\2\2\u0166\u0167\7c\2\2\u0167\u0168\7v\2\2\u0168\u0169"+
+		"\7q\2\2\u0169\u016a\7t\2\2\u016a\30\3\2\2\2\u016b\u016c\7k\2\2\u016c\u016d"+
+		"\7p\2\2\u016d\u016e\7h\2\2\u016e\u016f\7k\2\2\u016f\u0170\7p\2\2\u0170"+
+		"\u0171\7k\2\2\u0171\u0172\7v\2\2\u0172\u0173\7{\2\2\u0173\32\3\2\2\2\u0174"+
+		"\u0175\7o\2\2\u0175\u0176\7k\2\2\u0176\u0177\7p\2\2\u0177\u0178\7w\2\2"+
+		"\u0178\u0179\7u\2\2\u0179\u017a\7/\2\2\u017a\u017b\7u\2\2\u017b\u017c"+
+		"\7k\2\2\u017c\u017d\7i\2\2\u017d\u017e\7p\2\2\u017e\34\3\2\2\2\u017f\u0180"+
+		"\7P\2\2\u0180\u0181\7c\2\2\u0181\u0182\7P\2\2\u0182\36\3\2\2\2\u0183\u0184"+
+		"\7r\2\2\u0184\u0185\7g\2\2\u0185\u0186\7t\2\2\u0186\u0187\7e\2\2\u0187"+
+		"\u0188\7g\2\2\u0188\u0189\7p\2\2\u0189\u018a\7v\2\2\u018a \3\2\2\2\u018b"+
+		"\u018c\7r\2\2\u018c\u018d\7g\2\2\u018d\u018e\7t\2\2\u018e\u018f\7/\2\2"+
+		"\u018f\u0190\7o\2\2\u0190\u0191\7k\2\2\u0191\u0192\7n\2\2\u0192\u0193"+
+		"\7n\2\2\u0193\u0194\7g\2\2\u0194\"\3\2\2\2\u0195\u0196\7|\2\2\u0196\u0197"+
+		"\7g\2\2\u0197\u0198\7t\2\2\u0198\u0199\7q\2\2\u0199\u019a\7/\2\2\u019a"+
+		"\u019b\7f\2\2\u019b\u019c\7k\2\2\u019c\u019d\7i\2\2\u019d\u019e\7k\2\2"+
+		"\u019e\u019f\7v\2\2\u019f$\3\2\2\2\u01a0\u01a1\7f\2\2\u01a1\u01a2\7k\2"+
+		"\2\u01a2\u01a3\7i\2\2\u01a3\u01a4\7k\2\2\u01a4\u01a5\7v\2\2\u01a5&\3\2"+
+		"\2\2\u01a6\u01a7\7r\2\2\u01a7\u01a8\7c\2\2\u01a8\u01a9\7v\2\2\u01a9\u01aa"+
+		"\7v\2\2\u01aa\u01ab\7g\2\2\u01ab\u01ac\7t\2\2\u01ac\u01ad\7p\2\2\u01ad"+
+		"\u01ae\7/\2\2\u01ae\u01af\7u\2\2\u01af\u01b0\7g\2\2\u01b0\u01b1\7r\2\2"+
+		"\u01b1\u01b2\7c\2\2\u01b2\u01b3\7t\2\2\u01b3\u01b4\7c\2\2\u01b4\u01b5"+
+		"\7v\2\2\u01b5\u01b6\7q\2\2\u01b6\u01b7\7t\2\2\u01b7(\3\2\2\2\u01b8\u01b9"+
+		"\7k\2\2\u01b9\u01ba\7o\2\2\u01ba\u01bb\7r\2\2\u01bb\u01bc\7q\2\2\u01bc"+
+		"\u01bd\7t\2\2\u01bd\u01be\7v\2\2\u01be*\3\2\2\2\u01bf\u01c0\7.\2\2\u01c0"+
+		",\3\2\2\2\u01c1\u01c2\7x\2\2\u01c2\u01c3\7c\2\2\u01c3\u01c4\7t\2\2\u01c4"+
+		"\u01c5\7k\2\2\u01c5\u01c6\7c\2\2\u01c6\u01c7\7d\2\2\u01c7\u01c8\7n\2\2"+
+		"\u01c8\u01c9\7g\2\2\u01c9.\3\2\2\2\u01ca\u01cb\7<\2\2\u01cb\u01cc\7?\2"+
+		"\2\u01cc\60\3\2\2\2\u01cd\u01ce\7g\2\2\u01ce\u01cf\7z\2\2\u01cf\u01d0"+
+		"\7v\2\2\u01d0\u01d1\7g\2\2\u01d1\u01d2\7t\2\2\u01d2\u01d3\7p\2\2\u01d3"+
+		"\u01d4\7c\2\2\u01d4\u01d5\7n\2\2\u01d5\62\3\2\2\2\u01d6\u01d7\7h\2\2\u01d7"+
+		"\u01d8\7w\2\2\u01d8\u01d9\7p\2\2\u01d9\u01da\7e\2\2\u01da\u01db\7v\2\2"+
+		"\u01db\u01dc\7k\2\2\u01dc\u01dd\7q\2\2\u01dd\u01de\7p\2\2\u01de\64\3\2"+
+		"\2\2\u01df\u01e0\7*\2\2\u01e0\66\3\2\2\2\u01e1\u01e2\7+\2\2\u01e28\3\2"+
+		"\2\2\u01e3\u01e4\7}\2\2\u01e4:\3\2\2\2\u01e5\u01e6\7\177\2\2\u01e6<\3"+
+		"\2\2\2\u01e7\u01e8\7\'\2\2\u01e8>\3\2\2\2\u01e9\u01ea\7v\2\2\u01ea\u01eb"+
+		"\7{\2\2\u01eb\u01ec\7r\2\2\u01ec\u01ed\7g\2\2\u01ed@\3\2\2\2\u01ee\u01ef"+
+		"\7l\2\2\u01ef\u01f0\7u\2\2\u01f0\u01f1\7q\2\2\u01f1\u01f2\7w\2\2\u01f2"+
+		"\u01f3\7p\2\2\u01f3\u01f4\7f\2\2\u01f4B\3\2\2\2\u01f5\u01f6\7e\2\2\u01f6"+
+		"\u01f7\7q\2\2\u01f7\u01f8\7o\2\2\u01f8\u01f9\7r\2\2\u01f9\u01fa\7c\2\2"+
+		"\u01fa\u01fb\7e\2\2\u01fb\u01fc\7v\2\2\u01fcD\3\2\2\2\u01fd\u01fe\7x\2"+
+		"\2\u01fe\u01ff\7g\2\2\u01ff\u0200\7t\2\2\u0200\u0201\7d\2\2\u0201\u0202"+
+		"\7q\2\2\u0202\u0203\7u\2\2\u0203\u0204\7g\2\2\u0204F\3\2\2\2\u0205\u0206"+
+		"\7l\2\2\u0206\u0207\7u\2\2\u0207\u0208\7q\2\2\u0208\u0209\7p\2\2\u0209"+
+		"H\3\2\2\2\u020a\u020b\7u\2\2\u020b\u020c\7e\2\2\u020c\u020d\7j\2\2\u020d"+
+		"\u020e\7g\2\2\u020e\u020f\7o\2\2\u020f\u0210\7c\2\2\u0210J\3\2\2\2\u0211"+
+		"\u0212\7&\2\2\u0212L\3\2\2\2\u0213\u0214\7~\2\2\u0214N\3\2\2\2\u0215\u0216"+
+		"\7,\2\2\u0216P\3\2\2\2\u0217\u0218\7g\2\2\u0218\u0219\7s\2\2\u0219R\3"+
+		"\2\2\2\u021a\u021b\7p\2\2\u021b\u021c\7g\2\2\u021cT\3\2\2\2\u021d\u021e"+
+		"\7n\2\2\u021e\u021f\7v\2\2\u021fV\3\2\2\2\u0220\u0221\7n\2\2\u0221\u0222"+
+		"\7g\2\2\u0222X\3\2\2\2\u0223\u0224\7i\2\2\u0224\u0225\7v\2\2\u0225Z\3"+
+		"\2\2\2\u0226\u0227\7i\2\2\u0227\u0228\7g\2\2\u0228\\\3\2\2\2\u0229\u022a"+
+		"\7#\2\2\u022a\u022b\7?\2\2\u022b^\3\2\2\2\u022c\u022d\7>\2\2\u022d`\3"+
+		"\2\2\2\u022e\u022f\7>\2\2\u022f\u0230\7?\2\2\u0230b\3\2\2\2\u0231\u0232"+
+		"\7@\2\2\u0232d\3\2\2\2\u0233\u0234\7@\2\2\u0234\u0235\7?\2\2\u0235f\3"+
+		"\2\2\2\u0236\u0237\7~\2\2\u0237\u0238\7~\2\2\u0238h\3\2\2\2\u0239\u023a"+
+		"\7-\2\2\u023aj\3\2\2\2\u023b\u023c\7/\2\2\u023cl\3\2\2\2\u023d\u023e\7"+
+		"f\2\2\u023e\u023f\7k\2\2\u023f\u0240\7x\2\2\u0240n\3\2\2\2\u0241\u0242"+
+		"\7k\2\2\u0242\u0243\7f\2\2\u0243\u0244\7k\2\2\u0244\u0245\7x\2\2\u0245"+
+		"p\3\2\2\2\u0246\u0247\7o\2\2\u0247\u0248\7q\2\2\u0248\u0249\7f\2\2\u0249"+
+		"r\3\2\2\2\u024a\u024b\7x\2\2\u024b\u024c\7c\2\2\u024c\u024d\7n\2\2\u024d"+
+		"\u024e\7k\2\2\u024e\u024f\7f\2\2\u024f\u0250\7c\2\2\u0250\u0251\7v\2\2"+
+		"\u0251\u0252\7g\2\2\u0252t\3\2\2\2\u0253\u0254\7#\2\2\u0254v\3\2\2\2\u0255"+
+		"\u0256\7]\2\2\u0256x\3\2\2\2\u0257\u0258\7_\2\2\u0258z\3\2\2\2\u0259\u025a"+
+		"\7\60\2\2\u025a|\3\2\2\2\u025b\u025c\7&\2\2\u025c\u025d\7&\2\2\u025d~"+
+		"\3\2\2\2\u025e\u025f\7%\2\2\u025f\u0080\3\2\2\2\u0260\u0261\7}\2\2\u0261"+
+		"\u0262\7~\2\2\u0262\u0082\3\2\2\2\u0263\u0264\7~\2\2\u0264\u0265\7\177"+
+		"\2\2\u0265\u0084\3\2\2\2\u0266\u0267\7h\2\2\u0267\u0268\7q\2\2\u0268\u0269"+
+		"\7t\2\2\u0269\u0086\3\2\2\2\u026a\u026b\7n\2\2\u026b\u026c\7g\2\2\u026c"+
+		"\u026d\7v\2\2\u026d\u0088\3\2\2\2\u026e\u026f\7y\2\2\u026f\u0270\7j\2"+
+		"\2\u0270\u0271\7g\2\2\u0271\u0272\7t\2\2\u0272\u0273\7g\2\2\u0273\u008a"+
+		"\3\2\2\2\u0274\u0275\7i\2\2\u0275\u0276\7t\2\2\u0276\u0277\7q\2\2\u0277"+
+		"\u0278\7w\2\2\u0278\u0279\7r\2\2\u0279\u008c\3\2\2\2\u027a\u027b\7d\2"+
+		"\2\u027b\u027c\7{\2\2\u027c\u008e\3\2\2\2\u027d\u027e\7q\2\2\u027e\u027f"+
+		"\7t\2\2\u027f\u0280\7f\2\2\u0280\u0281\7g\2\2\u0281\u0282\7t\2\2\u0282"+
+		"\u0090\3\2\2\2\u0283\u0284\7t\2\2\u0284\u0285\7g\2\2\u0285\u0286\7v\2"+
+		"\2\u0286\u0287\7w\2\2\u0287\u0288\7t\2\2\u0288\u0289\7p\2\2\u0289\u0092"+
+		"\3\2\2\2\u028a\u028b\7k\2\2\u028b\u028c\7h\2\2\u028c\u0094\3\2\2\2\u028d"+
+		"\u028e\7k\2\2\u028e\u028f\7p\2\2\u028f\u0096\3\2\2\2\u0290\u0291\7c\2"+
+		"\2\u0291\u0292\7u\2\2\u0292\u0098\3\2\2\2\u0293\u0294\7c\2\2\u0294\u0295"+
+		"\7v\2\2\u0295\u009a\3\2\2\2\u0296\u0297\7c\2\2\u0297\u0298\7n\2\2\u0298"+
+		"\u0299\7n\2\2\u0299\u029a\7q\2\2\u029a\u029b\7y\2\2\u029b\u029c\7k\2\2"+
+		"\u029c\u029d\7p\2\2\u029d\u029e\7i\2\2\u029e\u009c\3\2\2\2\u029f\u02a0"+
+		"\7g\2\2\u02a0\u02a1\7o\2\2\u02a1\u02a2\7r\2\2\u02a2\u02a3\7v\2\2\u02a3"+
+		"\u02a4\7{\2\2\u02a4\u009e\3\2\2\2\u02a5\u02a6\7e\2\2\u02a6\u02a7\7q\2"+
+		"\2\u02a7\u02a8\7w\2\2\u02a8\u02a9\7p\2\2\u02a9\u02aa\7v\2\2\u02aa\u00a0"+
+		"\3\2\2\2\u02ab\u02ac\7u\2\2\u02ac\u02ad\7v\2\2\u02ad\u02ae\7c\2\2\u02ae"+
+		"\u02af\7d\2\2\u02af\u02b0\7n\2\2\u02b0\u02b1\7g\2\2\u02b1\u00a2\3\2\2"+
+		"\2\u02b2\u02b3\7c\2\2\u02b3\u02b4\7u\2\2\u02b4\u02b5\7e\2\2\u02b5\u02b6"+
+		"\7g\2\2\u02b6\u02b7\7p\2\2\u02b7\u02b8\7f\2\2\u02b8\u02b9\7k\2\2\u02b9"+
+		"\u02ba\7p\2\2\u02ba\u02bb\7i\2\2\u02bb\u00a4\3\2\2\2\u02bc\u02bd\7f\2"+
+		"\2\u02bd\u02be\7g\2\2\u02be\u02bf\7u\2\2\u02bf\u02c0\7e\2\2\u02c0\u02c1"+
+		"\7g\2\2\u02c1\u02c2\7p\2\2\u02c2\u02c3\7f\2\2\u02c3\u02c4\7k\2\2\u02c4"+
+		"\u02c5\7p\2\2\u02c5\u02c6\7i\2\2\u02c6\u00a6\3\2\2\2\u02c7\u02c8\7u\2"+
+		"\2\u02c8\u02c9\7q\2\2\u02c9\u02ca\7o\2\2\u02ca\u02cb\7g\2\2\u02cb\u00a8"+
+		"\3\2\2\2\u02cc\u02cd\7g\2\2\u02cd\u02ce\7x\2\2\u02ce\u02cf\7g\2\2\u02cf"+
+		"\u02d0\7t\2\2\u02d0\u02d1\7{\2\2\u02d1\u00aa\3\2\2\2\u02d2\u02d3\7u\2"+
+		"\2\u02d3\u02d4\7c\2\2\u02d4\u02d5\7v\2\2\u02d5\u02d6\7k\2\2\u02d6\u02d7"+
+		"\7u\2\2\u02d7\u02d8\7h\2\2\u02d8\u02d9\7k\2\2\u02d9\u02da\7g\2\2\u02da"+
+		"\u02db\7u\2\2\u02db\u00ac\3\2\2\2\u02dc\u02dd\7e\2\2\u02dd\u02de\7q\2"+
+		"\2\u02de\u02df\7n\2\2\u02df\u02e0\7n\2\2\u02e0\u02e1\7c\2\2\u02e1\u02e2"+
+		"\7v\2\2\u02e2\u02e3\7k\2\2\u02e3\u02e4\7q\2\2\u02e4\u02e5\7p\2\2\u02e5"+
+		"\u00ae\3\2\2\2\u02e6\u02e7\7i\2\2\u02e7\u02e8\7t\2\2\u02e8\u02e9\7g\2"+
+		"\2\u02e9\u02ea\7c\2\2\u02ea\u02eb\7v\2\2\u02eb\u02ec\7g\2\2\u02ec\u02ed"+
+		"\7u\2\2\u02ed\u02ee\7v\2\2\u02ee\u00b0\3\2\2\2\u02ef\u02f0\7n\2\2\u02f0"+
+		"\u02f1\7g\2\2\u02f1\u02f2\7c\2\2\u02f2\u02f3\7u\2\2\u02f3\u02f4\7v\2\2"+
+		"\u02f4\u00b2\3\2\2\2\u02f5\u02f6\7u\2\2\u02f6\u02f7\7y\2\2\u02f7\u02f8"+
+		"\7k\2\2\u02f8\u02f9\7v\2\2\u02f9\u02fa\7e\2\2\u02fa\u02fb\7j\2\2\u02fb"+
+		"\u00b4\3\2\2\2\u02fc\u02fd\7e\2\2\u02fd\u02fe\7c\2\2\u02fe\u02ff\7u\2"+
+		"\2\u02ff\u0300\7g\2\2\u0300\u00b6\3\2\2\2\u0301\u0302\7v\2\2\u0302\u0303"+
+		"\7t\2\2\u0303\u0304\7{\2\2\u0304\u00b8\3\2\2\2\u0305\u0306\7e\2\2\u0306"+
+		"\u0307\7c\2\2\u0307\u0308\7v\2\2\u0308\u0309\7e\2\2\u0309\u030a\7j\2\2"+
+		"\u030a\u00ba\3\2\2\2\u030b\u030c\7f\2\2\u030c\u030d\7g\2\2\u030d\u030e"+
+		"\7h\2\2\u030e\u030f\7c\2\2\u030f\u0310\7w\2\2\u0310\u0311\7n\2\2\u0311"+
+		"\u0312\7v\2\2\u0312\u00bc\3\2\2\2\u0313\u0314\7v\2\2\u0314\u0315\7j\2"+
+		"\2\u0315\u0316\7g\2\2\u0316\u0317\7p\2\2\u0317\u00be\3\2\2\2\u0318\u0319"+
+		"\7g\2\2\u0319\u031a\7n\2\2\u031a\u031b\7u\2\2\u031b\u031c\7g\2\2\u031c"+
+		"\u00c0\3\2\2\2\u031d\u031e\7v\2\2\u031e\u031f\7{\2\2\u031f\u0320\7r\2"+
+		"\2\u0320\u0321\7g\2\2\u0321\u0322\7u\2\2\u0322\u0323\7y\2\2\u0323\u0324"+
+		"\7k\2\2\u0324\u0325\7v\2\2\u0325\u0326\7e\2\2\u0326\u0327\7j\2\2\u0327"+
+		"\u00c2\3\2\2\2\u0328\u0329\7q\2\2\u0329\u032a\7t\2\2\u032a\u00c4\3\2\2"+
+		"\2\u032b\u032c\7c\2\2\u032c\u032d\7p\2\2\u032d\u032e\7f\2\2\u032e\u00c6"+
+		"\3\2\2\2\u032f\u0330\7p\2\2\u0330\u0331\7q\2\2\u0331\u0332\7v\2\2\u0332"+
+		"\u00c8\3\2\2\2\u0333\u0334\7v\2\2\u0334\u0335\7q\2\2\u0335\u00ca\3\2\2"+
+		"\2\u0336\u0337\7k\2\2\u0337\u0338\7p\2\2\u0338\u0339\7u\2\2\u0339\u033a"+
+		"\7v\2\2\u033a\u033b\7c\2\2\u033b\u033c\7p\2\2\u033c\u033d\7e\2\2\u033d"+
+		"\u033e\7g\2\2\u033e\u00cc\3\2\2\2\u033f\u0340\7q\2\2\u0340\u0341\7h\2"+
+		"\2\u0341\u00ce\3\2\2\2\u0342\u0343\7u\2\2\u0343\u0344\7v\2\2\u0344\u0345"+
+		"\7c\2\2\u0345\u0346\7v\2\2\u0346\u0347\7k\2\2\u0347\u0348\7e\2\2\u0348"+
+		"\u0349\7c\2\2\u0349\u034a\7n\2\2\u034a\u034b\7n\2\2\u034b\u034c\7{\2\2"+
+		"\u034c\u00d0\3\2\2\2\u034d\u034e\7k\2\2\u034e\u034f\7u\2\2\u034f\u00d2"+
+		"\3\2\2\2\u0350\u0351\7v\2\2\u0351\u0352\7t\2\2\u0352\u0353\7g\2\2\u0353"+
+		"\u0354\7c\2\2\u0354\u0355\7v\2\2\u0355\u00d4\3\2\2\2\u0356\u0357\7e\2"+
+		"\2\u0357\u0358\7c\2\2\u0358\u0359\7u\2\2\u0359\u035a\7v\2\2\u035a\u00d6"+
+		"\3\2\2\2\u035b\u035c\7e\2\2\u035c\u035d\7c\2\2\u035d\u035e\7u\2\2\u035e"+
+		"\u035f\7v\2\2\u035f\u0360\7c\2\2\u0360\u0361\7d\2\2\u0361\u0362\7n\2\2"+
+		"\u0362\u0363\7g\2\2\u0363\u00d8\3\2\2\2\u0364\u0365\7x\2\2\u0365\u0366"+
+		"\7g\2\2\u0366\u0367\7t\2\2\u0367\u0368\7u\2\2\u0368\u0369\7k\2\2\u0369"+
+		"\u036a\7q\2\2\u036a\u036b\7p\2\2\u036b\u00da\3\2\2\2\u036c\u036d\7l\2"+
+		"\2\u036d\u036e\7u\2\2\u036e\u036f\7q\2\2\u036f\u0370\7p\2\2\u0370\u0371"+
+		"\7k\2\2\u0371\u0372\7s\2\2\u0372\u00dc\3\2\2\2\u0373\u0374\7w\2\2\u0374"+
+		"\u0375\7p\2\2\u0375\u0376\7q\2\2\u0376\u0377\7t\2\2\u0377\u0378\7f\2\2"+
+		"\u0378\u0379\7g\2\2\u0379\u037a\7t\2\2\u037a\u037b\7g\2\2\u037b\u037c"+
+		"\7f\2\2\u037c\u00de\3\2\2\2\u037d\u037e\7v\2\2\u037e\u037f\7t\2\2\u037f"+
+		"\u0380\7w\2\2\u0380\u0381\7g\2\2\u0381\u00e0\3\2\2\2\u0382\u0383\7h\2"+
+		"\2\u0383\u0384\7c\2\2\u0384\u0385\7n\2\2\u0385\u0386\7u\2\2\u0386\u0387"+
+		"\7g\2\2\u0387\u00e2\3\2\2\2\u0388\u038d\7$\2\2\u0389\u038c\5\u00e5s\2"+
+		"\u038a\u038c\n\2\2\2\u038b\u0389\3\2\2\2\u038b\u038a\3\2\2\2\u038c\u038f"+
+		"\3\2\2\2\u038d\u038b\3\2\2\2\u038d\u038e\3\2\2\2\u038e\u0390\3\2\2\2\u038f"+
+		"\u038d\3\2\2\2\u0390\u0391\7$\2\2\u0391\u00e4\3\2\2\2\u0392\u0395\7^\2"+
+		"\2\u0393\u0396\t\3\2\2\u0394\u0396\5\u00e7t\2\u0395\u0393\3\2\2\2\u0395"+
+		"\u0394\3\2\2\2\u0396\u00e6\3\2\2\2\u0397\u0398\7w\2\2\u0398\u0399\5\u00e9"+
+		"u\2\u0399\u039a\5\u00e9u\2\u039a\u039b\5\u00e9u\2\u039b\u039c\5\u00e9"+
+		"u\2\u039c\u00e8\3\2\2\2\u039d\u039e\t\4\2\2\u039e\u00ea\3\2\2\2\u039f"+
+		"\u03a0\7A\2\2\u03a0\u00ec\3\2\2\2\u03a1\u03a2\7p\2\2\u03a2\u03a3\7w\2"+
+		"\2\u03a3\u03a4\7n\2\2\u03a4\u03a5\7n\2\2\u03a5\u00ee\3\2\2\2\u03a6\u03a7"+
+		"\5\u00f1y\2\u03a7\u00f0\3\2\2\2\u03a8\u03ac\5\u00f3z\2\u03a9\u03ac\5\u00f5"+
+		"{\2\u03aa\u03ac\5\u00f7|\2\u03ab\u03a8\3\2\2\2\u03ab\u03a9\3\2\2\2\u03ab"+
+		"\u03aa\3\2\2\2\u03ac\u00f2\3\2\2\2\u03ad\u03ae\5\u00f9}\2\u03ae\u00f4"+
+		"\3\2\2\2\u03af\u03b0\7\60\2\2\u03b0\u03ba\5\u00f9}\2\u03b1\u03b2\5\u00f9"+
+		"}\2\u03b2\u03b6\7\60\2\2\u03b3\u03b5\t\5\2\2\u03b4\u03b3\3\2\2\2\u03b5"+
+		"\u03b8\3\2\2\2\u03b6\u03b4\3\2\2\2\u03b6\u03b7\3\2\2\2\u03b7\u03ba\3\2"+
+		"\2\2\u03b8\u03b6\3\2\2\2\u03b9\u03af\3\2\2\2\u03b9\u03b1\3\2\2\2\u03ba"+
+		"\u00f6\3\2\2\2\u03bb\u03bc\7\60\2\2\u03bc\u03c8\5\u00f9}\2\u03bd\u03c5"+
+		"\5\u00f9}\2\u03be\u03c2\7\60\2\2\u03bf\u03c1\t\5\2\2\u03c0\u03bf\3\2\2"+
+		"\2\u03c1\u03c4\3\2\2\2\u03c2\u03c0\3\2\2\2\u03c2\u03c3\3\2\2\2\u03c3\u03c6"+
+		"\3\2\2\2\u03c4\u03c2\3\2\2\2\u03c5\u03be\3\2\2\2\u03c5\u03c6\3\2\2\2\u03c6"+
+		"\u03c8\3\2\2\2\u03c7\u03bb\3\2\2\2\u03c7\u03bd\3\2\2\2\u03c8\u03c9\3\2"+
+		"\2\2\u03c9\u03cb\t\6\2\2\u03ca\u03cc\t\7\2\2\u03cb\u03ca\3\2\2\2\u03cb"+
+		"\u03cc\3\2\2\2\u03cc\u03cd\3\2\2\2\u03cd\u03ce\5\u00f9}\2\u03ce\u00f8"+
+		"\3\2\2\2\u03cf\u03d1\t\5\2\2\u03d0\u03cf\3\2\2\2\u03d1\u03d2\3\2\2\2\u03d2"+
+		"\u03d0\3\2\2\2\u03d2\u03d3\3\2\2\2\u03d3\u00fa\3\2\2\2\u03d4\u03d5\t\b"+
+		"\2\2\u03d5\u03d6\3\2\2\2\u03d6\u03d7\b~\2\2\u03d7\u00fc\3\2\2\2\u03d8"+
+		"\u03dc\5\u00ff\u0080\2\u03d9\u03db\5\u0101\u0081\2\u03da\u03d9\3\2\2\2"+
+		"\u03db\u03de\3\2\2\2\u03dc\u03da\3\2\2\2\u03dc\u03dd\3\2\2\2\u03dd\u00fe"+
+		"\3\2\2\2\u03de\u03dc\3\2\2\2\u03df\u03e1\t\t\2\2\u03e0\u03df\3\2\2\2\u03e1"+
+		"\u0100\3\2\2\2\u03e2\u03e5\5\u00ff\u0080\2\u03e3\u03e5\t\n\2\2\u03e4\u03e2"+
+		"\3\2\2\2\u03e4\u03e3\3\2\2\2\u03e5\u0102\3\2\2\2\u03e6\u03e7\7*\2\2\u03e7"+
+		"\u03f0\7<\2\2\u03e8\u03ef\5\u0103\u0082\2\u03e9\u03ea\7*\2\2\u03ea\u03ef"+
+		"\n\13\2\2\u03eb\u03ec\7<\2\2\u03ec\u03ef\n\f\2\2\u03ed\u03ef\n\r\2\2\u03ee"+
+		"\u03e8\3\2\2\2\u03ee\u03e9\3\2\2\2\u03ee\u03eb\3\2\2\2\u03ee\u03ed\3\2"+
+		"\2\2\u03ef\u03f2\3\2\2\2\u03f0\u03ee\3\2\2\2\u03f0\u03f1\3\2\2\2\u03f1"+
+		"\u03f4\3\2\2\2\u03f2\u03f0\3\2\2\2\u03f3\u03f5\7<\2\2\u03f4\u03f3\3\2"+
+		"\2\2\u03f5\u03f6\3\2\2\2\u03f6\u03f4\3\2\2\2\u03f6\u03f7\3\2\2\2\u03f7"+
+		"\u03f8\3\2\2\2\u03f8\u03f9\7+\2\2\u03f9\u03fa\3\2\2\2\u03fa\u03fb\b\u0082"+
+		"\2\2\u03fb\u0104\3\2\2\2\u03fc\u03fd\n\16\2\2\u03fd\u0106\3\2\2\2\24\2"+
+		"\u038b\u038d\u0395\u03ab\u03b6\u03b9\u03c2\u03c5\u03c7\u03cb\u03d2\u03dc"+
+		"\u03e0\u03e4\u03ee\u03f0\u03f6\3\2\3\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -39,64 +39,66 @@ public class JsoniqParser extends Parser {
 		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
 		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, T__51=52, 
 		T__52=53, T__53=54, T__54=55, T__55=56, T__56=57, T__57=58, T__58=59, 
-		T__59=60, T__60=61, T__61=62, T__62=63, T__63=64, Kfor=65, Klet=66, Kwhere=67, 
-		Kgroup=68, Kby=69, Korder=70, Kreturn=71, Kif=72, Kin=73, Kas=74, Kat=75, 
-		Kallowing=76, Kempty=77, Kcount=78, Kstable=79, Kascending=80, Kdescending=81, 
-		Ksome=82, Kevery=83, Ksatisfies=84, Kcollation=85, Kgreatest=86, Kleast=87, 
-		Kswitch=88, Kcase=89, Ktry=90, Kcatch=91, Kdefault=92, Kthen=93, Kelse=94, 
-		Ktypeswitch=95, Kor=96, Kand=97, Knot=98, Kto=99, Kinstance=100, Kof=101, 
-		Kstatically=102, Kis=103, Ktreat=104, Kcast=105, Kcastable=106, Kversion=107, 
-		Kjsoniq=108, Kunordered=109, Ktrue=110, Kfalse=111, STRING=112, ArgumentPlaceholder=113, 
-		NullLiteral=114, Literal=115, NumericLiteral=116, IntegerLiteral=117, 
-		DecimalLiteral=118, DoubleLiteral=119, WS=120, NCName=121, XQComment=122, 
-		ContentChar=123;
+		T__59=60, T__60=61, T__61=62, T__62=63, T__63=64, T__64=65, Kfor=66, Klet=67, 
+		Kwhere=68, Kgroup=69, Kby=70, Korder=71, Kreturn=72, Kif=73, Kin=74, Kas=75, 
+		Kat=76, Kallowing=77, Kempty=78, Kcount=79, Kstable=80, Kascending=81, 
+		Kdescending=82, Ksome=83, Kevery=84, Ksatisfies=85, Kcollation=86, Kgreatest=87, 
+		Kleast=88, Kswitch=89, Kcase=90, Ktry=91, Kcatch=92, Kdefault=93, Kthen=94, 
+		Kelse=95, Ktypeswitch=96, Kor=97, Kand=98, Knot=99, Kto=100, Kinstance=101, 
+		Kof=102, Kstatically=103, Kis=104, Ktreat=105, Kcast=106, Kcastable=107, 
+		Kversion=108, Kjsoniq=109, Kunordered=110, Ktrue=111, Kfalse=112, STRING=113, 
+		ArgumentPlaceholder=114, NullLiteral=115, Literal=116, NumericLiteral=117, 
+		IntegerLiteral=118, DecimalLiteral=119, DoubleLiteral=120, WS=121, NCName=122, 
+		XQComment=123, ContentChar=124;
 	public static final int
 		RULE_moduleAndThisIsIt = 0, RULE_module = 1, RULE_mainModule = 2, RULE_libraryModule = 3, 
 		RULE_prolog = 4, RULE_setter = 5, RULE_namespaceDecl = 6, RULE_annotatedDecl = 7, 
 		RULE_defaultCollationDecl = 8, RULE_orderingModeDecl = 9, RULE_emptyOrderDecl = 10, 
 		RULE_decimalFormatDecl = 11, RULE_qname = 12, RULE_dfPropertyName = 13, 
-		RULE_moduleImport = 14, RULE_varDecl = 15, RULE_functionDecl = 16, RULE_typeDecl = 17, 
-		RULE_schemaLanguage = 18, RULE_paramList = 19, RULE_param = 20, RULE_expr = 21, 
-		RULE_exprSingle = 22, RULE_flowrExpr = 23, RULE_forClause = 24, RULE_forVar = 25, 
-		RULE_letClause = 26, RULE_letVar = 27, RULE_whereClause = 28, RULE_groupByClause = 29, 
-		RULE_groupByVar = 30, RULE_orderByClause = 31, RULE_orderByExpr = 32, 
-		RULE_countClause = 33, RULE_quantifiedExpr = 34, RULE_quantifiedExprVar = 35, 
-		RULE_switchExpr = 36, RULE_switchCaseClause = 37, RULE_typeSwitchExpr = 38, 
-		RULE_caseClause = 39, RULE_ifExpr = 40, RULE_tryCatchExpr = 41, RULE_catchClause = 42, 
-		RULE_orExpr = 43, RULE_andExpr = 44, RULE_notExpr = 45, RULE_comparisonExpr = 46, 
-		RULE_stringConcatExpr = 47, RULE_rangeExpr = 48, RULE_additiveExpr = 49, 
-		RULE_multiplicativeExpr = 50, RULE_instanceOfExpr = 51, RULE_isStaticallyExpr = 52, 
-		RULE_treatExpr = 53, RULE_castableExpr = 54, RULE_castExpr = 55, RULE_arrowExpr = 56, 
-		RULE_unaryExpr = 57, RULE_valueExpr = 58, RULE_validateExpr = 59, RULE_simpleMapExpr = 60, 
-		RULE_postFixExpr = 61, RULE_arrayLookup = 62, RULE_arrayUnboxing = 63, 
-		RULE_predicate = 64, RULE_objectLookup = 65, RULE_primaryExpr = 66, RULE_varRef = 67, 
-		RULE_parenthesizedExpr = 68, RULE_contextItemExpr = 69, RULE_orderedExpr = 70, 
-		RULE_unorderedExpr = 71, RULE_functionCall = 72, RULE_argumentList = 73, 
-		RULE_argument = 74, RULE_functionItemExpr = 75, RULE_namedFunctionRef = 76, 
-		RULE_inlineFunctionExpr = 77, RULE_sequenceType = 78, RULE_objectConstructor = 79, 
-		RULE_itemType = 80, RULE_functionTest = 81, RULE_anyFunctionTest = 82, 
-		RULE_typedFunctionTest = 83, RULE_singleType = 84, RULE_pairConstructor = 85, 
-		RULE_arrayConstructor = 86, RULE_uriLiteral = 87, RULE_stringLiteral = 88, 
-		RULE_keyWords = 89;
+		RULE_moduleImport = 14, RULE_varDecl = 15, RULE_functionDecl = 16, RULE_annotations = 17, 
+		RULE_annotation = 18, RULE_typeDecl = 19, RULE_schemaLanguage = 20, RULE_paramList = 21, 
+		RULE_param = 22, RULE_expr = 23, RULE_exprSingle = 24, RULE_flowrExpr = 25, 
+		RULE_forClause = 26, RULE_forVar = 27, RULE_letClause = 28, RULE_letVar = 29, 
+		RULE_whereClause = 30, RULE_groupByClause = 31, RULE_groupByVar = 32, 
+		RULE_orderByClause = 33, RULE_orderByExpr = 34, RULE_countClause = 35, 
+		RULE_quantifiedExpr = 36, RULE_quantifiedExprVar = 37, RULE_switchExpr = 38, 
+		RULE_switchCaseClause = 39, RULE_typeSwitchExpr = 40, RULE_caseClause = 41, 
+		RULE_ifExpr = 42, RULE_tryCatchExpr = 43, RULE_catchClause = 44, RULE_orExpr = 45, 
+		RULE_andExpr = 46, RULE_notExpr = 47, RULE_comparisonExpr = 48, RULE_stringConcatExpr = 49, 
+		RULE_rangeExpr = 50, RULE_additiveExpr = 51, RULE_multiplicativeExpr = 52, 
+		RULE_instanceOfExpr = 53, RULE_isStaticallyExpr = 54, RULE_treatExpr = 55, 
+		RULE_castableExpr = 56, RULE_castExpr = 57, RULE_arrowExpr = 58, RULE_unaryExpr = 59, 
+		RULE_valueExpr = 60, RULE_validateExpr = 61, RULE_simpleMapExpr = 62, 
+		RULE_postFixExpr = 63, RULE_arrayLookup = 64, RULE_arrayUnboxing = 65, 
+		RULE_predicate = 66, RULE_objectLookup = 67, RULE_primaryExpr = 68, RULE_varRef = 69, 
+		RULE_parenthesizedExpr = 70, RULE_contextItemExpr = 71, RULE_orderedExpr = 72, 
+		RULE_unorderedExpr = 73, RULE_functionCall = 74, RULE_argumentList = 75, 
+		RULE_argument = 76, RULE_functionItemExpr = 77, RULE_namedFunctionRef = 78, 
+		RULE_inlineFunctionExpr = 79, RULE_sequenceType = 80, RULE_objectConstructor = 81, 
+		RULE_itemType = 82, RULE_functionTest = 83, RULE_anyFunctionTest = 84, 
+		RULE_typedFunctionTest = 85, RULE_singleType = 86, RULE_pairConstructor = 87, 
+		RULE_arrayConstructor = 88, RULE_uriLiteral = 89, RULE_stringLiteral = 90, 
+		RULE_keyWords = 91;
 	public static final String[] ruleNames = {
 		"moduleAndThisIsIt", "module", "mainModule", "libraryModule", "prolog", 
 		"setter", "namespaceDecl", "annotatedDecl", "defaultCollationDecl", "orderingModeDecl", 
 		"emptyOrderDecl", "decimalFormatDecl", "qname", "dfPropertyName", "moduleImport", 
-		"varDecl", "functionDecl", "typeDecl", "schemaLanguage", "paramList", 
-		"param", "expr", "exprSingle", "flowrExpr", "forClause", "forVar", "letClause", 
-		"letVar", "whereClause", "groupByClause", "groupByVar", "orderByClause", 
-		"orderByExpr", "countClause", "quantifiedExpr", "quantifiedExprVar", "switchExpr", 
-		"switchCaseClause", "typeSwitchExpr", "caseClause", "ifExpr", "tryCatchExpr", 
-		"catchClause", "orExpr", "andExpr", "notExpr", "comparisonExpr", "stringConcatExpr", 
-		"rangeExpr", "additiveExpr", "multiplicativeExpr", "instanceOfExpr", "isStaticallyExpr", 
-		"treatExpr", "castableExpr", "castExpr", "arrowExpr", "unaryExpr", "valueExpr", 
-		"validateExpr", "simpleMapExpr", "postFixExpr", "arrayLookup", "arrayUnboxing", 
-		"predicate", "objectLookup", "primaryExpr", "varRef", "parenthesizedExpr", 
-		"contextItemExpr", "orderedExpr", "unorderedExpr", "functionCall", "argumentList", 
-		"argument", "functionItemExpr", "namedFunctionRef", "inlineFunctionExpr", 
-		"sequenceType", "objectConstructor", "itemType", "functionTest", "anyFunctionTest", 
-		"typedFunctionTest", "singleType", "pairConstructor", "arrayConstructor", 
-		"uriLiteral", "stringLiteral", "keyWords"
+		"varDecl", "functionDecl", "annotations", "annotation", "typeDecl", "schemaLanguage", 
+		"paramList", "param", "expr", "exprSingle", "flowrExpr", "forClause", 
+		"forVar", "letClause", "letVar", "whereClause", "groupByClause", "groupByVar", 
+		"orderByClause", "orderByExpr", "countClause", "quantifiedExpr", "quantifiedExprVar", 
+		"switchExpr", "switchCaseClause", "typeSwitchExpr", "caseClause", "ifExpr", 
+		"tryCatchExpr", "catchClause", "orExpr", "andExpr", "notExpr", "comparisonExpr", 
+		"stringConcatExpr", "rangeExpr", "additiveExpr", "multiplicativeExpr", 
+		"instanceOfExpr", "isStaticallyExpr", "treatExpr", "castableExpr", "castExpr", 
+		"arrowExpr", "unaryExpr", "valueExpr", "validateExpr", "simpleMapExpr", 
+		"postFixExpr", "arrayLookup", "arrayUnboxing", "predicate", "objectLookup", 
+		"primaryExpr", "varRef", "parenthesizedExpr", "contextItemExpr", "orderedExpr", 
+		"unorderedExpr", "functionCall", "argumentList", "argument", "functionItemExpr", 
+		"namedFunctionRef", "inlineFunctionExpr", "sequenceType", "objectConstructor", 
+		"itemType", "functionTest", "anyFunctionTest", "typedFunctionTest", "singleType", 
+		"pairConstructor", "arrayConstructor", "uriLiteral", "stringLiteral", 
+		"keyWords"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
@@ -104,18 +106,19 @@ public class JsoniqParser extends Parser {
 		"'ordered'", "'decimal-format'", "':'", "'decimal-separator'", "'grouping-separator'", 
 		"'infinity'", "'minus-sign'", "'NaN'", "'percent'", "'per-mille'", "'zero-digit'", 
 		"'digit'", "'pattern-separator'", "'import'", "','", "'variable'", "':='", 
-		"'external'", "'function'", "'('", "')'", "'{'", "'}'", "'type'", "'jsound'", 
-		"'compact'", "'verbose'", "'json'", "'schema'", "'$'", "'|'", "'*'", "'eq'", 
-		"'ne'", "'lt'", "'le'", "'gt'", "'ge'", "'!='", "'<'", "'<='", "'>'", 
-		"'>='", "'||'", "'+'", "'-'", "'div'", "'idiv'", "'mod'", "'validate'", 
-		"'!'", "'['", "']'", "'.'", "'$$'", "'#'", "'{|'", "'|}'", "'for'", "'let'", 
-		"'where'", "'group'", "'by'", "'order'", "'return'", "'if'", "'in'", "'as'", 
-		"'at'", "'allowing'", "'empty'", "'count'", "'stable'", "'ascending'", 
-		"'descending'", "'some'", "'every'", "'satisfies'", "'collation'", "'greatest'", 
-		"'least'", "'switch'", "'case'", "'try'", "'catch'", "'default'", "'then'", 
-		"'else'", "'typeswitch'", "'or'", "'and'", "'not'", "'to'", "'instance'", 
-		"'of'", "'statically'", "'is'", "'treat'", "'cast'", "'castable'", "'version'", 
-		"'jsoniq'", "'unordered'", "'true'", "'false'", null, "'?'", "'null'"
+		"'external'", "'function'", "'('", "')'", "'{'", "'}'", "'%'", "'type'", 
+		"'jsound'", "'compact'", "'verbose'", "'json'", "'schema'", "'$'", "'|'", 
+		"'*'", "'eq'", "'ne'", "'lt'", "'le'", "'gt'", "'ge'", "'!='", "'<'", 
+		"'<='", "'>'", "'>='", "'||'", "'+'", "'-'", "'div'", "'idiv'", "'mod'", 
+		"'validate'", "'!'", "'['", "']'", "'.'", "'$$'", "'#'", "'{|'", "'|}'", 
+		"'for'", "'let'", "'where'", "'group'", "'by'", "'order'", "'return'", 
+		"'if'", "'in'", "'as'", "'at'", "'allowing'", "'empty'", "'count'", "'stable'", 
+		"'ascending'", "'descending'", "'some'", "'every'", "'satisfies'", "'collation'", 
+		"'greatest'", "'least'", "'switch'", "'case'", "'try'", "'catch'", "'default'", 
+		"'then'", "'else'", "'typeswitch'", "'or'", "'and'", "'not'", "'to'", 
+		"'instance'", "'of'", "'statically'", "'is'", "'treat'", "'cast'", "'castable'", 
+		"'version'", "'jsoniq'", "'unordered'", "'true'", "'false'", null, "'?'", 
+		"'null'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
@@ -123,8 +126,8 @@ public class JsoniqParser extends Parser {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, "Kfor", "Klet", "Kwhere", "Kgroup", "Kby", 
-		"Korder", "Kreturn", "Kif", "Kin", "Kas", "Kat", "Kallowing", "Kempty", 
+		null, null, null, null, null, null, "Kfor", "Klet", "Kwhere", "Kgroup", 
+		"Kby", "Korder", "Kreturn", "Kif", "Kin", "Kas", "Kat", "Kallowing", "Kempty", 
 		"Kcount", "Kstable", "Kascending", "Kdescending", "Ksome", "Kevery", "Ksatisfies", 
 		"Kcollation", "Kgreatest", "Kleast", "Kswitch", "Kcase", "Ktry", "Kcatch", 
 		"Kdefault", "Kthen", "Kelse", "Ktypeswitch", "Kor", "Kand", "Knot", "Kto", 
@@ -204,9 +207,9 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(180);
+			setState(184);
 			module();
-			setState(181);
+			setState(185);
 			match(EOF);
 			}
 		}
@@ -252,28 +255,28 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(188);
+			setState(192);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
 				{
-				setState(183);
+				setState(187);
 				match(Kjsoniq);
-				setState(184);
+				setState(188);
 				match(Kversion);
-				setState(185);
+				setState(189);
 				((ModuleContext)_localctx).vers = stringLiteral();
-				setState(186);
+				setState(190);
 				match(T__0);
 				}
 				break;
 			}
-			setState(192);
+			setState(196);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__1:
 				{
-				setState(190);
+				setState(194);
 				libraryModule();
 				}
 				break;
@@ -283,13 +286,13 @@ public class JsoniqParser extends Parser {
 			case T__24:
 			case T__25:
 			case T__27:
-			case T__35:
-			case T__50:
+			case T__36:
 			case T__51:
-			case T__55:
-			case T__57:
-			case T__60:
-			case T__62:
+			case T__52:
+			case T__56:
+			case T__58:
+			case T__61:
+			case T__63:
 			case Kfor:
 			case Klet:
 			case Kwhere:
@@ -342,7 +345,7 @@ public class JsoniqParser extends Parser {
 			case Literal:
 			case NCName:
 				{
-				setState(191);
+				setState(195);
 				((ModuleContext)_localctx).main = mainModule();
 				}
 				break;
@@ -386,9 +389,9 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(194);
+			setState(198);
 			prolog();
-			setState(195);
+			setState(199);
 			expr();
 			}
 		}
@@ -428,19 +431,19 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(197);
+			setState(201);
 			match(T__1);
-			setState(198);
+			setState(202);
 			match(T__2);
-			setState(199);
+			setState(203);
 			match(NCName);
-			setState(200);
+			setState(204);
 			match(T__3);
-			setState(201);
+			setState(205);
 			uriLiteral();
-			setState(202);
+			setState(206);
 			match(T__0);
-			setState(203);
+			setState(207);
 			prolog();
 			}
 		}
@@ -499,57 +502,57 @@ public class JsoniqParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(214);
+			setState(218);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(208);
+					setState(212);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
 					case 1:
 						{
-						setState(205);
+						setState(209);
 						setter();
 						}
 						break;
 					case 2:
 						{
-						setState(206);
+						setState(210);
 						namespaceDecl();
 						}
 						break;
 					case 3:
 						{
-						setState(207);
+						setState(211);
 						moduleImport();
 						}
 						break;
 					}
-					setState(210);
+					setState(214);
 					match(T__0);
 					}
 					} 
 				}
-				setState(216);
+				setState(220);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			}
-			setState(222);
+			setState(226);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__4) {
 				{
 				{
-				setState(217);
+				setState(221);
 				annotatedDecl();
-				setState(218);
+				setState(222);
 				match(T__0);
 				}
 				}
-				setState(224);
+				setState(228);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -594,34 +597,34 @@ public class JsoniqParser extends Parser {
 		SetterContext _localctx = new SetterContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_setter);
 		try {
-			setState(229);
+			setState(233);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(225);
+				setState(229);
 				defaultCollationDecl();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(226);
+				setState(230);
 				orderingModeDecl();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(227);
+				setState(231);
 				emptyOrderDecl();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(228);
+				setState(232);
 				decimalFormatDecl();
 				}
 				break;
@@ -660,15 +663,15 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(231);
+			setState(235);
 			match(T__4);
-			setState(232);
+			setState(236);
 			match(T__2);
-			setState(233);
+			setState(237);
 			match(NCName);
-			setState(234);
+			setState(238);
 			match(T__3);
-			setState(235);
+			setState(239);
 			uriLiteral();
 			}
 		}
@@ -708,27 +711,27 @@ public class JsoniqParser extends Parser {
 		AnnotatedDeclContext _localctx = new AnnotatedDeclContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_annotatedDecl);
 		try {
-			setState(240);
+			setState(244);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(237);
+				setState(241);
 				functionDecl();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(238);
+				setState(242);
 				varDecl();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(239);
+				setState(243);
 				typeDecl();
 				}
 				break;
@@ -768,13 +771,13 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(242);
+			setState(246);
 			match(T__4);
-			setState(243);
+			setState(247);
 			match(Kdefault);
-			setState(244);
+			setState(248);
 			match(Kcollation);
-			setState(245);
+			setState(249);
 			uriLiteral();
 			}
 		}
@@ -808,11 +811,11 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(247);
+			setState(251);
 			match(T__4);
-			setState(248);
+			setState(252);
 			match(T__5);
-			setState(249);
+			setState(253);
 			_la = _input.LA(1);
 			if ( !(_la==T__6 || _la==Kunordered) ) {
 			_errHandler.recoverInline(this);
@@ -859,16 +862,16 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(251);
+			setState(255);
 			match(T__4);
-			setState(252);
+			setState(256);
 			match(Kdefault);
-			setState(253);
+			setState(257);
 			match(Korder);
-			setState(254);
+			setState(258);
 			match(Kempty);
 			{
-			setState(255);
+			setState(259);
 			((EmptyOrderDeclContext)_localctx).emptySequenceOrder = _input.LT(1);
 			_la = _input.LA(1);
 			if ( !(_la==Kgreatest || _la==Kleast) ) {
@@ -928,17 +931,17 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(257);
+			setState(261);
 			match(T__4);
-			setState(262);
+			setState(266);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__7:
 				{
 				{
-				setState(258);
+				setState(262);
 				match(T__7);
-				setState(259);
+				setState(263);
 				qname();
 				}
 				}
@@ -946,9 +949,9 @@ public class JsoniqParser extends Parser {
 			case Kdefault:
 				{
 				{
-				setState(260);
+				setState(264);
 				match(Kdefault);
-				setState(261);
+				setState(265);
 				match(T__7);
 				}
 				}
@@ -956,21 +959,21 @@ public class JsoniqParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(270);
+			setState(274);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18))) != 0)) {
 				{
 				{
-				setState(264);
+				setState(268);
 				dfPropertyName();
-				setState(265);
+				setState(269);
 				match(T__3);
-				setState(266);
+				setState(270);
 				stringLiteral();
 				}
 				}
-				setState(272);
+				setState(276);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1019,17 +1022,17 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(278);
+			setState(282);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				{
-				setState(275);
+				setState(279);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case NCName:
 					{
-					setState(273);
+					setState(277);
 					((QnameContext)_localctx).ns = match(NCName);
 					}
 					break;
@@ -1082,24 +1085,24 @@ public class JsoniqParser extends Parser {
 				case Kfalse:
 				case NullLiteral:
 					{
-					setState(274);
+					setState(278);
 					((QnameContext)_localctx).nskw = keyWords();
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(277);
+				setState(281);
 				match(T__8);
 				}
 				break;
 			}
-			setState(282);
+			setState(286);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NCName:
 				{
-				setState(280);
+				setState(284);
 				((QnameContext)_localctx).local_name = match(NCName);
 				}
 				break;
@@ -1152,7 +1155,7 @@ public class JsoniqParser extends Parser {
 			case Kfalse:
 			case NullLiteral:
 				{
-				setState(281);
+				setState(285);
 				((QnameContext)_localctx).local_namekw = keyWords();
 				}
 				break;
@@ -1191,7 +1194,7 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(284);
+			setState(288);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -1243,48 +1246,48 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(286);
+			setState(290);
 			match(T__19);
-			setState(287);
-			match(T__1);
 			setState(291);
+			match(T__1);
+			setState(295);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__2) {
 				{
-				setState(288);
+				setState(292);
 				match(T__2);
-				setState(289);
+				setState(293);
 				((ModuleImportContext)_localctx).prefix = match(NCName);
-				setState(290);
+				setState(294);
 				match(T__3);
 				}
 			}
 
-			setState(293);
+			setState(297);
 			((ModuleImportContext)_localctx).targetNamespace = uriLiteral();
-			setState(303);
+			setState(307);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kat) {
 				{
-				setState(294);
+				setState(298);
 				match(Kat);
-				setState(295);
+				setState(299);
 				uriLiteral();
-				setState(300);
+				setState(304);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__20) {
 					{
 					{
-					setState(296);
+					setState(300);
 					match(T__20);
-					setState(297);
+					setState(301);
 					uriLiteral();
 					}
 					}
-					setState(302);
+					setState(306);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1334,33 +1337,33 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(305);
+			setState(309);
 			match(T__4);
-			setState(306);
+			setState(310);
 			match(T__21);
-			setState(307);
+			setState(311);
 			varRef();
-			setState(310);
+			setState(314);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(308);
+				setState(312);
 				match(Kas);
-				setState(309);
+				setState(313);
 				sequenceType();
 				}
 			}
 
-			setState(319);
+			setState(323);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__22:
 				{
 				{
-				setState(312);
+				setState(316);
 				match(T__22);
-				setState(313);
+				setState(317);
 				exprSingle();
 				}
 				}
@@ -1368,16 +1371,16 @@ public class JsoniqParser extends Parser {
 			case T__23:
 				{
 				{
-				setState(314);
+				setState(318);
 				((VarDeclContext)_localctx).external = match(T__23);
-				setState(317);
+				setState(321);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__22) {
 					{
-					setState(315);
+					setState(319);
 					match(T__22);
-					setState(316);
+					setState(320);
 					exprSingle();
 					}
 				}
@@ -1405,6 +1408,9 @@ public class JsoniqParser extends Parser {
 		public QnameContext fn_name;
 		public SequenceTypeContext return_type;
 		public ExprContext fn_body;
+		public AnnotationsContext annotations() {
+			return getRuleContext(AnnotationsContext.class,0);
+		}
 		public QnameContext qname() {
 			return getRuleContext(QnameContext.class,0);
 		}
@@ -1436,62 +1442,64 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(321);
+			setState(325);
 			match(T__4);
-			setState(322);
+			setState(326);
+			annotations();
+			setState(327);
 			match(T__24);
-			setState(323);
+			setState(328);
 			((FunctionDeclContext)_localctx).fn_name = qname();
-			setState(324);
+			setState(329);
 			match(T__25);
-			setState(326);
+			setState(331);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__35) {
+			if (_la==T__36) {
 				{
-				setState(325);
+				setState(330);
 				paramList();
 				}
 			}
 
-			setState(328);
+			setState(333);
 			match(T__26);
-			setState(331);
+			setState(336);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(329);
+				setState(334);
 				match(Kas);
-				setState(330);
+				setState(335);
 				((FunctionDeclContext)_localctx).return_type = sequenceType();
 				}
 			}
 
-			setState(339);
+			setState(344);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__27:
 				{
-				setState(333);
+				setState(338);
 				match(T__27);
-				setState(335);
+				setState(340);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__35) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__57) | (1L << T__60) | (1L << T__62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (STRING - 65)) | (1L << (NullLiteral - 65)) | (1L << (Literal - 65)) | (1L << (NCName - 65)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__36) | (1L << T__51) | (1L << T__52) | (1L << T__56) | (1L << T__58) | (1L << T__61))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (Kfor - 64)) | (1L << (Klet - 64)) | (1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 					{
-					setState(334);
+					setState(339);
 					((FunctionDeclContext)_localctx).fn_body = expr();
 					}
 				}
 
-				setState(337);
+				setState(342);
 				match(T__28);
 				}
 				break;
 			case T__23:
 				{
-				setState(338);
+				setState(343);
 				match(T__23);
 				}
 				break;
@@ -1511,6 +1519,97 @@ public class JsoniqParser extends Parser {
 		return _localctx;
 	}
 
+	public static class AnnotationsContext extends ParserRuleContext {
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public AnnotationsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotations; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsoniqVisitor ) return ((JsoniqVisitor<? extends T>)visitor).visitAnnotations(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationsContext annotations() throws RecognitionException {
+		AnnotationsContext _localctx = new AnnotationsContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_annotations);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(349);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__29) {
+				{
+				{
+				setState(346);
+				annotation();
+				}
+				}
+				setState(351);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationContext extends ParserRuleContext {
+		public QnameContext name;
+		public QnameContext qname() {
+			return getRuleContext(QnameContext.class,0);
+		}
+		public AnnotationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotation; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsoniqVisitor ) return ((JsoniqVisitor<? extends T>)visitor).visitAnnotation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationContext annotation() throws RecognitionException {
+		AnnotationContext _localctx = new AnnotationContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_annotation);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(352);
+			match(T__29);
+			setState(353);
+			((AnnotationContext)_localctx).name = qname();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class TypeDeclContext extends ParserRuleContext {
 		public QnameContext type_name;
 		public SchemaLanguageContext schema;
@@ -1537,30 +1636,30 @@ public class JsoniqParser extends Parser {
 
 	public final TypeDeclContext typeDecl() throws RecognitionException {
 		TypeDeclContext _localctx = new TypeDeclContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_typeDecl);
+		enterRule(_localctx, 38, RULE_typeDecl);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(341);
+			setState(355);
 			match(T__4);
-			setState(342);
-			match(T__29);
-			setState(343);
+			setState(356);
+			match(T__30);
+			setState(357);
 			((TypeDeclContext)_localctx).type_name = qname();
-			setState(344);
+			setState(358);
 			match(Kas);
-			setState(346);
+			setState(360);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__30 || _la==T__33) {
+			if (_la==T__31 || _la==T__34) {
 				{
-				setState(345);
+				setState(359);
 				((TypeDeclContext)_localctx).schema = schemaLanguage();
 				}
 			}
 
-			setState(348);
+			setState(362);
 			((TypeDeclContext)_localctx).type_definition = exprSingle();
 			}
 		}
@@ -1589,36 +1688,36 @@ public class JsoniqParser extends Parser {
 
 	public final SchemaLanguageContext schemaLanguage() throws RecognitionException {
 		SchemaLanguageContext _localctx = new SchemaLanguageContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_schemaLanguage);
+		enterRule(_localctx, 40, RULE_schemaLanguage);
 		try {
-			setState(356);
+			setState(370);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(350);
-				match(T__30);
-				setState(351);
+				setState(364);
 				match(T__31);
+				setState(365);
+				match(T__32);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(352);
-				match(T__30);
-				setState(353);
-				match(T__32);
+				setState(366);
+				match(T__31);
+				setState(367);
+				match(T__33);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(354);
-				match(T__33);
-				setState(355);
+				setState(368);
 				match(T__34);
+				setState(369);
+				match(T__35);
 				}
 				break;
 			}
@@ -1654,26 +1753,26 @@ public class JsoniqParser extends Parser {
 
 	public final ParamListContext paramList() throws RecognitionException {
 		ParamListContext _localctx = new ParamListContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_paramList);
+		enterRule(_localctx, 42, RULE_paramList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(358);
+			setState(372);
 			param();
-			setState(363);
+			setState(377);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__20) {
 				{
 				{
-				setState(359);
+				setState(373);
 				match(T__20);
-				setState(360);
+				setState(374);
 				param();
 				}
 				}
-				setState(365);
+				setState(379);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1711,23 +1810,23 @@ public class JsoniqParser extends Parser {
 
 	public final ParamContext param() throws RecognitionException {
 		ParamContext _localctx = new ParamContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_param);
+		enterRule(_localctx, 44, RULE_param);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(366);
-			match(T__35);
-			setState(367);
+			setState(380);
+			match(T__36);
+			setState(381);
 			qname();
-			setState(370);
+			setState(384);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(368);
+				setState(382);
 				match(Kas);
-				setState(369);
+				setState(383);
 				sequenceType();
 				}
 			}
@@ -1765,26 +1864,26 @@ public class JsoniqParser extends Parser {
 
 	public final ExprContext expr() throws RecognitionException {
 		ExprContext _localctx = new ExprContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_expr);
+		enterRule(_localctx, 46, RULE_expr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(372);
+			setState(386);
 			exprSingle();
-			setState(377);
+			setState(391);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__20) {
 				{
 				{
-				setState(373);
+				setState(387);
 				match(T__20);
-				setState(374);
+				setState(388);
 				exprSingle();
 				}
 				}
-				setState(379);
+				setState(393);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1836,57 +1935,57 @@ public class JsoniqParser extends Parser {
 
 	public final ExprSingleContext exprSingle() throws RecognitionException {
 		ExprSingleContext _localctx = new ExprSingleContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_exprSingle);
+		enterRule(_localctx, 48, RULE_exprSingle);
 		try {
-			setState(387);
+			setState(401);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(380);
+				setState(394);
 				flowrExpr();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(381);
+				setState(395);
 				quantifiedExpr();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(382);
+				setState(396);
 				switchExpr();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(383);
+				setState(397);
 				typeSwitchExpr();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(384);
+				setState(398);
 				ifExpr();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(385);
+				setState(399);
 				tryCatchExpr();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(386);
+				setState(400);
 				orExpr();
 				}
 				break;
@@ -1960,71 +2059,71 @@ public class JsoniqParser extends Parser {
 
 	public final FlowrExprContext flowrExpr() throws RecognitionException {
 		FlowrExprContext _localctx = new FlowrExprContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_flowrExpr);
+		enterRule(_localctx, 50, RULE_flowrExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(391);
+			setState(405);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kfor:
 				{
-				setState(389);
+				setState(403);
 				((FlowrExprContext)_localctx).start_for = forClause();
 				}
 				break;
 			case Klet:
 				{
-				setState(390);
+				setState(404);
 				((FlowrExprContext)_localctx).start_let = letClause();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(401);
+			setState(415);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Korder - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)))) != 0)) {
+			while (((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (Kfor - 66)) | (1L << (Klet - 66)) | (1L << (Kwhere - 66)) | (1L << (Kgroup - 66)) | (1L << (Korder - 66)) | (1L << (Kcount - 66)) | (1L << (Kstable - 66)))) != 0)) {
 				{
-				setState(399);
+				setState(413);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case Kfor:
 					{
-					setState(393);
+					setState(407);
 					forClause();
 					}
 					break;
 				case Kwhere:
 					{
-					setState(394);
+					setState(408);
 					whereClause();
 					}
 					break;
 				case Klet:
 					{
-					setState(395);
+					setState(409);
 					letClause();
 					}
 					break;
 				case Kgroup:
 					{
-					setState(396);
+					setState(410);
 					groupByClause();
 					}
 					break;
 				case Korder:
 				case Kstable:
 					{
-					setState(397);
+					setState(411);
 					orderByClause();
 					}
 					break;
 				case Kcount:
 					{
-					setState(398);
+					setState(412);
 					countClause();
 					}
 					break;
@@ -2032,13 +2131,13 @@ public class JsoniqParser extends Parser {
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(403);
+				setState(417);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(404);
+			setState(418);
 			match(Kreturn);
-			setState(405);
+			setState(419);
 			((FlowrExprContext)_localctx).return_expr = exprSingle();
 			}
 		}
@@ -2076,30 +2175,30 @@ public class JsoniqParser extends Parser {
 
 	public final ForClauseContext forClause() throws RecognitionException {
 		ForClauseContext _localctx = new ForClauseContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_forClause);
+		enterRule(_localctx, 52, RULE_forClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(407);
+			setState(421);
 			match(Kfor);
-			setState(408);
+			setState(422);
 			((ForClauseContext)_localctx).forVar = forVar();
 			((ForClauseContext)_localctx).vars.add(((ForClauseContext)_localctx).forVar);
-			setState(413);
+			setState(427);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__20) {
 				{
 				{
-				setState(409);
+				setState(423);
 				match(T__20);
-				setState(410);
+				setState(424);
 				((ForClauseContext)_localctx).forVar = forVar();
 				((ForClauseContext)_localctx).vars.add(((ForClauseContext)_localctx).forVar);
 				}
 				}
-				setState(415);
+				setState(429);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2152,52 +2251,52 @@ public class JsoniqParser extends Parser {
 
 	public final ForVarContext forVar() throws RecognitionException {
 		ForVarContext _localctx = new ForVarContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_forVar);
+		enterRule(_localctx, 54, RULE_forVar);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(416);
+			setState(430);
 			((ForVarContext)_localctx).var_ref = varRef();
-			setState(419);
+			setState(433);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(417);
+				setState(431);
 				match(Kas);
-				setState(418);
+				setState(432);
 				((ForVarContext)_localctx).seq = sequenceType();
 				}
 			}
 
-			setState(423);
+			setState(437);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kallowing) {
 				{
-				setState(421);
+				setState(435);
 				((ForVarContext)_localctx).flag = match(Kallowing);
-				setState(422);
+				setState(436);
 				match(Kempty);
 				}
 			}
 
-			setState(427);
+			setState(441);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kat) {
 				{
-				setState(425);
+				setState(439);
 				match(Kat);
-				setState(426);
+				setState(440);
 				((ForVarContext)_localctx).at = varRef();
 				}
 			}
 
-			setState(429);
+			setState(443);
 			match(Kin);
-			setState(430);
+			setState(444);
 			((ForVarContext)_localctx).ex = exprSingle();
 			}
 		}
@@ -2235,30 +2334,30 @@ public class JsoniqParser extends Parser {
 
 	public final LetClauseContext letClause() throws RecognitionException {
 		LetClauseContext _localctx = new LetClauseContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_letClause);
+		enterRule(_localctx, 56, RULE_letClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(432);
+			setState(446);
 			match(Klet);
-			setState(433);
+			setState(447);
 			((LetClauseContext)_localctx).letVar = letVar();
 			((LetClauseContext)_localctx).vars.add(((LetClauseContext)_localctx).letVar);
-			setState(438);
+			setState(452);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__20) {
 				{
 				{
-				setState(434);
+				setState(448);
 				match(T__20);
-				setState(435);
+				setState(449);
 				((LetClauseContext)_localctx).letVar = letVar();
 				((LetClauseContext)_localctx).vars.add(((LetClauseContext)_localctx).letVar);
 				}
 				}
-				setState(440);
+				setState(454);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2302,28 +2401,28 @@ public class JsoniqParser extends Parser {
 
 	public final LetVarContext letVar() throws RecognitionException {
 		LetVarContext _localctx = new LetVarContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_letVar);
+		enterRule(_localctx, 58, RULE_letVar);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(441);
+			setState(455);
 			((LetVarContext)_localctx).var_ref = varRef();
-			setState(444);
+			setState(458);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(442);
+				setState(456);
 				match(Kas);
-				setState(443);
+				setState(457);
 				((LetVarContext)_localctx).seq = sequenceType();
 				}
 			}
 
-			setState(446);
+			setState(460);
 			match(T__22);
-			setState(447);
+			setState(461);
 			((LetVarContext)_localctx).ex = exprSingle();
 			}
 		}
@@ -2356,13 +2455,13 @@ public class JsoniqParser extends Parser {
 
 	public final WhereClauseContext whereClause() throws RecognitionException {
 		WhereClauseContext _localctx = new WhereClauseContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_whereClause);
+		enterRule(_localctx, 60, RULE_whereClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(449);
+			setState(463);
 			match(Kwhere);
-			setState(450);
+			setState(464);
 			exprSingle();
 			}
 		}
@@ -2401,32 +2500,32 @@ public class JsoniqParser extends Parser {
 
 	public final GroupByClauseContext groupByClause() throws RecognitionException {
 		GroupByClauseContext _localctx = new GroupByClauseContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_groupByClause);
+		enterRule(_localctx, 62, RULE_groupByClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(452);
+			setState(466);
 			match(Kgroup);
-			setState(453);
+			setState(467);
 			match(Kby);
-			setState(454);
+			setState(468);
 			((GroupByClauseContext)_localctx).groupByVar = groupByVar();
 			((GroupByClauseContext)_localctx).vars.add(((GroupByClauseContext)_localctx).groupByVar);
-			setState(459);
+			setState(473);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__20) {
 				{
 				{
-				setState(455);
+				setState(469);
 				match(T__20);
-				setState(456);
+				setState(470);
 				((GroupByClauseContext)_localctx).groupByVar = groupByVar();
 				((GroupByClauseContext)_localctx).vars.add(((GroupByClauseContext)_localctx).groupByVar);
 				}
 				}
-				setState(461);
+				setState(475);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2476,45 +2575,45 @@ public class JsoniqParser extends Parser {
 
 	public final GroupByVarContext groupByVar() throws RecognitionException {
 		GroupByVarContext _localctx = new GroupByVarContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_groupByVar);
+		enterRule(_localctx, 64, RULE_groupByVar);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(462);
+			setState(476);
 			((GroupByVarContext)_localctx).var_ref = varRef();
-			setState(469);
+			setState(483);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__22 || _la==Kas) {
 				{
-				setState(465);
+				setState(479);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Kas) {
 					{
-					setState(463);
+					setState(477);
 					match(Kas);
-					setState(464);
+					setState(478);
 					((GroupByVarContext)_localctx).seq = sequenceType();
 					}
 				}
 
-				setState(467);
+				setState(481);
 				((GroupByVarContext)_localctx).decl = match(T__22);
-				setState(468);
+				setState(482);
 				((GroupByVarContext)_localctx).ex = exprSingle();
 				}
 			}
 
-			setState(473);
+			setState(487);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kcollation) {
 				{
-				setState(471);
+				setState(485);
 				match(Kcollation);
-				setState(472);
+				setState(486);
 				((GroupByVarContext)_localctx).uri = uriLiteral();
 				}
 			}
@@ -2556,20 +2655,20 @@ public class JsoniqParser extends Parser {
 
 	public final OrderByClauseContext orderByClause() throws RecognitionException {
 		OrderByClauseContext _localctx = new OrderByClauseContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_orderByClause);
+		enterRule(_localctx, 66, RULE_orderByClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(480);
+			setState(494);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Korder:
 				{
 				{
-				setState(475);
+				setState(489);
 				match(Korder);
-				setState(476);
+				setState(490);
 				match(Kby);
 				}
 				}
@@ -2577,11 +2676,11 @@ public class JsoniqParser extends Parser {
 			case Kstable:
 				{
 				{
-				setState(477);
+				setState(491);
 				((OrderByClauseContext)_localctx).stb = match(Kstable);
-				setState(478);
+				setState(492);
 				match(Korder);
-				setState(479);
+				setState(493);
 				match(Kby);
 				}
 				}
@@ -2589,21 +2688,21 @@ public class JsoniqParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(482);
+			setState(496);
 			orderByExpr();
-			setState(487);
+			setState(501);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__20) {
 				{
 				{
-				setState(483);
+				setState(497);
 				match(T__20);
-				setState(484);
+				setState(498);
 				orderByExpr();
 				}
 				}
-				setState(489);
+				setState(503);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2651,25 +2750,25 @@ public class JsoniqParser extends Parser {
 
 	public final OrderByExprContext orderByExpr() throws RecognitionException {
 		OrderByExprContext _localctx = new OrderByExprContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_orderByExpr);
+		enterRule(_localctx, 68, RULE_orderByExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(490);
+			setState(504);
 			((OrderByExprContext)_localctx).ex = exprSingle();
-			setState(493);
+			setState(507);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kascending:
 				{
-				setState(491);
+				setState(505);
 				match(Kascending);
 				}
 				break;
 			case Kdescending:
 				{
-				setState(492);
+				setState(506);
 				((OrderByExprContext)_localctx).desc = match(Kdescending);
 				}
 				break;
@@ -2688,25 +2787,25 @@ public class JsoniqParser extends Parser {
 			default:
 				break;
 			}
-			setState(500);
+			setState(514);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kempty) {
 				{
-				setState(495);
+				setState(509);
 				match(Kempty);
-				setState(498);
+				setState(512);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case Kgreatest:
 					{
-					setState(496);
+					setState(510);
 					((OrderByExprContext)_localctx).gr = match(Kgreatest);
 					}
 					break;
 				case Kleast:
 					{
-					setState(497);
+					setState(511);
 					((OrderByExprContext)_localctx).ls = match(Kleast);
 					}
 					break;
@@ -2716,14 +2815,14 @@ public class JsoniqParser extends Parser {
 				}
 			}
 
-			setState(504);
+			setState(518);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kcollation) {
 				{
-				setState(502);
+				setState(516);
 				match(Kcollation);
-				setState(503);
+				setState(517);
 				((OrderByExprContext)_localctx).uril = uriLiteral();
 				}
 			}
@@ -2759,13 +2858,13 @@ public class JsoniqParser extends Parser {
 
 	public final CountClauseContext countClause() throws RecognitionException {
 		CountClauseContext _localctx = new CountClauseContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_countClause);
+		enterRule(_localctx, 70, RULE_countClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(506);
+			setState(520);
 			match(Kcount);
-			setState(507);
+			setState(521);
 			varRef();
 			}
 		}
@@ -2810,52 +2909,52 @@ public class JsoniqParser extends Parser {
 
 	public final QuantifiedExprContext quantifiedExpr() throws RecognitionException {
 		QuantifiedExprContext _localctx = new QuantifiedExprContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_quantifiedExpr);
+		enterRule(_localctx, 72, RULE_quantifiedExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(511);
+			setState(525);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Ksome:
 				{
-				setState(509);
+				setState(523);
 				((QuantifiedExprContext)_localctx).so = match(Ksome);
 				}
 				break;
 			case Kevery:
 				{
-				setState(510);
+				setState(524);
 				((QuantifiedExprContext)_localctx).ev = match(Kevery);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(513);
+			setState(527);
 			((QuantifiedExprContext)_localctx).quantifiedExprVar = quantifiedExprVar();
 			((QuantifiedExprContext)_localctx).vars.add(((QuantifiedExprContext)_localctx).quantifiedExprVar);
-			setState(518);
+			setState(532);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__20) {
 				{
 				{
-				setState(514);
+				setState(528);
 				match(T__20);
-				setState(515);
+				setState(529);
 				((QuantifiedExprContext)_localctx).quantifiedExprVar = quantifiedExprVar();
 				((QuantifiedExprContext)_localctx).vars.add(((QuantifiedExprContext)_localctx).quantifiedExprVar);
 				}
 				}
-				setState(520);
+				setState(534);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(521);
+			setState(535);
 			match(Ksatisfies);
-			setState(522);
+			setState(536);
 			exprSingle();
 			}
 		}
@@ -2895,28 +2994,28 @@ public class JsoniqParser extends Parser {
 
 	public final QuantifiedExprVarContext quantifiedExprVar() throws RecognitionException {
 		QuantifiedExprVarContext _localctx = new QuantifiedExprVarContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_quantifiedExprVar);
+		enterRule(_localctx, 74, RULE_quantifiedExprVar);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(524);
+			setState(538);
 			varRef();
-			setState(527);
+			setState(541);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(525);
+				setState(539);
 				match(Kas);
-				setState(526);
+				setState(540);
 				sequenceType();
 				}
 			}
 
-			setState(529);
+			setState(543);
 			match(Kin);
-			setState(530);
+			setState(544);
 			exprSingle();
 			}
 		}
@@ -2964,39 +3063,39 @@ public class JsoniqParser extends Parser {
 
 	public final SwitchExprContext switchExpr() throws RecognitionException {
 		SwitchExprContext _localctx = new SwitchExprContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_switchExpr);
+		enterRule(_localctx, 76, RULE_switchExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(532);
+			setState(546);
 			match(Kswitch);
-			setState(533);
+			setState(547);
 			match(T__25);
-			setState(534);
+			setState(548);
 			((SwitchExprContext)_localctx).cond = expr();
-			setState(535);
+			setState(549);
 			match(T__26);
-			setState(537); 
+			setState(551); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(536);
+				setState(550);
 				((SwitchExprContext)_localctx).switchCaseClause = switchCaseClause();
 				((SwitchExprContext)_localctx).cases.add(((SwitchExprContext)_localctx).switchCaseClause);
 				}
 				}
-				setState(539); 
+				setState(553); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==Kcase );
-			setState(541);
+			setState(555);
 			match(Kdefault);
-			setState(542);
+			setState(556);
 			match(Kreturn);
-			setState(543);
+			setState(557);
 			((SwitchExprContext)_localctx).def = exprSingle();
 			}
 		}
@@ -3039,31 +3138,31 @@ public class JsoniqParser extends Parser {
 
 	public final SwitchCaseClauseContext switchCaseClause() throws RecognitionException {
 		SwitchCaseClauseContext _localctx = new SwitchCaseClauseContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_switchCaseClause);
+		enterRule(_localctx, 78, RULE_switchCaseClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(547); 
+			setState(561); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(545);
+				setState(559);
 				match(Kcase);
-				setState(546);
+				setState(560);
 				((SwitchCaseClauseContext)_localctx).exprSingle = exprSingle();
 				((SwitchCaseClauseContext)_localctx).cond.add(((SwitchCaseClauseContext)_localctx).exprSingle);
 				}
 				}
-				setState(549); 
+				setState(563); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==Kcase );
-			setState(551);
+			setState(565);
 			match(Kreturn);
-			setState(552);
+			setState(566);
 			((SwitchCaseClauseContext)_localctx).ret = exprSingle();
 			}
 		}
@@ -3115,49 +3214,49 @@ public class JsoniqParser extends Parser {
 
 	public final TypeSwitchExprContext typeSwitchExpr() throws RecognitionException {
 		TypeSwitchExprContext _localctx = new TypeSwitchExprContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_typeSwitchExpr);
+		enterRule(_localctx, 80, RULE_typeSwitchExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(554);
+			setState(568);
 			match(Ktypeswitch);
-			setState(555);
+			setState(569);
 			match(T__25);
-			setState(556);
+			setState(570);
 			((TypeSwitchExprContext)_localctx).cond = expr();
-			setState(557);
+			setState(571);
 			match(T__26);
-			setState(559); 
+			setState(573); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(558);
+				setState(572);
 				((TypeSwitchExprContext)_localctx).caseClause = caseClause();
 				((TypeSwitchExprContext)_localctx).cses.add(((TypeSwitchExprContext)_localctx).caseClause);
 				}
 				}
-				setState(561); 
+				setState(575); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==Kcase );
-			setState(563);
+			setState(577);
 			match(Kdefault);
-			setState(565);
+			setState(579);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__35) {
+			if (_la==T__36) {
 				{
-				setState(564);
+				setState(578);
 				((TypeSwitchExprContext)_localctx).var_ref = varRef();
 				}
 			}
 
-			setState(567);
+			setState(581);
 			match(Kreturn);
-			setState(568);
+			setState(582);
 			((TypeSwitchExprContext)_localctx).def = exprSingle();
 			}
 		}
@@ -3205,48 +3304,48 @@ public class JsoniqParser extends Parser {
 
 	public final CaseClauseContext caseClause() throws RecognitionException {
 		CaseClauseContext _localctx = new CaseClauseContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_caseClause);
+		enterRule(_localctx, 82, RULE_caseClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(570);
+			setState(584);
 			match(Kcase);
-			setState(574);
+			setState(588);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__35) {
+			if (_la==T__36) {
 				{
-				setState(571);
+				setState(585);
 				((CaseClauseContext)_localctx).var_ref = varRef();
-				setState(572);
+				setState(586);
 				match(Kas);
 				}
 			}
 
-			setState(576);
+			setState(590);
 			((CaseClauseContext)_localctx).sequenceType = sequenceType();
 			((CaseClauseContext)_localctx).union.add(((CaseClauseContext)_localctx).sequenceType);
-			setState(581);
+			setState(595);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__36) {
+			while (_la==T__37) {
 				{
 				{
-				setState(577);
-				match(T__36);
-				setState(578);
+				setState(591);
+				match(T__37);
+				setState(592);
 				((CaseClauseContext)_localctx).sequenceType = sequenceType();
 				((CaseClauseContext)_localctx).union.add(((CaseClauseContext)_localctx).sequenceType);
 				}
 				}
-				setState(583);
+				setState(597);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(584);
+			setState(598);
 			match(Kreturn);
-			setState(585);
+			setState(599);
 			((CaseClauseContext)_localctx).ret = exprSingle();
 			}
 		}
@@ -3290,25 +3389,25 @@ public class JsoniqParser extends Parser {
 
 	public final IfExprContext ifExpr() throws RecognitionException {
 		IfExprContext _localctx = new IfExprContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_ifExpr);
+		enterRule(_localctx, 84, RULE_ifExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(587);
+			setState(601);
 			match(Kif);
-			setState(588);
+			setState(602);
 			match(T__25);
-			setState(589);
+			setState(603);
 			((IfExprContext)_localctx).test_condition = expr();
-			setState(590);
+			setState(604);
 			match(T__26);
-			setState(591);
+			setState(605);
 			match(Kthen);
-			setState(592);
+			setState(606);
 			((IfExprContext)_localctx).branch = exprSingle();
-			setState(593);
+			setState(607);
 			match(Kelse);
-			setState(594);
+			setState(608);
 			((IfExprContext)_localctx).else_branch = exprSingle();
 			}
 		}
@@ -3350,20 +3449,20 @@ public class JsoniqParser extends Parser {
 
 	public final TryCatchExprContext tryCatchExpr() throws RecognitionException {
 		TryCatchExprContext _localctx = new TryCatchExprContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_tryCatchExpr);
+		enterRule(_localctx, 86, RULE_tryCatchExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(596);
+			setState(610);
 			match(Ktry);
-			setState(597);
+			setState(611);
 			match(T__27);
-			setState(598);
+			setState(612);
 			((TryCatchExprContext)_localctx).try_expression = expr();
-			setState(599);
+			setState(613);
 			match(T__28);
-			setState(601); 
+			setState(615); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -3371,7 +3470,7 @@ public class JsoniqParser extends Parser {
 				case 1:
 					{
 					{
-					setState(600);
+					setState(614);
 					((TryCatchExprContext)_localctx).catchClause = catchClause();
 					((TryCatchExprContext)_localctx).catches.add(((TryCatchExprContext)_localctx).catchClause);
 					}
@@ -3380,9 +3479,9 @@ public class JsoniqParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(603); 
+				setState(617); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -3398,7 +3497,7 @@ public class JsoniqParser extends Parser {
 	}
 
 	public static class CatchClauseContext extends ParserRuleContext {
-		public Token s38;
+		public Token s39;
 		public List<Token> jokers = new ArrayList<Token>();
 		public QnameContext qname;
 		public List<QnameContext> errors = new ArrayList<QnameContext>();
@@ -3426,21 +3525,21 @@ public class JsoniqParser extends Parser {
 
 	public final CatchClauseContext catchClause() throws RecognitionException {
 		CatchClauseContext _localctx = new CatchClauseContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_catchClause);
+		enterRule(_localctx, 88, RULE_catchClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(605);
+			setState(619);
 			match(Kcatch);
-			setState(608);
+			setState(622);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__37:
+			case T__38:
 				{
-				setState(606);
-				((CatchClauseContext)_localctx).s38 = match(T__37);
-				((CatchClauseContext)_localctx).jokers.add(((CatchClauseContext)_localctx).s38);
+				setState(620);
+				((CatchClauseContext)_localctx).s39 = match(T__38);
+				((CatchClauseContext)_localctx).jokers.add(((CatchClauseContext)_localctx).s39);
 				}
 				break;
 			case Kfor:
@@ -3493,7 +3592,7 @@ public class JsoniqParser extends Parser {
 			case NullLiteral:
 			case NCName:
 				{
-				setState(607);
+				setState(621);
 				((CatchClauseContext)_localctx).qname = qname();
 				((CatchClauseContext)_localctx).errors.add(((CatchClauseContext)_localctx).qname);
 				}
@@ -3501,22 +3600,22 @@ public class JsoniqParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(617);
+			setState(631);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__36) {
+			while (_la==T__37) {
 				{
 				{
-				setState(610);
-				match(T__36);
-				setState(613);
+				setState(624);
+				match(T__37);
+				setState(627);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
-				case T__37:
+				case T__38:
 					{
-					setState(611);
-					((CatchClauseContext)_localctx).s38 = match(T__37);
-					((CatchClauseContext)_localctx).jokers.add(((CatchClauseContext)_localctx).s38);
+					setState(625);
+					((CatchClauseContext)_localctx).s39 = match(T__38);
+					((CatchClauseContext)_localctx).jokers.add(((CatchClauseContext)_localctx).s39);
 					}
 					break;
 				case Kfor:
@@ -3569,7 +3668,7 @@ public class JsoniqParser extends Parser {
 				case NullLiteral:
 				case NCName:
 					{
-					setState(612);
+					setState(626);
 					((CatchClauseContext)_localctx).qname = qname();
 					((CatchClauseContext)_localctx).errors.add(((CatchClauseContext)_localctx).qname);
 					}
@@ -3579,15 +3678,15 @@ public class JsoniqParser extends Parser {
 				}
 				}
 				}
-				setState(619);
+				setState(633);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(620);
+			setState(634);
 			match(T__27);
-			setState(621);
+			setState(635);
 			((CatchClauseContext)_localctx).catch_expression = expr();
-			setState(622);
+			setState(636);
 			match(T__28);
 			}
 		}
@@ -3629,31 +3728,31 @@ public class JsoniqParser extends Parser {
 
 	public final OrExprContext orExpr() throws RecognitionException {
 		OrExprContext _localctx = new OrExprContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_orExpr);
+		enterRule(_localctx, 90, RULE_orExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(624);
+			setState(638);
 			((OrExprContext)_localctx).main_expr = andExpr();
-			setState(629);
+			setState(643);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(625);
+					setState(639);
 					match(Kor);
-					setState(626);
+					setState(640);
 					((OrExprContext)_localctx).andExpr = andExpr();
 					((OrExprContext)_localctx).rhs.add(((OrExprContext)_localctx).andExpr);
 					}
 					} 
 				}
-				setState(631);
+				setState(645);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
 			}
 			}
 		}
@@ -3695,31 +3794,31 @@ public class JsoniqParser extends Parser {
 
 	public final AndExprContext andExpr() throws RecognitionException {
 		AndExprContext _localctx = new AndExprContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_andExpr);
+		enterRule(_localctx, 92, RULE_andExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(632);
+			setState(646);
 			((AndExprContext)_localctx).main_expr = notExpr();
-			setState(637);
+			setState(651);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(633);
+					setState(647);
 					match(Kand);
-					setState(634);
+					setState(648);
 					((AndExprContext)_localctx).notExpr = notExpr();
 					((AndExprContext)_localctx).rhs.add(((AndExprContext)_localctx).notExpr);
 					}
 					} 
 				}
-				setState(639);
+				setState(653);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
 			}
 			}
 		}
@@ -3755,22 +3854,22 @@ public class JsoniqParser extends Parser {
 
 	public final NotExprContext notExpr() throws RecognitionException {
 		NotExprContext _localctx = new NotExprContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_notExpr);
+		enterRule(_localctx, 94, RULE_notExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(641);
+			setState(655);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,63,_ctx) ) {
 			case 1:
 				{
-				setState(640);
+				setState(654);
 				((NotExprContext)_localctx).Knot = match(Knot);
 				((NotExprContext)_localctx).op.add(((NotExprContext)_localctx).Knot);
 				}
 				break;
 			}
-			setState(643);
+			setState(657);
 			((NotExprContext)_localctx).main_expr = comparisonExpr();
 			}
 		}
@@ -3787,20 +3886,20 @@ public class JsoniqParser extends Parser {
 
 	public static class ComparisonExprContext extends ParserRuleContext {
 		public StringConcatExprContext main_expr;
-		public Token s39;
-		public List<Token> op = new ArrayList<Token>();
 		public Token s40;
+		public List<Token> op = new ArrayList<Token>();
 		public Token s41;
 		public Token s42;
 		public Token s43;
 		public Token s44;
-		public Token s4;
 		public Token s45;
+		public Token s4;
 		public Token s46;
 		public Token s47;
 		public Token s48;
 		public Token s49;
-		public Token _tset1211;
+		public Token s50;
+		public Token _tset1232;
 		public StringConcatExprContext stringConcatExpr;
 		public List<StringConcatExprContext> rhs = new ArrayList<StringConcatExprContext>();
 		public List<StringConcatExprContext> stringConcatExpr() {
@@ -3822,31 +3921,31 @@ public class JsoniqParser extends Parser {
 
 	public final ComparisonExprContext comparisonExpr() throws RecognitionException {
 		ComparisonExprContext _localctx = new ComparisonExprContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_comparisonExpr);
+		enterRule(_localctx, 96, RULE_comparisonExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(645);
+			setState(659);
 			((ComparisonExprContext)_localctx).main_expr = stringConcatExpr();
-			setState(648);
+			setState(662);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49))) != 0)) {
 				{
-				setState(646);
-				((ComparisonExprContext)_localctx)._tset1211 = _input.LT(1);
+				setState(660);
+				((ComparisonExprContext)_localctx)._tset1232 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48))) != 0)) ) {
-					((ComparisonExprContext)_localctx)._tset1211 = (Token)_errHandler.recoverInline(this);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49))) != 0)) ) {
+					((ComparisonExprContext)_localctx)._tset1232 = (Token)_errHandler.recoverInline(this);
 				}
 				else {
 					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				((ComparisonExprContext)_localctx).op.add(((ComparisonExprContext)_localctx)._tset1211);
-				setState(647);
+				((ComparisonExprContext)_localctx).op.add(((ComparisonExprContext)_localctx)._tset1232);
+				setState(661);
 				((ComparisonExprContext)_localctx).stringConcatExpr = stringConcatExpr();
 				((ComparisonExprContext)_localctx).rhs.add(((ComparisonExprContext)_localctx).stringConcatExpr);
 				}
@@ -3888,27 +3987,27 @@ public class JsoniqParser extends Parser {
 
 	public final StringConcatExprContext stringConcatExpr() throws RecognitionException {
 		StringConcatExprContext _localctx = new StringConcatExprContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_stringConcatExpr);
+		enterRule(_localctx, 98, RULE_stringConcatExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(650);
+			setState(664);
 			((StringConcatExprContext)_localctx).main_expr = rangeExpr();
-			setState(655);
+			setState(669);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__49) {
+			while (_la==T__50) {
 				{
 				{
-				setState(651);
-				match(T__49);
-				setState(652);
+				setState(665);
+				match(T__50);
+				setState(666);
 				((StringConcatExprContext)_localctx).rangeExpr = rangeExpr();
 				((StringConcatExprContext)_localctx).rhs.add(((StringConcatExprContext)_localctx).rangeExpr);
 				}
 				}
-				setState(657);
+				setState(671);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3949,20 +4048,20 @@ public class JsoniqParser extends Parser {
 
 	public final RangeExprContext rangeExpr() throws RecognitionException {
 		RangeExprContext _localctx = new RangeExprContext(_ctx, getState());
-		enterRule(_localctx, 96, RULE_rangeExpr);
+		enterRule(_localctx, 100, RULE_rangeExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(658);
+			setState(672);
 			((RangeExprContext)_localctx).main_expr = additiveExpr();
-			setState(661);
+			setState(675);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
 			case 1:
 				{
-				setState(659);
+				setState(673);
 				match(Kto);
-				setState(660);
+				setState(674);
 				((RangeExprContext)_localctx).additiveExpr = additiveExpr();
 				((RangeExprContext)_localctx).rhs.add(((RangeExprContext)_localctx).additiveExpr);
 				}
@@ -3983,10 +4082,10 @@ public class JsoniqParser extends Parser {
 
 	public static class AdditiveExprContext extends ParserRuleContext {
 		public MultiplicativeExprContext main_expr;
-		public Token s51;
-		public List<Token> op = new ArrayList<Token>();
 		public Token s52;
-		public Token _tset1320;
+		public List<Token> op = new ArrayList<Token>();
+		public Token s53;
+		public Token _tset1341;
 		public MultiplicativeExprContext multiplicativeExpr;
 		public List<MultiplicativeExprContext> rhs = new ArrayList<MultiplicativeExprContext>();
 		public List<MultiplicativeExprContext> multiplicativeExpr() {
@@ -4008,42 +4107,42 @@ public class JsoniqParser extends Parser {
 
 	public final AdditiveExprContext additiveExpr() throws RecognitionException {
 		AdditiveExprContext _localctx = new AdditiveExprContext(_ctx, getState());
-		enterRule(_localctx, 98, RULE_additiveExpr);
+		enterRule(_localctx, 102, RULE_additiveExpr);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(663);
+			setState(677);
 			((AdditiveExprContext)_localctx).main_expr = multiplicativeExpr();
-			setState(668);
+			setState(682);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,66,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(664);
-					((AdditiveExprContext)_localctx)._tset1320 = _input.LT(1);
+					setState(678);
+					((AdditiveExprContext)_localctx)._tset1341 = _input.LT(1);
 					_la = _input.LA(1);
-					if ( !(_la==T__50 || _la==T__51) ) {
-						((AdditiveExprContext)_localctx)._tset1320 = (Token)_errHandler.recoverInline(this);
+					if ( !(_la==T__51 || _la==T__52) ) {
+						((AdditiveExprContext)_localctx)._tset1341 = (Token)_errHandler.recoverInline(this);
 					}
 					else {
 						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					((AdditiveExprContext)_localctx).op.add(((AdditiveExprContext)_localctx)._tset1320);
-					setState(665);
+					((AdditiveExprContext)_localctx).op.add(((AdditiveExprContext)_localctx)._tset1341);
+					setState(679);
 					((AdditiveExprContext)_localctx).multiplicativeExpr = multiplicativeExpr();
 					((AdditiveExprContext)_localctx).rhs.add(((AdditiveExprContext)_localctx).multiplicativeExpr);
 					}
 					} 
 				}
-				setState(670);
+				setState(684);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,66,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
 			}
 			}
 		}
@@ -4060,12 +4159,12 @@ public class JsoniqParser extends Parser {
 
 	public static class MultiplicativeExprContext extends ParserRuleContext {
 		public InstanceOfExprContext main_expr;
-		public Token s38;
+		public Token s39;
 		public List<Token> op = new ArrayList<Token>();
-		public Token s53;
 		public Token s54;
 		public Token s55;
-		public Token _tset1348;
+		public Token s56;
+		public Token _tset1369;
 		public InstanceOfExprContext instanceOfExpr;
 		public List<InstanceOfExprContext> rhs = new ArrayList<InstanceOfExprContext>();
 		public List<InstanceOfExprContext> instanceOfExpr() {
@@ -4087,37 +4186,37 @@ public class JsoniqParser extends Parser {
 
 	public final MultiplicativeExprContext multiplicativeExpr() throws RecognitionException {
 		MultiplicativeExprContext _localctx = new MultiplicativeExprContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_multiplicativeExpr);
+		enterRule(_localctx, 104, RULE_multiplicativeExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(671);
+			setState(685);
 			((MultiplicativeExprContext)_localctx).main_expr = instanceOfExpr();
-			setState(676);
+			setState(690);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__37) | (1L << T__52) | (1L << T__53) | (1L << T__54))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__38) | (1L << T__53) | (1L << T__54) | (1L << T__55))) != 0)) {
 				{
 				{
-				setState(672);
-				((MultiplicativeExprContext)_localctx)._tset1348 = _input.LT(1);
+				setState(686);
+				((MultiplicativeExprContext)_localctx)._tset1369 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__37) | (1L << T__52) | (1L << T__53) | (1L << T__54))) != 0)) ) {
-					((MultiplicativeExprContext)_localctx)._tset1348 = (Token)_errHandler.recoverInline(this);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__38) | (1L << T__53) | (1L << T__54) | (1L << T__55))) != 0)) ) {
+					((MultiplicativeExprContext)_localctx)._tset1369 = (Token)_errHandler.recoverInline(this);
 				}
 				else {
 					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				((MultiplicativeExprContext)_localctx).op.add(((MultiplicativeExprContext)_localctx)._tset1348);
-				setState(673);
+				((MultiplicativeExprContext)_localctx).op.add(((MultiplicativeExprContext)_localctx)._tset1369);
+				setState(687);
 				((MultiplicativeExprContext)_localctx).instanceOfExpr = instanceOfExpr();
 				((MultiplicativeExprContext)_localctx).rhs.add(((MultiplicativeExprContext)_localctx).instanceOfExpr);
 				}
 				}
-				setState(678);
+				setState(692);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4158,22 +4257,22 @@ public class JsoniqParser extends Parser {
 
 	public final InstanceOfExprContext instanceOfExpr() throws RecognitionException {
 		InstanceOfExprContext _localctx = new InstanceOfExprContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_instanceOfExpr);
+		enterRule(_localctx, 106, RULE_instanceOfExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(679);
+			setState(693);
 			((InstanceOfExprContext)_localctx).main_expr = isStaticallyExpr();
-			setState(683);
+			setState(697);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
 			case 1:
 				{
-				setState(680);
+				setState(694);
 				match(Kinstance);
-				setState(681);
+				setState(695);
 				match(Kof);
-				setState(682);
+				setState(696);
 				((InstanceOfExprContext)_localctx).seq = sequenceType();
 				}
 				break;
@@ -4215,22 +4314,22 @@ public class JsoniqParser extends Parser {
 
 	public final IsStaticallyExprContext isStaticallyExpr() throws RecognitionException {
 		IsStaticallyExprContext _localctx = new IsStaticallyExprContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_isStaticallyExpr);
+		enterRule(_localctx, 108, RULE_isStaticallyExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(685);
+			setState(699);
 			((IsStaticallyExprContext)_localctx).main_expr = treatExpr();
-			setState(689);
+			setState(703);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
 			case 1:
 				{
-				setState(686);
+				setState(700);
 				match(Kis);
-				setState(687);
+				setState(701);
 				match(Kstatically);
-				setState(688);
+				setState(702);
 				((IsStaticallyExprContext)_localctx).seq = sequenceType();
 				}
 				break;
@@ -4272,22 +4371,22 @@ public class JsoniqParser extends Parser {
 
 	public final TreatExprContext treatExpr() throws RecognitionException {
 		TreatExprContext _localctx = new TreatExprContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_treatExpr);
+		enterRule(_localctx, 110, RULE_treatExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(691);
+			setState(705);
 			((TreatExprContext)_localctx).main_expr = castableExpr();
-			setState(695);
+			setState(709);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
 			case 1:
 				{
-				setState(692);
+				setState(706);
 				match(Ktreat);
-				setState(693);
+				setState(707);
 				match(Kas);
-				setState(694);
+				setState(708);
 				((TreatExprContext)_localctx).seq = sequenceType();
 				}
 				break;
@@ -4329,22 +4428,22 @@ public class JsoniqParser extends Parser {
 
 	public final CastableExprContext castableExpr() throws RecognitionException {
 		CastableExprContext _localctx = new CastableExprContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_castableExpr);
+		enterRule(_localctx, 112, RULE_castableExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(697);
+			setState(711);
 			((CastableExprContext)_localctx).main_expr = castExpr();
-			setState(701);
+			setState(715);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
 			case 1:
 				{
-				setState(698);
+				setState(712);
 				match(Kcastable);
-				setState(699);
+				setState(713);
 				match(Kas);
-				setState(700);
+				setState(714);
 				((CastableExprContext)_localctx).single = singleType();
 				}
 				break;
@@ -4386,22 +4485,22 @@ public class JsoniqParser extends Parser {
 
 	public final CastExprContext castExpr() throws RecognitionException {
 		CastExprContext _localctx = new CastExprContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_castExpr);
+		enterRule(_localctx, 114, RULE_castExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(703);
+			setState(717);
 			((CastExprContext)_localctx).main_expr = arrowExpr();
-			setState(707);
+			setState(721);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
 			case 1:
 				{
-				setState(704);
+				setState(718);
 				match(Kcast);
-				setState(705);
+				setState(719);
 				match(Kas);
-				setState(706);
+				setState(720);
 				((CastExprContext)_localctx).single = singleType();
 				}
 				break;
@@ -4445,35 +4544,35 @@ public class JsoniqParser extends Parser {
 
 	public final ArrowExprContext arrowExpr() throws RecognitionException {
 		ArrowExprContext _localctx = new ArrowExprContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_arrowExpr);
+		enterRule(_localctx, 116, RULE_arrowExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(709);
+			setState(723);
 			((ArrowExprContext)_localctx).main_expr = unaryExpr();
-			setState(716);
+			setState(730);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,73,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
 					{
-					setState(710);
+					setState(724);
 					match(T__3);
-					setState(711);
-					match(T__47);
+					setState(725);
+					match(T__48);
 					}
-					setState(713);
+					setState(727);
 					((ArrowExprContext)_localctx).functionCall = functionCall();
 					((ArrowExprContext)_localctx).function_call_expr.add(((ArrowExprContext)_localctx).functionCall);
 					}
 					} 
 				}
-				setState(718);
+				setState(732);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,73,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
 			}
 			}
 		}
@@ -4489,10 +4588,10 @@ public class JsoniqParser extends Parser {
 	}
 
 	public static class UnaryExprContext extends ParserRuleContext {
-		public Token s52;
+		public Token s53;
 		public List<Token> op = new ArrayList<Token>();
-		public Token s51;
-		public Token _tset1508;
+		public Token s52;
+		public Token _tset1529;
 		public ValueExprContext main_expr;
 		public ValueExprContext valueExpr() {
 			return getRuleContext(ValueExprContext.class,0);
@@ -4510,36 +4609,36 @@ public class JsoniqParser extends Parser {
 
 	public final UnaryExprContext unaryExpr() throws RecognitionException {
 		UnaryExprContext _localctx = new UnaryExprContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_unaryExpr);
+		enterRule(_localctx, 118, RULE_unaryExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(722);
+			setState(736);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__50 || _la==T__51) {
+			while (_la==T__51 || _la==T__52) {
 				{
 				{
-				setState(719);
-				((UnaryExprContext)_localctx)._tset1508 = _input.LT(1);
+				setState(733);
+				((UnaryExprContext)_localctx)._tset1529 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__50 || _la==T__51) ) {
-					((UnaryExprContext)_localctx)._tset1508 = (Token)_errHandler.recoverInline(this);
+				if ( !(_la==T__51 || _la==T__52) ) {
+					((UnaryExprContext)_localctx)._tset1529 = (Token)_errHandler.recoverInline(this);
 				}
 				else {
 					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				((UnaryExprContext)_localctx).op.add(((UnaryExprContext)_localctx)._tset1508);
+				((UnaryExprContext)_localctx).op.add(((UnaryExprContext)_localctx)._tset1529);
 				}
 				}
-				setState(724);
+				setState(738);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(725);
+			setState(739);
 			((UnaryExprContext)_localctx).main_expr = valueExpr();
 			}
 		}
@@ -4576,19 +4675,19 @@ public class JsoniqParser extends Parser {
 
 	public final ValueExprContext valueExpr() throws RecognitionException {
 		ValueExprContext _localctx = new ValueExprContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_valueExpr);
+		enterRule(_localctx, 120, RULE_valueExpr);
 		try {
-			setState(729);
+			setState(743);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__6:
 			case T__24:
 			case T__25:
 			case T__27:
-			case T__35:
-			case T__57:
-			case T__60:
-			case T__62:
+			case T__36:
+			case T__58:
+			case T__61:
+			case T__63:
 			case Kfor:
 			case Klet:
 			case Kwhere:
@@ -4642,14 +4741,14 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(727);
+				setState(741);
 				((ValueExprContext)_localctx).simpleMap_expr = simpleMapExpr();
 				}
 				break;
-			case T__55:
+			case T__56:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(728);
+				setState(742);
 				((ValueExprContext)_localctx).validate_expr = validateExpr();
 				}
 				break;
@@ -4688,21 +4787,21 @@ public class JsoniqParser extends Parser {
 
 	public final ValidateExprContext validateExpr() throws RecognitionException {
 		ValidateExprContext _localctx = new ValidateExprContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_validateExpr);
+		enterRule(_localctx, 122, RULE_validateExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(731);
-			match(T__55);
-			setState(732);
-			match(T__29);
-			setState(733);
+			setState(745);
+			match(T__56);
+			setState(746);
+			match(T__30);
+			setState(747);
 			sequenceType();
-			setState(734);
+			setState(748);
 			match(T__27);
-			setState(735);
+			setState(749);
 			expr();
-			setState(736);
+			setState(750);
 			match(T__28);
 			}
 		}
@@ -4740,27 +4839,27 @@ public class JsoniqParser extends Parser {
 
 	public final SimpleMapExprContext simpleMapExpr() throws RecognitionException {
 		SimpleMapExprContext _localctx = new SimpleMapExprContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_simpleMapExpr);
+		enterRule(_localctx, 124, RULE_simpleMapExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(738);
+			setState(752);
 			((SimpleMapExprContext)_localctx).main_expr = postFixExpr();
-			setState(743);
+			setState(757);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__56) {
+			while (_la==T__57) {
 				{
 				{
-				setState(739);
-				match(T__56);
-				setState(740);
+				setState(753);
+				match(T__57);
+				setState(754);
 				((SimpleMapExprContext)_localctx).postFixExpr = postFixExpr();
 				((SimpleMapExprContext)_localctx).map_expr.add(((SimpleMapExprContext)_localctx).postFixExpr);
 				}
 				}
-				setState(745);
+				setState(759);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4825,58 +4924,58 @@ public class JsoniqParser extends Parser {
 
 	public final PostFixExprContext postFixExpr() throws RecognitionException {
 		PostFixExprContext _localctx = new PostFixExprContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_postFixExpr);
+		enterRule(_localctx, 126, RULE_postFixExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(746);
+			setState(760);
 			((PostFixExprContext)_localctx).main_expr = primaryExpr();
-			setState(754);
+			setState(768);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,78,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(752);
+					setState(766);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,77,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
 					case 1:
 						{
-						setState(747);
+						setState(761);
 						arrayLookup();
 						}
 						break;
 					case 2:
 						{
-						setState(748);
+						setState(762);
 						predicate();
 						}
 						break;
 					case 3:
 						{
-						setState(749);
+						setState(763);
 						objectLookup();
 						}
 						break;
 					case 4:
 						{
-						setState(750);
+						setState(764);
 						arrayUnboxing();
 						}
 						break;
 					case 5:
 						{
-						setState(751);
+						setState(765);
 						argumentList();
 						}
 						break;
 					}
 					} 
 				}
-				setState(756);
+				setState(770);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,78,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
 			}
 			}
 		}
@@ -4908,20 +5007,20 @@ public class JsoniqParser extends Parser {
 
 	public final ArrayLookupContext arrayLookup() throws RecognitionException {
 		ArrayLookupContext _localctx = new ArrayLookupContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_arrayLookup);
+		enterRule(_localctx, 128, RULE_arrayLookup);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(757);
-			match(T__57);
-			setState(758);
-			match(T__57);
-			setState(759);
-			expr();
-			setState(760);
+			setState(771);
 			match(T__58);
-			setState(761);
+			setState(772);
 			match(T__58);
+			setState(773);
+			expr();
+			setState(774);
+			match(T__59);
+			setState(775);
+			match(T__59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -4949,14 +5048,14 @@ public class JsoniqParser extends Parser {
 
 	public final ArrayUnboxingContext arrayUnboxing() throws RecognitionException {
 		ArrayUnboxingContext _localctx = new ArrayUnboxingContext(_ctx, getState());
-		enterRule(_localctx, 126, RULE_arrayUnboxing);
+		enterRule(_localctx, 130, RULE_arrayUnboxing);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(763);
-			match(T__57);
-			setState(764);
+			setState(777);
 			match(T__58);
+			setState(778);
+			match(T__59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -4987,16 +5086,16 @@ public class JsoniqParser extends Parser {
 
 	public final PredicateContext predicate() throws RecognitionException {
 		PredicateContext _localctx = new PredicateContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_predicate);
+		enterRule(_localctx, 132, RULE_predicate);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(766);
-			match(T__57);
-			setState(767);
-			expr();
-			setState(768);
+			setState(780);
 			match(T__58);
+			setState(781);
+			expr();
+			setState(782);
+			match(T__59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -5046,13 +5145,13 @@ public class JsoniqParser extends Parser {
 
 	public final ObjectLookupContext objectLookup() throws RecognitionException {
 		ObjectLookupContext _localctx = new ObjectLookupContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_objectLookup);
+		enterRule(_localctx, 134, RULE_objectLookup);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(770);
-			match(T__59);
-			setState(777);
+			setState(784);
+			match(T__60);
+			setState(791);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kfor:
@@ -5104,37 +5203,37 @@ public class JsoniqParser extends Parser {
 			case Kfalse:
 			case NullLiteral:
 				{
-				setState(771);
+				setState(785);
 				((ObjectLookupContext)_localctx).kw = keyWords();
 				}
 				break;
 			case STRING:
 				{
-				setState(772);
+				setState(786);
 				((ObjectLookupContext)_localctx).lt = stringLiteral();
 				}
 				break;
 			case NCName:
 				{
-				setState(773);
+				setState(787);
 				((ObjectLookupContext)_localctx).nc = match(NCName);
 				}
 				break;
 			case T__25:
 				{
-				setState(774);
+				setState(788);
 				((ObjectLookupContext)_localctx).pe = parenthesizedExpr();
 				}
 				break;
-			case T__35:
+			case T__36:
 				{
-				setState(775);
+				setState(789);
 				((ObjectLookupContext)_localctx).vr = varRef();
 				}
 				break;
-			case T__60:
+			case T__61:
 				{
-				setState(776);
+				setState(790);
 				((ObjectLookupContext)_localctx).ci = contextItemExpr();
 				}
 				break;
@@ -5202,106 +5301,106 @@ public class JsoniqParser extends Parser {
 
 	public final PrimaryExprContext primaryExpr() throws RecognitionException {
 		PrimaryExprContext _localctx = new PrimaryExprContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_primaryExpr);
+		enterRule(_localctx, 136, RULE_primaryExpr);
 		try {
-			setState(793);
+			setState(807);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(779);
+				setState(793);
 				match(NullLiteral);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(780);
+				setState(794);
 				match(Ktrue);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(781);
+				setState(795);
 				match(Kfalse);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(782);
+				setState(796);
 				match(Literal);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(783);
+				setState(797);
 				stringLiteral();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(784);
+				setState(798);
 				varRef();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(785);
+				setState(799);
 				parenthesizedExpr();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(786);
+				setState(800);
 				contextItemExpr();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(787);
+				setState(801);
 				objectConstructor();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(788);
+				setState(802);
 				functionCall();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(789);
+				setState(803);
 				orderedExpr();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(790);
+				setState(804);
 				unorderedExpr();
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(791);
+				setState(805);
 				arrayConstructor();
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(792);
+				setState(806);
 				functionItemExpr();
 				}
 				break;
@@ -5336,13 +5435,13 @@ public class JsoniqParser extends Parser {
 
 	public final VarRefContext varRef() throws RecognitionException {
 		VarRefContext _localctx = new VarRefContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_varRef);
+		enterRule(_localctx, 138, RULE_varRef);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(795);
-			match(T__35);
-			setState(796);
+			setState(809);
+			match(T__36);
+			setState(810);
 			((VarRefContext)_localctx).var_name = qname();
 			}
 		}
@@ -5374,24 +5473,24 @@ public class JsoniqParser extends Parser {
 
 	public final ParenthesizedExprContext parenthesizedExpr() throws RecognitionException {
 		ParenthesizedExprContext _localctx = new ParenthesizedExprContext(_ctx, getState());
-		enterRule(_localctx, 136, RULE_parenthesizedExpr);
+		enterRule(_localctx, 140, RULE_parenthesizedExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(798);
+			setState(812);
 			match(T__25);
-			setState(800);
+			setState(814);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__35) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__57) | (1L << T__60) | (1L << T__62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (STRING - 65)) | (1L << (NullLiteral - 65)) | (1L << (Literal - 65)) | (1L << (NCName - 65)))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__36) | (1L << T__51) | (1L << T__52) | (1L << T__56) | (1L << T__58) | (1L << T__61))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (Kfor - 64)) | (1L << (Klet - 64)) | (1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
-				setState(799);
+				setState(813);
 				expr();
 				}
 			}
 
-			setState(802);
+			setState(816);
 			match(T__26);
 			}
 		}
@@ -5420,12 +5519,12 @@ public class JsoniqParser extends Parser {
 
 	public final ContextItemExprContext contextItemExpr() throws RecognitionException {
 		ContextItemExprContext _localctx = new ContextItemExprContext(_ctx, getState());
-		enterRule(_localctx, 138, RULE_contextItemExpr);
+		enterRule(_localctx, 142, RULE_contextItemExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(804);
-			match(T__60);
+			setState(818);
+			match(T__61);
 			}
 		}
 		catch (RecognitionException re) {
@@ -5456,17 +5555,17 @@ public class JsoniqParser extends Parser {
 
 	public final OrderedExprContext orderedExpr() throws RecognitionException {
 		OrderedExprContext _localctx = new OrderedExprContext(_ctx, getState());
-		enterRule(_localctx, 140, RULE_orderedExpr);
+		enterRule(_localctx, 144, RULE_orderedExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(806);
+			setState(820);
 			match(T__6);
-			setState(807);
+			setState(821);
 			match(T__27);
-			setState(808);
+			setState(822);
 			expr();
-			setState(809);
+			setState(823);
 			match(T__28);
 			}
 		}
@@ -5498,17 +5597,17 @@ public class JsoniqParser extends Parser {
 
 	public final UnorderedExprContext unorderedExpr() throws RecognitionException {
 		UnorderedExprContext _localctx = new UnorderedExprContext(_ctx, getState());
-		enterRule(_localctx, 142, RULE_unorderedExpr);
+		enterRule(_localctx, 146, RULE_unorderedExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(811);
+			setState(825);
 			match(Kunordered);
-			setState(812);
+			setState(826);
 			match(T__27);
-			setState(813);
+			setState(827);
 			expr();
-			setState(814);
+			setState(828);
 			match(T__28);
 			}
 		}
@@ -5544,13 +5643,13 @@ public class JsoniqParser extends Parser {
 
 	public final FunctionCallContext functionCall() throws RecognitionException {
 		FunctionCallContext _localctx = new FunctionCallContext(_ctx, getState());
-		enterRule(_localctx, 144, RULE_functionCall);
+		enterRule(_localctx, 148, RULE_functionCall);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(816);
+			setState(830);
 			((FunctionCallContext)_localctx).fn_name = qname();
-			setState(817);
+			setState(831);
 			argumentList();
 			}
 		}
@@ -5587,39 +5686,39 @@ public class JsoniqParser extends Parser {
 
 	public final ArgumentListContext argumentList() throws RecognitionException {
 		ArgumentListContext _localctx = new ArgumentListContext(_ctx, getState());
-		enterRule(_localctx, 146, RULE_argumentList);
+		enterRule(_localctx, 150, RULE_argumentList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(819);
+			setState(833);
 			match(T__25);
-			setState(826);
+			setState(840);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__35) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__57) | (1L << T__60) | (1L << T__62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (STRING - 65)) | (1L << (ArgumentPlaceholder - 65)) | (1L << (NullLiteral - 65)) | (1L << (Literal - 65)) | (1L << (NCName - 65)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__36) | (1L << T__51) | (1L << T__52) | (1L << T__56) | (1L << T__58) | (1L << T__61))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (Kfor - 64)) | (1L << (Klet - 64)) | (1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (STRING - 64)) | (1L << (ArgumentPlaceholder - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
 				{
-				setState(820);
+				setState(834);
 				((ArgumentListContext)_localctx).argument = argument();
 				((ArgumentListContext)_localctx).args.add(((ArgumentListContext)_localctx).argument);
-				setState(822);
+				setState(836);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__20) {
 					{
-					setState(821);
+					setState(835);
 					match(T__20);
 					}
 				}
 
 				}
 				}
-				setState(828);
+				setState(842);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(829);
+			setState(843);
 			match(T__26);
 			}
 		}
@@ -5652,22 +5751,22 @@ public class JsoniqParser extends Parser {
 
 	public final ArgumentContext argument() throws RecognitionException {
 		ArgumentContext _localctx = new ArgumentContext(_ctx, getState());
-		enterRule(_localctx, 148, RULE_argument);
+		enterRule(_localctx, 152, RULE_argument);
 		try {
-			setState(833);
+			setState(847);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__6:
 			case T__24:
 			case T__25:
 			case T__27:
-			case T__35:
-			case T__50:
+			case T__36:
 			case T__51:
-			case T__55:
-			case T__57:
-			case T__60:
-			case T__62:
+			case T__52:
+			case T__56:
+			case T__58:
+			case T__61:
+			case T__63:
 			case Kfor:
 			case Klet:
 			case Kwhere:
@@ -5721,14 +5820,14 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(831);
+				setState(845);
 				exprSingle();
 				}
 				break;
 			case ArgumentPlaceholder:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(832);
+				setState(846);
 				match(ArgumentPlaceholder);
 				}
 				break;
@@ -5767,9 +5866,9 @@ public class JsoniqParser extends Parser {
 
 	public final FunctionItemExprContext functionItemExpr() throws RecognitionException {
 		FunctionItemExprContext _localctx = new FunctionItemExprContext(_ctx, getState());
-		enterRule(_localctx, 150, RULE_functionItemExpr);
+		enterRule(_localctx, 154, RULE_functionItemExpr);
 		try {
-			setState(837);
+			setState(851);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kfor:
@@ -5823,14 +5922,14 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(835);
+				setState(849);
 				namedFunctionRef();
 				}
 				break;
 			case T__24:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(836);
+				setState(850);
 				inlineFunctionExpr();
 				}
 				break;
@@ -5869,15 +5968,15 @@ public class JsoniqParser extends Parser {
 
 	public final NamedFunctionRefContext namedFunctionRef() throws RecognitionException {
 		NamedFunctionRefContext _localctx = new NamedFunctionRefContext(_ctx, getState());
-		enterRule(_localctx, 152, RULE_namedFunctionRef);
+		enterRule(_localctx, 156, RULE_namedFunctionRef);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(839);
+			setState(853);
 			((NamedFunctionRefContext)_localctx).fn_name = qname();
-			setState(840);
-			match(T__61);
-			setState(841);
+			setState(854);
+			match(T__62);
+			setState(855);
 			((NamedFunctionRefContext)_localctx).arity = match(Literal);
 			}
 		}
@@ -5918,53 +6017,53 @@ public class JsoniqParser extends Parser {
 
 	public final InlineFunctionExprContext inlineFunctionExpr() throws RecognitionException {
 		InlineFunctionExprContext _localctx = new InlineFunctionExprContext(_ctx, getState());
-		enterRule(_localctx, 154, RULE_inlineFunctionExpr);
+		enterRule(_localctx, 158, RULE_inlineFunctionExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(843);
+			setState(857);
 			match(T__24);
-			setState(844);
+			setState(858);
 			match(T__25);
-			setState(846);
+			setState(860);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__35) {
+			if (_la==T__36) {
 				{
-				setState(845);
+				setState(859);
 				paramList();
 				}
 			}
 
-			setState(848);
+			setState(862);
 			match(T__26);
-			setState(851);
+			setState(865);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(849);
+				setState(863);
 				match(Kas);
-				setState(850);
+				setState(864);
 				((InlineFunctionExprContext)_localctx).return_type = sequenceType();
 				}
 			}
 
 			{
-			setState(853);
+			setState(867);
 			match(T__27);
-			setState(855);
+			setState(869);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__35) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__57) | (1L << T__60) | (1L << T__62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (STRING - 65)) | (1L << (NullLiteral - 65)) | (1L << (Literal - 65)) | (1L << (NCName - 65)))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__36) | (1L << T__51) | (1L << T__52) | (1L << T__56) | (1L << T__58) | (1L << T__61))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (Kfor - 64)) | (1L << (Klet - 64)) | (1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
-				setState(854);
+				setState(868);
 				((InlineFunctionExprContext)_localctx).fn_body = expr();
 				}
 			}
 
-			setState(857);
+			setState(871);
 			match(T__28);
 			}
 			}
@@ -5982,11 +6081,11 @@ public class JsoniqParser extends Parser {
 
 	public static class SequenceTypeContext extends ParserRuleContext {
 		public ItemTypeContext item;
-		public Token s113;
+		public Token s114;
 		public List<Token> question = new ArrayList<Token>();
-		public Token s38;
+		public Token s39;
 		public List<Token> star = new ArrayList<Token>();
-		public Token s51;
+		public Token s52;
 		public List<Token> plus = new ArrayList<Token>();
 		public ItemTypeContext itemType() {
 			return getRuleContext(ItemTypeContext.class,0);
@@ -6004,17 +6103,17 @@ public class JsoniqParser extends Parser {
 
 	public final SequenceTypeContext sequenceType() throws RecognitionException {
 		SequenceTypeContext _localctx = new SequenceTypeContext(_ctx, getState());
-		enterRule(_localctx, 156, RULE_sequenceType);
+		enterRule(_localctx, 160, RULE_sequenceType);
 		try {
-			setState(867);
+			setState(881);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__25:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(859);
+				setState(873);
 				match(T__25);
-				setState(860);
+				setState(874);
 				match(T__26);
 				}
 				break;
@@ -6070,30 +6169,30 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(861);
+				setState(875);
 				((SequenceTypeContext)_localctx).item = itemType();
-				setState(865);
+				setState(879);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
 				case 1:
 					{
-					setState(862);
-					((SequenceTypeContext)_localctx).s113 = match(ArgumentPlaceholder);
-					((SequenceTypeContext)_localctx).question.add(((SequenceTypeContext)_localctx).s113);
+					setState(876);
+					((SequenceTypeContext)_localctx).s114 = match(ArgumentPlaceholder);
+					((SequenceTypeContext)_localctx).question.add(((SequenceTypeContext)_localctx).s114);
 					}
 					break;
 				case 2:
 					{
-					setState(863);
-					((SequenceTypeContext)_localctx).s38 = match(T__37);
-					((SequenceTypeContext)_localctx).star.add(((SequenceTypeContext)_localctx).s38);
+					setState(877);
+					((SequenceTypeContext)_localctx).s39 = match(T__38);
+					((SequenceTypeContext)_localctx).star.add(((SequenceTypeContext)_localctx).s39);
 					}
 					break;
 				case 3:
 					{
-					setState(864);
-					((SequenceTypeContext)_localctx).s51 = match(T__50);
-					((SequenceTypeContext)_localctx).plus.add(((SequenceTypeContext)_localctx).s51);
+					setState(878);
+					((SequenceTypeContext)_localctx).s52 = match(T__51);
+					((SequenceTypeContext)_localctx).plus.add(((SequenceTypeContext)_localctx).s52);
 					}
 					break;
 				}
@@ -6115,7 +6214,7 @@ public class JsoniqParser extends Parser {
 	}
 
 	public static class ObjectConstructorContext extends ParserRuleContext {
-		public Token s63;
+		public Token s64;
 		public List<Token> merge_operator = new ArrayList<Token>();
 		public List<PairConstructorContext> pairConstructor() {
 			return getRuleContexts(PairConstructorContext.class);
@@ -6139,57 +6238,57 @@ public class JsoniqParser extends Parser {
 
 	public final ObjectConstructorContext objectConstructor() throws RecognitionException {
 		ObjectConstructorContext _localctx = new ObjectConstructorContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_objectConstructor);
+		enterRule(_localctx, 162, RULE_objectConstructor);
 		int _la;
 		try {
-			setState(885);
+			setState(899);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__27:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(869);
+				setState(883);
 				match(T__27);
-				setState(878);
+				setState(892);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__35) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__57) | (1L << T__60) | (1L << T__62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (STRING - 65)) | (1L << (NullLiteral - 65)) | (1L << (Literal - 65)) | (1L << (NCName - 65)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__36) | (1L << T__51) | (1L << T__52) | (1L << T__56) | (1L << T__58) | (1L << T__61))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (Kfor - 64)) | (1L << (Klet - 64)) | (1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 					{
-					setState(870);
+					setState(884);
 					pairConstructor();
-					setState(875);
+					setState(889);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__20) {
 						{
 						{
-						setState(871);
+						setState(885);
 						match(T__20);
-						setState(872);
+						setState(886);
 						pairConstructor();
 						}
 						}
-						setState(877);
+						setState(891);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(880);
+				setState(894);
 				match(T__28);
 				}
 				break;
-			case T__62:
+			case T__63:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(881);
-				((ObjectConstructorContext)_localctx).s63 = match(T__62);
-				((ObjectConstructorContext)_localctx).merge_operator.add(((ObjectConstructorContext)_localctx).s63);
-				setState(882);
+				setState(895);
+				((ObjectConstructorContext)_localctx).s64 = match(T__63);
+				((ObjectConstructorContext)_localctx).merge_operator.add(((ObjectConstructorContext)_localctx).s64);
+				setState(896);
 				expr();
-				setState(883);
-				match(T__63);
+				setState(897);
+				match(T__64);
 				}
 				break;
 			default:
@@ -6228,29 +6327,29 @@ public class JsoniqParser extends Parser {
 
 	public final ItemTypeContext itemType() throws RecognitionException {
 		ItemTypeContext _localctx = new ItemTypeContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_itemType);
+		enterRule(_localctx, 164, RULE_itemType);
 		try {
-			setState(890);
+			setState(904);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,94,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,95,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(887);
+				setState(901);
 				qname();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(888);
+				setState(902);
 				match(NullLiteral);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(889);
+				setState(903);
 				functionTest();
 				}
 				break;
@@ -6287,22 +6386,22 @@ public class JsoniqParser extends Parser {
 
 	public final FunctionTestContext functionTest() throws RecognitionException {
 		FunctionTestContext _localctx = new FunctionTestContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_functionTest);
+		enterRule(_localctx, 166, RULE_functionTest);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(894);
+			setState(908);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,95,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
 			case 1:
 				{
-				setState(892);
+				setState(906);
 				anyFunctionTest();
 				}
 				break;
 			case 2:
 				{
-				setState(893);
+				setState(907);
 				typedFunctionTest();
 				}
 				break;
@@ -6334,17 +6433,17 @@ public class JsoniqParser extends Parser {
 
 	public final AnyFunctionTestContext anyFunctionTest() throws RecognitionException {
 		AnyFunctionTestContext _localctx = new AnyFunctionTestContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_anyFunctionTest);
+		enterRule(_localctx, 168, RULE_anyFunctionTest);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(896);
+			setState(910);
 			match(T__24);
-			setState(897);
+			setState(911);
 			match(T__25);
-			setState(898);
-			match(T__37);
-			setState(899);
+			setState(912);
+			match(T__38);
+			setState(913);
 			match(T__26);
 			}
 		}
@@ -6382,48 +6481,48 @@ public class JsoniqParser extends Parser {
 
 	public final TypedFunctionTestContext typedFunctionTest() throws RecognitionException {
 		TypedFunctionTestContext _localctx = new TypedFunctionTestContext(_ctx, getState());
-		enterRule(_localctx, 166, RULE_typedFunctionTest);
+		enterRule(_localctx, 170, RULE_typedFunctionTest);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(901);
+			setState(915);
 			match(T__24);
-			setState(902);
+			setState(916);
 			match(T__25);
-			setState(911);
+			setState(925);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__24 || _la==T__25 || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (NullLiteral - 65)) | (1L << (NCName - 65)))) != 0)) {
+			if (_la==T__24 || _la==T__25 || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (Kfor - 66)) | (1L << (Klet - 66)) | (1L << (Kwhere - 66)) | (1L << (Kgroup - 66)) | (1L << (Kby - 66)) | (1L << (Korder - 66)) | (1L << (Kreturn - 66)) | (1L << (Kif - 66)) | (1L << (Kin - 66)) | (1L << (Kas - 66)) | (1L << (Kat - 66)) | (1L << (Kallowing - 66)) | (1L << (Kempty - 66)) | (1L << (Kcount - 66)) | (1L << (Kstable - 66)) | (1L << (Kascending - 66)) | (1L << (Kdescending - 66)) | (1L << (Ksome - 66)) | (1L << (Kevery - 66)) | (1L << (Ksatisfies - 66)) | (1L << (Kcollation - 66)) | (1L << (Kgreatest - 66)) | (1L << (Kleast - 66)) | (1L << (Kswitch - 66)) | (1L << (Kcase - 66)) | (1L << (Ktry - 66)) | (1L << (Kcatch - 66)) | (1L << (Kdefault - 66)) | (1L << (Kthen - 66)) | (1L << (Kelse - 66)) | (1L << (Ktypeswitch - 66)) | (1L << (Kor - 66)) | (1L << (Kand - 66)) | (1L << (Knot - 66)) | (1L << (Kto - 66)) | (1L << (Kinstance - 66)) | (1L << (Kof - 66)) | (1L << (Kstatically - 66)) | (1L << (Kis - 66)) | (1L << (Ktreat - 66)) | (1L << (Kcast - 66)) | (1L << (Kcastable - 66)) | (1L << (Kversion - 66)) | (1L << (Kjsoniq - 66)) | (1L << (Kunordered - 66)) | (1L << (Ktrue - 66)) | (1L << (Kfalse - 66)) | (1L << (NullLiteral - 66)) | (1L << (NCName - 66)))) != 0)) {
 				{
-				setState(903);
+				setState(917);
 				((TypedFunctionTestContext)_localctx).sequenceType = sequenceType();
 				((TypedFunctionTestContext)_localctx).st.add(((TypedFunctionTestContext)_localctx).sequenceType);
-				setState(908);
+				setState(922);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__20) {
 					{
 					{
-					setState(904);
+					setState(918);
 					match(T__20);
-					setState(905);
+					setState(919);
 					((TypedFunctionTestContext)_localctx).sequenceType = sequenceType();
 					((TypedFunctionTestContext)_localctx).st.add(((TypedFunctionTestContext)_localctx).sequenceType);
 					}
 					}
-					setState(910);
+					setState(924);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(913);
+			setState(927);
 			match(T__26);
-			setState(914);
+			setState(928);
 			match(Kas);
-			setState(915);
+			setState(929);
 			((TypedFunctionTestContext)_localctx).rt = sequenceType();
 			}
 		}
@@ -6440,7 +6539,7 @@ public class JsoniqParser extends Parser {
 
 	public static class SingleTypeContext extends ParserRuleContext {
 		public ItemTypeContext item;
-		public Token s113;
+		public Token s114;
 		public List<Token> question = new ArrayList<Token>();
 		public ItemTypeContext itemType() {
 			return getRuleContext(ItemTypeContext.class,0);
@@ -6458,20 +6557,20 @@ public class JsoniqParser extends Parser {
 
 	public final SingleTypeContext singleType() throws RecognitionException {
 		SingleTypeContext _localctx = new SingleTypeContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_singleType);
+		enterRule(_localctx, 172, RULE_singleType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(917);
+			setState(931);
 			((SingleTypeContext)_localctx).item = itemType();
-			setState(919);
+			setState(933);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
 			case 1:
 				{
-				setState(918);
-				((SingleTypeContext)_localctx).s113 = match(ArgumentPlaceholder);
-				((SingleTypeContext)_localctx).question.add(((SingleTypeContext)_localctx).s113);
+				setState(932);
+				((SingleTypeContext)_localctx).s114 = match(ArgumentPlaceholder);
+				((SingleTypeContext)_localctx).question.add(((SingleTypeContext)_localctx).s114);
 				}
 				break;
 			}
@@ -6512,28 +6611,28 @@ public class JsoniqParser extends Parser {
 
 	public final PairConstructorContext pairConstructor() throws RecognitionException {
 		PairConstructorContext _localctx = new PairConstructorContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_pairConstructor);
+		enterRule(_localctx, 174, RULE_pairConstructor);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(923);
+			setState(937);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,100,_ctx) ) {
 			case 1:
 				{
-				setState(921);
+				setState(935);
 				((PairConstructorContext)_localctx).lhs = exprSingle();
 				}
 				break;
 			case 2:
 				{
-				setState(922);
+				setState(936);
 				((PairConstructorContext)_localctx).name = match(NCName);
 				}
 				break;
 			}
-			setState(925);
+			setState(939);
 			_la = _input.LA(1);
 			if ( !(_la==T__8 || _la==ArgumentPlaceholder) ) {
 			_errHandler.recoverInline(this);
@@ -6543,7 +6642,7 @@ public class JsoniqParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(926);
+			setState(940);
 			((PairConstructorContext)_localctx).rhs = exprSingle();
 			}
 		}
@@ -6575,25 +6674,25 @@ public class JsoniqParser extends Parser {
 
 	public final ArrayConstructorContext arrayConstructor() throws RecognitionException {
 		ArrayConstructorContext _localctx = new ArrayConstructorContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_arrayConstructor);
+		enterRule(_localctx, 176, RULE_arrayConstructor);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(928);
-			match(T__57);
-			setState(930);
+			setState(942);
+			match(T__58);
+			setState(944);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__35) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__57) | (1L << T__60) | (1L << T__62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (STRING - 65)) | (1L << (NullLiteral - 65)) | (1L << (Literal - 65)) | (1L << (NCName - 65)))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__6) | (1L << T__24) | (1L << T__25) | (1L << T__27) | (1L << T__36) | (1L << T__51) | (1L << T__52) | (1L << T__56) | (1L << T__58) | (1L << T__61))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (Kfor - 64)) | (1L << (Klet - 64)) | (1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
-				setState(929);
+				setState(943);
 				expr();
 				}
 			}
 
-			setState(932);
-			match(T__58);
+			setState(946);
+			match(T__59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6624,11 +6723,11 @@ public class JsoniqParser extends Parser {
 
 	public final UriLiteralContext uriLiteral() throws RecognitionException {
 		UriLiteralContext _localctx = new UriLiteralContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_uriLiteral);
+		enterRule(_localctx, 178, RULE_uriLiteral);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(934);
+			setState(948);
 			stringLiteral();
 			}
 		}
@@ -6658,11 +6757,11 @@ public class JsoniqParser extends Parser {
 
 	public final StringLiteralContext stringLiteral() throws RecognitionException {
 		StringLiteralContext _localctx = new StringLiteralContext(_ctx, getState());
-		enterRule(_localctx, 176, RULE_stringLiteral);
+		enterRule(_localctx, 180, RULE_stringLiteral);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(936);
+			setState(950);
 			match(STRING);
 			}
 		}
@@ -6739,14 +6838,14 @@ public class JsoniqParser extends Parser {
 
 	public final KeyWordsContext keyWords() throws RecognitionException {
 		KeyWordsContext _localctx = new KeyWordsContext(_ctx, getState());
-		enterRule(_localctx, 178, RULE_keyWords);
+		enterRule(_localctx, 182, RULE_keyWords);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(938);
+			setState(952);
 			_la = _input.LA(1);
-			if ( !(((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (Kfor - 65)) | (1L << (Klet - 65)) | (1L << (Kwhere - 65)) | (1L << (Kgroup - 65)) | (1L << (Kby - 65)) | (1L << (Korder - 65)) | (1L << (Kreturn - 65)) | (1L << (Kif - 65)) | (1L << (Kin - 65)) | (1L << (Kas - 65)) | (1L << (Kat - 65)) | (1L << (Kallowing - 65)) | (1L << (Kempty - 65)) | (1L << (Kcount - 65)) | (1L << (Kstable - 65)) | (1L << (Kascending - 65)) | (1L << (Kdescending - 65)) | (1L << (Ksome - 65)) | (1L << (Kevery - 65)) | (1L << (Ksatisfies - 65)) | (1L << (Kcollation - 65)) | (1L << (Kgreatest - 65)) | (1L << (Kleast - 65)) | (1L << (Kswitch - 65)) | (1L << (Kcase - 65)) | (1L << (Ktry - 65)) | (1L << (Kcatch - 65)) | (1L << (Kdefault - 65)) | (1L << (Kthen - 65)) | (1L << (Kelse - 65)) | (1L << (Ktypeswitch - 65)) | (1L << (Kor - 65)) | (1L << (Kand - 65)) | (1L << (Knot - 65)) | (1L << (Kto - 65)) | (1L << (Kinstance - 65)) | (1L << (Kof - 65)) | (1L << (Kstatically - 65)) | (1L << (Kis - 65)) | (1L << (Ktreat - 65)) | (1L << (Kcast - 65)) | (1L << (Kcastable - 65)) | (1L << (Kversion - 65)) | (1L << (Kjsoniq - 65)) | (1L << (Kunordered - 65)) | (1L << (Ktrue - 65)) | (1L << (Kfalse - 65)) | (1L << (NullLiteral - 65)))) != 0)) ) {
+			if ( !(((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (Kfor - 66)) | (1L << (Klet - 66)) | (1L << (Kwhere - 66)) | (1L << (Kgroup - 66)) | (1L << (Kby - 66)) | (1L << (Korder - 66)) | (1L << (Kreturn - 66)) | (1L << (Kif - 66)) | (1L << (Kin - 66)) | (1L << (Kas - 66)) | (1L << (Kat - 66)) | (1L << (Kallowing - 66)) | (1L << (Kempty - 66)) | (1L << (Kcount - 66)) | (1L << (Kstable - 66)) | (1L << (Kascending - 66)) | (1L << (Kdescending - 66)) | (1L << (Ksome - 66)) | (1L << (Kevery - 66)) | (1L << (Ksatisfies - 66)) | (1L << (Kcollation - 66)) | (1L << (Kgreatest - 66)) | (1L << (Kleast - 66)) | (1L << (Kswitch - 66)) | (1L << (Kcase - 66)) | (1L << (Ktry - 66)) | (1L << (Kcatch - 66)) | (1L << (Kdefault - 66)) | (1L << (Kthen - 66)) | (1L << (Kelse - 66)) | (1L << (Ktypeswitch - 66)) | (1L << (Kor - 66)) | (1L << (Kand - 66)) | (1L << (Knot - 66)) | (1L << (Kto - 66)) | (1L << (Kinstance - 66)) | (1L << (Kof - 66)) | (1L << (Kstatically - 66)) | (1L << (Kis - 66)) | (1L << (Ktreat - 66)) | (1L << (Kcast - 66)) | (1L << (Kcastable - 66)) | (1L << (Kversion - 66)) | (1L << (Kjsoniq - 66)) | (1L << (Kunordered - 66)) | (1L << (Ktrue - 66)) | (1L << (Kfalse - 66)) | (1L << (NullLiteral - 66)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -6768,7 +6867,7 @@ public class JsoniqParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3}\u03af\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3~\u03bd\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -6778,347 +6877,353 @@ public class JsoniqParser extends Parser {
 		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
 		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
 		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
-		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\3\2\3\2\3\2\3\3\3\3\3\3\3\3"+
-		"\3\3\5\3\u00bf\n\3\3\3\3\3\5\3\u00c3\n\3\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3"+
-		"\5\3\5\3\5\3\5\3\6\3\6\3\6\5\6\u00d3\n\6\3\6\3\6\7\6\u00d7\n\6\f\6\16"+
-		"\6\u00da\13\6\3\6\3\6\3\6\7\6\u00df\n\6\f\6\16\6\u00e2\13\6\3\7\3\7\3"+
-		"\7\3\7\5\7\u00e8\n\7\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\5\t\u00f3\n\t"+
-		"\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3"+
-		"\r\3\r\3\r\3\r\5\r\u0109\n\r\3\r\3\r\3\r\3\r\7\r\u010f\n\r\f\r\16\r\u0112"+
-		"\13\r\3\16\3\16\5\16\u0116\n\16\3\16\5\16\u0119\n\16\3\16\3\16\5\16\u011d"+
-		"\n\16\3\17\3\17\3\20\3\20\3\20\3\20\3\20\5\20\u0126\n\20\3\20\3\20\3\20"+
-		"\3\20\3\20\7\20\u012d\n\20\f\20\16\20\u0130\13\20\5\20\u0132\n\20\3\21"+
-		"\3\21\3\21\3\21\3\21\5\21\u0139\n\21\3\21\3\21\3\21\3\21\3\21\5\21\u0140"+
-		"\n\21\5\21\u0142\n\21\3\22\3\22\3\22\3\22\3\22\5\22\u0149\n\22\3\22\3"+
-		"\22\3\22\5\22\u014e\n\22\3\22\3\22\5\22\u0152\n\22\3\22\3\22\5\22\u0156"+
-		"\n\22\3\23\3\23\3\23\3\23\3\23\5\23\u015d\n\23\3\23\3\23\3\24\3\24\3\24"+
-		"\3\24\3\24\3\24\5\24\u0167\n\24\3\25\3\25\3\25\7\25\u016c\n\25\f\25\16"+
-		"\25\u016f\13\25\3\26\3\26\3\26\3\26\5\26\u0175\n\26\3\27\3\27\3\27\7\27"+
-		"\u017a\n\27\f\27\16\27\u017d\13\27\3\30\3\30\3\30\3\30\3\30\3\30\3\30"+
-		"\5\30\u0186\n\30\3\31\3\31\5\31\u018a\n\31\3\31\3\31\3\31\3\31\3\31\3"+
-		"\31\7\31\u0192\n\31\f\31\16\31\u0195\13\31\3\31\3\31\3\31\3\32\3\32\3"+
-		"\32\3\32\7\32\u019e\n\32\f\32\16\32\u01a1\13\32\3\33\3\33\3\33\5\33\u01a6"+
-		"\n\33\3\33\3\33\5\33\u01aa\n\33\3\33\3\33\5\33\u01ae\n\33\3\33\3\33\3"+
-		"\33\3\34\3\34\3\34\3\34\7\34\u01b7\n\34\f\34\16\34\u01ba\13\34\3\35\3"+
-		"\35\3\35\5\35\u01bf\n\35\3\35\3\35\3\35\3\36\3\36\3\36\3\37\3\37\3\37"+
-		"\3\37\3\37\7\37\u01cc\n\37\f\37\16\37\u01cf\13\37\3 \3 \3 \5 \u01d4\n"+
-		" \3 \3 \5 \u01d8\n \3 \3 \5 \u01dc\n \3!\3!\3!\3!\3!\5!\u01e3\n!\3!\3"+
-		"!\3!\7!\u01e8\n!\f!\16!\u01eb\13!\3\"\3\"\3\"\5\"\u01f0\n\"\3\"\3\"\3"+
-		"\"\5\"\u01f5\n\"\5\"\u01f7\n\"\3\"\3\"\5\"\u01fb\n\"\3#\3#\3#\3$\3$\5"+
-		"$\u0202\n$\3$\3$\3$\7$\u0207\n$\f$\16$\u020a\13$\3$\3$\3$\3%\3%\3%\5%"+
-		"\u0212\n%\3%\3%\3%\3&\3&\3&\3&\3&\6&\u021c\n&\r&\16&\u021d\3&\3&\3&\3"+
-		"&\3\'\3\'\6\'\u0226\n\'\r\'\16\'\u0227\3\'\3\'\3\'\3(\3(\3(\3(\3(\6(\u0232"+
-		"\n(\r(\16(\u0233\3(\3(\5(\u0238\n(\3(\3(\3(\3)\3)\3)\3)\5)\u0241\n)\3"+
-		")\3)\3)\7)\u0246\n)\f)\16)\u0249\13)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3*\3*"+
-		"\3*\3+\3+\3+\3+\3+\6+\u025c\n+\r+\16+\u025d\3,\3,\3,\5,\u0263\n,\3,\3"+
-		",\3,\5,\u0268\n,\7,\u026a\n,\f,\16,\u026d\13,\3,\3,\3,\3,\3-\3-\3-\7-"+
-		"\u0276\n-\f-\16-\u0279\13-\3.\3.\3.\7.\u027e\n.\f.\16.\u0281\13.\3/\5"+
-		"/\u0284\n/\3/\3/\3\60\3\60\3\60\5\60\u028b\n\60\3\61\3\61\3\61\7\61\u0290"+
-		"\n\61\f\61\16\61\u0293\13\61\3\62\3\62\3\62\5\62\u0298\n\62\3\63\3\63"+
-		"\3\63\7\63\u029d\n\63\f\63\16\63\u02a0\13\63\3\64\3\64\3\64\7\64\u02a5"+
-		"\n\64\f\64\16\64\u02a8\13\64\3\65\3\65\3\65\3\65\5\65\u02ae\n\65\3\66"+
-		"\3\66\3\66\3\66\5\66\u02b4\n\66\3\67\3\67\3\67\3\67\5\67\u02ba\n\67\3"+
-		"8\38\38\38\58\u02c0\n8\39\39\39\39\59\u02c6\n9\3:\3:\3:\3:\3:\7:\u02cd"+
-		"\n:\f:\16:\u02d0\13:\3;\7;\u02d3\n;\f;\16;\u02d6\13;\3;\3;\3<\3<\5<\u02dc"+
-		"\n<\3=\3=\3=\3=\3=\3=\3=\3>\3>\3>\7>\u02e8\n>\f>\16>\u02eb\13>\3?\3?\3"+
-		"?\3?\3?\3?\7?\u02f3\n?\f?\16?\u02f6\13?\3@\3@\3@\3@\3@\3@\3A\3A\3A\3B"+
-		"\3B\3B\3B\3C\3C\3C\3C\3C\3C\3C\5C\u030c\nC\3D\3D\3D\3D\3D\3D\3D\3D\3D"+
-		"\3D\3D\3D\3D\3D\5D\u031c\nD\3E\3E\3E\3F\3F\5F\u0323\nF\3F\3F\3G\3G\3H"+
-		"\3H\3H\3H\3H\3I\3I\3I\3I\3I\3J\3J\3J\3K\3K\3K\5K\u0339\nK\7K\u033b\nK"+
-		"\fK\16K\u033e\13K\3K\3K\3L\3L\5L\u0344\nL\3M\3M\5M\u0348\nM\3N\3N\3N\3"+
-		"N\3O\3O\3O\5O\u0351\nO\3O\3O\3O\5O\u0356\nO\3O\3O\5O\u035a\nO\3O\3O\3"+
-		"P\3P\3P\3P\3P\3P\5P\u0364\nP\5P\u0366\nP\3Q\3Q\3Q\3Q\7Q\u036c\nQ\fQ\16"+
-		"Q\u036f\13Q\5Q\u0371\nQ\3Q\3Q\3Q\3Q\3Q\5Q\u0378\nQ\3R\3R\3R\5R\u037d\n"+
-		"R\3S\3S\5S\u0381\nS\3T\3T\3T\3T\3T\3U\3U\3U\3U\3U\7U\u038d\nU\fU\16U\u0390"+
-		"\13U\5U\u0392\nU\3U\3U\3U\3U\3V\3V\5V\u039a\nV\3W\3W\5W\u039e\nW\3W\3"+
-		"W\3W\3X\3X\5X\u03a5\nX\3X\3X\3Y\3Y\3Z\3Z\3[\3[\3[\2\2\\\2\4\6\b\n\f\16"+
-		"\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bd"+
-		"fhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092"+
-		"\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa"+
-		"\u00ac\u00ae\u00b0\u00b2\u00b4\2\n\4\2\t\too\3\2XY\3\2\f\25\4\2\6\6)\63"+
-		"\3\2\65\66\4\2((\679\4\2\13\13ss\4\2Cqtt\2\u03de\2\u00b6\3\2\2\2\4\u00be"+
-		"\3\2\2\2\6\u00c4\3\2\2\2\b\u00c7\3\2\2\2\n\u00d8\3\2\2\2\f\u00e7\3\2\2"+
-		"\2\16\u00e9\3\2\2\2\20\u00f2\3\2\2\2\22\u00f4\3\2\2\2\24\u00f9\3\2\2\2"+
-		"\26\u00fd\3\2\2\2\30\u0103\3\2\2\2\32\u0118\3\2\2\2\34\u011e\3\2\2\2\36"+
-		"\u0120\3\2\2\2 \u0133\3\2\2\2\"\u0143\3\2\2\2$\u0157\3\2\2\2&\u0166\3"+
-		"\2\2\2(\u0168\3\2\2\2*\u0170\3\2\2\2,\u0176\3\2\2\2.\u0185\3\2\2\2\60"+
-		"\u0189\3\2\2\2\62\u0199\3\2\2\2\64\u01a2\3\2\2\2\66\u01b2\3\2\2\28\u01bb"+
-		"\3\2\2\2:\u01c3\3\2\2\2<\u01c6\3\2\2\2>\u01d0\3\2\2\2@\u01e2\3\2\2\2B"+
-		"\u01ec\3\2\2\2D\u01fc\3\2\2\2F\u0201\3\2\2\2H\u020e\3\2\2\2J\u0216\3\2"+
-		"\2\2L\u0225\3\2\2\2N\u022c\3\2\2\2P\u023c\3\2\2\2R\u024d\3\2\2\2T\u0256"+
-		"\3\2\2\2V\u025f\3\2\2\2X\u0272\3\2\2\2Z\u027a\3\2\2\2\\\u0283\3\2\2\2"+
-		"^\u0287\3\2\2\2`\u028c\3\2\2\2b\u0294\3\2\2\2d\u0299\3\2\2\2f\u02a1\3"+
-		"\2\2\2h\u02a9\3\2\2\2j\u02af\3\2\2\2l\u02b5\3\2\2\2n\u02bb\3\2\2\2p\u02c1"+
-		"\3\2\2\2r\u02c7\3\2\2\2t\u02d4\3\2\2\2v\u02db\3\2\2\2x\u02dd\3\2\2\2z"+
-		"\u02e4\3\2\2\2|\u02ec\3\2\2\2~\u02f7\3\2\2\2\u0080\u02fd\3\2\2\2\u0082"+
-		"\u0300\3\2\2\2\u0084\u0304\3\2\2\2\u0086\u031b\3\2\2\2\u0088\u031d\3\2"+
-		"\2\2\u008a\u0320\3\2\2\2\u008c\u0326\3\2\2\2\u008e\u0328\3\2\2\2\u0090"+
-		"\u032d\3\2\2\2\u0092\u0332\3\2\2\2\u0094\u0335\3\2\2\2\u0096\u0343\3\2"+
-		"\2\2\u0098\u0347\3\2\2\2\u009a\u0349\3\2\2\2\u009c\u034d\3\2\2\2\u009e"+
-		"\u0365\3\2\2\2\u00a0\u0377\3\2\2\2\u00a2\u037c\3\2\2\2\u00a4\u0380\3\2"+
-		"\2\2\u00a6\u0382\3\2\2\2\u00a8\u0387\3\2\2\2\u00aa\u0397\3\2\2\2\u00ac"+
-		"\u039d\3\2\2\2\u00ae\u03a2\3\2\2\2\u00b0\u03a8\3\2\2\2\u00b2\u03aa\3\2"+
-		"\2\2\u00b4\u03ac\3\2\2\2\u00b6\u00b7\5\4\3\2\u00b7\u00b8\7\2\2\3\u00b8"+
-		"\3\3\2\2\2\u00b9\u00ba\7n\2\2\u00ba\u00bb\7m\2\2\u00bb\u00bc\5\u00b2Z"+
-		"\2\u00bc\u00bd\7\3\2\2\u00bd\u00bf\3\2\2\2\u00be\u00b9\3\2\2\2\u00be\u00bf"+
-		"\3\2\2\2\u00bf\u00c2\3\2\2\2\u00c0\u00c3\5\b\5\2\u00c1\u00c3\5\6\4\2\u00c2"+
-		"\u00c0\3\2\2\2\u00c2\u00c1\3\2\2\2\u00c3\5\3\2\2\2\u00c4\u00c5\5\n\6\2"+
-		"\u00c5\u00c6\5,\27\2\u00c6\7\3\2\2\2\u00c7\u00c8\7\4\2\2\u00c8\u00c9\7"+
-		"\5\2\2\u00c9\u00ca\7{\2\2\u00ca\u00cb\7\6\2\2\u00cb\u00cc\5\u00b0Y\2\u00cc"+
-		"\u00cd\7\3\2\2\u00cd\u00ce\5\n\6\2\u00ce\t\3\2\2\2\u00cf\u00d3\5\f\7\2"+
-		"\u00d0\u00d3\5\16\b\2\u00d1\u00d3\5\36\20\2\u00d2\u00cf\3\2\2\2\u00d2"+
-		"\u00d0\3\2\2\2\u00d2\u00d1\3\2\2\2\u00d3\u00d4\3\2\2\2\u00d4\u00d5\7\3"+
-		"\2\2\u00d5\u00d7\3\2\2\2\u00d6\u00d2\3\2\2\2\u00d7\u00da\3\2\2\2\u00d8"+
-		"\u00d6\3\2\2\2\u00d8\u00d9\3\2\2\2\u00d9\u00e0\3\2\2\2\u00da\u00d8\3\2"+
-		"\2\2\u00db\u00dc\5\20\t\2\u00dc\u00dd\7\3\2\2\u00dd\u00df\3\2\2\2\u00de"+
-		"\u00db\3\2\2\2\u00df\u00e2\3\2\2\2\u00e0\u00de\3\2\2\2\u00e0\u00e1\3\2"+
-		"\2\2\u00e1\13\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e3\u00e8\5\22\n\2\u00e4\u00e8"+
-		"\5\24\13\2\u00e5\u00e8\5\26\f\2\u00e6\u00e8\5\30\r\2\u00e7\u00e3\3\2\2"+
-		"\2\u00e7\u00e4\3\2\2\2\u00e7\u00e5\3\2\2\2\u00e7\u00e6\3\2\2\2\u00e8\r"+
-		"\3\2\2\2\u00e9\u00ea\7\7\2\2\u00ea\u00eb\7\5\2\2\u00eb\u00ec\7{\2\2\u00ec"+
-		"\u00ed\7\6\2\2\u00ed\u00ee\5\u00b0Y\2\u00ee\17\3\2\2\2\u00ef\u00f3\5\""+
-		"\22\2\u00f0\u00f3\5 \21\2\u00f1\u00f3\5$\23\2\u00f2\u00ef\3\2\2\2\u00f2"+
-		"\u00f0\3\2\2\2\u00f2\u00f1\3\2\2\2\u00f3\21\3\2\2\2\u00f4\u00f5\7\7\2"+
-		"\2\u00f5\u00f6\7^\2\2\u00f6\u00f7\7W\2\2\u00f7\u00f8\5\u00b0Y\2\u00f8"+
-		"\23\3\2\2\2\u00f9\u00fa\7\7\2\2\u00fa\u00fb\7\b\2\2\u00fb\u00fc\t\2\2"+
-		"\2\u00fc\25\3\2\2\2\u00fd\u00fe\7\7\2\2\u00fe\u00ff\7^\2\2\u00ff\u0100"+
-		"\7H\2\2\u0100\u0101\7O\2\2\u0101\u0102\t\3\2\2\u0102\27\3\2\2\2\u0103"+
-		"\u0108\7\7\2\2\u0104\u0105\7\n\2\2\u0105\u0109\5\32\16\2\u0106\u0107\7"+
-		"^\2\2\u0107\u0109\7\n\2\2\u0108\u0104\3\2\2\2\u0108\u0106\3\2\2\2\u0109"+
-		"\u0110\3\2\2\2\u010a\u010b\5\34\17\2\u010b\u010c\7\6\2\2\u010c\u010d\5"+
-		"\u00b2Z\2\u010d\u010f\3\2\2\2\u010e\u010a\3\2\2\2\u010f\u0112\3\2\2\2"+
-		"\u0110\u010e\3\2\2\2\u0110\u0111\3\2\2\2\u0111\31\3\2\2\2\u0112\u0110"+
-		"\3\2\2\2\u0113\u0116\7{\2\2\u0114\u0116\5\u00b4[\2\u0115\u0113\3\2\2\2"+
-		"\u0115\u0114\3\2\2\2\u0116\u0117\3\2\2\2\u0117\u0119\7\13\2\2\u0118\u0115"+
-		"\3\2\2\2\u0118\u0119\3\2\2\2\u0119\u011c\3\2\2\2\u011a\u011d\7{\2\2\u011b"+
-		"\u011d\5\u00b4[\2\u011c\u011a\3\2\2\2\u011c\u011b\3\2\2\2\u011d\33\3\2"+
-		"\2\2\u011e\u011f\t\4\2\2\u011f\35\3\2\2\2\u0120\u0121\7\26\2\2\u0121\u0125"+
-		"\7\4\2\2\u0122\u0123\7\5\2\2\u0123\u0124\7{\2\2\u0124\u0126\7\6\2\2\u0125"+
-		"\u0122\3\2\2\2\u0125\u0126\3\2\2\2\u0126\u0127\3\2\2\2\u0127\u0131\5\u00b0"+
-		"Y\2\u0128\u0129\7M\2\2\u0129\u012e\5\u00b0Y\2\u012a\u012b\7\27\2\2\u012b"+
-		"\u012d\5\u00b0Y\2\u012c\u012a\3\2\2\2\u012d\u0130\3\2\2\2\u012e\u012c"+
-		"\3\2\2\2\u012e\u012f\3\2\2\2\u012f\u0132\3\2\2\2\u0130\u012e\3\2\2\2\u0131"+
-		"\u0128\3\2\2\2\u0131\u0132\3\2\2\2\u0132\37\3\2\2\2\u0133\u0134\7\7\2"+
-		"\2\u0134\u0135\7\30\2\2\u0135\u0138\5\u0088E\2\u0136\u0137\7L\2\2\u0137"+
-		"\u0139\5\u009eP\2\u0138\u0136\3\2\2\2\u0138\u0139\3\2\2\2\u0139\u0141"+
-		"\3\2\2\2\u013a\u013b\7\31\2\2\u013b\u0142\5.\30\2\u013c\u013f\7\32\2\2"+
-		"\u013d\u013e\7\31\2\2\u013e\u0140\5.\30\2\u013f\u013d\3\2\2\2\u013f\u0140"+
-		"\3\2\2\2\u0140\u0142\3\2\2\2\u0141\u013a\3\2\2\2\u0141\u013c\3\2\2\2\u0142"+
-		"!\3\2\2\2\u0143\u0144\7\7\2\2\u0144\u0145\7\33\2\2\u0145\u0146\5\32\16"+
-		"\2\u0146\u0148\7\34\2\2\u0147\u0149\5(\25\2\u0148\u0147\3\2\2\2\u0148"+
-		"\u0149\3\2\2\2\u0149\u014a\3\2\2\2\u014a\u014d\7\35\2\2\u014b\u014c\7"+
-		"L\2\2\u014c\u014e\5\u009eP\2\u014d\u014b\3\2\2\2\u014d\u014e\3\2\2\2\u014e"+
-		"\u0155\3\2\2\2\u014f\u0151\7\36\2\2\u0150\u0152\5,\27\2\u0151\u0150\3"+
-		"\2\2\2\u0151\u0152\3\2\2\2\u0152\u0153\3\2\2\2\u0153\u0156\7\37\2\2\u0154"+
-		"\u0156\7\32\2\2\u0155\u014f\3\2\2\2\u0155\u0154\3\2\2\2\u0156#\3\2\2\2"+
-		"\u0157\u0158\7\7\2\2\u0158\u0159\7 \2\2\u0159\u015a\5\32\16\2\u015a\u015c"+
-		"\7L\2\2\u015b\u015d\5&\24\2\u015c\u015b\3\2\2\2\u015c\u015d\3\2\2\2\u015d"+
-		"\u015e\3\2\2\2\u015e\u015f\5.\30\2\u015f%\3\2\2\2\u0160\u0161\7!\2\2\u0161"+
-		"\u0167\7\"\2\2\u0162\u0163\7!\2\2\u0163\u0167\7#\2\2\u0164\u0165\7$\2"+
-		"\2\u0165\u0167\7%\2\2\u0166\u0160\3\2\2\2\u0166\u0162\3\2\2\2\u0166\u0164"+
-		"\3\2\2\2\u0167\'\3\2\2\2\u0168\u016d\5*\26\2\u0169\u016a\7\27\2\2\u016a"+
-		"\u016c\5*\26\2\u016b\u0169\3\2\2\2\u016c\u016f\3\2\2\2\u016d\u016b\3\2"+
-		"\2\2\u016d\u016e\3\2\2\2\u016e)\3\2\2\2\u016f\u016d\3\2\2\2\u0170\u0171"+
-		"\7&\2\2\u0171\u0174\5\32\16\2\u0172\u0173\7L\2\2\u0173\u0175\5\u009eP"+
-		"\2\u0174\u0172\3\2\2\2\u0174\u0175\3\2\2\2\u0175+\3\2\2\2\u0176\u017b"+
-		"\5.\30\2\u0177\u0178\7\27\2\2\u0178\u017a\5.\30\2\u0179\u0177\3\2\2\2"+
-		"\u017a\u017d\3\2\2\2\u017b\u0179\3\2\2\2\u017b\u017c\3\2\2\2\u017c-\3"+
-		"\2\2\2\u017d\u017b\3\2\2\2\u017e\u0186\5\60\31\2\u017f\u0186\5F$\2\u0180"+
-		"\u0186\5J&\2\u0181\u0186\5N(\2\u0182\u0186\5R*\2\u0183\u0186\5T+\2\u0184"+
-		"\u0186\5X-\2\u0185\u017e\3\2\2\2\u0185\u017f\3\2\2\2\u0185\u0180\3\2\2"+
-		"\2\u0185\u0181\3\2\2\2\u0185\u0182\3\2\2\2\u0185\u0183\3\2\2\2\u0185\u0184"+
-		"\3\2\2\2\u0186/\3\2\2\2\u0187\u018a\5\62\32\2\u0188\u018a\5\66\34\2\u0189"+
-		"\u0187\3\2\2\2\u0189\u0188\3\2\2\2\u018a\u0193\3\2\2\2\u018b\u0192\5\62"+
-		"\32\2\u018c\u0192\5:\36\2\u018d\u0192\5\66\34\2\u018e\u0192\5<\37\2\u018f"+
-		"\u0192\5@!\2\u0190\u0192\5D#\2\u0191\u018b\3\2\2\2\u0191\u018c\3\2\2\2"+
-		"\u0191\u018d\3\2\2\2\u0191\u018e\3\2\2\2\u0191\u018f\3\2\2\2\u0191\u0190"+
-		"\3\2\2\2\u0192\u0195\3\2\2\2\u0193\u0191\3\2\2\2\u0193\u0194\3\2\2\2\u0194"+
-		"\u0196\3\2\2\2\u0195\u0193\3\2\2\2\u0196\u0197\7I\2\2\u0197\u0198\5.\30"+
-		"\2\u0198\61\3\2\2\2\u0199\u019a\7C\2\2\u019a\u019f\5\64\33\2\u019b\u019c"+
-		"\7\27\2\2\u019c\u019e\5\64\33\2\u019d\u019b\3\2\2\2\u019e\u01a1\3\2\2"+
-		"\2\u019f\u019d\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0\63\3\2\2\2\u01a1\u019f"+
-		"\3\2\2\2\u01a2\u01a5\5\u0088E\2\u01a3\u01a4\7L\2\2\u01a4\u01a6\5\u009e"+
-		"P\2\u01a5\u01a3\3\2\2\2\u01a5\u01a6\3\2\2\2\u01a6\u01a9\3\2\2\2\u01a7"+
-		"\u01a8\7N\2\2\u01a8\u01aa\7O\2\2\u01a9\u01a7\3\2\2\2\u01a9\u01aa\3\2\2"+
-		"\2\u01aa\u01ad\3\2\2\2\u01ab\u01ac\7M\2\2\u01ac\u01ae\5\u0088E\2\u01ad"+
-		"\u01ab\3\2\2\2\u01ad\u01ae\3\2\2\2\u01ae\u01af\3\2\2\2\u01af\u01b0\7K"+
-		"\2\2\u01b0\u01b1\5.\30\2\u01b1\65\3\2\2\2\u01b2\u01b3\7D\2\2\u01b3\u01b8"+
-		"\58\35\2\u01b4\u01b5\7\27\2\2\u01b5\u01b7\58\35\2\u01b6\u01b4\3\2\2\2"+
-		"\u01b7\u01ba\3\2\2\2\u01b8\u01b6\3\2\2\2\u01b8\u01b9\3\2\2\2\u01b9\67"+
-		"\3\2\2\2\u01ba\u01b8\3\2\2\2\u01bb\u01be\5\u0088E\2\u01bc\u01bd\7L\2\2"+
-		"\u01bd\u01bf\5\u009eP\2\u01be\u01bc\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf"+
-		"\u01c0\3\2\2\2\u01c0\u01c1\7\31\2\2\u01c1\u01c2\5.\30\2\u01c29\3\2\2\2"+
-		"\u01c3\u01c4\7E\2\2\u01c4\u01c5\5.\30\2\u01c5;\3\2\2\2\u01c6\u01c7\7F"+
-		"\2\2\u01c7\u01c8\7G\2\2\u01c8\u01cd\5> \2\u01c9\u01ca\7\27\2\2\u01ca\u01cc"+
-		"\5> \2\u01cb\u01c9\3\2\2\2\u01cc\u01cf\3\2\2\2\u01cd\u01cb\3\2\2\2\u01cd"+
-		"\u01ce\3\2\2\2\u01ce=\3\2\2\2\u01cf\u01cd\3\2\2\2\u01d0\u01d7\5\u0088"+
-		"E\2\u01d1\u01d2\7L\2\2\u01d2\u01d4\5\u009eP\2\u01d3\u01d1\3\2\2\2\u01d3"+
-		"\u01d4\3\2\2\2\u01d4\u01d5\3\2\2\2\u01d5\u01d6\7\31\2\2\u01d6\u01d8\5"+
-		".\30\2\u01d7\u01d3\3\2\2\2\u01d7\u01d8\3\2\2\2\u01d8\u01db\3\2\2\2\u01d9"+
-		"\u01da\7W\2\2\u01da\u01dc\5\u00b0Y\2\u01db\u01d9\3\2\2\2\u01db\u01dc\3"+
-		"\2\2\2\u01dc?\3\2\2\2\u01dd\u01de\7H\2\2\u01de\u01e3\7G\2\2\u01df\u01e0"+
-		"\7Q\2\2\u01e0\u01e1\7H\2\2\u01e1\u01e3\7G\2\2\u01e2\u01dd\3\2\2\2\u01e2"+
-		"\u01df\3\2\2\2\u01e3\u01e4\3\2\2\2\u01e4\u01e9\5B\"\2\u01e5\u01e6\7\27"+
-		"\2\2\u01e6\u01e8\5B\"\2\u01e7\u01e5\3\2\2\2\u01e8\u01eb\3\2\2\2\u01e9"+
-		"\u01e7\3\2\2\2\u01e9\u01ea\3\2\2\2\u01eaA\3\2\2\2\u01eb\u01e9\3\2\2\2"+
-		"\u01ec\u01ef\5.\30\2\u01ed\u01f0\7R\2\2\u01ee\u01f0\7S\2\2\u01ef\u01ed"+
-		"\3\2\2\2\u01ef\u01ee\3\2\2\2\u01ef\u01f0\3\2\2\2\u01f0\u01f6\3\2\2\2\u01f1"+
-		"\u01f4\7O\2\2\u01f2\u01f5\7X\2\2\u01f3\u01f5\7Y\2\2\u01f4\u01f2\3\2\2"+
-		"\2\u01f4\u01f3\3\2\2\2\u01f5\u01f7\3\2\2\2\u01f6\u01f1\3\2\2\2\u01f6\u01f7"+
-		"\3\2\2\2\u01f7\u01fa\3\2\2\2\u01f8\u01f9\7W\2\2\u01f9\u01fb\5\u00b0Y\2"+
-		"\u01fa\u01f8\3\2\2\2\u01fa\u01fb\3\2\2\2\u01fbC\3\2\2\2\u01fc\u01fd\7"+
-		"P\2\2\u01fd\u01fe\5\u0088E\2\u01feE\3\2\2\2\u01ff\u0202\7T\2\2\u0200\u0202"+
-		"\7U\2\2\u0201\u01ff\3\2\2\2\u0201\u0200\3\2\2\2\u0202\u0203\3\2\2\2\u0203"+
-		"\u0208\5H%\2\u0204\u0205\7\27\2\2\u0205\u0207\5H%\2\u0206\u0204\3\2\2"+
-		"\2\u0207\u020a\3\2\2\2\u0208\u0206\3\2\2\2\u0208\u0209\3\2\2\2\u0209\u020b"+
-		"\3\2\2\2\u020a\u0208\3\2\2\2\u020b\u020c\7V\2\2\u020c\u020d\5.\30\2\u020d"+
-		"G\3\2\2\2\u020e\u0211\5\u0088E\2\u020f\u0210\7L\2\2\u0210\u0212\5\u009e"+
-		"P\2\u0211\u020f\3\2\2\2\u0211\u0212\3\2\2\2\u0212\u0213\3\2\2\2\u0213"+
-		"\u0214\7K\2\2\u0214\u0215\5.\30\2\u0215I\3\2\2\2\u0216\u0217\7Z\2\2\u0217"+
-		"\u0218\7\34\2\2\u0218\u0219\5,\27\2\u0219\u021b\7\35\2\2\u021a\u021c\5"+
-		"L\'\2\u021b\u021a\3\2\2\2\u021c\u021d\3\2\2\2\u021d\u021b\3\2\2\2\u021d"+
-		"\u021e\3\2\2\2\u021e\u021f\3\2\2\2\u021f\u0220\7^\2\2\u0220\u0221\7I\2"+
-		"\2\u0221\u0222\5.\30\2\u0222K\3\2\2\2\u0223\u0224\7[\2\2\u0224\u0226\5"+
-		".\30\2\u0225\u0223\3\2\2\2\u0226\u0227\3\2\2\2\u0227\u0225\3\2\2\2\u0227"+
-		"\u0228\3\2\2\2\u0228\u0229\3\2\2\2\u0229\u022a\7I\2\2\u022a\u022b\5.\30"+
-		"\2\u022bM\3\2\2\2\u022c\u022d\7a\2\2\u022d\u022e\7\34\2\2\u022e\u022f"+
-		"\5,\27\2\u022f\u0231\7\35\2\2\u0230\u0232\5P)\2\u0231\u0230\3\2\2\2\u0232"+
-		"\u0233\3\2\2\2\u0233\u0231\3\2\2\2\u0233\u0234\3\2\2\2\u0234\u0235\3\2"+
-		"\2\2\u0235\u0237\7^\2\2\u0236\u0238\5\u0088E\2\u0237\u0236\3\2\2\2\u0237"+
-		"\u0238\3\2\2\2\u0238\u0239\3\2\2\2\u0239\u023a\7I\2\2\u023a\u023b\5.\30"+
-		"\2\u023bO\3\2\2\2\u023c\u0240\7[\2\2\u023d\u023e\5\u0088E\2\u023e\u023f"+
-		"\7L\2\2\u023f\u0241\3\2\2\2\u0240\u023d\3\2\2\2\u0240\u0241\3\2\2\2\u0241"+
-		"\u0242\3\2\2\2\u0242\u0247\5\u009eP\2\u0243\u0244\7\'\2\2\u0244\u0246"+
-		"\5\u009eP\2\u0245\u0243\3\2\2\2\u0246\u0249\3\2\2\2\u0247\u0245\3\2\2"+
-		"\2\u0247\u0248\3\2\2\2\u0248\u024a\3\2\2\2\u0249\u0247\3\2\2\2\u024a\u024b"+
-		"\7I\2\2\u024b\u024c\5.\30\2\u024cQ\3\2\2\2\u024d\u024e\7J\2\2\u024e\u024f"+
-		"\7\34\2\2\u024f\u0250\5,\27\2\u0250\u0251\7\35\2\2\u0251\u0252\7_\2\2"+
-		"\u0252\u0253\5.\30\2\u0253\u0254\7`\2\2\u0254\u0255\5.\30\2\u0255S\3\2"+
-		"\2\2\u0256\u0257\7\\\2\2\u0257\u0258\7\36\2\2\u0258\u0259\5,\27\2\u0259"+
-		"\u025b\7\37\2\2\u025a\u025c\5V,\2\u025b\u025a\3\2\2\2\u025c\u025d\3\2"+
-		"\2\2\u025d\u025b\3\2\2\2\u025d\u025e\3\2\2\2\u025eU\3\2\2\2\u025f\u0262"+
-		"\7]\2\2\u0260\u0263\7(\2\2\u0261\u0263\5\32\16\2\u0262\u0260\3\2\2\2\u0262"+
-		"\u0261\3\2\2\2\u0263\u026b\3\2\2\2\u0264\u0267\7\'\2\2\u0265\u0268\7("+
-		"\2\2\u0266\u0268\5\32\16\2\u0267\u0265\3\2\2\2\u0267\u0266\3\2\2\2\u0268"+
-		"\u026a\3\2\2\2\u0269\u0264\3\2\2\2\u026a\u026d\3\2\2\2\u026b\u0269\3\2"+
-		"\2\2\u026b\u026c\3\2\2\2\u026c\u026e\3\2\2\2\u026d\u026b\3\2\2\2\u026e"+
-		"\u026f\7\36\2\2\u026f\u0270\5,\27\2\u0270\u0271\7\37\2\2\u0271W\3\2\2"+
-		"\2\u0272\u0277\5Z.\2\u0273\u0274\7b\2\2\u0274\u0276\5Z.\2\u0275\u0273"+
-		"\3\2\2\2\u0276\u0279\3\2\2\2\u0277\u0275\3\2\2\2\u0277\u0278\3\2\2\2\u0278"+
-		"Y\3\2\2\2\u0279\u0277\3\2\2\2\u027a\u027f\5\\/\2\u027b\u027c\7c\2\2\u027c"+
-		"\u027e\5\\/\2\u027d\u027b\3\2\2\2\u027e\u0281\3\2\2\2\u027f\u027d\3\2"+
-		"\2\2\u027f\u0280\3\2\2\2\u0280[\3\2\2\2\u0281\u027f\3\2\2\2\u0282\u0284"+
-		"\7d\2\2\u0283\u0282\3\2\2\2\u0283\u0284\3\2\2\2\u0284\u0285\3\2\2\2\u0285"+
-		"\u0286\5^\60\2\u0286]\3\2\2\2\u0287\u028a\5`\61\2\u0288\u0289\t\5\2\2"+
-		"\u0289\u028b\5`\61\2\u028a\u0288\3\2\2\2\u028a\u028b\3\2\2\2\u028b_\3"+
-		"\2\2\2\u028c\u0291\5b\62\2\u028d\u028e\7\64\2\2\u028e\u0290\5b\62\2\u028f"+
-		"\u028d\3\2\2\2\u0290\u0293\3\2\2\2\u0291\u028f\3\2\2\2\u0291\u0292\3\2"+
-		"\2\2\u0292a\3\2\2\2\u0293\u0291\3\2\2\2\u0294\u0297\5d\63\2\u0295\u0296"+
-		"\7e\2\2\u0296\u0298\5d\63\2\u0297\u0295\3\2\2\2\u0297\u0298\3\2\2\2\u0298"+
-		"c\3\2\2\2\u0299\u029e\5f\64\2\u029a\u029b\t\6\2\2\u029b\u029d\5f\64\2"+
-		"\u029c\u029a\3\2\2\2\u029d\u02a0\3\2\2\2\u029e\u029c\3\2\2\2\u029e\u029f"+
-		"\3\2\2\2\u029fe\3\2\2\2\u02a0\u029e\3\2\2\2\u02a1\u02a6\5h\65\2\u02a2"+
-		"\u02a3\t\7\2\2\u02a3\u02a5\5h\65\2\u02a4\u02a2\3\2\2\2\u02a5\u02a8\3\2"+
-		"\2\2\u02a6\u02a4\3\2\2\2\u02a6\u02a7\3\2\2\2\u02a7g\3\2\2\2\u02a8\u02a6"+
-		"\3\2\2\2\u02a9\u02ad\5j\66\2\u02aa\u02ab\7f\2\2\u02ab\u02ac\7g\2\2\u02ac"+
-		"\u02ae\5\u009eP\2\u02ad\u02aa\3\2\2\2\u02ad\u02ae\3\2\2\2\u02aei\3\2\2"+
-		"\2\u02af\u02b3\5l\67\2\u02b0\u02b1\7i\2\2\u02b1\u02b2\7h\2\2\u02b2\u02b4"+
-		"\5\u009eP\2\u02b3\u02b0\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4k\3\2\2\2\u02b5"+
-		"\u02b9\5n8\2\u02b6\u02b7\7j\2\2\u02b7\u02b8\7L\2\2\u02b8\u02ba\5\u009e"+
-		"P\2\u02b9\u02b6\3\2\2\2\u02b9\u02ba\3\2\2\2\u02bam\3\2\2\2\u02bb\u02bf"+
-		"\5p9\2\u02bc\u02bd\7l\2\2\u02bd\u02be\7L\2\2\u02be\u02c0\5\u00aaV\2\u02bf"+
-		"\u02bc\3\2\2\2\u02bf\u02c0\3\2\2\2\u02c0o\3\2\2\2\u02c1\u02c5\5r:\2\u02c2"+
-		"\u02c3\7k\2\2\u02c3\u02c4\7L\2\2\u02c4\u02c6\5\u00aaV\2\u02c5\u02c2\3"+
-		"\2\2\2\u02c5\u02c6\3\2\2\2\u02c6q\3\2\2\2\u02c7\u02ce\5t;\2\u02c8\u02c9"+
-		"\7\6\2\2\u02c9\u02ca\7\62\2\2\u02ca\u02cb\3\2\2\2\u02cb\u02cd\5\u0092"+
-		"J\2\u02cc\u02c8\3\2\2\2\u02cd\u02d0\3\2\2\2\u02ce\u02cc\3\2\2\2\u02ce"+
-		"\u02cf\3\2\2\2\u02cfs\3\2\2\2\u02d0\u02ce\3\2\2\2\u02d1\u02d3\t\6\2\2"+
-		"\u02d2\u02d1\3\2\2\2\u02d3\u02d6\3\2\2\2\u02d4\u02d2\3\2\2\2\u02d4\u02d5"+
-		"\3\2\2\2\u02d5\u02d7\3\2\2\2\u02d6\u02d4\3\2\2\2\u02d7\u02d8\5v<\2\u02d8"+
-		"u\3\2\2\2\u02d9\u02dc\5z>\2\u02da\u02dc\5x=\2\u02db\u02d9\3\2\2\2\u02db"+
-		"\u02da\3\2\2\2\u02dcw\3\2\2\2\u02dd\u02de\7:\2\2\u02de\u02df\7 \2\2\u02df"+
-		"\u02e0\5\u009eP\2\u02e0\u02e1\7\36\2\2\u02e1\u02e2\5,\27\2\u02e2\u02e3"+
-		"\7\37\2\2\u02e3y\3\2\2\2\u02e4\u02e9\5|?\2\u02e5\u02e6\7;\2\2\u02e6\u02e8"+
-		"\5|?\2\u02e7\u02e5\3\2\2\2\u02e8\u02eb\3\2\2\2\u02e9\u02e7\3\2\2\2\u02e9"+
-		"\u02ea\3\2\2\2\u02ea{\3\2\2\2\u02eb\u02e9\3\2\2\2\u02ec\u02f4\5\u0086"+
-		"D\2\u02ed\u02f3\5~@\2\u02ee\u02f3\5\u0082B\2\u02ef\u02f3\5\u0084C\2\u02f0"+
-		"\u02f3\5\u0080A\2\u02f1\u02f3\5\u0094K\2\u02f2\u02ed\3\2\2\2\u02f2\u02ee"+
-		"\3\2\2\2\u02f2\u02ef\3\2\2\2\u02f2\u02f0\3\2\2\2\u02f2\u02f1\3\2\2\2\u02f3"+
-		"\u02f6\3\2\2\2\u02f4\u02f2\3\2\2\2\u02f4\u02f5\3\2\2\2\u02f5}\3\2\2\2"+
-		"\u02f6\u02f4\3\2\2\2\u02f7\u02f8\7<\2\2\u02f8\u02f9\7<\2\2\u02f9\u02fa"+
-		"\5,\27\2\u02fa\u02fb\7=\2\2\u02fb\u02fc\7=\2\2\u02fc\177\3\2\2\2\u02fd"+
-		"\u02fe\7<\2\2\u02fe\u02ff\7=\2\2\u02ff\u0081\3\2\2\2\u0300\u0301\7<\2"+
-		"\2\u0301\u0302\5,\27\2\u0302\u0303\7=\2\2\u0303\u0083\3\2\2\2\u0304\u030b"+
-		"\7>\2\2\u0305\u030c\5\u00b4[\2\u0306\u030c\5\u00b2Z\2\u0307\u030c\7{\2"+
-		"\2\u0308\u030c\5\u008aF\2\u0309\u030c\5\u0088E\2\u030a\u030c\5\u008cG"+
-		"\2\u030b\u0305\3\2\2\2\u030b\u0306\3\2\2\2\u030b\u0307\3\2\2\2\u030b\u0308"+
-		"\3\2\2\2\u030b\u0309\3\2\2\2\u030b\u030a\3\2\2\2\u030c\u0085\3\2\2\2\u030d"+
-		"\u031c\7t\2\2\u030e\u031c\7p\2\2\u030f\u031c\7q\2\2\u0310\u031c\7u\2\2"+
-		"\u0311\u031c\5\u00b2Z\2\u0312\u031c\5\u0088E\2\u0313\u031c\5\u008aF\2"+
-		"\u0314\u031c\5\u008cG\2\u0315\u031c\5\u00a0Q\2\u0316\u031c\5\u0092J\2"+
-		"\u0317\u031c\5\u008eH\2\u0318\u031c\5\u0090I\2\u0319\u031c\5\u00aeX\2"+
-		"\u031a\u031c\5\u0098M\2\u031b\u030d\3\2\2\2\u031b\u030e\3\2\2\2\u031b"+
-		"\u030f\3\2\2\2\u031b\u0310\3\2\2\2\u031b\u0311\3\2\2\2\u031b\u0312\3\2"+
-		"\2\2\u031b\u0313\3\2\2\2\u031b\u0314\3\2\2\2\u031b\u0315\3\2\2\2\u031b"+
-		"\u0316\3\2\2\2\u031b\u0317\3\2\2\2\u031b\u0318\3\2\2\2\u031b\u0319\3\2"+
-		"\2\2\u031b\u031a\3\2\2\2\u031c\u0087\3\2\2\2\u031d\u031e\7&\2\2\u031e"+
-		"\u031f\5\32\16\2\u031f\u0089\3\2\2\2\u0320\u0322\7\34\2\2\u0321\u0323"+
-		"\5,\27\2\u0322\u0321\3\2\2\2\u0322\u0323\3\2\2\2\u0323\u0324\3\2\2\2\u0324"+
-		"\u0325\7\35\2\2\u0325\u008b\3\2\2\2\u0326\u0327\7?\2\2\u0327\u008d\3\2"+
-		"\2\2\u0328\u0329\7\t\2\2\u0329\u032a\7\36\2\2\u032a\u032b\5,\27\2\u032b"+
-		"\u032c\7\37\2\2\u032c\u008f\3\2\2\2\u032d\u032e\7o\2\2\u032e\u032f\7\36"+
-		"\2\2\u032f\u0330\5,\27\2\u0330\u0331\7\37\2\2\u0331\u0091\3\2\2\2\u0332"+
-		"\u0333\5\32\16\2\u0333\u0334\5\u0094K\2\u0334\u0093\3\2\2\2\u0335\u033c"+
-		"\7\34\2\2\u0336\u0338\5\u0096L\2\u0337\u0339\7\27\2\2\u0338\u0337\3\2"+
-		"\2\2\u0338\u0339\3\2\2\2\u0339\u033b\3\2\2\2\u033a\u0336\3\2\2\2\u033b"+
-		"\u033e\3\2\2\2\u033c\u033a\3\2\2\2\u033c\u033d\3\2\2\2\u033d\u033f\3\2"+
-		"\2\2\u033e\u033c\3\2\2\2\u033f\u0340\7\35\2\2\u0340\u0095\3\2\2\2\u0341"+
-		"\u0344\5.\30\2\u0342\u0344\7s\2\2\u0343\u0341\3\2\2\2\u0343\u0342\3\2"+
-		"\2\2\u0344\u0097\3\2\2\2\u0345\u0348\5\u009aN\2\u0346\u0348\5\u009cO\2"+
-		"\u0347\u0345\3\2\2\2\u0347\u0346\3\2\2\2\u0348\u0099\3\2\2\2\u0349\u034a"+
-		"\5\32\16\2\u034a\u034b\7@\2\2\u034b\u034c\7u\2\2\u034c\u009b\3\2\2\2\u034d"+
-		"\u034e\7\33\2\2\u034e\u0350\7\34\2\2\u034f\u0351\5(\25\2\u0350\u034f\3"+
-		"\2\2\2\u0350\u0351\3\2\2\2\u0351\u0352\3\2\2\2\u0352\u0355\7\35\2\2\u0353"+
-		"\u0354\7L\2\2\u0354\u0356\5\u009eP\2\u0355\u0353\3\2\2\2\u0355\u0356\3"+
-		"\2\2\2\u0356\u0357\3\2\2\2\u0357\u0359\7\36\2\2\u0358\u035a\5,\27\2\u0359"+
-		"\u0358\3\2\2\2\u0359\u035a\3\2\2\2\u035a\u035b\3\2\2\2\u035b\u035c\7\37"+
-		"\2\2\u035c\u009d\3\2\2\2\u035d\u035e\7\34\2\2\u035e\u0366\7\35\2\2\u035f"+
-		"\u0363\5\u00a2R\2\u0360\u0364\7s\2\2\u0361\u0364\7(\2\2\u0362\u0364\7"+
-		"\65\2\2\u0363\u0360\3\2\2\2\u0363\u0361\3\2\2\2\u0363\u0362\3\2\2\2\u0363"+
-		"\u0364\3\2\2\2\u0364\u0366\3\2\2\2\u0365\u035d\3\2\2\2\u0365\u035f\3\2"+
-		"\2\2\u0366\u009f\3\2\2\2\u0367\u0370\7\36\2\2\u0368\u036d\5\u00acW\2\u0369"+
-		"\u036a\7\27\2\2\u036a\u036c\5\u00acW\2\u036b\u0369\3\2\2\2\u036c\u036f"+
-		"\3\2\2\2\u036d\u036b\3\2\2\2\u036d\u036e\3\2\2\2\u036e\u0371\3\2\2\2\u036f"+
-		"\u036d\3\2\2\2\u0370\u0368\3\2\2\2\u0370\u0371\3\2\2\2\u0371\u0372\3\2"+
-		"\2\2\u0372\u0378\7\37\2\2\u0373\u0374\7A\2\2\u0374\u0375\5,\27\2\u0375"+
-		"\u0376\7B\2\2\u0376\u0378\3\2\2\2\u0377\u0367\3\2\2\2\u0377\u0373\3\2"+
-		"\2\2\u0378\u00a1\3\2\2\2\u0379\u037d\5\32\16\2\u037a\u037d\7t\2\2\u037b"+
-		"\u037d\5\u00a4S\2\u037c\u0379\3\2\2\2\u037c\u037a\3\2\2\2\u037c\u037b"+
-		"\3\2\2\2\u037d\u00a3\3\2\2\2\u037e\u0381\5\u00a6T\2\u037f\u0381\5\u00a8"+
-		"U\2\u0380\u037e\3\2\2\2\u0380\u037f\3\2\2\2\u0381\u00a5\3\2\2\2\u0382"+
-		"\u0383\7\33\2\2\u0383\u0384\7\34\2\2\u0384\u0385\7(\2\2\u0385\u0386\7"+
-		"\35\2\2\u0386\u00a7\3\2\2\2\u0387\u0388\7\33\2\2\u0388\u0391\7\34\2\2"+
-		"\u0389\u038e\5\u009eP\2\u038a\u038b\7\27\2\2\u038b\u038d\5\u009eP\2\u038c"+
-		"\u038a\3\2\2\2\u038d\u0390\3\2\2\2\u038e\u038c\3\2\2\2\u038e\u038f\3\2"+
-		"\2\2\u038f\u0392\3\2\2\2\u0390\u038e\3\2\2\2\u0391\u0389\3\2\2\2\u0391"+
-		"\u0392\3\2\2\2\u0392\u0393\3\2\2\2\u0393\u0394\7\35\2\2\u0394\u0395\7"+
-		"L\2\2\u0395\u0396\5\u009eP\2\u0396\u00a9\3\2\2\2\u0397\u0399\5\u00a2R"+
-		"\2\u0398\u039a\7s\2\2\u0399\u0398\3\2\2\2\u0399\u039a\3\2\2\2\u039a\u00ab"+
-		"\3\2\2\2\u039b\u039e\5.\30\2\u039c\u039e\7{\2\2\u039d\u039b\3\2\2\2\u039d"+
-		"\u039c\3\2\2\2\u039e\u039f\3\2\2\2\u039f\u03a0\t\b\2\2\u03a0\u03a1\5."+
-		"\30\2\u03a1\u00ad\3\2\2\2\u03a2\u03a4\7<\2\2\u03a3\u03a5\5,\27\2\u03a4"+
-		"\u03a3\3\2\2\2\u03a4\u03a5\3\2\2\2\u03a5\u03a6\3\2\2\2\u03a6\u03a7\7="+
-		"\2\2\u03a7\u00af\3\2\2\2\u03a8\u03a9\5\u00b2Z\2\u03a9\u00b1\3\2\2\2\u03aa"+
-		"\u03ab\7r\2\2\u03ab\u00b3\3\2\2\2\u03ac\u03ad\t\t\2\2\u03ad\u00b5\3\2"+
-		"\2\2g\u00be\u00c2\u00d2\u00d8\u00e0\u00e7\u00f2\u0108\u0110\u0115\u0118"+
-		"\u011c\u0125\u012e\u0131\u0138\u013f\u0141\u0148\u014d\u0151\u0155\u015c"+
-		"\u0166\u016d\u0174\u017b\u0185\u0189\u0191\u0193\u019f\u01a5\u01a9\u01ad"+
-		"\u01b8\u01be\u01cd\u01d3\u01d7\u01db\u01e2\u01e9\u01ef\u01f4\u01f6\u01fa"+
-		"\u0201\u0208\u0211\u021d\u0227\u0233\u0237\u0240\u0247\u025d\u0262\u0267"+
-		"\u026b\u0277\u027f\u0283\u028a\u0291\u0297\u029e\u02a6\u02ad\u02b3\u02b9"+
-		"\u02bf\u02c5\u02ce\u02d4\u02db\u02e9\u02f2\u02f4\u030b\u031b\u0322\u0338"+
-		"\u033c\u0343\u0347\u0350\u0355\u0359\u0363\u0365\u036d\u0370\u0377\u037c"+
-		"\u0380\u038e\u0391\u0399\u039d\u03a4";
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\3\2\3\2\3\2\3"+
+		"\3\3\3\3\3\3\3\3\3\5\3\u00c3\n\3\3\3\3\3\5\3\u00c7\n\3\3\4\3\4\3\4\3\5"+
+		"\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\5\6\u00d7\n\6\3\6\3\6\7\6\u00db"+
+		"\n\6\f\6\16\6\u00de\13\6\3\6\3\6\3\6\7\6\u00e3\n\6\f\6\16\6\u00e6\13\6"+
+		"\3\7\3\7\3\7\3\7\5\7\u00ec\n\7\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\5\t"+
+		"\u00f7\n\t\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f"+
+		"\3\f\3\r\3\r\3\r\3\r\3\r\5\r\u010d\n\r\3\r\3\r\3\r\3\r\7\r\u0113\n\r\f"+
+		"\r\16\r\u0116\13\r\3\16\3\16\5\16\u011a\n\16\3\16\5\16\u011d\n\16\3\16"+
+		"\3\16\5\16\u0121\n\16\3\17\3\17\3\20\3\20\3\20\3\20\3\20\5\20\u012a\n"+
+		"\20\3\20\3\20\3\20\3\20\3\20\7\20\u0131\n\20\f\20\16\20\u0134\13\20\5"+
+		"\20\u0136\n\20\3\21\3\21\3\21\3\21\3\21\5\21\u013d\n\21\3\21\3\21\3\21"+
+		"\3\21\3\21\5\21\u0144\n\21\5\21\u0146\n\21\3\22\3\22\3\22\3\22\3\22\3"+
+		"\22\5\22\u014e\n\22\3\22\3\22\3\22\5\22\u0153\n\22\3\22\3\22\5\22\u0157"+
+		"\n\22\3\22\3\22\5\22\u015b\n\22\3\23\7\23\u015e\n\23\f\23\16\23\u0161"+
+		"\13\23\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\5\25\u016b\n\25\3\25\3"+
+		"\25\3\26\3\26\3\26\3\26\3\26\3\26\5\26\u0175\n\26\3\27\3\27\3\27\7\27"+
+		"\u017a\n\27\f\27\16\27\u017d\13\27\3\30\3\30\3\30\3\30\5\30\u0183\n\30"+
+		"\3\31\3\31\3\31\7\31\u0188\n\31\f\31\16\31\u018b\13\31\3\32\3\32\3\32"+
+		"\3\32\3\32\3\32\3\32\5\32\u0194\n\32\3\33\3\33\5\33\u0198\n\33\3\33\3"+
+		"\33\3\33\3\33\3\33\3\33\7\33\u01a0\n\33\f\33\16\33\u01a3\13\33\3\33\3"+
+		"\33\3\33\3\34\3\34\3\34\3\34\7\34\u01ac\n\34\f\34\16\34\u01af\13\34\3"+
+		"\35\3\35\3\35\5\35\u01b4\n\35\3\35\3\35\5\35\u01b8\n\35\3\35\3\35\5\35"+
+		"\u01bc\n\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\7\36\u01c5\n\36\f\36\16"+
+		"\36\u01c8\13\36\3\37\3\37\3\37\5\37\u01cd\n\37\3\37\3\37\3\37\3 \3 \3"+
+		" \3!\3!\3!\3!\3!\7!\u01da\n!\f!\16!\u01dd\13!\3\"\3\"\3\"\5\"\u01e2\n"+
+		"\"\3\"\3\"\5\"\u01e6\n\"\3\"\3\"\5\"\u01ea\n\"\3#\3#\3#\3#\3#\5#\u01f1"+
+		"\n#\3#\3#\3#\7#\u01f6\n#\f#\16#\u01f9\13#\3$\3$\3$\5$\u01fe\n$\3$\3$\3"+
+		"$\5$\u0203\n$\5$\u0205\n$\3$\3$\5$\u0209\n$\3%\3%\3%\3&\3&\5&\u0210\n"+
+		"&\3&\3&\3&\7&\u0215\n&\f&\16&\u0218\13&\3&\3&\3&\3\'\3\'\3\'\5\'\u0220"+
+		"\n\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\6(\u022a\n(\r(\16(\u022b\3(\3(\3(\3(\3"+
+		")\3)\6)\u0234\n)\r)\16)\u0235\3)\3)\3)\3*\3*\3*\3*\3*\6*\u0240\n*\r*\16"+
+		"*\u0241\3*\3*\5*\u0246\n*\3*\3*\3*\3+\3+\3+\3+\5+\u024f\n+\3+\3+\3+\7"+
+		"+\u0254\n+\f+\16+\u0257\13+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3,\3-\3-"+
+		"\3-\3-\3-\6-\u026a\n-\r-\16-\u026b\3.\3.\3.\5.\u0271\n.\3.\3.\3.\5.\u0276"+
+		"\n.\7.\u0278\n.\f.\16.\u027b\13.\3.\3.\3.\3.\3/\3/\3/\7/\u0284\n/\f/\16"+
+		"/\u0287\13/\3\60\3\60\3\60\7\60\u028c\n\60\f\60\16\60\u028f\13\60\3\61"+
+		"\5\61\u0292\n\61\3\61\3\61\3\62\3\62\3\62\5\62\u0299\n\62\3\63\3\63\3"+
+		"\63\7\63\u029e\n\63\f\63\16\63\u02a1\13\63\3\64\3\64\3\64\5\64\u02a6\n"+
+		"\64\3\65\3\65\3\65\7\65\u02ab\n\65\f\65\16\65\u02ae\13\65\3\66\3\66\3"+
+		"\66\7\66\u02b3\n\66\f\66\16\66\u02b6\13\66\3\67\3\67\3\67\3\67\5\67\u02bc"+
+		"\n\67\38\38\38\38\58\u02c2\n8\39\39\39\39\59\u02c8\n9\3:\3:\3:\3:\5:\u02ce"+
+		"\n:\3;\3;\3;\3;\5;\u02d4\n;\3<\3<\3<\3<\3<\7<\u02db\n<\f<\16<\u02de\13"+
+		"<\3=\7=\u02e1\n=\f=\16=\u02e4\13=\3=\3=\3>\3>\5>\u02ea\n>\3?\3?\3?\3?"+
+		"\3?\3?\3?\3@\3@\3@\7@\u02f6\n@\f@\16@\u02f9\13@\3A\3A\3A\3A\3A\3A\7A\u0301"+
+		"\nA\fA\16A\u0304\13A\3B\3B\3B\3B\3B\3B\3C\3C\3C\3D\3D\3D\3D\3E\3E\3E\3"+
+		"E\3E\3E\3E\5E\u031a\nE\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\5F\u032a"+
+		"\nF\3G\3G\3G\3H\3H\5H\u0331\nH\3H\3H\3I\3I\3J\3J\3J\3J\3J\3K\3K\3K\3K"+
+		"\3K\3L\3L\3L\3M\3M\3M\5M\u0347\nM\7M\u0349\nM\fM\16M\u034c\13M\3M\3M\3"+
+		"N\3N\5N\u0352\nN\3O\3O\5O\u0356\nO\3P\3P\3P\3P\3Q\3Q\3Q\5Q\u035f\nQ\3"+
+		"Q\3Q\3Q\5Q\u0364\nQ\3Q\3Q\5Q\u0368\nQ\3Q\3Q\3R\3R\3R\3R\3R\3R\5R\u0372"+
+		"\nR\5R\u0374\nR\3S\3S\3S\3S\7S\u037a\nS\fS\16S\u037d\13S\5S\u037f\nS\3"+
+		"S\3S\3S\3S\3S\5S\u0386\nS\3T\3T\3T\5T\u038b\nT\3U\3U\5U\u038f\nU\3V\3"+
+		"V\3V\3V\3V\3W\3W\3W\3W\3W\7W\u039b\nW\fW\16W\u039e\13W\5W\u03a0\nW\3W"+
+		"\3W\3W\3W\3X\3X\5X\u03a8\nX\3Y\3Y\5Y\u03ac\nY\3Y\3Y\3Y\3Z\3Z\5Z\u03b3"+
+		"\nZ\3Z\3Z\3[\3[\3\\\3\\\3]\3]\3]\2\2^\2\4\6\b\n\f\16\20\22\24\26\30\32"+
+		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080"+
+		"\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098"+
+		"\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0"+
+		"\u00b2\u00b4\u00b6\u00b8\2\n\4\2\t\tpp\3\2YZ\3\2\f\25\4\2\6\6*\64\3\2"+
+		"\66\67\4\2))8:\4\2\13\13tt\4\2Druu\2\u03eb\2\u00ba\3\2\2\2\4\u00c2\3\2"+
+		"\2\2\6\u00c8\3\2\2\2\b\u00cb\3\2\2\2\n\u00dc\3\2\2\2\f\u00eb\3\2\2\2\16"+
+		"\u00ed\3\2\2\2\20\u00f6\3\2\2\2\22\u00f8\3\2\2\2\24\u00fd\3\2\2\2\26\u0101"+
+		"\3\2\2\2\30\u0107\3\2\2\2\32\u011c\3\2\2\2\34\u0122\3\2\2\2\36\u0124\3"+
+		"\2\2\2 \u0137\3\2\2\2\"\u0147\3\2\2\2$\u015f\3\2\2\2&\u0162\3\2\2\2(\u0165"+
+		"\3\2\2\2*\u0174\3\2\2\2,\u0176\3\2\2\2.\u017e\3\2\2\2\60\u0184\3\2\2\2"+
+		"\62\u0193\3\2\2\2\64\u0197\3\2\2\2\66\u01a7\3\2\2\28\u01b0\3\2\2\2:\u01c0"+
+		"\3\2\2\2<\u01c9\3\2\2\2>\u01d1\3\2\2\2@\u01d4\3\2\2\2B\u01de\3\2\2\2D"+
+		"\u01f0\3\2\2\2F\u01fa\3\2\2\2H\u020a\3\2\2\2J\u020f\3\2\2\2L\u021c\3\2"+
+		"\2\2N\u0224\3\2\2\2P\u0233\3\2\2\2R\u023a\3\2\2\2T\u024a\3\2\2\2V\u025b"+
+		"\3\2\2\2X\u0264\3\2\2\2Z\u026d\3\2\2\2\\\u0280\3\2\2\2^\u0288\3\2\2\2"+
+		"`\u0291\3\2\2\2b\u0295\3\2\2\2d\u029a\3\2\2\2f\u02a2\3\2\2\2h\u02a7\3"+
+		"\2\2\2j\u02af\3\2\2\2l\u02b7\3\2\2\2n\u02bd\3\2\2\2p\u02c3\3\2\2\2r\u02c9"+
+		"\3\2\2\2t\u02cf\3\2\2\2v\u02d5\3\2\2\2x\u02e2\3\2\2\2z\u02e9\3\2\2\2|"+
+		"\u02eb\3\2\2\2~\u02f2\3\2\2\2\u0080\u02fa\3\2\2\2\u0082\u0305\3\2\2\2"+
+		"\u0084\u030b\3\2\2\2\u0086\u030e\3\2\2\2\u0088\u0312\3\2\2\2\u008a\u0329"+
+		"\3\2\2\2\u008c\u032b\3\2\2\2\u008e\u032e\3\2\2\2\u0090\u0334\3\2\2\2\u0092"+
+		"\u0336\3\2\2\2\u0094\u033b\3\2\2\2\u0096\u0340\3\2\2\2\u0098\u0343\3\2"+
+		"\2\2\u009a\u0351\3\2\2\2\u009c\u0355\3\2\2\2\u009e\u0357\3\2\2\2\u00a0"+
+		"\u035b\3\2\2\2\u00a2\u0373\3\2\2\2\u00a4\u0385\3\2\2\2\u00a6\u038a\3\2"+
+		"\2\2\u00a8\u038e\3\2\2\2\u00aa\u0390\3\2\2\2\u00ac\u0395\3\2\2\2\u00ae"+
+		"\u03a5\3\2\2\2\u00b0\u03ab\3\2\2\2\u00b2\u03b0\3\2\2\2\u00b4\u03b6\3\2"+
+		"\2\2\u00b6\u03b8\3\2\2\2\u00b8\u03ba\3\2\2\2\u00ba\u00bb\5\4\3\2\u00bb"+
+		"\u00bc\7\2\2\3\u00bc\3\3\2\2\2\u00bd\u00be\7o\2\2\u00be\u00bf\7n\2\2\u00bf"+
+		"\u00c0\5\u00b6\\\2\u00c0\u00c1\7\3\2\2\u00c1\u00c3\3\2\2\2\u00c2\u00bd"+
+		"\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3\u00c6\3\2\2\2\u00c4\u00c7\5\b\5\2\u00c5"+
+		"\u00c7\5\6\4\2\u00c6\u00c4\3\2\2\2\u00c6\u00c5\3\2\2\2\u00c7\5\3\2\2\2"+
+		"\u00c8\u00c9\5\n\6\2\u00c9\u00ca\5\60\31\2\u00ca\7\3\2\2\2\u00cb\u00cc"+
+		"\7\4\2\2\u00cc\u00cd\7\5\2\2\u00cd\u00ce\7|\2\2\u00ce\u00cf\7\6\2\2\u00cf"+
+		"\u00d0\5\u00b4[\2\u00d0\u00d1\7\3\2\2\u00d1\u00d2\5\n\6\2\u00d2\t\3\2"+
+		"\2\2\u00d3\u00d7\5\f\7\2\u00d4\u00d7\5\16\b\2\u00d5\u00d7\5\36\20\2\u00d6"+
+		"\u00d3\3\2\2\2\u00d6\u00d4\3\2\2\2\u00d6\u00d5\3\2\2\2\u00d7\u00d8\3\2"+
+		"\2\2\u00d8\u00d9\7\3\2\2\u00d9\u00db\3\2\2\2\u00da\u00d6\3\2\2\2\u00db"+
+		"\u00de\3\2\2\2\u00dc\u00da\3\2\2\2\u00dc\u00dd\3\2\2\2\u00dd\u00e4\3\2"+
+		"\2\2\u00de\u00dc\3\2\2\2\u00df\u00e0\5\20\t\2\u00e0\u00e1\7\3\2\2\u00e1"+
+		"\u00e3\3\2\2\2\u00e2\u00df\3\2\2\2\u00e3\u00e6\3\2\2\2\u00e4\u00e2\3\2"+
+		"\2\2\u00e4\u00e5\3\2\2\2\u00e5\13\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e7\u00ec"+
+		"\5\22\n\2\u00e8\u00ec\5\24\13\2\u00e9\u00ec\5\26\f\2\u00ea\u00ec\5\30"+
+		"\r\2\u00eb\u00e7\3\2\2\2\u00eb\u00e8\3\2\2\2\u00eb\u00e9\3\2\2\2\u00eb"+
+		"\u00ea\3\2\2\2\u00ec\r\3\2\2\2\u00ed\u00ee\7\7\2\2\u00ee\u00ef\7\5\2\2"+
+		"\u00ef\u00f0\7|\2\2\u00f0\u00f1\7\6\2\2\u00f1\u00f2\5\u00b4[\2\u00f2\17"+
+		"\3\2\2\2\u00f3\u00f7\5\"\22\2\u00f4\u00f7\5 \21\2\u00f5\u00f7\5(\25\2"+
+		"\u00f6\u00f3\3\2\2\2\u00f6\u00f4\3\2\2\2\u00f6\u00f5\3\2\2\2\u00f7\21"+
+		"\3\2\2\2\u00f8\u00f9\7\7\2\2\u00f9\u00fa\7_\2\2\u00fa\u00fb\7X\2\2\u00fb"+
+		"\u00fc\5\u00b4[\2\u00fc\23\3\2\2\2\u00fd\u00fe\7\7\2\2\u00fe\u00ff\7\b"+
+		"\2\2\u00ff\u0100\t\2\2\2\u0100\25\3\2\2\2\u0101\u0102\7\7\2\2\u0102\u0103"+
+		"\7_\2\2\u0103\u0104\7I\2\2\u0104\u0105\7P\2\2\u0105\u0106\t\3\2\2\u0106"+
+		"\27\3\2\2\2\u0107\u010c\7\7\2\2\u0108\u0109\7\n\2\2\u0109\u010d\5\32\16"+
+		"\2\u010a\u010b\7_\2\2\u010b\u010d\7\n\2\2\u010c\u0108\3\2\2\2\u010c\u010a"+
+		"\3\2\2\2\u010d\u0114\3\2\2\2\u010e\u010f\5\34\17\2\u010f\u0110\7\6\2\2"+
+		"\u0110\u0111\5\u00b6\\\2\u0111\u0113\3\2\2\2\u0112\u010e\3\2\2\2\u0113"+
+		"\u0116\3\2\2\2\u0114\u0112\3\2\2\2\u0114\u0115\3\2\2\2\u0115\31\3\2\2"+
+		"\2\u0116\u0114\3\2\2\2\u0117\u011a\7|\2\2\u0118\u011a\5\u00b8]\2\u0119"+
+		"\u0117\3\2\2\2\u0119\u0118\3\2\2\2\u011a\u011b\3\2\2\2\u011b\u011d\7\13"+
+		"\2\2\u011c\u0119\3\2\2\2\u011c\u011d\3\2\2\2\u011d\u0120\3\2\2\2\u011e"+
+		"\u0121\7|\2\2\u011f\u0121\5\u00b8]\2\u0120\u011e\3\2\2\2\u0120\u011f\3"+
+		"\2\2\2\u0121\33\3\2\2\2\u0122\u0123\t\4\2\2\u0123\35\3\2\2\2\u0124\u0125"+
+		"\7\26\2\2\u0125\u0129\7\4\2\2\u0126\u0127\7\5\2\2\u0127\u0128\7|\2\2\u0128"+
+		"\u012a\7\6\2\2\u0129\u0126\3\2\2\2\u0129\u012a\3\2\2\2\u012a\u012b\3\2"+
+		"\2\2\u012b\u0135\5\u00b4[\2\u012c\u012d\7N\2\2\u012d\u0132\5\u00b4[\2"+
+		"\u012e\u012f\7\27\2\2\u012f\u0131\5\u00b4[\2\u0130\u012e\3\2\2\2\u0131"+
+		"\u0134\3\2\2\2\u0132\u0130\3\2\2\2\u0132\u0133\3\2\2\2\u0133\u0136\3\2"+
+		"\2\2\u0134\u0132\3\2\2\2\u0135\u012c\3\2\2\2\u0135\u0136\3\2\2\2\u0136"+
+		"\37\3\2\2\2\u0137\u0138\7\7\2\2\u0138\u0139\7\30\2\2\u0139\u013c\5\u008c"+
+		"G\2\u013a\u013b\7M\2\2\u013b\u013d\5\u00a2R\2\u013c\u013a\3\2\2\2\u013c"+
+		"\u013d\3\2\2\2\u013d\u0145\3\2\2\2\u013e\u013f\7\31\2\2\u013f\u0146\5"+
+		"\62\32\2\u0140\u0143\7\32\2\2\u0141\u0142\7\31\2\2\u0142\u0144\5\62\32"+
+		"\2\u0143\u0141\3\2\2\2\u0143\u0144\3\2\2\2\u0144\u0146\3\2\2\2\u0145\u013e"+
+		"\3\2\2\2\u0145\u0140\3\2\2\2\u0146!\3\2\2\2\u0147\u0148\7\7\2\2\u0148"+
+		"\u0149\5$\23\2\u0149\u014a\7\33\2\2\u014a\u014b\5\32\16\2\u014b\u014d"+
+		"\7\34\2\2\u014c\u014e\5,\27\2\u014d\u014c\3\2\2\2\u014d\u014e\3\2\2\2"+
+		"\u014e\u014f\3\2\2\2\u014f\u0152\7\35\2\2\u0150\u0151\7M\2\2\u0151\u0153"+
+		"\5\u00a2R\2\u0152\u0150\3\2\2\2\u0152\u0153\3\2\2\2\u0153\u015a\3\2\2"+
+		"\2\u0154\u0156\7\36\2\2\u0155\u0157\5\60\31\2\u0156\u0155\3\2\2\2\u0156"+
+		"\u0157\3\2\2\2\u0157\u0158\3\2\2\2\u0158\u015b\7\37\2\2\u0159\u015b\7"+
+		"\32\2\2\u015a\u0154\3\2\2\2\u015a\u0159\3\2\2\2\u015b#\3\2\2\2\u015c\u015e"+
+		"\5&\24\2\u015d\u015c\3\2\2\2\u015e\u0161\3\2\2\2\u015f\u015d\3\2\2\2\u015f"+
+		"\u0160\3\2\2\2\u0160%\3\2\2\2\u0161\u015f\3\2\2\2\u0162\u0163\7 \2\2\u0163"+
+		"\u0164\5\32\16\2\u0164\'\3\2\2\2\u0165\u0166\7\7\2\2\u0166\u0167\7!\2"+
+		"\2\u0167\u0168\5\32\16\2\u0168\u016a\7M\2\2\u0169\u016b\5*\26\2\u016a"+
+		"\u0169\3\2\2\2\u016a\u016b\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u016d\5\62"+
+		"\32\2\u016d)\3\2\2\2\u016e\u016f\7\"\2\2\u016f\u0175\7#\2\2\u0170\u0171"+
+		"\7\"\2\2\u0171\u0175\7$\2\2\u0172\u0173\7%\2\2\u0173\u0175\7&\2\2\u0174"+
+		"\u016e\3\2\2\2\u0174\u0170\3\2\2\2\u0174\u0172\3\2\2\2\u0175+\3\2\2\2"+
+		"\u0176\u017b\5.\30\2\u0177\u0178\7\27\2\2\u0178\u017a\5.\30\2\u0179\u0177"+
+		"\3\2\2\2\u017a\u017d\3\2\2\2\u017b\u0179\3\2\2\2\u017b\u017c\3\2\2\2\u017c"+
+		"-\3\2\2\2\u017d\u017b\3\2\2\2\u017e\u017f\7\'\2\2\u017f\u0182\5\32\16"+
+		"\2\u0180\u0181\7M\2\2\u0181\u0183\5\u00a2R\2\u0182\u0180\3\2\2\2\u0182"+
+		"\u0183\3\2\2\2\u0183/\3\2\2\2\u0184\u0189\5\62\32\2\u0185\u0186\7\27\2"+
+		"\2\u0186\u0188\5\62\32\2\u0187\u0185\3\2\2\2\u0188\u018b\3\2\2\2\u0189"+
+		"\u0187\3\2\2\2\u0189\u018a\3\2\2\2\u018a\61\3\2\2\2\u018b\u0189\3\2\2"+
+		"\2\u018c\u0194\5\64\33\2\u018d\u0194\5J&\2\u018e\u0194\5N(\2\u018f\u0194"+
+		"\5R*\2\u0190\u0194\5V,\2\u0191\u0194\5X-\2\u0192\u0194\5\\/\2\u0193\u018c"+
+		"\3\2\2\2\u0193\u018d\3\2\2\2\u0193\u018e\3\2\2\2\u0193\u018f\3\2\2\2\u0193"+
+		"\u0190\3\2\2\2\u0193\u0191\3\2\2\2\u0193\u0192\3\2\2\2\u0194\63\3\2\2"+
+		"\2\u0195\u0198\5\66\34\2\u0196\u0198\5:\36\2\u0197\u0195\3\2\2\2\u0197"+
+		"\u0196\3\2\2\2\u0198\u01a1\3\2\2\2\u0199\u01a0\5\66\34\2\u019a\u01a0\5"+
+		"> \2\u019b\u01a0\5:\36\2\u019c\u01a0\5@!\2\u019d\u01a0\5D#\2\u019e\u01a0"+
+		"\5H%\2\u019f\u0199\3\2\2\2\u019f\u019a\3\2\2\2\u019f\u019b\3\2\2\2\u019f"+
+		"\u019c\3\2\2\2\u019f\u019d\3\2\2\2\u019f\u019e\3\2\2\2\u01a0\u01a3\3\2"+
+		"\2\2\u01a1\u019f\3\2\2\2\u01a1\u01a2\3\2\2\2\u01a2\u01a4\3\2\2\2\u01a3"+
+		"\u01a1\3\2\2\2\u01a4\u01a5\7J\2\2\u01a5\u01a6\5\62\32\2\u01a6\65\3\2\2"+
+		"\2\u01a7\u01a8\7D\2\2\u01a8\u01ad\58\35\2\u01a9\u01aa\7\27\2\2\u01aa\u01ac"+
+		"\58\35\2\u01ab\u01a9\3\2\2\2\u01ac\u01af\3\2\2\2\u01ad\u01ab\3\2\2\2\u01ad"+
+		"\u01ae\3\2\2\2\u01ae\67\3\2\2\2\u01af\u01ad\3\2\2\2\u01b0\u01b3\5\u008c"+
+		"G\2\u01b1\u01b2\7M\2\2\u01b2\u01b4\5\u00a2R\2\u01b3\u01b1\3\2\2\2\u01b3"+
+		"\u01b4\3\2\2\2\u01b4\u01b7\3\2\2\2\u01b5\u01b6\7O\2\2\u01b6\u01b8\7P\2"+
+		"\2\u01b7\u01b5\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8\u01bb\3\2\2\2\u01b9\u01ba"+
+		"\7N\2\2\u01ba\u01bc\5\u008cG\2\u01bb\u01b9\3\2\2\2\u01bb\u01bc\3\2\2\2"+
+		"\u01bc\u01bd\3\2\2\2\u01bd\u01be\7L\2\2\u01be\u01bf\5\62\32\2\u01bf9\3"+
+		"\2\2\2\u01c0\u01c1\7E\2\2\u01c1\u01c6\5<\37\2\u01c2\u01c3\7\27\2\2\u01c3"+
+		"\u01c5\5<\37\2\u01c4\u01c2\3\2\2\2\u01c5\u01c8\3\2\2\2\u01c6\u01c4\3\2"+
+		"\2\2\u01c6\u01c7\3\2\2\2\u01c7;\3\2\2\2\u01c8\u01c6\3\2\2\2\u01c9\u01cc"+
+		"\5\u008cG\2\u01ca\u01cb\7M\2\2\u01cb\u01cd\5\u00a2R\2\u01cc\u01ca\3\2"+
+		"\2\2\u01cc\u01cd\3\2\2\2\u01cd\u01ce\3\2\2\2\u01ce\u01cf\7\31\2\2\u01cf"+
+		"\u01d0\5\62\32\2\u01d0=\3\2\2\2\u01d1\u01d2\7F\2\2\u01d2\u01d3\5\62\32"+
+		"\2\u01d3?\3\2\2\2\u01d4\u01d5\7G\2\2\u01d5\u01d6\7H\2\2\u01d6\u01db\5"+
+		"B\"\2\u01d7\u01d8\7\27\2\2\u01d8\u01da\5B\"\2\u01d9\u01d7\3\2\2\2\u01da"+
+		"\u01dd\3\2\2\2\u01db\u01d9\3\2\2\2\u01db\u01dc\3\2\2\2\u01dcA\3\2\2\2"+
+		"\u01dd\u01db\3\2\2\2\u01de\u01e5\5\u008cG\2\u01df\u01e0\7M\2\2\u01e0\u01e2"+
+		"\5\u00a2R\2\u01e1\u01df\3\2\2\2\u01e1\u01e2\3\2\2\2\u01e2\u01e3\3\2\2"+
+		"\2\u01e3\u01e4\7\31\2\2\u01e4\u01e6\5\62\32\2\u01e5\u01e1\3\2\2\2\u01e5"+
+		"\u01e6\3\2\2\2\u01e6\u01e9\3\2\2\2\u01e7\u01e8\7X\2\2\u01e8\u01ea\5\u00b4"+
+		"[\2\u01e9\u01e7\3\2\2\2\u01e9\u01ea\3\2\2\2\u01eaC\3\2\2\2\u01eb\u01ec"+
+		"\7I\2\2\u01ec\u01f1\7H\2\2\u01ed\u01ee\7R\2\2\u01ee\u01ef\7I\2\2\u01ef"+
+		"\u01f1\7H\2\2\u01f0\u01eb\3\2\2\2\u01f0\u01ed\3\2\2\2\u01f1\u01f2\3\2"+
+		"\2\2\u01f2\u01f7\5F$\2\u01f3\u01f4\7\27\2\2\u01f4\u01f6\5F$\2\u01f5\u01f3"+
+		"\3\2\2\2\u01f6\u01f9\3\2\2\2\u01f7\u01f5\3\2\2\2\u01f7\u01f8\3\2\2\2\u01f8"+
+		"E\3\2\2\2\u01f9\u01f7\3\2\2\2\u01fa\u01fd\5\62\32\2\u01fb\u01fe\7S\2\2"+
+		"\u01fc\u01fe\7T\2\2\u01fd\u01fb\3\2\2\2\u01fd\u01fc\3\2\2\2\u01fd\u01fe"+
+		"\3\2\2\2\u01fe\u0204\3\2\2\2\u01ff\u0202\7P\2\2\u0200\u0203\7Y\2\2\u0201"+
+		"\u0203\7Z\2\2\u0202\u0200\3\2\2\2\u0202\u0201\3\2\2\2\u0203\u0205\3\2"+
+		"\2\2\u0204\u01ff\3\2\2\2\u0204\u0205\3\2\2\2\u0205\u0208\3\2\2\2\u0206"+
+		"\u0207\7X\2\2\u0207\u0209\5\u00b4[\2\u0208\u0206\3\2\2\2\u0208\u0209\3"+
+		"\2\2\2\u0209G\3\2\2\2\u020a\u020b\7Q\2\2\u020b\u020c\5\u008cG\2\u020c"+
+		"I\3\2\2\2\u020d\u0210\7U\2\2\u020e\u0210\7V\2\2\u020f\u020d\3\2\2\2\u020f"+
+		"\u020e\3\2\2\2\u0210\u0211\3\2\2\2\u0211\u0216\5L\'\2\u0212\u0213\7\27"+
+		"\2\2\u0213\u0215\5L\'\2\u0214\u0212\3\2\2\2\u0215\u0218\3\2\2\2\u0216"+
+		"\u0214\3\2\2\2\u0216\u0217\3\2\2\2\u0217\u0219\3\2\2\2\u0218\u0216\3\2"+
+		"\2\2\u0219\u021a\7W\2\2\u021a\u021b\5\62\32\2\u021bK\3\2\2\2\u021c\u021f"+
+		"\5\u008cG\2\u021d\u021e\7M\2\2\u021e\u0220\5\u00a2R\2\u021f\u021d\3\2"+
+		"\2\2\u021f\u0220\3\2\2\2\u0220\u0221\3\2\2\2\u0221\u0222\7L\2\2\u0222"+
+		"\u0223\5\62\32\2\u0223M\3\2\2\2\u0224\u0225\7[\2\2\u0225\u0226\7\34\2"+
+		"\2\u0226\u0227\5\60\31\2\u0227\u0229\7\35\2\2\u0228\u022a\5P)\2\u0229"+
+		"\u0228\3\2\2\2\u022a\u022b\3\2\2\2\u022b\u0229\3\2\2\2\u022b\u022c\3\2"+
+		"\2\2\u022c\u022d\3\2\2\2\u022d\u022e\7_\2\2\u022e\u022f\7J\2\2\u022f\u0230"+
+		"\5\62\32\2\u0230O\3\2\2\2\u0231\u0232\7\\\2\2\u0232\u0234\5\62\32\2\u0233"+
+		"\u0231\3\2\2\2\u0234\u0235\3\2\2\2\u0235\u0233\3\2\2\2\u0235\u0236\3\2"+
+		"\2\2\u0236\u0237\3\2\2\2\u0237\u0238\7J\2\2\u0238\u0239\5\62\32\2\u0239"+
+		"Q\3\2\2\2\u023a\u023b\7b\2\2\u023b\u023c\7\34\2\2\u023c\u023d\5\60\31"+
+		"\2\u023d\u023f\7\35\2\2\u023e\u0240\5T+\2\u023f\u023e\3\2\2\2\u0240\u0241"+
+		"\3\2\2\2\u0241\u023f\3\2\2\2\u0241\u0242\3\2\2\2\u0242\u0243\3\2\2\2\u0243"+
+		"\u0245\7_\2\2\u0244\u0246\5\u008cG\2\u0245\u0244\3\2\2\2\u0245\u0246\3"+
+		"\2\2\2\u0246\u0247\3\2\2\2\u0247\u0248\7J\2\2\u0248\u0249\5\62\32\2\u0249"+
+		"S\3\2\2\2\u024a\u024e\7\\\2\2\u024b\u024c\5\u008cG\2\u024c\u024d\7M\2"+
+		"\2\u024d\u024f\3\2\2\2\u024e\u024b\3\2\2\2\u024e\u024f\3\2\2\2\u024f\u0250"+
+		"\3\2\2\2\u0250\u0255\5\u00a2R\2\u0251\u0252\7(\2\2\u0252\u0254\5\u00a2"+
+		"R\2\u0253\u0251\3\2\2\2\u0254\u0257\3\2\2\2\u0255\u0253\3\2\2\2\u0255"+
+		"\u0256\3\2\2\2\u0256\u0258\3\2\2\2\u0257\u0255\3\2\2\2\u0258\u0259\7J"+
+		"\2\2\u0259\u025a\5\62\32\2\u025aU\3\2\2\2\u025b\u025c\7K\2\2\u025c\u025d"+
+		"\7\34\2\2\u025d\u025e\5\60\31\2\u025e\u025f\7\35\2\2\u025f\u0260\7`\2"+
+		"\2\u0260\u0261\5\62\32\2\u0261\u0262\7a\2\2\u0262\u0263\5\62\32\2\u0263"+
+		"W\3\2\2\2\u0264\u0265\7]\2\2\u0265\u0266\7\36\2\2\u0266\u0267\5\60\31"+
+		"\2\u0267\u0269\7\37\2\2\u0268\u026a\5Z.\2\u0269\u0268\3\2\2\2\u026a\u026b"+
+		"\3\2\2\2\u026b\u0269\3\2\2\2\u026b\u026c\3\2\2\2\u026cY\3\2\2\2\u026d"+
+		"\u0270\7^\2\2\u026e\u0271\7)\2\2\u026f\u0271\5\32\16\2\u0270\u026e\3\2"+
+		"\2\2\u0270\u026f\3\2\2\2\u0271\u0279\3\2\2\2\u0272\u0275\7(\2\2\u0273"+
+		"\u0276\7)\2\2\u0274\u0276\5\32\16\2\u0275\u0273\3\2\2\2\u0275\u0274\3"+
+		"\2\2\2\u0276\u0278\3\2\2\2\u0277\u0272\3\2\2\2\u0278\u027b\3\2\2\2\u0279"+
+		"\u0277\3\2\2\2\u0279\u027a\3\2\2\2\u027a\u027c\3\2\2\2\u027b\u0279\3\2"+
+		"\2\2\u027c\u027d\7\36\2\2\u027d\u027e\5\60\31\2\u027e\u027f\7\37\2\2\u027f"+
+		"[\3\2\2\2\u0280\u0285\5^\60\2\u0281\u0282\7c\2\2\u0282\u0284\5^\60\2\u0283"+
+		"\u0281\3\2\2\2\u0284\u0287\3\2\2\2\u0285\u0283\3\2\2\2\u0285\u0286\3\2"+
+		"\2\2\u0286]\3\2\2\2\u0287\u0285\3\2\2\2\u0288\u028d\5`\61\2\u0289\u028a"+
+		"\7d\2\2\u028a\u028c\5`\61\2\u028b\u0289\3\2\2\2\u028c\u028f\3\2\2\2\u028d"+
+		"\u028b\3\2\2\2\u028d\u028e\3\2\2\2\u028e_\3\2\2\2\u028f\u028d\3\2\2\2"+
+		"\u0290\u0292\7e\2\2\u0291\u0290\3\2\2\2\u0291\u0292\3\2\2\2\u0292\u0293"+
+		"\3\2\2\2\u0293\u0294\5b\62\2\u0294a\3\2\2\2\u0295\u0298\5d\63\2\u0296"+
+		"\u0297\t\5\2\2\u0297\u0299\5d\63\2\u0298\u0296\3\2\2\2\u0298\u0299\3\2"+
+		"\2\2\u0299c\3\2\2\2\u029a\u029f\5f\64\2\u029b\u029c\7\65\2\2\u029c\u029e"+
+		"\5f\64\2\u029d\u029b\3\2\2\2\u029e\u02a1\3\2\2\2\u029f\u029d\3\2\2\2\u029f"+
+		"\u02a0\3\2\2\2\u02a0e\3\2\2\2\u02a1\u029f\3\2\2\2\u02a2\u02a5\5h\65\2"+
+		"\u02a3\u02a4\7f\2\2\u02a4\u02a6\5h\65\2\u02a5\u02a3\3\2\2\2\u02a5\u02a6"+
+		"\3\2\2\2\u02a6g\3\2\2\2\u02a7\u02ac\5j\66\2\u02a8\u02a9\t\6\2\2\u02a9"+
+		"\u02ab\5j\66\2\u02aa\u02a8\3\2\2\2\u02ab\u02ae\3\2\2\2\u02ac\u02aa\3\2"+
+		"\2\2\u02ac\u02ad\3\2\2\2\u02adi\3\2\2\2\u02ae\u02ac\3\2\2\2\u02af\u02b4"+
+		"\5l\67\2\u02b0\u02b1\t\7\2\2\u02b1\u02b3\5l\67\2\u02b2\u02b0\3\2\2\2\u02b3"+
+		"\u02b6\3\2\2\2\u02b4\u02b2\3\2\2\2\u02b4\u02b5\3\2\2\2\u02b5k\3\2\2\2"+
+		"\u02b6\u02b4\3\2\2\2\u02b7\u02bb\5n8\2\u02b8\u02b9\7g\2\2\u02b9\u02ba"+
+		"\7h\2\2\u02ba\u02bc\5\u00a2R\2\u02bb\u02b8\3\2\2\2\u02bb\u02bc\3\2\2\2"+
+		"\u02bcm\3\2\2\2\u02bd\u02c1\5p9\2\u02be\u02bf\7j\2\2\u02bf\u02c0\7i\2"+
+		"\2\u02c0\u02c2\5\u00a2R\2\u02c1\u02be\3\2\2\2\u02c1\u02c2\3\2\2\2\u02c2"+
+		"o\3\2\2\2\u02c3\u02c7\5r:\2\u02c4\u02c5\7k\2\2\u02c5\u02c6\7M\2\2\u02c6"+
+		"\u02c8\5\u00a2R\2\u02c7\u02c4\3\2\2\2\u02c7\u02c8\3\2\2\2\u02c8q\3\2\2"+
+		"\2\u02c9\u02cd\5t;\2\u02ca\u02cb\7m\2\2\u02cb\u02cc\7M\2\2\u02cc\u02ce"+
+		"\5\u00aeX\2\u02cd\u02ca\3\2\2\2\u02cd\u02ce\3\2\2\2\u02ces\3\2\2\2\u02cf"+
+		"\u02d3\5v<\2\u02d0\u02d1\7l\2\2\u02d1\u02d2\7M\2\2\u02d2\u02d4\5\u00ae"+
+		"X\2\u02d3\u02d0\3\2\2\2\u02d3\u02d4\3\2\2\2\u02d4u\3\2\2\2\u02d5\u02dc"+
+		"\5x=\2\u02d6\u02d7\7\6\2\2\u02d7\u02d8\7\63\2\2\u02d8\u02d9\3\2\2\2\u02d9"+
+		"\u02db\5\u0096L\2\u02da\u02d6\3\2\2\2\u02db\u02de\3\2\2\2\u02dc\u02da"+
+		"\3\2\2\2\u02dc\u02dd\3\2\2\2\u02ddw\3\2\2\2\u02de\u02dc\3\2\2\2\u02df"+
+		"\u02e1\t\6\2\2\u02e0\u02df\3\2\2\2\u02e1\u02e4\3\2\2\2\u02e2\u02e0\3\2"+
+		"\2\2\u02e2\u02e3\3\2\2\2\u02e3\u02e5\3\2\2\2\u02e4\u02e2\3\2\2\2\u02e5"+
+		"\u02e6\5z>\2\u02e6y\3\2\2\2\u02e7\u02ea\5~@\2\u02e8\u02ea\5|?\2\u02e9"+
+		"\u02e7\3\2\2\2\u02e9\u02e8\3\2\2\2\u02ea{\3\2\2\2\u02eb\u02ec\7;\2\2\u02ec"+
+		"\u02ed\7!\2\2\u02ed\u02ee\5\u00a2R\2\u02ee\u02ef\7\36\2\2\u02ef\u02f0"+
+		"\5\60\31\2\u02f0\u02f1\7\37\2\2\u02f1}\3\2\2\2\u02f2\u02f7\5\u0080A\2"+
+		"\u02f3\u02f4\7<\2\2\u02f4\u02f6\5\u0080A\2\u02f5\u02f3\3\2\2\2\u02f6\u02f9"+
+		"\3\2\2\2\u02f7\u02f5\3\2\2\2\u02f7\u02f8\3\2\2\2\u02f8\177\3\2\2\2\u02f9"+
+		"\u02f7\3\2\2\2\u02fa\u0302\5\u008aF\2\u02fb\u0301\5\u0082B\2\u02fc\u0301"+
+		"\5\u0086D\2\u02fd\u0301\5\u0088E\2\u02fe\u0301\5\u0084C\2\u02ff\u0301"+
+		"\5\u0098M\2\u0300\u02fb\3\2\2\2\u0300\u02fc\3\2\2\2\u0300\u02fd\3\2\2"+
+		"\2\u0300\u02fe\3\2\2\2\u0300\u02ff\3\2\2\2\u0301\u0304\3\2\2\2\u0302\u0300"+
+		"\3\2\2\2\u0302\u0303\3\2\2\2\u0303\u0081\3\2\2\2\u0304\u0302\3\2\2\2\u0305"+
+		"\u0306\7=\2\2\u0306\u0307\7=\2\2\u0307\u0308\5\60\31\2\u0308\u0309\7>"+
+		"\2\2\u0309\u030a\7>\2\2\u030a\u0083\3\2\2\2\u030b\u030c\7=\2\2\u030c\u030d"+
+		"\7>\2\2\u030d\u0085\3\2\2\2\u030e\u030f\7=\2\2\u030f\u0310\5\60\31\2\u0310"+
+		"\u0311\7>\2\2\u0311\u0087\3\2\2\2\u0312\u0319\7?\2\2\u0313\u031a\5\u00b8"+
+		"]\2\u0314\u031a\5\u00b6\\\2\u0315\u031a\7|\2\2\u0316\u031a\5\u008eH\2"+
+		"\u0317\u031a\5\u008cG\2\u0318\u031a\5\u0090I\2\u0319\u0313\3\2\2\2\u0319"+
+		"\u0314\3\2\2\2\u0319\u0315\3\2\2\2\u0319\u0316\3\2\2\2\u0319\u0317\3\2"+
+		"\2\2\u0319\u0318\3\2\2\2\u031a\u0089\3\2\2\2\u031b\u032a\7u\2\2\u031c"+
+		"\u032a\7q\2\2\u031d\u032a\7r\2\2\u031e\u032a\7v\2\2\u031f\u032a\5\u00b6"+
+		"\\\2\u0320\u032a\5\u008cG\2\u0321\u032a\5\u008eH\2\u0322\u032a\5\u0090"+
+		"I\2\u0323\u032a\5\u00a4S\2\u0324\u032a\5\u0096L\2\u0325\u032a\5\u0092"+
+		"J\2\u0326\u032a\5\u0094K\2\u0327\u032a\5\u00b2Z\2\u0328\u032a\5\u009c"+
+		"O\2\u0329\u031b\3\2\2\2\u0329\u031c\3\2\2\2\u0329\u031d\3\2\2\2\u0329"+
+		"\u031e\3\2\2\2\u0329\u031f\3\2\2\2\u0329\u0320\3\2\2\2\u0329\u0321\3\2"+
+		"\2\2\u0329\u0322\3\2\2\2\u0329\u0323\3\2\2\2\u0329\u0324\3\2\2\2\u0329"+
+		"\u0325\3\2\2\2\u0329\u0326\3\2\2\2\u0329\u0327\3\2\2\2\u0329\u0328\3\2"+
+		"\2\2\u032a\u008b\3\2\2\2\u032b\u032c\7\'\2\2\u032c\u032d\5\32\16\2\u032d"+
+		"\u008d\3\2\2\2\u032e\u0330\7\34\2\2\u032f\u0331\5\60\31\2\u0330\u032f"+
+		"\3\2\2\2\u0330\u0331\3\2\2\2\u0331\u0332\3\2\2\2\u0332\u0333\7\35\2\2"+
+		"\u0333\u008f\3\2\2\2\u0334\u0335\7@\2\2\u0335\u0091\3\2\2\2\u0336\u0337"+
+		"\7\t\2\2\u0337\u0338\7\36\2\2\u0338\u0339\5\60\31\2\u0339\u033a\7\37\2"+
+		"\2\u033a\u0093\3\2\2\2\u033b\u033c\7p\2\2\u033c\u033d\7\36\2\2\u033d\u033e"+
+		"\5\60\31\2\u033e\u033f\7\37\2\2\u033f\u0095\3\2\2\2\u0340\u0341\5\32\16"+
+		"\2\u0341\u0342\5\u0098M\2\u0342\u0097\3\2\2\2\u0343\u034a\7\34\2\2\u0344"+
+		"\u0346\5\u009aN\2\u0345\u0347\7\27\2\2\u0346\u0345\3\2\2\2\u0346\u0347"+
+		"\3\2\2\2\u0347\u0349\3\2\2\2\u0348\u0344\3\2\2\2\u0349\u034c\3\2\2\2\u034a"+
+		"\u0348\3\2\2\2\u034a\u034b\3\2\2\2\u034b\u034d\3\2\2\2\u034c\u034a\3\2"+
+		"\2\2\u034d\u034e\7\35\2\2\u034e\u0099\3\2\2\2\u034f\u0352\5\62\32\2\u0350"+
+		"\u0352\7t\2\2\u0351\u034f\3\2\2\2\u0351\u0350\3\2\2\2\u0352\u009b\3\2"+
+		"\2\2\u0353\u0356\5\u009eP\2\u0354\u0356\5\u00a0Q\2\u0355\u0353\3\2\2\2"+
+		"\u0355\u0354\3\2\2\2\u0356\u009d\3\2\2\2\u0357\u0358\5\32\16\2\u0358\u0359"+
+		"\7A\2\2\u0359\u035a\7v\2\2\u035a\u009f\3\2\2\2\u035b\u035c\7\33\2\2\u035c"+
+		"\u035e\7\34\2\2\u035d\u035f\5,\27\2\u035e\u035d\3\2\2\2\u035e\u035f\3"+
+		"\2\2\2\u035f\u0360\3\2\2\2\u0360\u0363\7\35\2\2\u0361\u0362\7M\2\2\u0362"+
+		"\u0364\5\u00a2R\2\u0363\u0361\3\2\2\2\u0363\u0364\3\2\2\2\u0364\u0365"+
+		"\3\2\2\2\u0365\u0367\7\36\2\2\u0366\u0368\5\60\31\2\u0367\u0366\3\2\2"+
+		"\2\u0367\u0368\3\2\2\2\u0368\u0369\3\2\2\2\u0369\u036a\7\37\2\2\u036a"+
+		"\u00a1\3\2\2\2\u036b\u036c\7\34\2\2\u036c\u0374\7\35\2\2\u036d\u0371\5"+
+		"\u00a6T\2\u036e\u0372\7t\2\2\u036f\u0372\7)\2\2\u0370\u0372\7\66\2\2\u0371"+
+		"\u036e\3\2\2\2\u0371\u036f\3\2\2\2\u0371\u0370\3\2\2\2\u0371\u0372\3\2"+
+		"\2\2\u0372\u0374\3\2\2\2\u0373\u036b\3\2\2\2\u0373\u036d\3\2\2\2\u0374"+
+		"\u00a3\3\2\2\2\u0375\u037e\7\36\2\2\u0376\u037b\5\u00b0Y\2\u0377\u0378"+
+		"\7\27\2\2\u0378\u037a\5\u00b0Y\2\u0379\u0377\3\2\2\2\u037a\u037d\3\2\2"+
+		"\2\u037b\u0379\3\2\2\2\u037b\u037c\3\2\2\2\u037c\u037f\3\2\2\2\u037d\u037b"+
+		"\3\2\2\2\u037e\u0376\3\2\2\2\u037e\u037f\3\2\2\2\u037f\u0380\3\2\2\2\u0380"+
+		"\u0386\7\37\2\2\u0381\u0382\7B\2\2\u0382\u0383\5\60\31\2\u0383\u0384\7"+
+		"C\2\2\u0384\u0386\3\2\2\2\u0385\u0375\3\2\2\2\u0385\u0381\3\2\2\2\u0386"+
+		"\u00a5\3\2\2\2\u0387\u038b\5\32\16\2\u0388\u038b\7u\2\2\u0389\u038b\5"+
+		"\u00a8U\2\u038a\u0387\3\2\2\2\u038a\u0388\3\2\2\2\u038a\u0389\3\2\2\2"+
+		"\u038b\u00a7\3\2\2\2\u038c\u038f\5\u00aaV\2\u038d\u038f\5\u00acW\2\u038e"+
+		"\u038c\3\2\2\2\u038e\u038d\3\2\2\2\u038f\u00a9\3\2\2\2\u0390\u0391\7\33"+
+		"\2\2\u0391\u0392\7\34\2\2\u0392\u0393\7)\2\2\u0393\u0394\7\35\2\2\u0394"+
+		"\u00ab\3\2\2\2\u0395\u0396\7\33\2\2\u0396\u039f\7\34\2\2\u0397\u039c\5"+
+		"\u00a2R\2\u0398\u0399\7\27\2\2\u0399\u039b\5\u00a2R\2\u039a\u0398\3\2"+
+		"\2\2\u039b\u039e\3\2\2\2\u039c\u039a\3\2\2\2\u039c\u039d\3\2\2\2\u039d"+
+		"\u03a0\3\2\2\2\u039e\u039c\3\2\2\2\u039f\u0397\3\2\2\2\u039f\u03a0\3\2"+
+		"\2\2\u03a0\u03a1\3\2\2\2\u03a1\u03a2\7\35\2\2\u03a2\u03a3\7M\2\2\u03a3"+
+		"\u03a4\5\u00a2R\2\u03a4\u00ad\3\2\2\2\u03a5\u03a7\5\u00a6T\2\u03a6\u03a8"+
+		"\7t\2\2\u03a7\u03a6\3\2\2\2\u03a7\u03a8\3\2\2\2\u03a8\u00af\3\2\2\2\u03a9"+
+		"\u03ac\5\62\32\2\u03aa\u03ac\7|\2\2\u03ab\u03a9\3\2\2\2\u03ab\u03aa\3"+
+		"\2\2\2\u03ac\u03ad\3\2\2\2\u03ad\u03ae\t\b\2\2\u03ae\u03af\5\62\32\2\u03af"+
+		"\u00b1\3\2\2\2\u03b0\u03b2\7=\2\2\u03b1\u03b3\5\60\31\2\u03b2\u03b1\3"+
+		"\2\2\2\u03b2\u03b3\3\2\2\2\u03b3\u03b4\3\2\2\2\u03b4\u03b5\7>\2\2\u03b5"+
+		"\u00b3\3\2\2\2\u03b6\u03b7\5\u00b6\\\2\u03b7\u00b5\3\2\2\2\u03b8\u03b9"+
+		"\7s\2\2\u03b9\u00b7\3\2\2\2\u03ba\u03bb\t\t\2\2\u03bb\u00b9\3\2\2\2h\u00c2"+
+		"\u00c6\u00d6\u00dc\u00e4\u00eb\u00f6\u010c\u0114\u0119\u011c\u0120\u0129"+
+		"\u0132\u0135\u013c\u0143\u0145\u014d\u0152\u0156\u015a\u015f\u016a\u0174"+
+		"\u017b\u0182\u0189\u0193\u0197\u019f\u01a1\u01ad\u01b3\u01b7\u01bb\u01c6"+
+		"\u01cc\u01db\u01e1\u01e5\u01e9\u01f0\u01f7\u01fd\u0202\u0204\u0208\u020f"+
+		"\u0216\u021f\u022b\u0235\u0241\u0245\u024e\u0255\u026b\u0270\u0275\u0279"+
+		"\u0285\u028d\u0291\u0298\u029f\u02a5\u02ac\u02b4\u02bb\u02c1\u02c7\u02cd"+
+		"\u02d3\u02dc\u02e2\u02e9\u02f7\u0300\u0302\u0319\u0329\u0330\u0346\u034a"+
+		"\u0351\u0355\u035e\u0363\u0367\u0371\u0373\u037b\u037e\u0385\u038a\u038e"+
+		"\u039c\u039f\u03a7\u03ab\u03b2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -115,6 +115,18 @@ public interface JsoniqVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitFunctionDecl(JsoniqParser.FunctionDeclContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsoniqParser#annotations}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAnnotations(JsoniqParser.AnnotationsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsoniqParser#annotation}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAnnotation(JsoniqParser.AnnotationContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link JsoniqParser#typeDecl}.
 	 * @param ctx the parse tree
@@ -24,6 +24,7 @@ import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 public class ConstantRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
 
@@ -43,4 +44,9 @@ public class ConstantRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
     public Item materializeFirstItemOrNull(DynamicContext context) {
         return this.item;
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        return this.item.generateNativeQuery(nativeClauseContext);
+    }
 }
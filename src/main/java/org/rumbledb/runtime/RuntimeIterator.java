@@ -20,11 +20,6 @@
 
 package org.rumbledb.runtime;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -44,7 +39,6 @@ import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.exceptions.MoreThanOneItemException;
 import org.rumbledb.exceptions.NoItemException;
 import org.rumbledb.exceptions.OurBadException;
-import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
 import org.rumbledb.items.structured.JSoundDataFrame;
@@ -385,23 +379,15 @@ public abstract class RuntimeIterator implements RuntimeIteratorInterface, KryoS
         }
     }
 
+    /**
+     * Creates a deep copy of this iterator tree that can be opened independently of this one, for example to execute a
+     * function body. The copy is structural (see {@link RuntimeIteratorCloner}) and does not go through Java
+     * serialization.
+     *
+     * @return the copy of the iterator tree.
+     */
     public RuntimeIterator deepCopy() {
-        try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(bos);
-            oos.writeObject(this);
-            oos.flush();
-            byte[] data = bos.toByteArray();
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            ObjectInputStream ois = new ObjectInputStream(bis);
-            return (RuntimeIterator) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            RumbleException rumbleException = new OurBadException(
-                    "Error while deep copying the function body runtimeIterator"
-            );
-            rumbleException.initCause(e);
-            throw rumbleException;
-        }
+        return RuntimeIteratorCloner.deepCopy(this);
     }
 
     /**
@@ -415,4 +401,15 @@ public abstract class RuntimeIterator implements RuntimeIteratorInterface, KryoS
     public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
         return NativeClauseContext.NoNativeQuery;
     }
+
+    /**
+     * Obtains the output of an iterator that is not executed in DataFrame mode as a DataFrame, if it can be computed
+     * with a native spark-sql query. This is used to export sequences of objects without going through items.
+     *
+     * @param context the dynamic context.
+     * @return the DataFrame, or null if it is not possible.
+     */
+    public JSoundDataFrame tryNativeDataFrame(DynamicContext context) {
+        return null;
+    }
 }
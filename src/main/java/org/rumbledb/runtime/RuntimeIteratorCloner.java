@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime;
+
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.FunctionIdentifier;
+import org.rumbledb.context.Name;
+import org.rumbledb.context.StaticContext;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.OurBadException;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.items.FunctionItem;
+import org.rumbledb.types.FunctionSignature;
+import org.rumbledb.types.ItemType;
+import org.rumbledb.types.SequenceType;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Structurally clones runtime iterator trees, which is much cheaper than a Java serialization round trip.
+ *
+ * All objects of the engine reachable from the root (iterators, tuple iterators, non-atomic items, closures...) are
+ * copied field by field, and shared references stay shared in the copy. Immutable values (names, types, metadata,
+ * atomic items) as well as third-party objects (Spark schemas, etc) are shared with the original. Dynamic contexts
+ * are also shared, as iterators create their own when they are opened. The execution state of copied iterators is
+ * reset, so that the copy can be opened independently of the original.
+ */
+final class RuntimeIteratorCloner {
+
+    private static final Objenesis objenesis = new ObjenesisStd(true);
+    private static final Map<Class<?>, List<Field>> fieldCache = new ConcurrentHashMap<>();
+
+    private final Map<Object, Object> copies;
+
+    private RuntimeIteratorCloner() {
+        this.copies = new IdentityHashMap<>();
+    }
+
+    static RuntimeIterator deepCopy(RuntimeIterator iterator) {
+        try {
+            return (RuntimeIterator) new RuntimeIteratorCloner().copy(iterator);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            RumbleException rumbleException = new OurBadException(
+                    "Error while deep copying the function body runtimeIterator"
+            );
+            rumbleException.initCause(e);
+            throw rumbleException;
+        }
+    }
+
+    private Object copy(Object object) throws IllegalAccessException {
+        if (object == null || isShared(object)) {
+            return object;
+        }
+        Object copy = this.copies.get(object);
+        if (copy != null) {
+            return copy;
+        }
+        Class<?> clazz = object.getClass();
+        if (clazz.isArray()) {
+            return copyArray(object);
+        }
+        if (object instanceof Collection) {
+            return copyCollection((Collection<?>) object);
+        }
+        if (object instanceof Map) {
+            return copyMap((Map<?, ?>) object);
+        }
+        if (object instanceof FunctionItem) {
+            copy = ((FunctionItem) object).deepCopy();
+            this.copies.put(object, copy);
+            return copy;
+        }
+        copy = objenesis.newInstance(clazz);
+        this.copies.put(object, copy);
+        for (Field field : getFields(clazz)) {
+            field.set(copy, copy(field.get(object)));
+        }
+        if (copy instanceof RuntimeIterator) {
+            RuntimeIterator iterator = (RuntimeIterator) copy;
+            iterator.isOpen = false;
+            iterator.hasNext = false;
+            iterator.currentDynamicContextForLocalExecution = null;
+        } else if (copy instanceof RuntimeTupleIterator) {
+            RuntimeTupleIterator iterator = (RuntimeTupleIterator) copy;
+            iterator.isOpen = false;
+            iterator.hasNext = false;
+            iterator.currentDynamicContext = null;
+        }
+        return copy;
+    }
+
+    private Object copyArray(Object array) throws IllegalAccessException {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        Object copy = Array.newInstance(componentType, length);
+        this.copies.put(array, copy);
+        if (componentType.isPrimitive()) {
+            System.arraycopy(array, 0, copy, 0, length);
+            return copy;
+        }
+        for (int i = 0; i < length; ++i) {
+            Array.set(copy, i, copy(Array.get(array, i)));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object copyCollection(Collection<?> collection) throws IllegalAccessException {
+        Collection copy;
+        if (collection instanceof SortedSet) {
+            copy = new TreeSet(((SortedSet) collection).comparator());
+        } else if (collection instanceof Set) {
+            copy = (Collection) newInstance(collection.getClass(), LinkedHashSet.class);
+        } else {
+            copy = (Collection) newInstance(collection.getClass(), ArrayList.class);
+        }
+        this.copies.put(collection, copy);
+        for (Object element : collection) {
+            copy.add(copy(element));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object copyMap(Map<?, ?> map) throws IllegalAccessException {
+        Map copy;
+        if (map instanceof SortedMap) {
+            copy = new TreeMap(((SortedMap) map).comparator());
+        } else {
+            copy = (Map) newInstance(map.getClass(), LinkedHashMap.class);
+        }
+        this.copies.put(map, copy);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copy(entry.getKey()), copy(entry.getValue()));
+        }
+        return copy;
+    }
+
+    /**
+     * Instantiates a collection of the same class if it is a plain java.util one (ArrayList, LinkedList, HashMap...),
+     * or else of the fallback class (e.g., for unmodifiable views).
+     */
+    private static Object newInstance(Class<?> clazz, Class<?> fallback) {
+        if (clazz.getName().startsWith("java.util.")) {
+            try {
+                return clazz.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                // no accessible no-argument constructor
+            }
+        }
+        try {
+            return fallback.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new OurBadException("Cannot instantiate " + fallback.getName() + " while deep copying.");
+        }
+    }
+
+    private static boolean isShared(Object object) {
+        if (object instanceof Item) {
+            return ((Item) object).isAtomic();
+        }
+        if (
+            object instanceof Name
+                || object instanceof FunctionIdentifier
+                || object instanceof SequenceType
+                || object instanceof ItemType
+                || object instanceof FunctionSignature
+                || object instanceof ExceptionMetadata
+                || object instanceof DynamicContext
+                || object instanceof StaticContext
+                || object instanceof Enum
+        ) {
+            return true;
+        }
+        if (object instanceof Collection || object instanceof Map || object.getClass().isArray()) {
+            return false;
+        }
+        String className = object.getClass().getName();
+        return !(className.startsWith("org.rumbledb.") || className.startsWith("sparksoniq."))
+            || object.getClass().isSynthetic();
+    }
+
+    private static List<Field> getFields(Class<?> clazz) {
+        return fieldCache.computeIfAbsent(clazz, c -> {
+            List<Field> result = new ArrayList<>();
+            for (Class<?> current = c; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    result.add(field);
+                }
+            }
+            return result;
+        });
+    }
+}
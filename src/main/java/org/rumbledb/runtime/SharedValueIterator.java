@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+package org.rumbledb.runtime;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.Name;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.IteratorFlowException;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
+
+/**
+ * Evaluates an expression whose value is shared with other occurrences of the same expression, or with all the
+ * tuples of a FLWOR expression if it does not depend on its variables. The value is computed once and only computed
+ * again if the values of the variables it depends on change.
+ */
+public class SharedValueIterator extends LocalRuntimeIterator {
+
+    private static final long serialVersionUID = 1L;
+    private SharedValue sharedValue;
+    private transient List<Name> dependencies;
+    private transient boolean shareable;
+    private transient List<Item> result;
+    private transient int nextIndex;
+
+    public SharedValueIterator(
+            RuntimeIterator iterator,
+            SharedValue sharedValue,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(null, iterator.getHighestExecutionMode(), iteratorMetadata);
+        this.children.add(iterator);
+        this.sharedValue = sharedValue;
+    }
+
+    @Override
+    public void open(DynamicContext context) {
+        super.open(context);
+        computeResult();
+    }
+
+    @Override
+    public void reset(DynamicContext context) {
+        super.reset(context);
+        computeResult();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        this.result = null;
+    }
+
+    private void computeResult() {
+        this.result = getSharedValue(this.currentDynamicContextForLocalExecution);
+        this.nextIndex = 0;
+        this.hasNext = !this.result.isEmpty();
+    }
+
+    private List<Item> getSharedValue(DynamicContext context) {
+        RuntimeIterator iterator = this.children.get(0);
+        if (this.dependencies == null) {
+            Map<Name, DynamicContext.VariableDependency> dependencies = iterator.getVariableDependencies();
+            this.dependencies = new ArrayList<>(dependencies.keySet());
+            this.shareable = true;
+            for (DynamicContext.VariableDependency dependency : dependencies.values()) {
+                // only full values are compared
+                if (!dependency.equals(DynamicContext.VariableDependency.FULL)) {
+                    this.shareable = false;
+                }
+            }
+        }
+        if (!this.shareable) {
+            return iterator.materialize(context);
+        }
+        long[] bindings = new long[this.dependencies.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            Name dependency = this.dependencies.get(i);
+            if (!context.getVariableValues().contains(dependency)) {
+                return iterator.materialize(context);
+            }
+            bindings[i] = context.getVariableValues().getBinding(dependency, getMetadata());
+        }
+        List<Item> result = this.sharedValue.get(bindings);
+        if (result == null) {
+            result = iterator.materialize(context);
+            this.sharedValue.set(bindings, result);
+        }
+        return result;
+    }
+
+    @Override
+    public Item next() {
+        if (!this.hasNext) {
+            throw new IteratorFlowException(RuntimeIterator.FLOW_EXCEPTION_MESSAGE, getMetadata());
+        }
+        Item item = this.result.get(this.nextIndex++);
+        this.hasNext = this.nextIndex < this.result.size();
+        return item;
+    }
+
+    public RuntimeIterator getIterator() {
+        return this.children.get(0);
+    }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        return this.children.get(0).generateNativeQuery(nativeClauseContext);
+    }
+
+    /**
+     * The value shared by all the iterators of the same expression, together with the bindings of the variables it was
+     * computed with (see {@link org.rumbledb.context.VariableValues#getBinding}). The value is computed again as soon
+     * as one of these variables is bound again, and the values of the variables are not retained.
+     */
+    public static class SharedValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private transient long[] bindings;
+        private transient List<Item> value;
+
+        public synchronized List<Item> get(long[] bindings) {
+            if (!Arrays.equals(this.bindings, bindings)) {
+                return null;
+            }
+            return this.value;
+        }
+
+        public synchronized void set(long[] bindings, List<Item> value) {
+            this.bindings = bindings;
+            this.value = value;
+        }
+    }
+}
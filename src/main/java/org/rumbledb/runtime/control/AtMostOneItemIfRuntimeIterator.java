@@ -72,13 +72,14 @@ public class AtMostOneItemIfRuntimeIterator extends AtMostOneItemLocalRuntimeIte
         ) {
             return NativeClauseContext.NoNativeQuery;
         }
-        if (!conditionResult.getResultingType().equals(BuiltinTypesCatalogue.booleanItem)) {
+        if (!BuiltinTypesCatalogue.booleanItem.equals(conditionResult.getResultingType())) {
             return NativeClauseContext.NoNativeQuery;
         }
-        if (!thenResult.getResultingType().equals(BuiltinTypesCatalogue.floatItem)) {
-            return NativeClauseContext.NoNativeQuery;
-        }
-        if (!elseResult.getResultingType().equals(BuiltinTypesCatalogue.floatItem)) {
+        // both branches must have the same type, so that the type of the result is known
+        if (
+            thenResult.getResultingType() == null
+                || !thenResult.getResultingType().equals(elseResult.getResultingType())
+        ) {
             return NativeClauseContext.NoNativeQuery;
         }
         String resultingQuery = "( "
@@ -89,6 +90,12 @@ public class AtMostOneItemIfRuntimeIterator extends AtMostOneItemLocalRuntimeIte
             + ", "
             + elseResult.getResultingQuery()
             + " ) )";
-        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.floatItem);
+        NativeClauseContext result = new NativeClauseContext(
+                nativeClauseContext,
+                resultingQuery,
+                thenResult.getResultingType()
+        );
+        result.setNullAmbiguous(thenResult.isNullAmbiguous() || elseResult.isNullAmbiguous());
+        return result;
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+package org.rumbledb.runtime.flwor;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import sparksoniq.jsoniq.tuple.FlworKey;
+import sparksoniq.jsoniq.tuple.FlworTuple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Groups tuples locally by key under a memory budget. Tuples are grouped in a hash map, and if the budget is
+ * exceeded, all buffered tuples are spilled to local temporary files, one per hash partition of the keys. Each
+ * partition is then grouped in memory on its own when the groups are read back.
+ *
+ * Within a group, tuples are returned in the order in which they were added.
+ */
+public class ExternalTupleGrouper extends LocalTupleSpiller {
+
+    private static final int NUMBER_OF_PARTITIONS = 16;
+
+    private Map<FlworKey, List<FlworTuple>> buffer;
+    private Output[] partitions;
+
+    public ExternalTupleGrouper(long memoryBudget, ExceptionMetadata metadata) {
+        super(memoryBudget, metadata);
+        this.buffer = new HashMap<>();
+        this.partitions = null;
+    }
+
+    public void add(FlworKey key, FlworTuple tuple) {
+        List<FlworTuple> values = this.buffer.get(key); // all values for a single matching key are held in a list
+        if (values == null) {
+            values = new ArrayList<>();
+            this.buffer.put(key, values);
+        }
+        values.add(tuple);
+        if (buffer(key, tuple)) {
+            spillPartitions();
+        }
+    }
+
+    private void spillPartitions() {
+        if (this.partitions == null) {
+            this.partitions = new Output[NUMBER_OF_PARTITIONS];
+            for (int partition = 0; partition < NUMBER_OF_PARTITIONS; ++partition) {
+                this.partitions[partition] = createSpillFile();
+            }
+        }
+        for (Map.Entry<FlworKey, List<FlworTuple>> entry : this.buffer.entrySet()) {
+            Output output = this.partitions[Math.floorMod(entry.getKey().hashCode(), NUMBER_OF_PARTITIONS)];
+            for (FlworTuple tuple : entry.getValue()) {
+                writeRecord(output, entry.getKey(), tuple);
+            }
+        }
+        this.buffer = new HashMap<>();
+        clearBuffer();
+    }
+
+    /**
+     * Returns all groups of added tuples. No tuple may be added afterwards.
+     *
+     * @return an iterator over the groups, each of which is a non-empty list of tuples with equal keys.
+     */
+    public Iterator<List<FlworTuple>> groups() {
+        if (!hasSpilled()) {
+            return this.buffer.values().iterator();
+        }
+        if (!this.buffer.isEmpty()) {
+            spillPartitions();
+        }
+        for (Output output : this.partitions) {
+            writeEndOfFile(output);
+        }
+        this.buffer = null;
+        this.partitions = null;
+        return new PartitionIterator();
+    }
+
+    private class PartitionIterator implements Iterator<List<FlworTuple>> {
+
+        private int nextPartition;
+        private Iterator<List<FlworTuple>> currentGroups;
+
+        private PartitionIterator() {
+            this.nextPartition = 0;
+            this.currentGroups = Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.currentGroups.hasNext() && this.nextPartition < NUMBER_OF_PARTITIONS) {
+                this.currentGroups = readPartition(this.nextPartition++);
+            }
+            return this.currentGroups.hasNext();
+        }
+
+        @Override
+        public List<FlworTuple> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return this.currentGroups.next();
+        }
+
+        private Iterator<List<FlworTuple>> readPartition(int partition) {
+            Map<FlworKey, List<FlworTuple>> groups = new HashMap<>();
+            Input input = openSpillFile(partition);
+            FlworKey key = readKey(input);
+            while (key != null) {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(readTuple(input));
+                key = readKey(input);
+            }
+            return groups.values().iterator();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+package org.rumbledb.runtime.flwor;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import sparksoniq.jsoniq.tuple.FlworKey;
+import sparksoniq.jsoniq.tuple.FlworTuple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Sorts tuples locally by key under a memory budget. Tuples are sorted in memory, and if the budget is exceeded, the
+ * sorted tuples are spilled as a run to a local temporary file. The runs are merged when the tuples are read back.
+ *
+ * The sort is stable: tuples with equal keys are returned in the order in which they were added.
+ */
+public class ExternalTupleSorter extends LocalTupleSpiller {
+
+    private final Comparator<FlworKey> comparator;
+    private TreeMap<FlworKey, List<FlworTuple>> buffer;
+
+    public ExternalTupleSorter(Comparator<FlworKey> comparator, long memoryBudget, ExceptionMetadata metadata) {
+        super(memoryBudget, metadata);
+        this.comparator = comparator;
+        this.buffer = new TreeMap<>(comparator);
+    }
+
+    public void add(FlworKey key, FlworTuple tuple) {
+        List<FlworTuple> values = this.buffer.get(key); // all values for a single matching key are held in a list
+        if (values == null) {
+            values = new ArrayList<>();
+            this.buffer.put(key, values);
+        }
+        values.add(tuple);
+        if (buffer(key, tuple)) {
+            spillRun();
+        }
+    }
+
+    private void spillRun() {
+        Output output = createSpillFile();
+        for (Map.Entry<FlworKey, List<FlworTuple>> entry : this.buffer.entrySet()) {
+            for (FlworTuple tuple : entry.getValue()) {
+                writeRecord(output, entry.getKey(), tuple);
+            }
+        }
+        writeEndOfFile(output);
+        this.buffer = new TreeMap<>(this.comparator);
+        clearBuffer();
+    }
+
+    /**
+     * Returns all added tuples in key order. No tuple may be added afterwards.
+     *
+     * @return an iterator over the sorted tuples.
+     */
+    public Iterator<FlworTuple> sortedTuples() {
+        if (!hasSpilled()) {
+            return this.buffer.values().stream().flatMap(List::stream).iterator();
+        }
+        if (!this.buffer.isEmpty()) {
+            spillRun();
+        }
+        this.buffer = null;
+        return new RunMergingIterator();
+    }
+
+    private static class RunHead {
+        private final int run;
+        private final Input input;
+        private FlworKey key;
+
+        private RunHead(int run, Input input) {
+            this.run = run;
+            this.input = input;
+        }
+    }
+
+    private class RunMergingIterator implements Iterator<FlworTuple> {
+
+        private final PriorityQueue<RunHead> heads;
+
+        private RunMergingIterator() {
+            // runs were created in input order: ties are broken by run to keep the sort stable
+            this.heads = new PriorityQueue<>(
+                    Math.max(1, getNumberOfSpillFiles()),
+                    (head1, head2) -> {
+                        int result = ExternalTupleSorter.this.comparator.compare(head1.key, head2.key);
+                        return result != 0 ? result : Integer.compare(head1.run, head2.run);
+                    }
+            );
+            for (int run = 0; run < getNumberOfSpillFiles(); ++run) {
+                RunHead head = new RunHead(run, openSpillFile(run));
+                head.key = readKey(head.input);
+                if (head.key != null) {
+                    this.heads.add(head);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.heads.isEmpty();
+        }
+
+        @Override
+        public FlworTuple next() {
+            RunHead head = this.heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            FlworTuple result = readTuple(head.input);
+            head.key = readKey(head.input);
+            if (head.key != null) {
+                this.heads.add(head);
+            }
+            return result;
+        }
+    }
+}
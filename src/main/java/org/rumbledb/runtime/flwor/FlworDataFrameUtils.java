@@ -22,11 +22,10 @@ package org.rumbledb.runtime.flwor;
 
 import static org.apache.spark.sql.functions.col;
 import static org.apache.spark.sql.functions.count;
-import static org.apache.spark.sql.functions.first;
 import static org.apache.spark.sql.functions.lit;
 import static org.apache.spark.sql.functions.monotonically_increasing_id;
+import static org.apache.spark.sql.functions.shiftLeft;
 import static org.apache.spark.sql.functions.spark_partition_id;
-import static org.apache.spark.sql.functions.sum;
 import static org.apache.spark.sql.functions.udf;
 
 import java.util.ArrayList;
@@ -38,11 +37,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.spark.sql.Column;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.RowFactory;
 import org.apache.spark.sql.expressions.UserDefinedFunction;
-import org.apache.spark.sql.expressions.Window;
 import org.apache.spark.sql.types.ArrayType;
 import org.apache.spark.sql.types.DataType;
 import org.apache.spark.sql.types.DataTypes;
@@ -73,6 +72,8 @@ import org.rumbledb.items.IntItem;
 import org.rumbledb.items.IntegerItem;
 import org.rumbledb.items.NullItem;
 import org.rumbledb.items.ObjectItem;
+import org.rumbledb.items.RowArrayItem;
+import org.rumbledb.items.RowObjectItem;
 import org.rumbledb.items.StringItem;
 import org.rumbledb.items.TimeItem;
 import org.rumbledb.items.YearMonthDurationItem;
@@ -85,12 +86,23 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 
 import scala.collection.mutable.WrappedArray;
+import sparksoniq.spark.SparkSessionManager;
 
 public class FlworDataFrameUtils {
 
     // we use UUID to escape backtick within DataFrame columns
     public static String backtickEscape = "d32a3242-b15d-46b8-b689-d2288f7f492f";
 
+    /**
+     * Escapes a string so that it can be used as a string literal in a Spark SQL query.
+     *
+     * @param value the string.
+     * @return the string literal, including quotes.
+     */
+    public static String getSQLStringLiteral(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
     private static ThreadLocal<byte[]> lastBytesCache = ThreadLocal.withInitial(() -> null);
 
     private static ThreadLocal<List<Item>> lastObjectItemCache = ThreadLocal.withInitial(() -> null);
@@ -101,6 +113,8 @@ public class FlworDataFrameUtils {
 
         kryo.register(ArrayItem.class);
         kryo.register(ObjectItem.class);
+        kryo.register(RowArrayItem.class);
+        kryo.register(RowObjectItem.class);
 
         kryo.register(AnyURIItem.class);
         kryo.register(Base64BinaryItem.class);
@@ -627,6 +641,12 @@ public class FlworDataFrameUtils {
             return BuiltinTypesCatalogue.doubleItem;
         } else if (type == DataTypes.FloatType) {
             return BuiltinTypesCatalogue.floatItem;
+        } else if (type == DataTypes.BooleanType) {
+            return BuiltinTypesCatalogue.booleanItem;
+        } else if (type == DataTypes.DateType) {
+            return BuiltinTypesCatalogue.dateItem;
+        } else if (type == DataTypes.TimestampType) {
+            return BuiltinTypesCatalogue.dateTimeItem;
         } else {
             return null;
         }
@@ -813,37 +833,50 @@ public class FlworDataFrameUtils {
     }
 
     /**
-     * Algorithm taken from following link and adapted to Java with minor improvements.
-     * https://stackoverflow.com/a/48454000/10707488
+     * Adds a column with consecutive indices following the order of the DataFrame.
+     * 
+     * monotonically_increasing_id() stores the partition index in the upper 31 bits and the position within the
+     * partition in the lower 33 bits, so that only the partition sizes are needed to compute the indices. They are
+     * counted in one job (none if there is only one partition), on the cached input. The cache is scoped to the
+     * current query and released when the query is done, so that nothing is left behind in the block manager.
      *
      * @param df - df to perform the operation on
      * @param offset - starting offset for the first index
      * @param indexName - name of the index column
-     * @return returns DataFrame with the added 'indexName' column containing indices
+     * @return returns DataFrame with the added 'indexName' column (of type long) containing indices
      */
     public static Dataset<Row> zipWithIndex(Dataset<Row> df, Long offset, String indexName) {
         Dataset<Row> dfWithPartitionId = df
             .withColumn("partition_id", spark_partition_id())
             .withColumn("inc_id", monotonically_increasing_id());
+        Column positionInPartition = col("inc_id").minus(
+            shiftLeft(col("partition_id").cast(DataTypes.LongType), 33)
+        );
 
-        dfWithPartitionId.persist();
+        // the input is cached for the duration of the query, so that the partition sizes are counted on the same
+        // data, and so that later joins can rely on the statistics of the cached relation
+        SparkSessionManager.getInstance().persistForCurrentQuery(dfWithPartitionId);
 
-        Object partitionOffsetsObject = dfWithPartitionId
+        int numberOfPartitions = df.rdd().getNumPartitions();
+        if (numberOfPartitions <= 1) {
+            return dfWithPartitionId
+                .withColumn(indexName, positionInPartition.plus(lit(offset)))
+                .drop("partition_id", "inc_id");
+        }
+
+        List<Row> partitionSizes = dfWithPartitionId
             .groupBy("partition_id")
-            .agg(count(lit(1)).alias("cnt"), first("inc_id").alias("inc_id"))
-            .orderBy("partition_id")
-            .select(
-                col("partition_id"),
-                sum("cnt").over(Window.orderBy("partition_id"))
-                    .minus(col("cnt"))
-                    .minus(col("inc_id"))
-                    .plus(lit(offset).alias("cnt"))
-            )
-            .collect();
-        Row[] partitionOffsetsArray = ((Row[]) partitionOffsetsObject);
+            .agg(count(lit(1)))
+            .collectAsList();
+        long[] sizes = new long[numberOfPartitions];
+        for (Row row : partitionSizes) {
+            sizes[row.getInt(0)] = row.getLong(1);
+        }
         Map<Integer, Long> partitionOffsets = new HashMap<>();
-        for (Row row : partitionOffsetsArray) {
-            partitionOffsets.put(row.getInt(0), row.getLong(1));
+        long currentOffset = offset;
+        for (int partition = 0; partition < numberOfPartitions; ++partition) {
+            partitionOffsets.put(partition, currentOffset);
+            currentOffset += sizes[partition];
         }
 
         UserDefinedFunction getPartitionOffset = udf(
@@ -852,9 +885,8 @@ public class FlworDataFrameUtils {
         );
 
         return dfWithPartitionId
-            .withColumn("partition_offset", getPartitionOffset.apply(col("partition_id")))
-            .withColumn(indexName, col("partition_offset").plus(col("inc_id")))
-            .drop("partition_id", "partition_offset", "inc_id");
+            .withColumn(indexName, getPartitionOffset.apply(col("partition_id")).plus(positionInPartition))
+            .drop("partition_id", "inc_id");
     }
 
     public static StructType schemaUnion(StructType leftSchema, StructType rightSchema) {
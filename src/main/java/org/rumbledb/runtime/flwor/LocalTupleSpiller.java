@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.flwor;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.OurBadException;
+import sparksoniq.jsoniq.tuple.FlworKey;
+import sparksoniq.jsoniq.tuple.FlworTuple;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for the local (non-Spark) evaluation of blocking FLWOR clauses under a memory budget. Tuples are
+ * buffered in memory until their estimated size exceeds the budget, after which they are spilled, serialized with
+ * Kryo, to local temporary files.
+ *
+ * The size of a tuple is estimated from the size of its serialization, which is measured on a sample of the tuples.
+ * Tuples that bind variables to RDDs or DataFrames cannot be spilled and are always kept in memory.
+ */
+public abstract class LocalTupleSpiller implements AutoCloseable {
+
+    private static final int SIZE_SAMPLING_INTERVAL = 64;
+    // avoids spilling a large number of tiny files if the budget is very small or the tuples very large
+    private static final int MINIMUM_TUPLES_PER_SPILL = 128;
+    private static final int FILE_BUFFER_SIZE = 1 << 16;
+
+    private final long memoryBudget;
+    protected final ExceptionMetadata metadata;
+    private final Kryo kryo;
+    private final Output sizeOutput;
+    private final List<File> spillFiles;
+
+    private long numberOfTuples;
+    private long sampledBytes;
+    private long sampledTuples;
+    private long bufferedBytes;
+    private long bufferedTuples;
+    private boolean spillable;
+
+    /**
+     * Creates a new spiller.
+     *
+     * @param memoryBudget the estimated number of bytes of buffered tuples after which tuples get spilled.
+     * @param metadata the metadata of the calling clause.
+     */
+    protected LocalTupleSpiller(long memoryBudget, ExceptionMetadata metadata) {
+        this.memoryBudget = memoryBudget;
+        this.metadata = metadata;
+        this.kryo = new Kryo();
+        this.kryo.setReferences(false);
+        this.kryo.setRegistrationRequired(false);
+        this.kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+        FlworDataFrameUtils.registerKryoClassesKryo(this.kryo);
+        this.sizeOutput = new Output(1024, -1);
+        this.spillFiles = new ArrayList<>();
+        this.numberOfTuples = 0;
+        this.sampledBytes = 0;
+        this.sampledTuples = 0;
+        this.bufferedBytes = 0;
+        this.bufferedTuples = 0;
+        this.spillable = true;
+    }
+
+    /**
+     * Accounts for a newly buffered tuple.
+     *
+     * @param key the key of the tuple.
+     * @param tuple the tuple.
+     * @return true if the buffered tuples exceed the memory budget and should be spilled.
+     */
+    protected boolean buffer(FlworKey key, FlworTuple tuple) {
+        if (!tuple.getRDDKeys().isEmpty() || !tuple.getDataFrameKeys().isEmpty()) {
+            this.spillable = false;
+        }
+        if (!this.spillable) {
+            return false;
+        }
+        if (this.numberOfTuples++ % SIZE_SAMPLING_INTERVAL == 0) {
+            this.sizeOutput.clear();
+            writeRecord(this.sizeOutput, key, tuple);
+            this.sampledBytes += this.sizeOutput.total();
+            this.sampledTuples++;
+        }
+        this.bufferedBytes += this.sampledBytes / this.sampledTuples;
+        this.bufferedTuples++;
+        return this.bufferedBytes > this.memoryBudget && this.bufferedTuples >= MINIMUM_TUPLES_PER_SPILL;
+    }
+
+    /**
+     * Resets the estimated size of the buffered tuples, after they were spilled.
+     */
+    protected void clearBuffer() {
+        this.bufferedBytes = 0;
+        this.bufferedTuples = 0;
+    }
+
+    protected boolean hasSpilled() {
+        return !this.spillFiles.isEmpty();
+    }
+
+    protected int getNumberOfSpillFiles() {
+        return this.spillFiles.size();
+    }
+
+    /**
+     * Creates a new local temporary file, which is deleted when this spiller is closed.
+     *
+     * @return the stream to which records can be written.
+     */
+    protected Output createSpillFile() {
+        try {
+            File file = File.createTempFile("rumble-spill-", ".bin");
+            this.spillFiles.add(file);
+            return new Output(new FileOutputStream(file), FILE_BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new OurBadException(
+                    "Cannot create a local temporary file to spill tuples: " + e.getMessage(),
+                    this.metadata
+            );
+        }
+    }
+
+    /**
+     * Opens a spill file for reading.
+     *
+     * @param index the index of the spill file, in creation order.
+     * @return the stream from which the records can be read.
+     */
+    protected Input openSpillFile(int index) {
+        try {
+            return new Input(new FileInputStream(this.spillFiles.get(index)), FILE_BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new OurBadException(
+                    "Cannot read tuples spilled to a local temporary file: " + e.getMessage(),
+                    this.metadata
+            );
+        }
+    }
+
+    protected void writeRecord(Output output, FlworKey key, FlworTuple tuple) {
+        output.writeBoolean(true);
+        this.kryo.writeObject(output, key);
+        this.kryo.writeObject(output, tuple);
+    }
+
+    protected void writeEndOfFile(Output output) {
+        output.writeBoolean(false);
+        output.close();
+    }
+
+    /**
+     * Reads the key of the next record from a spill file.
+     *
+     * @param input the spill file.
+     * @return the key, or null if the end of the file was reached, in which case the file is closed.
+     */
+    protected FlworKey readKey(Input input) {
+        if (!input.readBoolean()) {
+            input.close();
+            return null;
+        }
+        return this.kryo.readObject(input, FlworKey.class);
+    }
+
+    /**
+     * Reads the tuple of the current record from a spill file, after its key was read.
+     *
+     * @param input the spill file.
+     * @return the tuple.
+     */
+    protected FlworTuple readTuple(Input input) {
+        return this.kryo.readObject(input, FlworTuple.class);
+    }
+
+    @Override
+    public void close() {
+        for (File file : this.spillFiles) {
+            file.delete();
+        }
+        this.spillFiles.clear();
+    }
+}
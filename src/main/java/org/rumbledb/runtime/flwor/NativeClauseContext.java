@@ -21,6 +21,7 @@ public class NativeClauseContext {
     private String resultingQuery;
     private List<String> lateralViewPart; // used in array unboxing to generate the correct lateral view
     private ItemType resultingType;
+    private boolean nullAmbiguous;
 
     private NativeClauseContext() {
     }
@@ -41,6 +42,7 @@ public class NativeClauseContext {
         this.resultingQuery = parent.resultingQuery;
         this.lateralViewPart = parent.lateralViewPart;
         this.resultingType = parent.resultingType;
+        this.nullAmbiguous = parent.nullAmbiguous;
     }
 
     public NativeClauseContext(NativeClauseContext parent, String newResultingQuery, ItemType resultingType) {
@@ -87,4 +89,20 @@ public class NativeClauseContext {
     public void setResultingType(ItemType resultingType) {
         this.resultingType = resultingType;
     }
+
+    /**
+     * Tells whether a NULL value of the resulting query may stand for a JSON null rather than for the empty sequence.
+     * NULL object fields are absent, as when DataFrame rows are converted to objects, but a NULL column bound to a
+     * variable is read as null, and a NULL array member may be either. Translations that treat NULL as the empty
+     * sequence do not apply then.
+     *
+     * @return true if NULL may stand for a JSON null.
+     */
+    public boolean isNullAmbiguous() {
+        return this.nullAmbiguous;
+    }
+
+    public void setNullAmbiguous(boolean nullAmbiguous) {
+        this.nullAmbiguous = nullAmbiguous;
+    }
 }
@@ -22,7 +22,6 @@ package org.rumbledb.runtime.flwor.clauses;
 
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
-import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
@@ -36,7 +35,6 @@ import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
-import org.rumbledb.runtime.flwor.udfs.LongSerializeUDF;
 import org.rumbledb.runtime.primary.VariableReferenceIterator;
 
 import sparksoniq.jsoniq.tuple.FlworTuple;
@@ -134,13 +132,14 @@ public class CountClauseSparkIterator extends RuntimeTupleIterator {
             return df;
         }
 
-        Dataset<Row> dfWithIndex = addSerializedCountColumn(df, this.outputTupleProjection, this.variableName);
+        Dataset<Row> dfWithIndex = addCountColumn(df, this.outputTupleProjection, this.variableName);
         return dfWithIndex;
     }
 
     // This method, which implements count semantics, is also intended for use by other clauses (e.g., for clause with
-    // positional variables).
-    public static Dataset<Row> addSerializedCountColumn(
+    // positional variables). The count is stored as a native long column, so that it is available to native queries
+    // in subsequent clauses.
+    public static Dataset<Row> addCountColumn(
             Dataset<Row> df,
             Map<Name, DynamicContext.VariableDependency> outputDependencies,
             Name variableName
@@ -158,21 +157,12 @@ public class CountClauseSparkIterator extends RuntimeTupleIterator {
 
         Dataset<Row> dfWithIndex = FlworDataFrameUtils.zipWithIndex(df, 1L, variableName.toString());
 
-        df.sparkSession()
-            .udf()
-            .register(
-                "serializeCountIndex",
-                new LongSerializeUDF(),
-                DataTypes.BinaryType
-            );
-
         dfWithIndex.createOrReplaceTempView("input");
         dfWithIndex = dfWithIndex.sparkSession()
             .sql(
                 String.format(
-                    "select %s serializeCountIndex(`%s`) as `%s` from input",
+                    "select %s `%s` from input",
                     selectSQL,
-                    variableName,
                     variableName
                 )
             );
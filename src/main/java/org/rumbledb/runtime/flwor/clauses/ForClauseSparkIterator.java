@@ -29,6 +29,7 @@ import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.DynamicContext.VariableDependency;
 import org.rumbledb.context.Name;
@@ -177,6 +178,7 @@ public class ForClauseSparkIterator extends RuntimeTupleIterator {
         }
 
         while (this.child.hasNext()) {
+            QueryCancellation.checkCurrentQuery(getMetadata());
             this.inputTuple = this.child.next();
             this.tupleContext.getVariableValues().removeAllVariables(); // clear the previous variables
             this.tupleContext.getVariableValues().setBindingsFromTuple(this.inputTuple, getMetadata());
@@ -654,19 +656,11 @@ public class ForClauseSparkIterator extends RuntimeTupleIterator {
                     );
             }
         } else {
-            df.sparkSession()
-                .udf()
-                .register(
-                    "serializePositionIndex",
-                    new IntegerSerializeUDF(),
-                    DataTypes.BinaryType
-                );
-
             if (this.allowingEmpty) {
                 df = df.sparkSession()
                     .sql(
                         String.format(
-                            "SELECT %s for_vars.`%s`, serializePositionIndex(IF(for_vars.`%s` IS NULL, 0, for_vars.`%s` + 1)) AS `%s` "
+                            "SELECT %s for_vars.`%s`, IF(for_vars.`%s` IS NULL, 0, for_vars.`%s` + 1) AS `%s` "
                                 + "FROM input "
                                 + "LATERAL VIEW OUTER posexplode(forClauseUDF(%s)) for_vars AS `%s`, `%s` ",
                             projectionVariables,
@@ -683,7 +677,7 @@ public class ForClauseSparkIterator extends RuntimeTupleIterator {
                 df = df.sparkSession()
                     .sql(
                         String.format(
-                            "SELECT %s for_vars.`%s`, serializePositionIndex(for_vars.`%s` + 1) AS `%s` "
+                            "SELECT %s for_vars.`%s`, for_vars.`%s` + 1 AS `%s` "
                                 + "FROM input "
                                 + "LATERAL VIEW posexplode(forClauseUDF(%s)) for_vars AS `%s`, `%s` ",
                             projectionVariables,
@@ -779,10 +773,15 @@ public class ForClauseSparkIterator extends RuntimeTupleIterator {
                         )
                     );
             }
-        } else {
+        } else if (iterator.isRDDOrDataFrame()) {
             // create initial RDD from expression
             JavaRDD<Item> expressionRDD = iterator.getRDD(context);
             df = getDataFrameFromItemRDD(variableName, expressionRDD);
+        } else {
+            // large local sequence that the execution mode visitor chose to distribute
+            List<Item> items = iterator.materialize(context);
+            JavaRDD<Item> expressionRDD = SparkSessionManager.getInstance().getJavaSparkContext().parallelize(items);
+            df = getDataFrameFromItemRDD(variableName, expressionRDD);
         }
         if (positionalVariableName == null && !allowingEmpty) {
             return df;
@@ -799,7 +798,7 @@ public class ForClauseSparkIterator extends RuntimeTupleIterator {
             return df;
         }
         // Add column for positional variable, similar to count clause.
-        Dataset<Row> dfWithIndex = CountClauseSparkIterator.addSerializedCountColumn(
+        Dataset<Row> dfWithIndex = CountClauseSparkIterator.addCountColumn(
             df,
             outputDependencies,
             positionalVariableName
@@ -808,18 +807,10 @@ public class ForClauseSparkIterator extends RuntimeTupleIterator {
             return dfWithIndex;
         }
         dfWithIndex.createOrReplaceTempView("inputWithIndex");
-        dfWithIndex.sparkSession()
-            .udf()
-            .register(
-                "serializeCountIndex",
-                new IntegerSerializeUDF(),
-                DataTypes.BinaryType
-            );
-
         dfWithIndex = dfWithIndex.sparkSession()
             .sql(
                 String.format(
-                    "SELECT inputWithIndex.`%s`, IF(inputWithIndex.`%s` IS NULL, serializeCountIndex(0), inputWithIndex.`%s`) AS `%s` FROM VALUES(1) FULL OUTER JOIN inputWithIndex",
+                    "SELECT inputWithIndex.`%s`, IF(inputWithIndex.`%s` IS NULL, CAST(0 AS BIGINT), inputWithIndex.`%s`) AS `%s` FROM VALUES(1) FULL OUTER JOIN inputWithIndex",
                     variableName,
                     positionalVariableName,
                     positionalVariableName,
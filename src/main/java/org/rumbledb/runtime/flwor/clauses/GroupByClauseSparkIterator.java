@@ -20,13 +20,21 @@
 
 package org.rumbledb.runtime.flwor.clauses;
 
+import static org.apache.spark.sql.functions.col;
+import static org.apache.spark.sql.functions.lit;
+import static org.apache.spark.sql.functions.sum;
+
+import org.apache.spark.sql.Column;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.ArrayType;
 import org.apache.spark.sql.types.DataType;
 import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.Name;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -39,6 +47,7 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
+import org.rumbledb.runtime.flwor.ExternalTupleGrouper;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
 import org.rumbledb.runtime.flwor.expression.GroupByClauseSparkIteratorExpression;
 import org.rumbledb.runtime.flwor.udfs.GroupClauseArrayMergeAggregateResultsUDF;
@@ -49,7 +58,7 @@ import sparksoniq.jsoniq.tuple.FlworTuple;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -60,9 +69,13 @@ import java.util.TreeMap;
 public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
 
     private static final long serialVersionUID = 1L;
+    private static final double SKEW_SAMPLE_FRACTION = 0.05;
+    private static final double SKEW_HOT_KEY_SHARE = 0.05;
+    public static final String SALT_COLUMN_NAME = "group-salt-4829-1734";
+    private static final String HOT_KEY_COLUMN_NAME = "group-hot-key-4829-1734";
     private final List<GroupByClauseSparkIteratorExpression> groupingExpressions;
-    private List<FlworTuple> localTupleResults;
-    private int resultIndex;
+    private ExternalTupleGrouper localTupleGrouper;
+    private Iterator<List<FlworTuple>> localTupleResults;
     private Map<Name, DynamicContext.VariableDependency> dependencies;
 
     public GroupByClauseSparkIterator(
@@ -102,14 +115,13 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
         if (this.hasNext) {
 
             if (this.localTupleResults == null) {
-                this.localTupleResults = new ArrayList<>();
-                this.resultIndex = 0;
                 setAllLocalResults();
             }
 
-            FlworTuple result = this.localTupleResults.get(this.resultIndex++);
-            if (this.resultIndex == this.localTupleResults.size()) {
+            FlworTuple result = linearizeTuples(this.localTupleResults.next());
+            if (!this.localTupleResults.hasNext()) {
                 this.hasNext = false;
+                clearLocalResults();
             }
             return result;
         }
@@ -121,7 +133,7 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
         super.close();
         if (this.child != null) {
             this.child.close();
-            this.localTupleResults = null;
+            clearLocalResults();
         } else {
             throw new OurBadException("Invalid groupby clause.");
         }
@@ -132,31 +144,45 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
         super.reset(context);
         if (this.child != null) {
             this.child.reset(this.currentDynamicContext);
-            this.localTupleResults = null;
+            clearLocalResults();
             this.hasNext = this.child.hasNext();
         } else {
             throw new OurBadException("Invalid groupby clause.");
         }
     }
 
+    private void clearLocalResults() {
+        if (this.localTupleGrouper != null) {
+            this.localTupleGrouper.close();
+        }
+        this.localTupleGrouper = null;
+        this.localTupleResults = null;
+    }
+
     /**
      * All local results need to be calculated for grouping to be performed.
+     * Tuples beyond the local memory budget are spilled to disk, partitioned by key, and grouped one partition at a
+     * time.
      */
     private void setAllLocalResults() {
-        Map<FlworKey, List<FlworTuple>> keyTuplePairs = mapTuplesToPairs();
-        keyTuplePairs.forEach((key, tupleList) -> linearizeTuples(tupleList));
+        this.localTupleGrouper = new ExternalTupleGrouper(
+                this.currentDynamicContext.getRumbleRuntimeConfiguration().getLocalMemoryBudget(),
+                getMetadata()
+        );
+        mapTuplesToPairs(this.localTupleGrouper);
+        this.localTupleResults = this.localTupleGrouper.groups();
 
         this.child.close();
-        this.hasNext = this.localTupleResults.size() != 0;
+        this.hasNext = this.localTupleResults.hasNext();
     }
 
 
-    private HashMap<FlworKey, List<FlworTuple>> mapTuplesToPairs() {
-        HashMap<FlworKey, List<FlworTuple>> keyValuePairs = new HashMap<>();
+    private void mapTuplesToPairs(ExternalTupleGrouper grouper) {
 
         // assign current context as parent. re-use the same context object for efficiency
         DynamicContext tupleContext = new DynamicContext(this.currentDynamicContext);
         while (this.child.hasNext()) {
+            QueryCancellation.checkCurrentQuery(getMetadata());
             FlworTuple inputTuple = this.child.next();
 
             List<Item> results = new ArrayList<>();
@@ -214,18 +240,11 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
                     );
                 }
             }
-            FlworKey key = new FlworKey(results);
-            List<FlworTuple> values = keyValuePairs.get(key); // all values for a single matching key are held in a list
-            if (values == null) {
-                values = new ArrayList<>();
-                keyValuePairs.put(key, values);
-            }
-            values.add(inputTuple);
+            grouper.add(new FlworKey(results), inputTuple);
         }
-        return keyValuePairs;
     }
 
-    private void linearizeTuples(List<FlworTuple> keyTuplePairs) {
+    private FlworTuple linearizeTuples(List<FlworTuple> keyTuplePairs) {
         Iterator<FlworTuple> iterator = keyTuplePairs.iterator();
         FlworTuple oldFirstTuple = iterator.next();
         FlworTuple newTuple = new FlworTuple(oldFirstTuple.getLocalKeys().size());
@@ -244,7 +263,7 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
                 newTuple.putValue(tupleVariable, allValues);
             }
         }
-        this.localTupleResults.add(newTuple);
+        return newTuple;
     }
 
     @Override
@@ -403,6 +422,20 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
             UDFcolumns
         );
 
+        if (context.getRumbleRuntimeConfiguration().isSkewResistantGroupBy() && !projectSQL.equals("TRUE")) {
+            Dataset<Row> saltedResult = groupWithSaltedHotKeys(
+                df.sparkSession().sql(createColumnsSQL),
+                projectSQL,
+                Collections.singletonList(appendedGroupingColumnsName),
+                variableAccessNames,
+                serializerUDFName,
+                context.getRumbleRuntimeConfiguration().getGroupBySaltPartitions()
+            );
+            if (saltedResult != null) {
+                return saltedResult;
+            }
+        }
+
         Dataset<Row> result = df.sparkSession()
             .sql(
                 String.format(
@@ -415,6 +448,137 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
         return result;
     }
 
+    /**
+     * Groups the tuples in two phases if some grouping keys are hot, i.e., account for a large share of a sample of
+     * the input. The tuples with a hot key are spread over several salted sub-groups, which are aggregated first. The
+     * partial aggregates are then merged for each key: counts are summed, and sequences (native arrays or serialized
+     * items) are concatenated in the order of the salts.
+     *
+     * A salt is assigned to a contiguous range of input partitions, so that the sub-groups follow the order of the
+     * input and the merged sequences keep the order that a single group would have.
+     *
+     * @param groupingInput the input tuples with the grouping columns.
+     * @param projectSQL the aggregation projection of the group by clause.
+     * @param groupingColumns the names of the grouping columns.
+     * @param groupingVariables the grouping variables.
+     * @param serializerUDFName the name of the UDF concatenating serialized sequences, or null if there are none.
+     * @param saltPartitions the number of sub-groups for each hot key.
+     * @return the grouped DataFrame, or null if there are no hot keys.
+     */
+    private static Dataset<Row> groupWithSaltedHotKeys(
+            Dataset<Row> groupingInput,
+            String projectSQL,
+            List<String> groupingColumns,
+            List<Name> groupingVariables,
+            String serializerUDFName,
+            int saltPartitions
+    ) {
+        List<Column> keyColumns = new ArrayList<>();
+        for (String groupingColumn : groupingColumns) {
+            keyColumns.add(col("`" + groupingColumn + "`"));
+        }
+        List<Row> hotKeys = groupingInput
+            .sample(false, SKEW_SAMPLE_FRACTION, 0)
+            .groupBy(keyColumns.toArray(new Column[0]))
+            .count()
+            .withColumn("share", col("count").divide(sum("count").over()))
+            .filter(col("share").geq(SKEW_HOT_KEY_SHARE))
+            .select(keyColumns.toArray(new Column[0]))
+            .collectAsList();
+        if (hotKeys.isEmpty()) {
+            return null;
+        }
+        System.out.println(
+            "[INFO] Rumble spreads "
+                + hotKeys.size()
+                + " hot grouping key(s) over "
+                + saltPartitions
+                + " sub-groups."
+        );
+
+        SparkSession session = groupingInput.sparkSession();
+        List<StructField> hotKeyFields = new ArrayList<>();
+        List<String> joinConditions = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<String> keyAliases = new ArrayList<>();
+        for (int i = 0; i < groupingColumns.size(); i++) {
+            String groupingColumn = groupingColumns.get(i);
+            hotKeyFields.add(
+                DataTypes.createStructField(
+                    "hot_key_" + i,
+                    groupingInput.schema().apply(groupingColumn).dataType(),
+                    true
+                )
+            );
+            joinConditions.add("groupingInput.`" + groupingColumn + "` <=> hotKeys.`hot_key_" + i + "`");
+            keys.add("`" + groupingColumn + "`");
+            keyAliases.add("`" + groupingColumn + "` as `" + HOT_KEY_COLUMN_NAME + i + "`");
+        }
+        session.createDataFrame(hotKeys, DataTypes.createStructType(hotKeyFields))
+            .withColumn("is_hot", lit(true))
+            .createOrReplaceTempView("hotKeys");
+        groupingInput.createOrReplaceTempView("groupingInput");
+        int inputPartitions = groupingInput.rdd().getNumPartitions();
+        session.sql(
+            String.format(
+                "select /*+ BROADCAST(hotKeys) */ groupingInput.*, "
+                    + "IF(hotKeys.is_hot IS NULL, 0, CAST(spark_partition_id() * %d / %d AS INT)) as `%s` "
+                    + "from groupingInput left join hotKeys on %s",
+                saltPartitions,
+                inputPartitions,
+                SALT_COLUMN_NAME,
+                String.join(" and ", joinConditions)
+            )
+        ).createOrReplaceTempView("saltedInput");
+
+        Dataset<Row> partialGroups = session.sql(
+            String.format(
+                "select %s, %s, `%s` from saltedInput group by %s, `%s`",
+                projectSQL,
+                String.join(", ", keyAliases),
+                SALT_COLUMN_NAME,
+                String.join(", ", keys),
+                SALT_COLUMN_NAME
+            )
+        );
+
+        List<String> mergedColumns = new ArrayList<>();
+        List<String> mergedKeys = new ArrayList<>();
+        for (StructField field : partialGroups.schema().fields()) {
+            String columnName = field.name();
+            String column = "`" + columnName + "`";
+            // the partial sequences are concatenated in the order of the salts
+            String orderedPartials = "transform(array_sort(collect_list(named_struct('salt', `"
+                + SALT_COLUMN_NAME
+                + "`, 'value', "
+                + column
+                + ")), (left, right) -> left.salt - right.salt), partial -> partial.value)";
+            if (columnName.equals(SALT_COLUMN_NAME)) {
+                continue;
+            } else if (columnName.startsWith(HOT_KEY_COLUMN_NAME)) {
+                mergedKeys.add(column);
+            } else if (columnName.endsWith(".count")) {
+                mergedColumns.add("sum(" + column + ") as " + column);
+            } else if (groupingVariables.contains(FlworDataFrameUtils.variableForColumnName(columnName))) {
+                mergedColumns.add("first(" + column + ") as " + column);
+            } else if (field.dataType() instanceof ArrayType) {
+                mergedColumns.add("flatten(" + orderedPartials + ") as " + column);
+            } else if (field.dataType().equals(DataTypes.BinaryType) && serializerUDFName != null) {
+                mergedColumns.add(serializerUDFName + "(" + orderedPartials + ") as " + column);
+            } else {
+                throw new OurBadException("Unexpected partially aggregated column in group by: " + columnName);
+            }
+        }
+        partialGroups.createOrReplaceTempView("partialGroups");
+        return session.sql(
+            String.format(
+                "select %s from partialGroups group by %s",
+                String.join(", ", mergedColumns),
+                String.join(", ", mergedKeys)
+            )
+        );
+    }
+
     public Map<Name, DynamicContext.VariableDependency> getDynamicContextVariableDependencies() {
         Map<Name, DynamicContext.VariableDependency> result = new TreeMap<>();
         for (GroupByClauseSparkIteratorExpression iterator : this.groupingExpressions) {
@@ -570,6 +734,27 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
                 selectString.append(".sequence`");
             }
         }
+        if (dependencies.isEmpty()) {
+            // no variable is needed after the group by clause, only the number of groups matters
+            selectString.append("TRUE");
+        }
+        if (context.getRumbleRuntimeConfiguration().isSkewResistantGroupBy() && !dependencies.isEmpty()) {
+            List<String> groupingColumns = new ArrayList<>();
+            for (Name groupingVar : groupingVariables) {
+                groupingColumns.add(groupingVar.toString());
+            }
+            Dataset<Row> saltedResult = groupWithSaltedHotKeys(
+                dataFrame,
+                selectString.toString(),
+                groupingColumns,
+                groupingVariables,
+                null,
+                context.getRumbleRuntimeConfiguration().getGroupBySaltPartitions()
+            );
+            if (saltedResult != null) {
+                return saltedResult;
+            }
+        }
         System.out.println("[INFO] Rumble was able to optimize a let clause to a native SQL query.");
         return dataFrame.sparkSession()
             .sql(
@@ -27,6 +27,7 @@ import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.Name;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -41,6 +42,7 @@ import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.expressions.flowr.OrderByClauseSortingKey.EMPTY_ORDER;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
+import org.rumbledb.runtime.flwor.ExternalTupleSorter;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.runtime.flwor.expression.OrderByClauseAnnotatedChildIterator;
@@ -54,6 +56,7 @@ import sparksoniq.jsoniq.tuple.FlworTuple;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,8 +72,8 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
     private final List<OrderByClauseAnnotatedChildIterator> expressionsWithIterator;
     private Map<Name, DynamicContext.VariableDependency> dependencies;
 
-    private List<FlworTuple> localTupleResults;
-    private int resultIndex;
+    private ExternalTupleSorter localTupleSorter;
+    private Iterator<FlworTuple> localTupleResults;
 
     public OrderByClauseSparkIterator(
             RuntimeTupleIterator child,
@@ -85,7 +88,8 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
         for (OrderByClauseAnnotatedChildIterator e : this.expressionsWithIterator) {
             this.dependencies.putAll(e.getIterator().getVariableDependencies());
         }
-        this.localTupleResults = new ArrayList<>();
+        this.localTupleSorter = null;
+        this.localTupleResults = null;
     }
 
     @Override
@@ -95,8 +99,7 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
             throw new OurBadException("Invalid order-by clause.");
         }
         this.child.open(this.currentDynamicContext);
-        this.localTupleResults.clear();
-        this.resultIndex = 0;
+        clearLocalResults();
         this.hasNext = this.child.hasNext();
     }
 
@@ -107,8 +110,7 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
             throw new OurBadException("Invalid order-by clause.");
         }
         this.child.reset(this.currentDynamicContext);
-        this.localTupleResults.clear();
-        this.resultIndex = 0;
+        clearLocalResults();
         this.hasNext = this.child.hasNext();
     }
 
@@ -119,19 +121,27 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
             throw new OurBadException("Invalid order-by clause.");
         }
         this.child.close();
-        this.localTupleResults.clear();
-        this.resultIndex = 0;
+        clearLocalResults();
+    }
+
+    private void clearLocalResults() {
+        if (this.localTupleSorter != null) {
+            this.localTupleSorter.close();
+        }
+        this.localTupleSorter = null;
+        this.localTupleResults = null;
     }
 
     @Override
     public FlworTuple next() {
         if (this.hasNext) {
-            if (this.resultIndex == 0) {
+            if (this.localTupleResults == null) {
                 setAllLocalResults();
             }
-            FlworTuple result = this.localTupleResults.get(this.resultIndex++);
-            if (this.resultIndex == this.localTupleResults.size()) {
+            FlworTuple result = this.localTupleResults.next();
+            if (!this.localTupleResults.hasNext()) {
                 this.hasNext = false;
+                clearLocalResults();
             }
             return result;
         }
@@ -140,33 +150,37 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
 
     /**
      * All local results need to be calculated for sorting/ordering to be performed.
+     * Tuples beyond the local memory budget are spilled to disk in sorted runs, which are merged lazily.
      */
     private void setAllLocalResults() {
-        TreeMap<FlworKey, List<FlworTuple>> keyValuePairs = mapExpressionsToOrderedPairs();
-        // get only the values(ordered tuples) and save them in a list for next() calls
-        keyValuePairs.forEach((key, valueList) -> this.localTupleResults.addAll(valueList));
+        this.localTupleSorter = new ExternalTupleSorter(
+                new FlworKeyComparator(this.expressionsWithIterator),
+                this.currentDynamicContext.getRumbleRuntimeConfiguration().getLocalMemoryBudget(),
+                getMetadata()
+        );
+        mapExpressionsToOrderedPairs(this.localTupleSorter);
+        // get only the values(ordered tuples) for next() calls
+        this.localTupleResults = this.localTupleSorter.sortedTuples();
 
         this.child.close();
-        this.hasNext = this.localTupleResults.size() != 0;
+        this.hasNext = this.localTupleResults.hasNext();
     }
 
     /**
-     * Evaluates expressions to atomics(error is thrown if not possible) which are used as keys for sorted TreeMap.
+     * Evaluates expressions to atomics(error is thrown if not possible) which are used as sorting keys.
      * Requires child iterator to be opened.
      *
-     * @return Sorted TreeMap(ascending). key - atomics from expressions, value - input tuples
+     * @param sorter the sorter to which the keys and input tuples are added.
      */
-    private TreeMap<FlworKey, List<FlworTuple>> mapExpressionsToOrderedPairs() {
-        // tree map keeps the natural item order deduced from an implementation of Comparator
+    private void mapExpressionsToOrderedPairs(ExternalTupleSorter sorter) {
+        // the sorter keeps the natural item order deduced from an implementation of Comparator
         // OrderByClauseSortClosure implements a comparator and provides the exact desired behavior for local execution
         // as well
-        TreeMap<FlworKey, List<FlworTuple>> keyValuePairs = new TreeMap<>(
-                new FlworKeyComparator(this.expressionsWithIterator)
-        );
 
         // assign current context as parent. re-use the same context object for efficiency
         DynamicContext tupleContext = new DynamicContext(this.currentDynamicContext);
         while (this.child.hasNext()) {
+            QueryCancellation.checkCurrentQuery(getMetadata());
             FlworTuple inputTuple = this.child.next();
 
             List<Item> results = new ArrayList<>(); // results from the expressions will become a key
@@ -194,15 +208,8 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
                     );
                 }
             }
-            FlworKey key = new FlworKey(results);
-            List<FlworTuple> values = keyValuePairs.get(key); // all values for a single matching key are held in a list
-            if (values == null) {
-                values = new ArrayList<>();
-                keyValuePairs.put(key, values);
-            }
-            values.add(inputTuple);
+            sorter.add(new FlworKey(results), inputTuple);
         }
-        return keyValuePairs;
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.DynamicContext.VariableDependency;
 import org.rumbledb.context.Name;
@@ -33,11 +34,13 @@ import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.exceptions.JobWithinAJobException;
 import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.items.structured.JSoundDataFrame;
 import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.runtime.flwor.closures.ReturnFlatMapClosure;
 
 import sparksoniq.jsoniq.tuple.FlworTuple;
@@ -166,6 +169,40 @@ public class ReturnClauseSparkIterator extends HybridRuntimeIterator {
         );
     }
 
+    /**
+     * Computes the returned objects with a native projection of the tuple DataFrame, if the return expression can be
+     * translated into a struct. The result is a DataFrame of objects that can be exported without materializing items.
+     */
+    @Override
+    public JSoundDataFrame tryNativeDataFrame(DynamicContext context) {
+        if (!isRDDOrDataFrame() || !this.child.isDataFrame() || this.expression.isRDDOrDataFrame()) {
+            return null;
+        }
+        Dataset<Row> df = this.child.getDataFrame(context);
+        NativeClauseContext returnContext = new NativeClauseContext(FLWOR_CLAUSES.RETURN, df.schema(), context);
+        NativeClauseContext nativeQuery = this.expression.generateNativeQuery(returnContext);
+        if (
+            nativeQuery == NativeClauseContext.NoNativeQuery
+                || nativeQuery.getResultingType() == null
+                || !nativeQuery.getResultingType().isObjectItemType()
+        ) {
+            return null;
+        }
+        System.out.println(
+            "[INFO] Rumble was able to optimize a return clause to a native SQL query."
+        );
+        df.createOrReplaceTempView("input");
+        return new JSoundDataFrame(
+                df.sparkSession()
+                    .sql(
+                        String.format(
+                            "select `result`.* from (select %s as `result` from input)",
+                            nativeQuery.getResultingQuery()
+                        )
+                    )
+        );
+    }
+
     @Override
     protected boolean hasNextLocal() {
         return this.hasNext;
@@ -198,6 +235,7 @@ public class ReturnClauseSparkIterator extends HybridRuntimeIterator {
         }
 
         while (this.child.hasNext()) {
+            QueryCancellation.checkCurrentQuery(getMetadata());
             FlworTuple tuple = this.child.next();
             this.tupleContext.getVariableValues().removeAllVariables(); // clear the previous variables
             this.tupleContext.getVariableValues().setBindingsFromTuple(tuple, getMetadata()); // assign new variables
@@ -24,6 +24,7 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructType;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.DynamicContext.VariableDependency;
 import org.rumbledb.context.Name;
@@ -123,6 +124,7 @@ public class WhereClauseSparkIterator extends RuntimeTupleIterator {
 
         FlworTuple inputTuple;
         while (this.child.hasNext()) {
+            QueryCancellation.checkCurrentQuery(getMetadata());
             // tuple received from child, used for tuple creation
             inputTuple = this.child.next();
             this.tupleContext.getVariableValues().removeAllVariables(); // clear the previous variables
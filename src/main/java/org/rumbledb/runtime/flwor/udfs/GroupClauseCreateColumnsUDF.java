@@ -152,7 +152,7 @@ public class GroupClauseCreateColumnsUDF implements UDF1<Row, Row> {
             this.results.add(dateTimeGroupIndex);
             this.results.add(null);
             this.results.add(null);
-            this.results.add(nextItem.getDateTimeValue().getMillis());
+            this.results.add(nextItem.getEpochMillis());
         } else {
             throw new UnexpectedTypeException(
                     "Group by variable can not contain arrays or objects.",
@@ -144,7 +144,7 @@ public class OrderClauseCreateColumnsUDF implements UDF1<Row, Row> {
                         || typeName.equals(BuiltinTypesCatalogue.dateItem.getName())
                         || typeName.equals(BuiltinTypesCatalogue.timeItem.getName())
                 ) {
-                    this.results.add(nextItem.getDateTimeValue().getMillis());
+                    this.results.add(nextItem.getEpochMillis());
                 } else {
                     throw new OurBadException(
                             "Unexpected ordering type found while creating columns."
@@ -150,9 +150,13 @@ public class DynamicFunctionCallIterator extends HybridRuntimeIterator {
                     getMetadata()
             );
         }
+        // transformers applied to local objects are applied locally if they support it
+        boolean isLocalTransformerCall = this.functionItem.isTransformer()
+            && this.functionArguments.get(0) != null
+            && !this.functionArguments.get(0).isRDDOrDataFrame();
         this.functionCallIterator = NamedFunctions.buildUserDefinedFunctionCallIterator(
             this.functionItem,
-            this.isPartialApplication
+            this.isPartialApplication || isLocalTransformerCall
                 ? ExecutionMode.LOCAL
                 : this.functionItem.getBodyIterator().getHighestExecutionMode(),
             getMetadata(),
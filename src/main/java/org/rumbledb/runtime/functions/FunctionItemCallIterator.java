@@ -25,6 +25,7 @@ import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.FunctionIdentifier;
 import org.rumbledb.context.Name;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.exceptions.OurBadException;
@@ -44,6 +45,7 @@ import org.rumbledb.types.SequenceType.Arity;
 import static org.rumbledb.types.SequenceType.ITEM_STAR;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +62,9 @@ public class FunctionItemCallIterator extends HybridRuntimeIterator {
     private RuntimeIterator functionBodyIterator;
     private Item nextResult;
     private transient DynamicContext dynamicContextForCalls;
+    private transient List<String> memoizationKey;
+    private transient Iterator<Item> memoizedResultIterator;
+    private transient List<Item> resultsToMemoize;
 
 
     public FunctionItemCallIterator(
@@ -119,66 +124,106 @@ public class FunctionItemCallIterator extends HybridRuntimeIterator {
     private void wrapArgumentIteratorsWithTypeCheckingIterators() {
         if (this.functionItem.getSignature().getParameterTypes() != null) {
             for (int i = 0; i < this.functionArguments.size(); i++) {
-                if (
-                    this.functionArguments.get(i) != null
-                        && !this.functionItem.getSignature()
-                            .getParameterTypes()
-                            .get(i)
-                            .equals(ITEM_STAR)
-                ) {
-                    SequenceType sequenceType = this.functionItem.getSignature().getParameterTypes().get(i);
-                    ExecutionMode executionMode = this.functionArguments.get(i).getHighestExecutionMode();
-                    if (
-                        sequenceType.isEmptySequence()
-                            || sequenceType.getArity().equals(Arity.One)
-                            || sequenceType.getArity().equals(Arity.OneOrZero)
-                    ) {
-                        executionMode = ExecutionMode.LOCAL;
-                    }
-                    if (
-                        sequenceType.isEmptySequence()
-                            || sequenceType.getArity().equals(Arity.One)
-                            || sequenceType.getArity().equals(Arity.OneOrZero)
-                    ) {
-                        RuntimeIterator typePromotionIterator = new AtMostOneItemTypePromotionIterator(
-                                this.functionArguments.get(i),
-                                sequenceType,
-                                "Invalid argument for " + this.functionItem.getIdentifier().getName() + " function. ",
-                                executionMode,
-                                getMetadata()
-                        );
-                        this.functionArguments.set(i, typePromotionIterator);
-                    } else {
-                        RuntimeIterator typePromotionIterator = new TypePromotionIterator(
-                                this.functionArguments.get(i),
-                                sequenceType,
-                                "Invalid argument for " + this.functionItem.getIdentifier().getName() + " function. ",
-                                executionMode,
-                                getMetadata()
-                        );
-                        this.functionArguments.set(i, typePromotionIterator);
-                    }
+                if (this.functionArguments.get(i) != null) {
+                    this.functionArguments.set(
+                        i,
+                        wrapArgumentIteratorWithTypeCheckingIterator(
+                            this.functionArguments.get(i),
+                            this.functionItem.getSignature().getParameterTypes().get(i),
+                            this.functionItem.getIdentifier().getName(),
+                            getMetadata()
+                        )
+                    );
                 }
             }
         }
     }
 
+    static RuntimeIterator wrapArgumentIteratorWithTypeCheckingIterator(
+            RuntimeIterator argument,
+            SequenceType sequenceType,
+            Name functionName,
+            ExceptionMetadata metadata
+    ) {
+        if (sequenceType.equals(ITEM_STAR)) {
+            return argument;
+        }
+        if (
+            sequenceType.isEmptySequence()
+                || sequenceType.getArity().equals(Arity.One)
+                || sequenceType.getArity().equals(Arity.OneOrZero)
+        ) {
+            return new AtMostOneItemTypePromotionIterator(
+                    argument,
+                    sequenceType,
+                    "Invalid argument for " + functionName + " function. ",
+                    ExecutionMode.LOCAL,
+                    metadata
+            );
+        }
+        return new TypePromotionIterator(
+                argument,
+                sequenceType,
+                "Invalid argument for " + functionName + " function. ",
+                argument.getHighestExecutionMode(),
+                metadata
+        );
+    }
+
     @Override
     public void openLocal() {
+        // deep recursions stop when the query is cancelled
+        QueryCancellation.checkCurrentQuery(getMetadata());
         if (this.isPartialApplication) {
             this.functionBodyIterator = generatePartiallyAppliedFunction(this.currentDynamicContextForLocalExecution);
         } else {
-            if (this.functionBodyIterator == null) {
-                this.functionBodyIterator = this.functionItem.getBodyIterator().deepCopy();
-            }
             this.populateDynamicContextWithArguments(
                 this.currentDynamicContextForLocalExecution
             );
+            if (((FunctionItem) this.functionItem).isMemoized()) {
+                this.memoizationKey = getMemoizationKey();
+                if (this.memoizationKey != null) {
+                    List<Item> memoizedResult = ((FunctionItem) this.functionItem).getMemoizedResult(
+                        this.memoizationKey
+                    );
+                    if (memoizedResult != null) {
+                        this.memoizedResultIterator = memoizedResult.iterator();
+                        setNextResult();
+                        return;
+                    }
+                    this.resultsToMemoize = new ArrayList<>();
+                }
+            }
+            this.functionBodyIterator = ((FunctionItem) this.functionItem).acquireBodyIterator();
         }
         this.functionBodyIterator.open(this.dynamicContextForCalls);
         setNextResult();
     }
 
+    /**
+     * Builds the key under which the result of this call is memoized, from the types and values of the arguments.
+     *
+     * @return the key, or null if some arguments are not local sequences of atomic items.
+     */
+    private List<String> getMemoizationKey() {
+        List<String> key = new ArrayList<>();
+        for (int i = 0; i < this.functionArguments.size(); i++) {
+            if (this.functionArguments.get(i).isRDDOrDataFrame()) {
+                return null;
+            }
+            List<Item> values = this.dynamicContextForCalls.getVariableValues()
+                .getLocalVariableValue(this.functionItem.getParameterNames().get(i), getMetadata());
+            key.add(Integer.toString(values.size()));
+            for (Item value : values) {
+                if (!value.isAtomic()) {
+                    return null;
+                }
+                key.add(value.getDynamicType().getName() + " " + value.serialize());
+            }
+        }
+        return key;
+    }
+
     /**
      * Partial application generates a new function:
      * - Supplied parameters are set as NonLocalVariables
@@ -283,6 +328,17 @@ public class FunctionItemCallIterator extends HybridRuntimeIterator {
 
     @Override
     protected void resetLocal() {
+        if (((FunctionItem) this.functionItem).isMemoized()) {
+            // the arguments, hence the memoization key, are evaluated again
+            closeLocal();
+            openLocal();
+            return;
+        }
+        if (this.functionBodyIterator == null) {
+            // the body iterator was given back to the pool when this call was closed
+            openLocal();
+            return;
+        }
         this.functionBodyIterator.reset(this.currentDynamicContextForLocalExecution);
         setNextResult();
     }
@@ -294,10 +350,24 @@ public class FunctionItemCallIterator extends HybridRuntimeIterator {
         if (this.functionBodyIterator != null && this.functionBodyIterator.isOpen()) {
             this.functionBodyIterator.close();
         }
+        if (this.functionBodyIterator != null && !this.isPartialApplication) {
+            ((FunctionItem) this.functionItem).releaseBodyIterator(this.functionBodyIterator);
+        }
+        this.functionBodyIterator = null;
+        this.memoizationKey = null;
+        this.memoizedResultIterator = null;
+        this.resultsToMemoize = null;
     }
 
     public void setNextResult() {
         this.nextResult = null;
+        if (this.memoizedResultIterator != null) {
+            if (this.memoizedResultIterator.hasNext()) {
+                this.nextResult = this.memoizedResultIterator.next();
+            }
+            this.hasNext = this.nextResult != null;
+            return;
+        }
         if (this.functionBodyIterator.hasNext()) {
             this.nextResult = this.functionBodyIterator.next();
         }
@@ -305,8 +375,15 @@ public class FunctionItemCallIterator extends HybridRuntimeIterator {
         if (this.nextResult == null) {
             this.hasNext = false;
             this.functionBodyIterator.close();
+            if (this.resultsToMemoize != null) {
+                ((FunctionItem) this.functionItem).memoizeResult(this.memoizationKey, this.resultsToMemoize);
+                this.resultsToMemoize = null;
+            }
         } else {
             this.hasNext = true;
+            if (this.resultsToMemoize != null) {
+                this.resultsToMemoize.add(this.nextResult);
+            }
         }
     }
 
@@ -319,8 +396,8 @@ public class FunctionItemCallIterator extends HybridRuntimeIterator {
         }
 
         this.populateDynamicContextWithArguments(dynamicContext);
-        this.functionBodyIterator = this.functionItem.getBodyIterator();
-        return this.functionBodyIterator.getRDD(this.dynamicContextForCalls);
+        // building an RDD or a DataFrame does not open the body, so the shared body iterator is used without a copy
+        return this.functionItem.getBodyIterator().getRDD(this.dynamicContextForCalls);
     }
 
     @Override
@@ -337,7 +414,6 @@ public class FunctionItemCallIterator extends HybridRuntimeIterator {
         }
 
         populateDynamicContextWithArguments(dynamicContext);
-        this.functionBodyIterator = this.functionItem.getBodyIterator();
-        return this.functionBodyIterator.getDataFrame(this.dynamicContextForCalls);
+        return this.functionItem.getBodyIterator().getDataFrame(this.dynamicContextForCalls);
     }
 }
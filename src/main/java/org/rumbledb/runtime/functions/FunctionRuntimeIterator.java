@@ -39,12 +39,14 @@ public class FunctionRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
     private Map<Name, SequenceType> paramNameToSequenceTypes;
     SequenceType returnType;
     RuntimeIterator bodyIterator;
+    private boolean memoized;
 
     public FunctionRuntimeIterator(
             Name functionName,
             Map<Name, SequenceType> paramNameToSequenceTypes,
             SequenceType returnType,
             RuntimeIterator bodyIterator,
+            boolean memoized,
             ExecutionMode executionMode,
             ExceptionMetadata iteratorMetadata
     ) {
@@ -53,6 +55,7 @@ public class FunctionRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
         this.paramNameToSequenceTypes = paramNameToSequenceTypes;
         this.returnType = returnType;
         this.bodyIterator = bodyIterator;
+        this.memoized = memoized;
     }
 
     @Override
@@ -65,6 +68,9 @@ public class FunctionRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
                 dynamicContext.getModuleContext(),
                 bodyIteratorCopy
         );
+        if (this.memoized) {
+            function.enableMemoization();
+        }
         function.populateClosureFromDynamicContext(dynamicContext, getMetadata());
         return function;
     }
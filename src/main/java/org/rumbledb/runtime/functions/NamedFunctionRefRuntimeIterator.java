@@ -56,9 +56,9 @@ public class NamedFunctionRefRuntimeIterator extends AtMostOneItemLocalRuntimeIt
                     getMetadata()
             );
         }
-        FunctionItem function = dynamicContext.getNamedFunctions()
-            .getUserDefinedFunction(this.functionIdentifier);
-        FunctionItem result = ((FunctionItem) function).deepCopy();
+        FunctionItem result = dynamicContext.getNamedFunctions()
+            .getUserDefinedFunction(this.functionIdentifier)
+            .deepCopy();
         result.populateClosureFromDynamicContext(dynamicContext, getMetadata());
         return result;
     }
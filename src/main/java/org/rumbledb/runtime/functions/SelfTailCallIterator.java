@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+package org.rumbledb.runtime.functions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.Name;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.IteratorFlowException;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.runtime.LocalRuntimeIterator;
+import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.SequenceType;
+
+/**
+ * A call of a function to itself in tail position in its own body. Rather than opening a new body iterator (which
+ * nests one more level of Java stack per call), it evaluates its arguments and hands them over to the enclosing
+ * {@link TailCallLoopIterator}, which rebinds the parameters and restarts the body once it is exhausted. It produces
+ * no items itself.
+ */
+public class SelfTailCallIterator extends LocalRuntimeIterator {
+
+    private static final long serialVersionUID = 1L;
+    private TailCallLoopIterator.PendingCall pendingCall;
+
+    public SelfTailCallIterator(
+            Name functionName,
+            List<RuntimeIterator> arguments,
+            List<SequenceType> parameterTypes,
+            TailCallLoopIterator.PendingCall pendingCall,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(null, ExecutionMode.LOCAL, iteratorMetadata);
+        for (int i = 0; i < arguments.size(); i++) {
+            this.children.add(
+                FunctionItemCallIterator.wrapArgumentIteratorWithTypeCheckingIterator(
+                    arguments.get(i),
+                    parameterTypes.get(i),
+                    functionName,
+                    iteratorMetadata
+                )
+            );
+        }
+        this.pendingCall = pendingCall;
+    }
+
+    @Override
+    public void open(DynamicContext context) {
+        super.open(context);
+        prepareCall();
+    }
+
+    @Override
+    public void reset(DynamicContext context) {
+        super.reset(context);
+        prepareCall();
+    }
+
+    private void prepareCall() {
+        List<List<Item>> argumentValues = new ArrayList<>(this.children.size());
+        for (RuntimeIterator argument : this.children) {
+            argumentValues.add(argument.materialize(this.currentDynamicContextForLocalExecution));
+        }
+        this.pendingCall.set(argumentValues);
+        this.hasNext = false;
+    }
+
+    @Override
+    public Item next() {
+        throw new IteratorFlowException(RuntimeIterator.FLOW_EXCEPTION_MESSAGE, getMetadata());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+package org.rumbledb.runtime.functions;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.Name;
+import org.rumbledb.context.QueryCancellation;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.IteratorFlowException;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.runtime.LocalRuntimeIterator;
+import org.rumbledb.runtime.RuntimeIterator;
+
+/**
+ * Wraps the body of a function that calls itself in tail position (see {@link SelfTailCallIterator}). When the body
+ * is exhausted and a tail call is pending, the parameters are rebound to the new argument values in the dynamic
+ * context of the call and the body is restarted, so that the recursion runs as a loop in constant Java stack depth.
+ */
+public class TailCallLoopIterator extends LocalRuntimeIterator {
+
+    private static final long serialVersionUID = 1L;
+    private List<Name> parameterNames;
+    private PendingCall pendingCall;
+    private RuntimeIterator bodyIterator;
+    private transient List<List<Item>> originalParameterValues;
+
+    public TailCallLoopIterator(
+            RuntimeIterator bodyIterator,
+            List<Name> parameterNames,
+            PendingCall pendingCall,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(null, ExecutionMode.LOCAL, iteratorMetadata);
+        this.children.add(bodyIterator);
+        this.bodyIterator = bodyIterator;
+        this.parameterNames = parameterNames;
+        this.pendingCall = pendingCall;
+    }
+
+    @Override
+    public void open(DynamicContext context) {
+        super.open(context);
+        this.pendingCall.clear();
+        this.originalParameterValues = null;
+        this.bodyIterator.open(context);
+        setHasNext();
+    }
+
+    @Override
+    public void reset(DynamicContext context) {
+        if (this.bodyIterator.isOpen()) {
+            this.bodyIterator.close();
+        }
+        restoreParameters();
+        this.hasNext = true;
+        this.currentDynamicContextForLocalExecution = context;
+        this.pendingCall.clear();
+        this.bodyIterator.open(context);
+        setHasNext();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        if (this.bodyIterator.isOpen()) {
+            this.bodyIterator.close();
+        }
+        restoreParameters();
+        this.pendingCall.clear();
+    }
+
+    @Override
+    public Item next() {
+        if (!this.hasNext) {
+            throw new IteratorFlowException(RuntimeIterator.FLOW_EXCEPTION_MESSAGE, getMetadata());
+        }
+        Item result = this.bodyIterator.next();
+        setHasNext();
+        return result;
+    }
+
+    private void setHasNext() {
+        while (!this.bodyIterator.hasNext()) {
+            QueryCancellation.checkCurrentQuery(getMetadata());
+            List<List<Item>> argumentValues = this.pendingCall.get();
+            if (argumentValues == null) {
+                this.hasNext = false;
+                return;
+            }
+            this.pendingCall.clear();
+            this.bodyIterator.close();
+            bindParameters(argumentValues);
+            this.bodyIterator.open(this.currentDynamicContextForLocalExecution);
+        }
+        this.hasNext = true;
+    }
+
+    private void bindParameters(List<List<Item>> argumentValues) {
+        DynamicContext context = this.currentDynamicContextForLocalExecution;
+        if (this.originalParameterValues == null) {
+            this.originalParameterValues = new ArrayList<>(this.parameterNames.size());
+            for (Name parameterName : this.parameterNames) {
+                this.originalParameterValues.add(
+                    context.getVariableValues().getLocalVariableValue(parameterName, getMetadata())
+                );
+            }
+        }
+        for (int i = 0; i < this.parameterNames.size(); i++) {
+            context.getVariableValues().addVariableValue(this.parameterNames.get(i), argumentValues.get(i));
+        }
+    }
+
+    private void restoreParameters() {
+        if (this.originalParameterValues == null) {
+            return;
+        }
+        for (int i = 0; i < this.parameterNames.size(); i++) {
+            this.currentDynamicContextForLocalExecution.getVariableValues()
+                .addVariableValue(this.parameterNames.get(i), this.originalParameterValues.get(i));
+        }
+        this.originalParameterValues = null;
+    }
+
+    /**
+     * The arguments of the tail call that was last evaluated in the body, shared between the loop and the tail calls
+     * of one copy of the body.
+     */
+    public static class PendingCall implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private List<List<Item>> argumentValues;
+
+        public List<List<Item>> get() {
+            return this.argumentValues;
+        }
+
+        public void set(List<List<Item>> argumentValues) {
+            this.argumentValues = argumentValues;
+        }
+
+        public void clear() {
+            this.argumentValues = null;
+        }
+    }
+}
@@ -20,6 +20,7 @@
 
 package org.rumbledb.runtime.functions.arrays;
 
+import org.apache.spark.sql.types.ArrayType;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -27,6 +28,8 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.util.List;
 
@@ -52,4 +55,21 @@ public class ArraySizeFunctionIterator extends AtMostOneItemLocalRuntimeIterator
         return ItemFactory.getInstance().createIntItem(array.getSize());
     }
 
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        NativeClauseContext value = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        if (value == NativeClauseContext.NoNativeQuery || value.isNullAmbiguous()) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (!(value.getSchema() instanceof ArrayType)) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        // SIZE returns -1 for NULL, but the size of the empty sequence is the empty sequence
+        String resultingQuery = "( CASE WHEN "
+            + value.getResultingQuery()
+            + " IS NULL THEN NULL ELSE SIZE("
+            + value.getResultingQuery()
+            + ") END )";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.integerItem);
+    }
 }
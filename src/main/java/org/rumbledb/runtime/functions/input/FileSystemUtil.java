@@ -4,6 +4,7 @@ import org.apache.hadoop.HadoopIllegalArgumentException;
 import org.apache.hadoop.fs.CreateFlag;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileContext;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.UnsupportedFileSystemException;
 import org.apache.http.HttpEntity;
@@ -25,11 +26,37 @@ import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.EnumSet;
 import java.util.List;
 
 public class FileSystemUtil {
 
+    /**
+     * Tells whether the default Hadoop file system is the local file system, i.e., no core-site.xml overrides it.
+     * In this case, local files are accessed with plain NIO, which avoids initializing Hadoop (several seconds).
+     *
+     * @return true if the default file system is the local one.
+     */
+    private static boolean isDefaultFileSystemLocal() {
+        return DefaultFileSystemHolder.LOCAL;
+    }
+
+    // looked up once, when first needed
+    private static class DefaultFileSystemHolder {
+        private static final boolean LOCAL = Thread.currentThread()
+            .getContextClassLoader()
+            .getResource("core-site.xml") == null;
+    }
+
+    private static boolean isLocalFile(URI locator) {
+        return locator.getScheme() != null
+            && locator.getScheme().equals("file")
+            && locator.getAuthority() == null
+            && !locator.toString().contains("*");
+    }
+
     public static void checkAllowed(URI uri, RumbleRuntimeConfiguration conf, ExceptionMetadata metadata) {
         List<String> prefixes = conf.getAllowedURIPrefixes();
         if (prefixes.isEmpty()) {
@@ -77,9 +104,19 @@ public class FileSystemUtil {
             ExceptionMetadata metadata
     ) {
         try {
-            FileContext fileContext = FileContext.getFileContext();
-            Path workingDirectory = fileContext.getWorkingDirectory();
-            URI baseUri = new URI(workingDirectory.toString() + Path.SEPARATOR + "foo");
+            URI baseUri;
+            if (isDefaultFileSystemLocal()) {
+                baseUri = new URI(
+                        "file",
+                        null,
+                        Paths.get("").toAbsolutePath().toString() + Path.SEPARATOR + "foo",
+                        null
+                );
+            } else {
+                FileContext fileContext = FileContext.getFileContext();
+                Path workingDirectory = fileContext.getWorkingDirectory();
+                baseUri = new URI(workingDirectory.toString() + Path.SEPARATOR + "foo");
+            }
             if (url == null || url.isEmpty()) {
                 return baseUri.resolve(".");
             }
@@ -112,6 +149,9 @@ public class FileSystemUtil {
         }
         checkAllowed(locator, conf, metadata);
         try {
+            if (isLocalFile(locator)) {
+                return Files.exists(Paths.get(locator));
+            }
             FileContext fileContext = FileContext.getFileContext();
             Path path = new Path(locator);
             return locator.toString().contains("*") || fileContext.util().exists(path);
@@ -122,6 +162,70 @@ public class FileSystemUtil {
         }
     }
 
+    /**
+     * Returns the size in bytes of a single file, or -1 if it cannot be cheaply determined (wildcards, directories,
+     * remote web resources or inaccessible files). This is only used for planning and never throws.
+     *
+     * @param locator the absolute URI of the file.
+     * @param conf the configuration.
+     * @return the size of the file in bytes, or -1 if unknown.
+     */
+    public static long getSize(URI locator, RumbleRuntimeConfiguration conf) {
+        if (!locator.isAbsolute() || locator.toString().contains("*")) {
+            return -1;
+        }
+        if (locator.getScheme().equals("http") || locator.getScheme().equals("https")) {
+            return -1;
+        }
+        try {
+            checkAllowed(locator, conf, ExceptionMetadata.EMPTY_METADATA);
+            if (isLocalFile(locator)) {
+                java.nio.file.Path path = Paths.get(locator);
+                return Files.isRegularFile(path) ? Files.size(path) : -1;
+            }
+            FileContext fileContext = FileContext.getFileContext();
+            FileStatus status = fileContext.getFileStatus(new Path(locator));
+            if (!status.isFile()) {
+                return -1;
+            }
+            return status.getLen();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the modification time of a single file, or -1 if it cannot be cheaply determined (wildcards,
+     * directories, remote web resources or inaccessible files). This is only used for caching and never throws.
+     *
+     * @param locator the absolute URI of the file.
+     * @param conf the configuration.
+     * @return the modification time of the file in milliseconds since the epoch, or -1 if unknown.
+     */
+    public static long getModificationTime(URI locator, RumbleRuntimeConfiguration conf) {
+        if (!locator.isAbsolute() || locator.toString().contains("*")) {
+            return -1;
+        }
+        if (locator.getScheme().equals("http") || locator.getScheme().equals("https")) {
+            return -1;
+        }
+        try {
+            checkAllowed(locator, conf, ExceptionMetadata.EMPTY_METADATA);
+            if (isLocalFile(locator)) {
+                java.nio.file.Path path = Paths.get(locator);
+                return Files.isRegularFile(path) ? Files.getLastModifiedTime(path).toMillis() : -1;
+            }
+            FileContext fileContext = FileContext.getFileContext();
+            FileStatus status = fileContext.getFileStatus(new Path(locator));
+            if (!status.isFile()) {
+                return -1;
+            }
+            return status.getModificationTime();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
     public static boolean delete(URI locator, RumbleRuntimeConfiguration conf, ExceptionMetadata metadata) {
         checkForAbsoluteAndNoWildcards(locator, metadata);
         checkAllowed(locator, conf, metadata);
@@ -152,6 +256,13 @@ public class FileSystemUtil {
             return getDataInputStreamHTML(locator, conf, metadata);
         }
         try {
+            if (isLocalFile(locator)) {
+                java.nio.file.Path path = Paths.get(locator);
+                if (!Files.exists(path)) {
+                    throw new CannotRetrieveResourceException("File does not exist: " + locator, metadata);
+                }
+                return Files.newInputStream(path);
+            }
             FileContext fileContext = FileContext.getFileContext();
             Path path = new Path(locator);
             if (!fileContext.util().exists(path)) {
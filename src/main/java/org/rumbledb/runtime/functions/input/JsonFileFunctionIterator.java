@@ -21,14 +21,22 @@
 package org.rumbledb.runtime.functions.input;
 
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function;
+import org.apache.spark.sql.Row;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.CannotRetrieveResourceException;
 import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidInstanceException;
+import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.items.parsing.ItemParser;
 import org.rumbledb.items.parsing.JSONSyntaxToItemMapper;
-import org.rumbledb.runtime.RDDRuntimeIterator;
+import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.typing.ItemTypeValidator;
+import org.rumbledb.types.ItemType;
 
 import sparksoniq.spark.SparkSessionManager;
 
@@ -40,10 +48,13 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 
-public class JsonFileFunctionIterator extends RDDRuntimeIterator {
+public class JsonFileFunctionIterator extends HybridRuntimeIterator {
 
     private static final long serialVersionUID = 1L;
 
+    private transient LocalLineReader reader;
+    private ItemType inferredItemType;
+
     public JsonFileFunctionIterator(
             List<RuntimeIterator> arguments,
             ExecutionMode executionMode,
@@ -52,11 +63,111 @@ public class JsonFileFunctionIterator extends RDDRuntimeIterator {
         super(arguments, executionMode, iteratorMetadata);
     }
 
+    @Override
+    protected boolean implementsDataFrames() {
+        return true;
+    }
+
     @Override
     public JavaRDD<Item> getRDDAux(DynamicContext context) {
-        String url = this.children.get(0).materializeFirstItemOrNull(context).getStringValue();
-        url = url.replaceAll(" ", "%20");
-        URI uri = FileSystemUtil.resolveURI(this.staticURI, url, getMetadata());
+        return getLines(context, getURI(context)).mapPartitions(new JSONSyntaxToItemMapper(getMetadata()));
+    }
+
+    /**
+     * Sets the type inferred at compile time from a sample of the file, if any, so that it is not inferred again when
+     * the file is read into a DataFrame.
+     *
+     * @param inferredItemType the inferred type, or null.
+     */
+    public void setInferredItemType(ItemType inferredItemType) {
+        this.inferredItemType = inferredItemType;
+    }
+
+    /**
+     * DataFrame evaluation is only chosen by the execution mode visitor if a schema could be inferred from a sample of
+     * the file. The lines are parsed and validated against it while the file is read, and the query fails if a line
+     * does not have this schema.
+     */
+    @Override
+    public JSoundDataFrame getDataFrame(DynamicContext context) {
+        URI uri = getURI(context);
+        ItemType itemType = this.inferredItemType;
+        if (itemType == null) {
+            itemType = JsonSchemaInferrer.inferItemType(uri, context.getRumbleRuntimeConfiguration(), getMetadata());
+        }
+        if (itemType == null) {
+            throw new InvalidInstanceException(
+                    "No schema could be inferred from a sample of "
+                        + uri
+                        + ", as the sampled lines are not objects with consistent field types. "
+                        + "Schema inference can be deactivated with --json-file-schema-inference no.",
+                    getMetadata()
+            );
+        }
+        ItemTypeValidator validator = ItemTypeValidator.compile(itemType, true);
+        JavaRDD<Row> rows = validateLines(getLines(context, uri), itemType, validator, uri, getMetadata());
+        return new JSoundDataFrame(
+                SparkSessionManager.getInstance().getOrCreateSession().createDataFrame(rows, validator.getSchema()),
+                itemType
+        );
+    }
+
+    private static JavaRDD<Row> validateLines(
+            JavaRDD<String> lines,
+            ItemType itemType,
+            ItemTypeValidator validator,
+            URI uri,
+            ExceptionMetadata metadata
+    ) {
+        return lines.map(new Function<String, Row>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Row call(String line) {
+                Item item = ItemParser.getItemFromString(line, metadata);
+                // validation alone would cast atomic values, e.g., a string to a long
+                if (!JsonSchemaInferrer.conforms(item, itemType)) {
+                    throw mismatchingLine(line, uri, "its fields do not have the inferred types", metadata);
+                }
+                try {
+                    return validator.validateToRow(item);
+                } catch (InvalidInstanceException ex) {
+                    InvalidInstanceException e = mismatchingLine(line, uri, ex.getJSONiqErrorMessage(), metadata);
+                    e.initCause(ex);
+                    throw e;
+                }
+            }
+        });
+    }
+
+    private static InvalidInstanceException mismatchingLine(
+            String line,
+            URI uri,
+            String reason,
+            ExceptionMetadata metadata
+    ) {
+        return new InvalidInstanceException(
+                "The line "
+                    + line
+                    + " does not match the schema inferred from a sample of "
+                    + uri
+                    + " ("
+                    + reason
+                    + "). The sample can be made larger with --json-file-schema-sample-fraction, "
+                    + "or schema inference deactivated with --json-file-schema-inference no.",
+                metadata
+        );
+    }
+
+    private URI getURI(DynamicContext context) {
+        Item url = this.children.get(0).materializeFirstItemOrNull(context);
+        if (url == null) {
+            throw new CannotRetrieveResourceException("No path provided!", getMetadata());
+        }
+        return FileSystemUtil.resolveURI(this.staticURI, url.getStringValue().replaceAll(" ", "%20"), getMetadata());
+    }
+
+    private JavaRDD<String> getLines(DynamicContext context, URI uri) {
 
         int partitions = -1;
         if (this.children.size() > 1) {
@@ -115,6 +226,52 @@ public class JsonFileFunctionIterator extends RDDRuntimeIterator {
                     );
             }
         }
-        return strings.mapPartitions(new JSONSyntaxToItemMapper(getMetadata()));
+        return strings;
+    }
+
+    /**
+     * Local evaluation is only chosen by the execution mode visitor for small files, which are then read and parsed
+     * line by line on the driver without involving Spark.
+     */
+    @Override
+    protected void openLocal() {
+        this.reader = new LocalLineReader(
+                getURI(this.currentDynamicContextForLocalExecution),
+                this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration(),
+                getMetadata()
+        );
+        this.hasNext = this.reader.hasNext();
+    }
+
+    @Override
+    protected void closeLocal() {
+        if (this.reader != null) {
+            this.reader.close();
+            this.reader = null;
+        }
+    }
+
+    @Override
+    protected void resetLocal() {
+        closeLocal();
+        openLocal();
+    }
+
+    @Override
+    protected boolean hasNextLocal() {
+        return this.hasNext;
+    }
+
+    @Override
+    protected Item nextLocal() {
+        if (!this.hasNext) {
+            throw new IteratorFlowException(
+                    RuntimeIterator.FLOW_EXCEPTION_MESSAGE + " json-file function",
+                    getMetadata()
+            );
+        }
+        Item result = ItemParser.getItemFromString(this.reader.next(), getMetadata());
+        this.hasNext = this.reader.hasNext();
+        return result;
     }
 }
@@ -0,0 +1,439 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.functions.input;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.context.BuiltinFunctionCatalogue;
+import org.rumbledb.context.FunctionIdentifier;
+import org.rumbledb.context.Name;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.expressions.primary.FunctionCallExpression;
+import org.rumbledb.expressions.primary.StringLiteralExpression;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.types.FieldDescriptor;
+import org.rumbledb.types.ItemType;
+import org.rumbledb.types.ItemTypeFactory;
+import sparksoniq.spark.SparkSessionManager;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Infers a JSound object type from a sample of the lines of a JSON Lines file, so that json-file() can read files
+ * with a regular structure into a DataFrame.
+ *
+ * A type is only inferred if all sampled lines are objects and each field has the same type across the sample.
+ * Numeric fields are not promoted, so that the items read from the DataFrame have the same types as the items parsed
+ * from the lines. Fields that are absent from some lines are optional, and are mapped to NULL columns. Since a NULL
+ * column is read back as an absent field, a field that is null in the sample must be present and null in every line,
+ * and arrays must not contain nulls.
+ *
+ * The type is inferred once per json-file() call when the query is compiled, and the file is not scanned in full
+ * then. Since the sample may miss lines with other fields or types, every line is checked against the inferred type
+ * when the file is read, and the query fails if a line does not match it.
+ */
+public class JsonSchemaInferrer {
+
+    private static final Name JSON_FILE = new Name(Name.JN_NS, "jn", "json-file");
+    private static final int MAXIMUM_SAMPLE_SIZE = 10000;
+    private static final int MINIMUM_SAMPLE_SIZE = 100;
+    // precision and scale of ItemParser.decimalType
+    private static final int DECIMAL_INTEGER_DIGITS = 15;
+    private static final int DECIMAL_SCALE = 15;
+
+    private static final int MAXIMUM_CACHE_SIZE = 64;
+
+    // inferred types, by URI, size, modification time and sampled fraction, so that a file is only sampled again if
+    // it changes
+    private static final Map<String, ItemType> inferredTypes = new LinkedHashMap<String, ItemType>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ItemType> eldest) {
+            return size() > MAXIMUM_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Infers the type of the objects read by a call to json-file() whose path is a string literal, if schema
+     * inference is activated. The type is kept in the expression, so that the file is sampled only once even if it is
+     * a directory or a set of files, whose inferred types are not cached.
+     *
+     * @param expression the function call expression.
+     * @param configuration the configuration.
+     * @return the inferred type, or null if no type can be inferred or the call is not applicable.
+     */
+    public static ItemType inferItemType(FunctionCallExpression expression, RumbleRuntimeConfiguration configuration) {
+        if (!configuration.isJsonFileSchemaInference() || !isJsonFile(expression.getFunctionIdentifier())) {
+            return null;
+        }
+        if (!(expression.getArguments().get(0) instanceof StringLiteralExpression)) {
+            return null;
+        }
+        if (!expression.isItemTypeInferred()) {
+            expression.setInferredItemType(inferItemTypeForLiteral(expression, configuration));
+        }
+        return expression.getInferredItemType();
+    }
+
+    private static ItemType inferItemTypeForLiteral(
+            FunctionCallExpression expression,
+            RumbleRuntimeConfiguration configuration
+    ) {
+        String url = ((StringLiteralExpression) expression.getArguments().get(0)).getValue();
+        url = url.replaceAll(" ", "%20");
+        try {
+            URI uri = FileSystemUtil.resolveURI(
+                expression.getStaticContext().getStaticBaseURI(),
+                url,
+                expression.getMetadata()
+            );
+            if (!FileSystemUtil.exists(uri, configuration, expression.getMetadata())) {
+                return null;
+            }
+            return inferItemType(uri, configuration, expression.getMetadata());
+        } catch (RumbleException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Infers the type of the objects in a JSON Lines file, a directory or a set of files from a sample of their
+     * lines.
+     *
+     * @param uri the resolved URI of the file.
+     * @param configuration the configuration.
+     * @param metadata the metadata of the json-file() call.
+     * @return the inferred type, or null if no type can be inferred.
+     */
+    public static ItemType inferItemType(
+            URI uri,
+            RumbleRuntimeConfiguration configuration,
+            ExceptionMetadata metadata
+    ) {
+        if (uri.getScheme().equals("http") || uri.getScheme().equals("https")) {
+            return null;
+        }
+        double fraction = configuration.getJsonFileSchemaSampleFraction();
+        long size = FileSystemUtil.getSize(uri, configuration);
+        long modificationTime = FileSystemUtil.getModificationTime(uri, configuration);
+        // directories and files whose changes cannot be detected are not cached
+        String key = size == -1 || modificationTime == -1
+            ? null
+            : uri + "|" + size + "|" + modificationTime + "|" + fraction;
+        if (key != null) {
+            ItemType cachedType = getCachedType(key);
+            if (cachedType != null) {
+                return cachedType.equals(BuiltinTypesCatalogue.item) ? null : cachedType;
+            }
+        }
+        ItemType inferredType = inferItemType(sample(getLines(uri), fraction), metadata);
+        if (key != null) {
+            putCachedType(key, inferredType == null ? BuiltinTypesCatalogue.item : inferredType);
+        }
+        return inferredType;
+    }
+
+    private static synchronized ItemType getCachedType(String key) {
+        return inferredTypes.get(key);
+    }
+
+    private static synchronized void putCachedType(String key, ItemType itemType) {
+        inferredTypes.put(key, itemType);
+    }
+
+    private static boolean isJsonFile(FunctionIdentifier identifier) {
+        if (!BuiltinFunctionCatalogue.exists(identifier)) {
+            return false;
+        }
+        return BuiltinFunctionCatalogue.getBuiltinFunction(identifier).getIdentifier().getName().equals(JSON_FILE);
+    }
+
+    private static JavaRDD<String> getLines(URI uri) {
+        String path = uri.toString();
+        if (uri.getScheme().contentEquals("file")) {
+            path = path.replaceAll("%20", " ");
+        }
+        return SparkSessionManager.getInstance().getJavaSparkContext().textFile(path);
+    }
+
+    private static List<String> sample(JavaRDD<String> lines, double fraction) {
+        List<String> sample = lines.sample(false, fraction, 0).take(MAXIMUM_SAMPLE_SIZE);
+        if (sample.size() < MINIMUM_SAMPLE_SIZE) {
+            sample = lines.take(MINIMUM_SAMPLE_SIZE);
+        }
+        return sample;
+    }
+
+    /**
+     * Checks whether an item has exactly an inferred type, so that it is read back from the DataFrame as the same
+     * item. This is stricter than validation, which casts atomic values (for example, a string to a long).
+     *
+     * @param item the item.
+     * @param itemType the inferred type.
+     * @return true if the item has this type.
+     */
+    static boolean conforms(Item item, ItemType itemType) {
+        if (itemType.equals(BuiltinTypesCatalogue.nullItem)) {
+            return item.isNull();
+        }
+        if (itemType.isObjectItemType()) {
+            if (!item.isObject()) {
+                return false;
+            }
+            Map<String, FieldDescriptor> content = itemType.getObjectContentFacet();
+            for (String key : item.getKeys()) {
+                FieldDescriptor descriptor = content.get(key);
+                if (descriptor == null || !conforms(item.getItemByKey(key), descriptor.getType())) {
+                    return false;
+                }
+            }
+            for (FieldDescriptor descriptor : content.values()) {
+                if (descriptor.isRequired() && item.getItemByKey(descriptor.getName()) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (itemType.isArrayItemType()) {
+            if (!item.isArray()) {
+                return false;
+            }
+            for (Item member : item.getItems()) {
+                if (!conforms(member, itemType.getArrayContentFacet())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return itemType.equals(getAtomicType(item));
+    }
+
+    // returns the type of an atomic item as inferred, or null if it has no faithful DataFrame representation
+    private static ItemType getAtomicType(Item item) {
+        if (item.isString()) {
+            return BuiltinTypesCatalogue.stringItem;
+        }
+        if (item.isBoolean()) {
+            return BuiltinTypesCatalogue.booleanItem;
+        }
+        if (item.isDouble()) {
+            return BuiltinTypesCatalogue.doubleItem;
+        }
+        if (item.isInteger()) {
+            return item.getIntegerValue().bitLength() >= 64 ? null : BuiltinTypesCatalogue.longItem;
+        }
+        if (item.isDecimal()) {
+            BigDecimal value = item.getDecimalValue();
+            if (value.scale() > DECIMAL_SCALE || value.precision() - value.scale() > DECIMAL_INTEGER_DIGITS) {
+                return null;
+            }
+            return BuiltinTypesCatalogue.decimalItem;
+        }
+        return null;
+    }
+
+    private static ItemType inferItemType(List<String> lines, ExceptionMetadata metadata) {
+        InferredType result = null;
+        for (String line : lines) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            Item item;
+            try {
+                item = ItemParser.getItemFromString(line, metadata);
+            } catch (RumbleException e) {
+                // json-file() reports the malformed line when reading the file
+                return null;
+            }
+            if (!item.isObject()) {
+                return null;
+            }
+            result = InferredType.merge(result, InferredType.of(item));
+            if (result == null) {
+                return null;
+            }
+        }
+        if (result == null) {
+            return null;
+        }
+        return result.toItemType();
+    }
+
+    private static final class InferredType {
+
+        private enum Kind {
+            NULL,
+            ATOMIC,
+            OBJECT,
+            ARRAY
+        }
+
+        private final Kind kind;
+        private ItemType atomicType;
+        // for objects: the field types, the number of objects in which each field is present, and the number of
+        // objects
+        private Map<String, InferredType> fields;
+        private Map<String, Long> occurrences;
+        private long numberOfObjects;
+        // for arrays: the type of the members, or null if all arrays are empty
+        private InferredType memberType;
+
+        private InferredType(Kind kind) {
+            this.kind = kind;
+        }
+
+        static InferredType of(Item item) {
+            if (item.isNull()) {
+                return new InferredType(Kind.NULL);
+            }
+            if (item.isObject()) {
+                InferredType result = new InferredType(Kind.OBJECT);
+                result.fields = new LinkedHashMap<>();
+                result.occurrences = new LinkedHashMap<>();
+                result.numberOfObjects = 1;
+                for (String key : item.getKeys()) {
+                    InferredType fieldType = of(item.getItemByKey(key));
+                    if (fieldType == null) {
+                        return null;
+                    }
+                    result.fields.put(key, fieldType);
+                    result.occurrences.put(key, 1L);
+                }
+                return result;
+            }
+            if (item.isArray()) {
+                InferredType result = new InferredType(Kind.ARRAY);
+                for (Item member : item.getItems()) {
+                    if (member.isNull()) {
+                        return null;
+                    }
+                    InferredType memberType = of(member);
+                    result.memberType = merge(result.memberType, memberType);
+                    if (memberType == null || result.memberType == null) {
+                        return null;
+                    }
+                }
+                return result;
+            }
+            InferredType result = new InferredType(Kind.ATOMIC);
+            result.atomicType = getAtomicType(item);
+            return result.atomicType == null ? null : result;
+        }
+
+        /**
+         * Merges two inferred types.
+         *
+         * @param left the first type, or null for no type yet.
+         * @param right the second type.
+         * @return the merged type, or null if the types are not compatible.
+         */
+        static InferredType merge(InferredType left, InferredType right) {
+            if (left == null || right == null) {
+                return right;
+            }
+            if (left.kind != right.kind) {
+                return null;
+            }
+            switch (left.kind) {
+                case NULL:
+                    return left;
+                case ATOMIC:
+                    // numeric types are not promoted, as this would change the types of the items read from the
+                    // DataFrame
+                    return left.atomicType.equals(right.atomicType) ? left : null;
+                case ARRAY:
+                    if (left.memberType == null) {
+                        return right;
+                    }
+                    if (right.memberType == null) {
+                        return left;
+                    }
+                    left.memberType = merge(left.memberType, right.memberType);
+                    return left.memberType == null ? null : left;
+                default:
+                    for (Map.Entry<String, InferredType> field : right.fields.entrySet()) {
+                        InferredType fieldType = merge(left.fields.get(field.getKey()), field.getValue());
+                        if (fieldType == null) {
+                            return null;
+                        }
+                        left.fields.put(field.getKey(), fieldType);
+                        left.occurrences.merge(field.getKey(), right.occurrences.get(field.getKey()), Long::sum);
+                    }
+                    left.numberOfObjects += right.numberOfObjects;
+                    return left;
+            }
+        }
+
+        /**
+         * Converts the inferred type to a JSound item type.
+         *
+         * @return the item type, or null if the inferred type cannot be represented faithfully in a DataFrame.
+         */
+        ItemType toItemType() {
+            switch (this.kind) {
+                case NULL:
+                    return BuiltinTypesCatalogue.nullItem;
+                case ATOMIC:
+                    return this.atomicType;
+                case ARRAY:
+                    if (this.memberType == null) {
+                        // the members of arrays that are always empty in the sample are most likely strings
+                        return ItemTypeFactory.createAnonymousArrayItemType(BuiltinTypesCatalogue.stringItem);
+                    }
+                    ItemType memberItemType = this.memberType.toItemType();
+                    if (memberItemType == null) {
+                        return null;
+                    }
+                    return ItemTypeFactory.createAnonymousArrayItemType(memberItemType);
+                default:
+                    Map<String, FieldDescriptor> content = new LinkedHashMap<>();
+                    for (Map.Entry<String, InferredType> field : this.fields.entrySet()) {
+                        ItemType fieldType = field.getValue().toItemType();
+                        if (fieldType == null) {
+                            return null;
+                        }
+                        boolean required = this.occurrences.get(field.getKey()) == this.numberOfObjects;
+                        if (field.getValue().kind == Kind.NULL && !required) {
+                            return null;
+                        }
+                        FieldDescriptor descriptor = new FieldDescriptor();
+                        descriptor.setName(field.getKey());
+                        descriptor.setType(fieldType);
+                        descriptor.setRequired(field.getValue().kind == Kind.NULL);
+                        content.put(field.getKey(), descriptor);
+                    }
+                    if (content.isEmpty()) {
+                        // empty objects have no DataFrame representation
+                        return null;
+                    }
+                    return ItemTypeFactory.createAnonymousObjectItemType(content);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.functions.input;
+
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.exceptions.CannotRetrieveResourceException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Iterator;
+
+/**
+ * Reads a file line by line on the driver, for the local evaluation of the functions that read text files one line
+ * at a time.
+ */
+public class LocalLineReader {
+
+    private final InputStream is;
+    private final Iterator<String> lines;
+    private final ExceptionMetadata metadata;
+
+    public LocalLineReader(URI uri, RumbleRuntimeConfiguration configuration, ExceptionMetadata metadata) {
+        this.metadata = metadata;
+        this.is = FileSystemUtil.getDataInputStream(uri, configuration, metadata);
+        this.lines = new BufferedReader(new InputStreamReader(this.is)).lines().iterator();
+    }
+
+    public boolean hasNext() {
+        try {
+            return this.lines.hasNext();
+        } catch (UncheckedIOException e) {
+            throw ioException(e.getCause());
+        }
+    }
+
+    public String next() {
+        try {
+            return this.lines.next();
+        } catch (UncheckedIOException e) {
+            throw ioException(e.getCause());
+        }
+    }
+
+    public void close() {
+        try {
+            this.is.close();
+        } catch (IOException e) {
+            throw ioException(e);
+        }
+    }
+
+    private CannotRetrieveResourceException ioException(IOException cause) {
+        CannotRetrieveResourceException ex = new CannotRetrieveResourceException("I/O exception", this.metadata);
+        ex.initCause(cause);
+        return ex;
+    }
+}
@@ -25,9 +25,11 @@ import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.CannotRetrieveResourceException;
 import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.items.ItemFactory;
 import org.rumbledb.items.parsing.StringToStringItemMapper;
-import org.rumbledb.runtime.RDDRuntimeIterator;
+import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 
 import sparksoniq.spark.SparkSessionManager;
@@ -40,11 +42,13 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 
-public class UnparsedTextLinesFunctionIterator extends RDDRuntimeIterator {
+public class UnparsedTextLinesFunctionIterator extends HybridRuntimeIterator {
 
     private static final long serialVersionUID = 1L;
     public static final int MIN_PARTITIONS = 10;
 
+    private transient LocalLineReader reader;
+
     public UnparsedTextLinesFunctionIterator(
             List<RuntimeIterator> arguments,
             ExecutionMode executionMode,
@@ -120,4 +124,55 @@ public class UnparsedTextLinesFunctionIterator extends RDDRuntimeIterator {
         }
         return strings.mapPartitions(new StringToStringItemMapper());
     }
+
+    /**
+     * Local evaluation is only chosen by the execution mode visitor for small files, which are then read line by line
+     * on the driver without involving Spark.
+     */
+    @Override
+    protected void openLocal() {
+        Item url = this.children.get(0).materializeFirstItemOrNull(this.currentDynamicContextForLocalExecution);
+        if (url == null) {
+            this.hasNext = false;
+            return;
+        }
+        this.reader = new LocalLineReader(
+                FileSystemUtil.resolveURI(this.staticURI, url.getStringValue(), getMetadata()),
+                this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration(),
+                getMetadata()
+        );
+        this.hasNext = this.reader.hasNext();
+    }
+
+    @Override
+    protected void closeLocal() {
+        if (this.reader != null) {
+            this.reader.close();
+            this.reader = null;
+        }
+    }
+
+    @Override
+    protected void resetLocal() {
+        closeLocal();
+        openLocal();
+    }
+
+    @Override
+    protected boolean hasNextLocal() {
+        return this.hasNext;
+    }
+
+    @Override
+    protected Item nextLocal() {
+        if (!this.hasNext) {
+            throw new IteratorFlowException(
+                    RuntimeIterator.FLOW_EXCEPTION_MESSAGE + " unparsed-text-lines function",
+                    getMetadata()
+            );
+        }
+        Item result = ItemFactory.getInstance().createStringItem(this.reader.next());
+        this.hasNext = this.reader.hasNext();
+        return result;
+    }
 }
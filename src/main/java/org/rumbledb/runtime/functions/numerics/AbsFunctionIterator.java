@@ -28,6 +28,7 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.util.List;
 
@@ -69,4 +70,17 @@ public class AbsFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         }
         throw new OurBadException("Numeric value expected in abs()");
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        NativeClauseContext value = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        if (value == NativeClauseContext.NoNativeQuery || value.isNullAmbiguous()) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (value.getResultingType() == null || !value.getResultingType().isNumeric()) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        String resultingQuery = "ABS(" + value.getResultingQuery() + ")";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, value.getResultingType());
+    }
 }
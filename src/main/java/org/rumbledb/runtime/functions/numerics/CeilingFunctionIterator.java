@@ -28,6 +28,9 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.ItemType;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -98,5 +101,26 @@ public class CeilingFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     }
 
-
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        NativeClauseContext value = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        if (value == NativeClauseContext.NoNativeQuery || value.isNullAmbiguous() || value.getResultingType() == null) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        ItemType type = value.getResultingType();
+        String resultingQuery;
+        if (type.isSubtypeOf(BuiltinTypesCatalogue.integerItem)) {
+            resultingQuery = value.getResultingQuery();
+        } else if (type.equals(BuiltinTypesCatalogue.decimalItem)) {
+            resultingQuery = "CEIL(" + value.getResultingQuery() + ")";
+        } else if (type.equals(BuiltinTypesCatalogue.doubleItem)) {
+            // CEIL returns a long for doubles
+            resultingQuery = "( CAST (CEIL(" + value.getResultingQuery() + ") AS DOUBLE) )";
+        } else if (type.equals(BuiltinTypesCatalogue.floatItem)) {
+            resultingQuery = "( CAST (CEIL(" + value.getResultingQuery() + ") AS FLOAT) )";
+        } else {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, type);
+    }
 }
@@ -27,6 +27,9 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.util.List;
 
@@ -55,4 +58,21 @@ public class EmptyFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         }
         return ItemFactory.getInstance().createBooleanItem(false);
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        if (nativeClauseContext.getClauseType() == FLWOR_CLAUSES.FOR) {
+            // array unboxing in for clauses produces sequences
+            return NativeClauseContext.NoNativeQuery;
+        }
+        NativeClauseContext value = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        if (
+            value == NativeClauseContext.NoNativeQuery || value.isNullAmbiguous() || value.getResultingQuery().isEmpty()
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        // NULL object fields are absent
+        String resultingQuery = "( " + value.getResultingQuery() + " IS NULL )";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.booleanItem);
+    }
 }
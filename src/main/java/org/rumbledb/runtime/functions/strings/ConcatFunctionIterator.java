@@ -27,7 +27,10 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ConcatFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
@@ -58,4 +61,28 @@ public class ConcatFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         return ItemFactory.getInstance().createStringItem(builder.toString());
     }
 
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        List<String> arguments = new ArrayList<>();
+        for (RuntimeIterator iterator : this.children) {
+            NativeClauseContext value = iterator.generateNativeQuery(nativeClauseContext);
+            if (
+                value == NativeClauseContext.NoNativeQuery
+                    || value.isNullAmbiguous()
+                    || value.getResultingType() == null
+            ) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            // the empty sequence is treated as the empty string
+            if (value.getResultingType().equals(BuiltinTypesCatalogue.stringItem)) {
+                arguments.add("COALESCE(" + value.getResultingQuery() + ", \"\")");
+            } else if (value.getResultingType().isSubtypeOf(BuiltinTypesCatalogue.integerItem)) {
+                arguments.add("COALESCE(CAST(" + value.getResultingQuery() + " AS STRING), \"\")");
+            } else {
+                return NativeClauseContext.NoNativeQuery;
+            }
+        }
+        String resultingQuery = "CONCAT(" + String.join(", ", arguments) + ")";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.stringItem);
+    }
 }
@@ -28,6 +28,8 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.util.List;
 
@@ -69,4 +71,31 @@ public class ContainsFunctionIterator extends AtMostOneItemLocalRuntimeIterator
         return ItemFactory.getInstance().createBooleanItem(result);
     }
 
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        if (this.children.size() != 2) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        NativeClauseContext stringValue = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        NativeClauseContext substringValue = this.children.get(1).generateNativeQuery(nativeClauseContext);
+        if (
+            stringValue == NativeClauseContext.NoNativeQuery
+                || substringValue == NativeClauseContext.NoNativeQuery
+                || stringValue.isNullAmbiguous()
+                || substringValue.isNullAmbiguous()
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (
+            !BuiltinTypesCatalogue.stringItem.equals(stringValue.getResultingType())
+                || !BuiltinTypesCatalogue.stringItem.equals(substringValue.getResultingType())
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        // the empty sequence is treated as the empty string
+        String string = "COALESCE(" + stringValue.getResultingQuery() + ", \"\")";
+        String substring = "COALESCE(" + substringValue.getResultingQuery() + ", \"\")";
+        String resultingQuery = "( INSTR(" + string + ", " + substring + ") > 0 )";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.booleanItem);
+    }
 }
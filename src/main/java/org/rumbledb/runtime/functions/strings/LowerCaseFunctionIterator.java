@@ -27,6 +27,8 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.util.List;
 
@@ -55,4 +57,20 @@ public class LowerCaseFunctionIterator extends AtMostOneItemLocalRuntimeIterator
 
     }
 
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        if (this.children.size() != 1) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        NativeClauseContext value = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        if (value == NativeClauseContext.NoNativeQuery || value.isNullAmbiguous()) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (!BuiltinTypesCatalogue.stringItem.equals(value.getResultingType())) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        // the empty sequence is treated as the empty string
+        String resultingQuery = "LOWER(COALESCE(" + value.getResultingQuery() + ", \"\"))";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.stringItem);
+    }
 }
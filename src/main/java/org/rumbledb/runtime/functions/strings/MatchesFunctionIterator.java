@@ -27,14 +27,19 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 public class MatchesFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     private static final long serialVersionUID = 1L;
+    private String literalRegex;
+    private transient Pattern literalPattern;
 
     public MatchesFunctionIterator(
             List<RuntimeIterator> arguments,
@@ -42,21 +47,69 @@ public class MatchesFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
             ExceptionMetadata iteratorMetadata
     ) {
         super(arguments, executionMode, iteratorMetadata);
+        this.literalRegex = RegexCache.getLiteralRegex(this.children.get(1));
+        if (this.literalRegex != null) {
+            try {
+                this.literalPattern = RegexCache.getPattern(this.literalRegex);
+            } catch (PatternSyntaxException e) {
+                // the error is raised if the function is evaluated
+                this.literalRegex = null;
+            }
+        }
     }
 
-    @Override
-    public Item materializeFirstItemOrNull(DynamicContext context) {
+    private Pattern getPattern(DynamicContext context) {
+        if (this.literalRegex != null) {
+            if (this.literalPattern == null) {
+                this.literalPattern = RegexCache.getPattern(this.literalRegex);
+            }
+            return this.literalPattern;
+        }
         Item regexpItem = this.children.get(1)
             .materializeFirstItemOrNull(context);
+        return RegexCache.getPattern(regexpItem.getStringValue());
+    }
+
+    @Override
+    public Item materializeFirstItemOrNull(DynamicContext context) {
+        Pattern pattern = getPattern(context);
         Item stringItem = this.children.get(0)
             .materializeFirstItemOrNull(context);
         if (stringItem == null) {
             stringItem = ItemFactory.getInstance().createStringItem("");
         }
 
-        Matcher matcher = Pattern.compile(regexpItem.getStringValue()).matcher(stringItem.getStringValue());
+        Matcher matcher = pattern.matcher(stringItem.getStringValue());
         boolean result = matcher.find();
         return ItemFactory.getInstance().createBooleanItem(result);
 
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        if (this.children.size() != 2) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        NativeClauseContext stringValue = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        NativeClauseContext patternValue = this.children.get(1).generateNativeQuery(nativeClauseContext);
+        if (
+            stringValue == NativeClauseContext.NoNativeQuery
+                || patternValue == NativeClauseContext.NoNativeQuery
+                || stringValue.isNullAmbiguous()
+                || patternValue.isNullAmbiguous()
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (
+            !BuiltinTypesCatalogue.stringItem.equals(stringValue.getResultingType())
+                || !BuiltinTypesCatalogue.stringItem.equals(patternValue.getResultingType())
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        // the empty sequence is treated as the empty string
+        String string = "COALESCE(" + stringValue.getResultingQuery() + ", \"\")";
+        // like matches(), RLIKE uses Java regular expressions and looks for a match anywhere in the string
+        String resultingQuery = "( " + string + " RLIKE " + patternValue.getResultingQuery() + " )";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.booleanItem);
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.functions.strings;
+
+import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.primary.StringRuntimeIterator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Bounded cache of compiled regular expressions, shared by the regex functions of all the iterators (and all the
+ * tasks of an executor), so that a pattern computed for each tuple is not compiled again for each tuple.
+ *
+ * The cache is cleared when it is full, which keeps lookups lock-free and is good enough for the usual case of a
+ * few distinct patterns per query.
+ */
+final class RegexCache {
+
+    private static final int MAXIMUM_SIZE = 1024;
+    private static final Map<Key, Pattern> patterns = new ConcurrentHashMap<>();
+
+    private RegexCache() {
+    }
+
+    /**
+     * Returns the compiled pattern for a regular expression.
+     *
+     * @param regex the regular expression.
+     * @return the compiled pattern.
+     * @throws PatternSyntaxException if the regular expression is invalid.
+     */
+    static Pattern getPattern(String regex) {
+        return getPattern(regex, 0);
+    }
+
+    /**
+     * Returns the compiled pattern for a regular expression and a combination of flags.
+     *
+     * @param regex the regular expression.
+     * @param flags the flags of {@link Pattern#compile(String, int)}.
+     * @return the compiled pattern.
+     * @throws PatternSyntaxException if the regular expression is invalid.
+     */
+    static Pattern getPattern(String regex, int flags) {
+        Key key = new Key(regex, flags);
+        Pattern pattern = patterns.get(key);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex, flags);
+            if (patterns.size() >= MAXIMUM_SIZE) {
+                patterns.clear();
+            }
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Returns the regular expression passed to a regex function as a string literal, which can be compiled once when
+     * the iterator is created.
+     *
+     * @param argument the iterator of the regex argument.
+     * @return the literal regular expression, or null if the argument is not a string literal.
+     */
+    static String getLiteralRegex(RuntimeIterator argument) {
+        if (!(argument instanceof StringRuntimeIterator)) {
+            return null;
+        }
+        return argument.materializeFirstItemOrNull(null).getStringValue();
+    }
+
+    private static final class Key {
+        private final String regex;
+        private final int flags;
+
+        private Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return this.flags == otherKey.flags && this.regex.equals(otherKey.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.regex.hashCode() + this.flags;
+        }
+    }
+}
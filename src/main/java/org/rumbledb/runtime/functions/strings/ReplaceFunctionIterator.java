@@ -39,6 +39,8 @@ import java.util.regex.PatternSyntaxException;
 public class ReplaceFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     private static final long serialVersionUID = 1L;
+    private String literalRegex;
+    private transient Pattern literalPattern;
 
     public ReplaceFunctionIterator(
             List<RuntimeIterator> arguments,
@@ -46,6 +48,32 @@ public class ReplaceFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
             ExceptionMetadata iteratorMetadata
     ) {
         super(arguments, executionMode, iteratorMetadata);
+        this.literalRegex = RegexCache.getLiteralRegex(this.children.get(1));
+        if (this.literalRegex != null) {
+            try {
+                this.literalPattern = RegexCache.getPattern(this.literalRegex);
+            } catch (PatternSyntaxException e) {
+                // the error is raised if the function is evaluated
+                this.literalRegex = null;
+            }
+        }
+    }
+
+    private Pattern getPattern(String pattern) {
+        if (this.literalRegex != null) {
+            if (this.literalPattern == null) {
+                this.literalPattern = RegexCache.getPattern(this.literalRegex);
+            }
+            return this.literalPattern;
+        }
+        try {
+            return RegexCache.getPattern(pattern);
+        } catch (PatternSyntaxException e) {
+            throw new InvalidRegexPatternException(
+                    e.getDescription(),
+                    getMetadata()
+            );
+        }
     }
 
     @Override
@@ -59,17 +87,8 @@ public class ReplaceFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
             return null;
         }
         String pattern = patternStringItem.getStringValue();
-        Pattern p;
-
-        try {
-            p = Pattern.compile(pattern);
-        } catch (PatternSyntaxException e) {
-            throw new InvalidRegexPatternException(
-                    e.getDescription(),
-                    getMetadata()
-            );
-        }
-        if ("".matches(pattern)) {
+        Pattern p = getPattern(pattern);
+        if (p.matcher("").matches()) {
             throw new MatchesEmptyStringException(
                     "'" + pattern + "' matches empty string",
                     getMetadata()
@@ -100,8 +119,6 @@ public class ReplaceFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     private static boolean checkReplacementStringForValidity(String repl) {
         int i = 0;
-        Pattern p = Pattern.compile("\\d");
-
         while (i < repl.length()) {
             if (repl.charAt(i) == '\\') { // '\' must be followed by another '\' or '$'
                 if ((!(repl.charAt(i + 1) == '\\')) && (!(repl.charAt(i + 1) == '$'))) {
@@ -109,7 +126,7 @@ public class ReplaceFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
                 }
                 i += 2;
             } else if (repl.charAt(i) == '$') { // '$' must always be followed by a digit
-                if ((i + 1 >= repl.length()) || !(p.matcher(String.valueOf(repl.charAt(i + 1))).matches())) {
+                if ((i + 1 >= repl.length()) || !isDigit(repl.charAt(i + 1))) {
                     return false;
                 }
                 i += 2;
@@ -119,4 +136,9 @@ public class ReplaceFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         }
         return true;
     }
+
+    // same as \d in Java regular expressions
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
@@ -28,6 +28,8 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 import java.util.List;
 
@@ -69,4 +71,31 @@ public class StartsWithFunctionIterator extends AtMostOneItemLocalRuntimeIterato
         return ItemFactory.getInstance().createBooleanItem(result);
     }
 
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        if (this.children.size() != 2) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        NativeClauseContext stringValue = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        NativeClauseContext prefixValue = this.children.get(1).generateNativeQuery(nativeClauseContext);
+        if (
+            stringValue == NativeClauseContext.NoNativeQuery
+                || prefixValue == NativeClauseContext.NoNativeQuery
+                || stringValue.isNullAmbiguous()
+                || prefixValue.isNullAmbiguous()
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (
+            !BuiltinTypesCatalogue.stringItem.equals(stringValue.getResultingType())
+                || !BuiltinTypesCatalogue.stringItem.equals(prefixValue.getResultingType())
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        // the empty sequence is treated as the empty string
+        String string = "COALESCE(" + stringValue.getResultingQuery() + ", \"\")";
+        String prefix = "COALESCE(" + prefixValue.getResultingQuery() + ", \"\")";
+        String resultingQuery = "( LEFT(" + string + ", LENGTH(" + prefix + ")) = " + prefix + " )";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.booleanItem);
+    }
 }
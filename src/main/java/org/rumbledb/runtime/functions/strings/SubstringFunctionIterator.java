@@ -28,7 +28,10 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class SubstringFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
@@ -78,7 +81,7 @@ public class SubstringFunctionIterator extends AtMostOneItemLocalRuntimeIterator
             }
             result = stringItem.getStringValue().substring(Math.max(index, 0), (int) Math.round(endIndex));
         } else {
-            result = stringItem.getStringValue().substring(index);
+            result = stringItem.getStringValue().substring(Math.max(index, 0));
         }
 
         return ItemFactory.getInstance().createStringItem(result);
@@ -88,4 +91,42 @@ public class SubstringFunctionIterator extends AtMostOneItemLocalRuntimeIterator
         // char indexing starts from 1 in JSONiq
         return Math.min(stringItem.getStringValue().length(), startIndex + endIndexItem.getDoubleValue());
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        List<NativeClauseContext> values = new ArrayList<>();
+        for (RuntimeIterator iterator : this.children) {
+            NativeClauseContext value = iterator.generateNativeQuery(nativeClauseContext);
+            if (
+                value == NativeClauseContext.NoNativeQuery
+                    || value.isNullAmbiguous()
+                    || value.getResultingType() == null
+            ) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            values.add(value);
+        }
+        if (!values.get(0).getResultingType().equals(BuiltinTypesCatalogue.stringItem)) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        List<String> positions = new ArrayList<>();
+        for (int i = 1; i < values.size(); i++) {
+            if (!values.get(i).getResultingType().isNumeric()) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            // positions are rounded half up
+            positions.add("CAST (FLOOR(" + values.get(i).getResultingQuery() + " + 0.5) AS INT)");
+        }
+        // the characters at positions p with start <= p < start + length are kept, also if start is below 1
+        String string = "COALESCE(" + values.get(0).getResultingQuery() + ", \"\")";
+        String start = "GREATEST(" + positions.get(0) + ", 1)";
+        String resultingQuery;
+        if (positions.size() == 1) {
+            resultingQuery = "SUBSTRING(" + string + ", " + start + ")";
+        } else {
+            String end = "GREATEST(" + positions.get(0) + " + " + positions.get(1) + ", 1)";
+            resultingQuery = "SUBSTRING(" + string + ", " + start + ", GREATEST(" + end + " - " + start + ", 0))";
+        }
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.stringItem);
+    }
 }
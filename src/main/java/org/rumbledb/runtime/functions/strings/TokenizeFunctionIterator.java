@@ -31,14 +31,20 @@ import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.functions.base.LocalFunctionCallIterator;
 
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 public class TokenizeFunctionIterator extends LocalFunctionCallIterator {
 
     private static final long serialVersionUID = 1L;
+    private static final String WHITESPACE_SEPARATOR = "\\s+";
     private String[] results;
     private Item nextResult;
     private int currentPosition;
     private boolean lastEmptyString;
+    private String literalSeparator;
+    private transient Pattern literalSeparatorPattern;
+    private transient Pattern literalTrailingSeparatorPattern;
 
     public TokenizeFunctionIterator(
             List<RuntimeIterator> arguments,
@@ -46,6 +52,27 @@ public class TokenizeFunctionIterator extends LocalFunctionCallIterator {
             ExceptionMetadata iteratorMetadata
     ) {
         super(arguments, executionMode, iteratorMetadata);
+        this.literalSeparator = this.children.size() == 1
+            ? WHITESPACE_SEPARATOR
+            : RegexCache.getLiteralRegex(this.children.get(1));
+        if (this.literalSeparator != null) {
+            try {
+                compileLiteralSeparator();
+            } catch (PatternSyntaxException e) {
+                // the error is raised if the function is evaluated
+                this.literalSeparator = null;
+            }
+        }
+    }
+
+    private void compileLiteralSeparator() {
+        this.literalSeparatorPattern = RegexCache.getPattern(this.literalSeparator);
+        this.literalTrailingSeparatorPattern = RegexCache.getPattern(getTrailingSeparatorRegex(this.literalSeparator));
+    }
+
+    // matches the inputs that end with a separator, which are followed by an empty token
+    private static String getTrailingSeparatorRegex(String separator) {
+        return ".*" + separator + "$";
     }
 
     @Override
@@ -80,8 +107,14 @@ public class TokenizeFunctionIterator extends LocalFunctionCallIterator {
             input = stringItem.getStringValue();
 
             // Getting second parameter
-            if (this.children.size() == 1) {
-                separator = "\\s+";
+            Pattern separatorPattern;
+            Pattern trailingSeparatorPattern;
+            if (this.literalSeparator != null) {
+                if (this.literalSeparatorPattern == null) {
+                    compileLiteralSeparator();
+                }
+                separatorPattern = this.literalSeparatorPattern;
+                trailingSeparatorPattern = this.literalTrailingSeparatorPattern;
             } else {
                 RuntimeIterator separatorIterator = this.children.get(1);
                 separatorIterator.open(this.currentDynamicContextForLocalExecution);
@@ -101,13 +134,15 @@ public class TokenizeFunctionIterator extends LocalFunctionCallIterator {
                 } catch (Exception e) {
                     throw new UnexpectedTypeException("Second parameter of tokenize must be a string.", getMetadata());
                 }
+                separatorPattern = RegexCache.getPattern(separator);
+                trailingSeparatorPattern = RegexCache.getPattern(getTrailingSeparatorRegex(separator));
             }
-            this.results = input.split(separator);
+            this.results = separatorPattern.split(input);
             this.currentPosition = 0;
             if (this.children.size() == 1 && this.results.length != 0 && this.results[0].equals("")) {
                 this.currentPosition++;
             }
-            this.lastEmptyString = this.children.size() == 2 && input.matches(".*" + separator + "$");
+            this.lastEmptyString = this.children.size() == 2 && trailingSeparatorPattern.matcher(input).matches();
         }
         if (this.currentPosition < this.results.length) {
             this.nextResult = ItemFactory.getInstance().createStringItem(this.results[this.currentPosition]);
@@ -20,11 +20,13 @@
 
 package org.rumbledb.runtime.misc;
 
-import org.joda.time.DateTime;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.StructType;
 import org.joda.time.Instant;
 import org.joda.time.Period;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.Name;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.exceptions.MoreThanOneItemException;
@@ -36,8 +38,13 @@ import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperat
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.SharedValueIterator;
+import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
+import org.rumbledb.runtime.navigation.ArrayUnboxingIterator;
+import org.rumbledb.runtime.primary.VariableReferenceIterator;
 import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.types.ItemType;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -49,11 +56,18 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
 
 
     private static final long serialVersionUID = 1L;
+    // general equality comparisons against local sequences of at least this many items use a hash index
+    private static final int INDEX_THRESHOLD = 64;
+    // general equality comparisons against local sequences of at most this many items are executed with a native IN
+    private static final int NATIVE_IN_LIST_MAXIMUM_SIZE = 10000;
     private Item left;
     private Item right;
     private ComparisonExpression.ComparisonOperator comparisonOperator;
     private RuntimeIterator leftIterator;
     private RuntimeIterator rightIterator;
+    private transient List<Item> previousSequence;
+    private transient List<Item> indexedSequence;
+    private transient EqualityHashIndex index;
 
 
     public ComparisonIterator(
@@ -125,6 +139,13 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
             return valueComparison(this.left, this.right);
         }
 
+        if (this.comparisonOperator.equals(ComparisonOperator.GC_EQ)) {
+            Item result = indexedGeneralEquality(dynamicContext);
+            if (result != null) {
+                return result;
+            }
+        }
+
         // fetch all values and perform comparison
         List<Item> left = this.leftIterator.materialize(dynamicContext);
         List<Item> right = this.rightIterator.materialize(dynamicContext);
@@ -151,6 +172,97 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
         return ItemFactory.getInstance().createBooleanItem(false);
     }
 
+    /**
+     * Evaluates a general equality comparison against a large local sequence that is the same for many evaluations of
+     * this comparison (such as a lookup list bound outside of the FLWOR expression evaluating it) with a hash index of
+     * this sequence. The index is built the second time the same sequence is seen, and kept as long as it is the same.
+     *
+     * @param dynamicContext the dynamic context.
+     * @return the result of the comparison, or null if it must be evaluated pair by pair.
+     */
+    private Item indexedGeneralEquality(DynamicContext dynamicContext) {
+        boolean indexOnRight = true;
+        List<Item> sequence = getLocalVariableSequence(this.rightIterator, dynamicContext);
+        if (sequence == null || sequence.size() < INDEX_THRESHOLD) {
+            indexOnRight = false;
+            sequence = getLocalVariableSequence(this.leftIterator, dynamicContext);
+            if (sequence == null || sequence.size() < INDEX_THRESHOLD) {
+                return null;
+            }
+        }
+        EqualityHashIndex sequenceIndex = getIndex(sequence);
+        if (sequenceIndex == null) {
+            return null;
+        }
+        List<Item> others = indexOnRight
+            ? this.leftIterator.materialize(dynamicContext)
+            : this.rightIterator.materialize(dynamicContext);
+        for (Item other : others) {
+            if (!sequenceIndex.canLookUp(other)) {
+                // the comparison may fail on a type error, which must be raised as without the index
+                return indexOnRight ? generalComparison(others, sequence) : generalComparison(sequence, others);
+            }
+        }
+        for (Item other : others) {
+            if (sequenceIndex.contains(other)) {
+                return ItemFactory.getInstance().createBooleanItem(true);
+            }
+        }
+        return ItemFactory.getInstance().createBooleanItem(false);
+    }
+
+    private EqualityHashIndex getIndex(List<Item> sequence) {
+        if (sequence == this.indexedSequence) {
+            return this.index;
+        }
+        if (sequence != this.previousSequence) {
+            this.previousSequence = sequence;
+            return null;
+        }
+        this.indexedSequence = sequence;
+        this.index = EqualityHashIndex.build(sequence);
+        return this.index;
+    }
+
+    /**
+     * Gets the value of a local variable (for $v) or the members of an array bound to a local variable (for $v[]),
+     * without copying it, so that its identity tells whether it is the same sequence as for a previous evaluation.
+     *
+     * @param iterator an operand of the comparison.
+     * @param dynamicContext the dynamic context.
+     * @return the sequence, or null if the operand is not a local variable (or the members of a local variable).
+     */
+    private List<Item> getLocalVariableSequence(RuntimeIterator iterator, DynamicContext dynamicContext) {
+        iterator = unwrapSharedValue(iterator);
+        boolean unboxed = false;
+        if (iterator instanceof ArrayUnboxingIterator) {
+            iterator = unwrapSharedValue(((ArrayUnboxingIterator) iterator).getArrayIterator());
+            unboxed = true;
+        }
+        if (!(iterator instanceof VariableReferenceIterator) || iterator.isRDDOrDataFrame()) {
+            return null;
+        }
+        Name variableName = ((VariableReferenceIterator) iterator).getVariableName();
+        if (!dynamicContext.getVariableValues().contains(variableName)) {
+            return null;
+        }
+        List<Item> items = dynamicContext.getVariableValues().getLocalVariableValue(variableName, getMetadata());
+        if (!unboxed) {
+            return items;
+        }
+        if (items.size() != 1 || !items.get(0).isArray()) {
+            return null;
+        }
+        return items.get(0).getItems();
+    }
+
+    private static RuntimeIterator unwrapSharedValue(RuntimeIterator iterator) {
+        while (iterator instanceof SharedValueIterator) {
+            iterator = ((SharedValueIterator) iterator).getIterator();
+        }
+        return iterator;
+    }
+
     private Item valueComparison(Item left, Item right) {
 
         if (left.isArray() || right.isArray()) {
@@ -322,43 +434,43 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
             return processBytes(l, r);
         }
         if (left.isDate() && right.isDate()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isTime() && right.isTime()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isDateTime() && right.isDateTime()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isGDay() && right.isGDay()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isGMonth() && right.isGMonth()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isGYear() && right.isGYear()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isGMonthDay() && right.isGMonthDay()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isGYearMonth() && right.isGYearMonth()) {
-            DateTime l = left.getDateTimeValue();
-            DateTime r = right.getDateTimeValue();
+            long l = left.getEpochMillis();
+            long r = right.getEpochMillis();
             return processDateTime(l, r);
         }
         if (left.isBoolean() && right.isBoolean()) {
@@ -447,10 +559,10 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
     }
 
     private static int processDateTime(
-            DateTime l,
-            DateTime r
+            long l,
+            long r
     ) {
-        return l.compareTo(r);
+        return Long.compare(l, r);
     }
 
     private static int processBoolean(
@@ -572,8 +684,80 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
             }
             String query = "( " + leftResult.getResultingQuery() + operator + rightResult.getResultingQuery() + " )";
             return new NativeClauseContext(nativeClauseContext, query, BuiltinTypesCatalogue.booleanItem);
+        } else if (this.comparisonOperator.equals(ComparisonOperator.GC_EQ)) {
+            NativeClauseContext result = generateNativeMembershipQuery(
+                nativeClauseContext,
+                this.leftIterator,
+                this.rightIterator
+            );
+            if (result == NativeClauseContext.NoNativeQuery) {
+                result = generateNativeMembershipQuery(nativeClauseContext, this.rightIterator, this.leftIterator);
+            }
+            return result;
         } else {
             return NativeClauseContext.NoNativeQuery;
         }
     }
+
+    /**
+     * Generates an IN predicate for a general equality comparison between a value computed natively and a local
+     * sequence of atomic items (which Spark evaluates with a hash set).
+     *
+     * @param nativeClauseContext the context.
+     * @param valueIterator the operand computed natively.
+     * @param sequenceIterator the operand that is a local variable (or the members of a local variable).
+     * @return the native query, or NoNativeQuery.
+     */
+    private NativeClauseContext generateNativeMembershipQuery(
+            NativeClauseContext nativeClauseContext,
+            RuntimeIterator valueIterator,
+            RuntimeIterator sequenceIterator
+    ) {
+        DataType schema = nativeClauseContext.getSchema();
+        RuntimeIterator variableIterator = unwrapSharedValue(sequenceIterator);
+        if (variableIterator instanceof ArrayUnboxingIterator) {
+            variableIterator = unwrapSharedValue(((ArrayUnboxingIterator) variableIterator).getArrayIterator());
+        }
+        if (
+            !(schema instanceof StructType)
+                || !(variableIterator instanceof VariableReferenceIterator)
+                || FlworDataFrameUtils.hasColumnForVariable(
+                    (StructType) schema,
+                    ((VariableReferenceIterator) variableIterator).getVariableName()
+                )
+        ) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        List<Item> items = getLocalVariableSequence(sequenceIterator, nativeClauseContext.getContext());
+        if (items == null || items.isEmpty() || items.size() > NATIVE_IN_LIST_MAXIMUM_SIZE) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        NativeClauseContext valueResult = valueIterator.generateNativeQuery(nativeClauseContext);
+        if (valueResult == NativeClauseContext.NoNativeQuery || valueResult.getResultingType() == null) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        ItemType valueType = valueResult.getResultingType();
+        StringBuilder literals = new StringBuilder();
+        for (Item item : items) {
+            if (!item.isAtomic() || item.isNull()) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            NativeClauseContext itemResult = item.generateNativeQuery(nativeClauseContext);
+            if (
+                itemResult == NativeClauseContext.NoNativeQuery
+                    || itemResult.getResultingType() == null
+                    || !(valueType.isNumeric() && itemResult.getResultingType().isNumeric()
+                        || valueType == itemResult.getResultingType())
+            ) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            if (literals.length() > 0) {
+                literals.append(", ");
+            }
+            literals.append(itemResult.getResultingQuery());
+        }
+        // an absent or null value is equal to none of the items
+        String query = "( COALESCE(" + valueResult.getResultingQuery() + " IN (" + literals + "), false) )";
+        return new NativeClauseContext(nativeClauseContext, query, BuiltinTypesCatalogue.booleanItem);
+    }
 }
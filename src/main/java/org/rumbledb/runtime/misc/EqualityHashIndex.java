@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.misc;
+
+import org.rumbledb.api.Item;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A hash set of the atomic items of a sequence, with which a general equality comparison (=) against this sequence is
+ * evaluated with one lookup per item of the other side instead of one comparison per pair of items.
+ *
+ * The index is only built for sequences whose non-null items are all strings, all booleans, all decimals (including
+ * integers) or all doubles, and only answers for items that compare to all of them without a type error, with keys
+ * that are equal exactly when ComparisonIterator.compareItems returns 0: decimals are compared by value regardless of
+ * their scale, and doubles as doubles, with 0 equal to -0 and NaN equal to nothing. Other items must be compared one
+ * by one, so that the same errors are raised.
+ */
+final class EqualityHashIndex {
+
+    private enum Kind {
+        STRING,
+        BOOLEAN,
+        DECIMAL,
+        DOUBLE
+    }
+
+    private final Kind kind;
+    private final Set<Object> keys;
+    private final boolean containsNull;
+
+    private EqualityHashIndex(Kind kind, Set<Object> keys, boolean containsNull) {
+        this.kind = kind;
+        this.keys = keys;
+        this.containsNull = containsNull;
+    }
+
+    /**
+     * Builds the index of a sequence.
+     *
+     * @param items the items of the sequence.
+     * @return the index, or null if the sequence cannot be indexed.
+     */
+    static EqualityHashIndex build(List<Item> items) {
+        Kind kind = null;
+        Set<Object> keys = new HashSet<>();
+        boolean containsNull = false;
+        for (Item item : items) {
+            if (item.isNull()) {
+                containsNull = true;
+                continue;
+            }
+            Kind itemKind = getKind(item);
+            if (itemKind == null || (kind != null && kind != itemKind)) {
+                return null;
+            }
+            kind = itemKind;
+            Object key = getKey(item, kind);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return new EqualityHashIndex(kind, keys, containsNull);
+    }
+
+    /**
+     * Checks whether the index can tell if an item is equal to an item of the sequence.
+     *
+     * @param item an item of the other side of the comparison.
+     * @return true if the item can be looked up.
+     */
+    boolean canLookUp(Item item) {
+        if (item.isNull()) {
+            return true;
+        }
+        if (!item.isAtomic()) {
+            return false;
+        }
+        if (this.kind == null) {
+            // the sequence only contains nulls, to which any atomic item compares
+            return true;
+        }
+        if (this.kind == Kind.DOUBLE) {
+            // any numeric item is compared to a double as a double
+            return item.isNumeric();
+        }
+        return getKind(item) == this.kind;
+    }
+
+    /**
+     * Checks whether an item is equal to an item of the sequence. The item must be accepted by canLookUp.
+     *
+     * @param item an item of the other side of the comparison.
+     * @return true if the sequence contains an equal item.
+     */
+    boolean contains(Item item) {
+        if (item.isNull()) {
+            return this.containsNull;
+        }
+        if (this.kind == null) {
+            return false;
+        }
+        Object key = getKey(item, this.kind);
+        return key != null && this.keys.contains(key);
+    }
+
+    private static Kind getKind(Item item) {
+        if (item.isString()) {
+            return Kind.STRING;
+        }
+        if (item.isBoolean()) {
+            return Kind.BOOLEAN;
+        }
+        if (item.isDecimal()) {
+            return Kind.DECIMAL;
+        }
+        if (item.isDouble()) {
+            return Kind.DOUBLE;
+        }
+        return null;
+    }
+
+    // returns null for items that are equal to nothing (NaN)
+    private static Object getKey(Item item, Kind kind) {
+        switch (kind) {
+            case STRING:
+                return item.getStringValue();
+            case BOOLEAN:
+                return item.getBooleanValue();
+            case DECIMAL:
+                return item.getDecimalValue().stripTrailingZeros();
+            default:
+                double value = item.isDouble() ? item.getDoubleValue() : item.castToDoubleValue();
+                if (Double.isNaN(value)) {
+                    return null;
+                }
+                return value == 0d ? 0d : value;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Arrays;
 
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.QueryCancellation;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.exceptions.UnexpectedTypeException;
@@ -63,6 +64,10 @@ public class RangeOperationIterator extends LocalRuntimeIterator {
             if (this.index == this.right) {
                 this.hasNext = false;
             }
+            // long ranges stop when the query is cancelled, checked every 1024 items
+            if ((this.index & 1023) == 0) {
+                QueryCancellation.checkCurrentQuery(getMetadata());
+            }
             return ItemFactory.getInstance().createIntItem(this.index++);
         }
         throw new IteratorFlowException("Invalid next call in Range Operation", getMetadata());
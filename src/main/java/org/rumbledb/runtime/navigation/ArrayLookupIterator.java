@@ -189,6 +189,8 @@ public class ArrayLookupIterator extends HybridRuntimeIterator {
             newContext.setSchema(arraySchema.elementType());
             newContext.setResultingType(FlworDataFrameUtils.mapToJsoniqType(arraySchema.elementType()));
             newContext.setResultingQuery(newContext.getResultingQuery() + "[" + (this.lookup - 1) + "]");
+            // out of bounds, the member is NULL as well
+            newContext.setNullAmbiguous(true);
         }
         return newContext;
     }
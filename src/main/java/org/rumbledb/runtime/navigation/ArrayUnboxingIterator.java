@@ -60,6 +60,10 @@ public class ArrayUnboxingIterator extends HybridRuntimeIterator {
         this.iterator = arrayIterator;
     }
 
+    public RuntimeIterator getArrayIterator() {
+        return this.iterator;
+    }
+
     @Override
     public void openLocal() {
         this.iterator.open(this.currentDynamicContextForLocalExecution);
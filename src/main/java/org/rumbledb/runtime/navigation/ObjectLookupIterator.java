@@ -263,6 +263,7 @@ public class ObjectLookupIterator extends HybridRuntimeIterator {
                 StructField field = structSchema.fields()[structSchema.fieldIndex(key)];
                 newContext.setSchema(field.dataType());
                 newContext.setResultingType(FlworDataFrameUtils.mapToJsoniqType(field.dataType()));
+                newContext.setNullAmbiguous(false);
             } else {
                 if (this.children.get(1) instanceof StringRuntimeIterator) {
                     throw new UnexpectedStaticTypeException(
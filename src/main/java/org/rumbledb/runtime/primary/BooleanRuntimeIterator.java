@@ -26,6 +26,7 @@ import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 
 public class BooleanRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
 
@@ -42,5 +43,10 @@ public class BooleanRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
     public Item materializeFirstItemOrNull(DynamicContext context) {
         return this.item;
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        return this.item.generateNativeQuery(nativeClauseContext);
+    }
 }
 
@@ -24,15 +24,22 @@ import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.IteratorFlowException;
+import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.exceptions.UnexpectedTypeException;
 import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.items.ObjectItem;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
+import org.rumbledb.types.BuiltinTypesCatalogue;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class ObjectConstructorRuntimeIterator extends AtMostOneItemLocalRuntimeIterator {
 
@@ -127,4 +134,48 @@ public class ObjectConstructorRuntimeIterator extends AtMostOneItemLocalRuntimeI
                 .createObjectItem(keys, values, getMetadata());
         }
     }
+
+    /**
+     * Translates the object into a Spark SQL struct. This is only done for return clauses: in a struct, a NULL field
+     * stands for an absent key when converted back to an object, whereas a value evaluating to the empty sequence
+     * would give a null value in the constructed object.
+     */
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        if (this.isMergedObject || nativeClauseContext.getClauseType() != FLWOR_CLAUSES.RETURN) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        List<String> fields = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < this.keys.size(); ++i) {
+            RuntimeIterator keyIterator = this.keys.get(i);
+            if (!keyIterator.getVariableDependencies().isEmpty()) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            List<Item> key;
+            try {
+                key = keyIterator.materialize(nativeClauseContext.getContext());
+            } catch (RumbleException e) {
+                // the error is raised again when the clause falls back to materializing the objects
+                return NativeClauseContext.NoNativeQuery;
+            }
+            if (key.size() != 1 || !key.get(0).isString() || !keys.add(key.get(0).getStringValue())) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            NativeClauseContext value = this.values.get(i).generateNativeQuery(nativeClauseContext);
+            if (value == NativeClauseContext.NoNativeQuery || !value.getLateralViewPart().isEmpty()) {
+                return NativeClauseContext.NoNativeQuery;
+            }
+            fields.add(FlworDataFrameUtils.getSQLStringLiteral(key.get(0).getStringValue()));
+            fields.add(value.getResultingQuery());
+        }
+        if (fields.isEmpty()) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        return new NativeClauseContext(
+                nativeClauseContext,
+                "named_struct(" + String.join(", ", fields) + ")",
+                BuiltinTypesCatalogue.objectItem
+        );
+    }
 }
@@ -114,6 +114,7 @@ public class VariableReferenceIterator extends HybridRuntimeIterator {
                 variableType
         );
         newContext.setSchema(fieldType);
+        newContext.setNullAmbiguous(field.nullable());
         return newContext;
     }
 
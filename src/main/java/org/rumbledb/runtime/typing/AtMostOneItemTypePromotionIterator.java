@@ -1,5 +1,6 @@
 package org.rumbledb.runtime.typing;
 
+import org.apache.spark.sql.types.ArrayType;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -125,6 +126,28 @@ public class AtMostOneItemTypePromotionIterator extends AtMostOneItemLocalRuntim
         if (value.equals(NativeClauseContext.NoNativeQuery)) {
             return NativeClauseContext.NoNativeQuery;
         }
+        if (value.getResultingType() == null) {
+            // arrays are passed as they are
+            if (value.getSchema() instanceof ArrayType && this.itemType.equals(BuiltinTypesCatalogue.arrayItem)) {
+                return value;
+            }
+            return NativeClauseContext.NoNativeQuery;
+        }
+        if (value.getResultingType().isSubtypeOf(this.itemType)) {
+            // no promotion needed
+            return value;
+        }
+        if (
+            value.getResultingType().isNumeric()
+                && !value.getResultingType().equals(BuiltinTypesCatalogue.floatItem)
+                && this.itemType.equals(BuiltinTypesCatalogue.doubleItem)
+        ) {
+            return new NativeClauseContext(
+                    value,
+                    "CAST (" + value.getResultingQuery() + " AS DOUBLE)",
+                    BuiltinTypesCatalogue.doubleItem
+            );
+        }
         if (!value.getResultingType().equals(BuiltinTypesCatalogue.floatItem)) {
             return NativeClauseContext.NoNativeQuery;
         }
@@ -43,6 +43,7 @@ public class InstanceOfIterator extends AtMostOneItemLocalRuntimeIterator {
     private static final long serialVersionUID = 1L;
     private final RuntimeIterator child;
     private final SequenceType sequenceType;
+    private ItemTypeValidator userDefinedTypeValidator;
 
     public InstanceOfIterator(
             RuntimeIterator child,
@@ -79,11 +80,12 @@ public class InstanceOfIterator extends AtMostOneItemLocalRuntimeIterator {
             }
 
             ItemType itemType = this.sequenceType.getItemType();
+            ItemTypeValidator validator = getUserDefinedTypeValidator();
             for (Item item : items) {
                 if (item != null && !item.getDynamicType().isResolved()) {
                     item.getDynamicType().resolve(dynamicContext, getMetadata());
                 }
-                if (!doesItemTypeMatchItem(itemType, item)) {
+                if (validator != null ? !validator.isInstance(item) : !doesItemTypeMatchItem(itemType, item)) {
                     return ItemFactory.getInstance().createBooleanItem(false);
                 }
             }
@@ -105,10 +107,25 @@ public class InstanceOfIterator extends AtMostOneItemLocalRuntimeIterator {
             return ItemFactory.getInstance().createBooleanItem(false);
         }
 
-        JavaRDD<Item> result = childRDD.filter(new InstanceOfClosure(this.sequenceType.getItemType()));
+        ItemTypeValidator validator = getUserDefinedTypeValidator();
+        JavaRDD<Item> result = validator != null
+            ? childRDD.filter(item -> !validator.isInstance(item))
+            : childRDD.filter(new InstanceOfClosure(this.sequenceType.getItemType()));
         return ItemFactory.getInstance().createBooleanItem(result.isEmpty());
     }
 
+    /**
+     * Returns the validator compiled from the (resolved) user-defined item type, if any.
+     *
+     * @return the validator, or null if the item type is not user-defined.
+     */
+    private ItemTypeValidator getUserDefinedTypeValidator() {
+        if (this.userDefinedTypeValidator == null && this.sequenceType.getItemType().isUserDefined()) {
+            this.userDefinedTypeValidator = ItemTypeValidator.compile(this.sequenceType.getItemType(), false);
+        }
+        return this.userDefinedTypeValidator;
+    }
+
     private boolean isInvalidArity(long numOfItems) {
         return (numOfItems != 0 && this.sequenceType.isEmptySequence())
             ||
@@ -0,0 +1,659 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.typing;
+
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructField;
+import org.apache.spark.sql.types.StructType;
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidInstanceException;
+import org.rumbledb.exceptions.OurBadException;
+import org.rumbledb.items.ItemFactory;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.types.FieldDescriptor;
+import org.rumbledb.types.ItemType;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A validator compiled from a resolved item type. Facets, field descriptors and, for types compatible with
+ * DataFrames, Spark data types are looked up once when the validator is compiled rather than for every validated
+ * item, so that the same validator can be reused for all items of a query, locally or in Spark tasks.
+ */
+public abstract class ItemTypeValidator implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final ItemType itemType;
+    private transient ItemType lastMatchingType;
+
+    protected ItemTypeValidator(ItemType itemType) {
+        this.itemType = itemType;
+    }
+
+    public ItemType getItemType() {
+        return this.itemType;
+    }
+
+    /**
+     * Checks whether an item is an instance of the item type, i.e., whether its dynamic type is a subtype of it.
+     * Items validated against the same user-defined type share their dynamic type, so the last matching dynamic type
+     * is remembered to skip walking the type hierarchy.
+     *
+     * @param item the item to check.
+     * @return true if the item is an instance of the item type.
+     */
+    public boolean isInstance(Item item) {
+        ItemType dynamicType = item.getDynamicType();
+        if (dynamicType == this.lastMatchingType) {
+            return true;
+        }
+        if (InstanceOfIterator.doesItemTypeMatchItem(this.itemType, item)) {
+            this.lastMatchingType = dynamicType;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Validates an item against the item type, casting atomic values and annotating structured items.
+     *
+     * @param item the item to validate.
+     * @param metadata the metadata used for casting errors.
+     * @return the validated item.
+     */
+    public abstract Item validate(Item item, ExceptionMetadata metadata);
+
+    /**
+     * Converts an item that was already validated to the value of a DataFrame column. Only supported by validators
+     * compiled with DataFrame support.
+     *
+     * @param validatedItem the validated item, or null if absent.
+     * @return the column value.
+     */
+    public abstract Object toColumn(Item validatedItem);
+
+    /**
+     * Validates an item and converts it to the value of a DataFrame column.
+     *
+     * @param item the item to validate, or null if absent.
+     * @return the column value.
+     */
+    public Object validateToColumn(Item item) {
+        if (item == null) {
+            return null;
+        }
+        return toColumn(validate(item, ExceptionMetadata.EMPTY_METADATA));
+    }
+
+    /**
+     * Validates an object and converts it to a DataFrame row.
+     *
+     * @param item the object item to validate.
+     * @return the row.
+     */
+    public Row validateToRow(Item item) {
+        throw new InvalidInstanceException(
+                "Error while checking against the DataFrame schema: it is not an object type: " + this.itemType
+        );
+    }
+
+    /**
+     * Returns the DataFrame schema of an object type.
+     *
+     * @return the schema.
+     */
+    public StructType getSchema() {
+        throw new InvalidInstanceException(
+                "Error while checking against the DataFrame schema: it is not an object type: " + this.itemType
+        );
+    }
+
+    /**
+     * Compiles a resolved item type into a validator.
+     *
+     * @param itemType the item type.
+     * @param withDataFrameSupport whether the validator must also convert items to DataFrame rows.
+     * @return the validator.
+     */
+    public static ItemTypeValidator compile(ItemType itemType, boolean withDataFrameSupport) {
+        try {
+            return compile(itemType, withDataFrameSupport, new IdentityHashMap<>());
+        } catch (IllegalArgumentException ex) {
+            InvalidInstanceException e = new InvalidInstanceException(
+                    "Error while applying the schema; " + ex.getMessage()
+            );
+            e.initCause(ex);
+            throw e;
+        }
+    }
+
+    private static ItemTypeValidator compile(
+            ItemType itemType,
+            boolean withDataFrameSupport,
+            Map<ItemType, ItemTypeValidator> compiledTypes
+    ) {
+        ItemTypeValidator compiled = compiledTypes.get(itemType);
+        if (compiled != null) {
+            // recursive types are compiled only once
+            return compiled;
+        }
+        if (itemType.isAtomicItemType()) {
+            return new AtomicValidator(
+                    itemType,
+                    withDataFrameSupport
+                        ? AtomicColumnConverter.forDataType(ItemParser.getDataFrameDataTypeFromItemType(itemType))
+                        : null
+            );
+        }
+        if (itemType.isArrayItemType()) {
+            ArrayValidator result = new ArrayValidator(itemType);
+            compiledTypes.put(itemType, result);
+            result.memberValidator = compile(itemType.getArrayContentFacet(), withDataFrameSupport, compiledTypes);
+            return result;
+        }
+        if (itemType.isObjectItemType()) {
+            ObjectValidator result = new ObjectValidator(itemType);
+            compiledTypes.put(itemType, result);
+            Map<String, FieldDescriptor> facets = itemType.getObjectContentFacet();
+            int numberOfFields = facets.size();
+            result.fieldNames = new String[numberOfFields];
+            result.fieldValidators = new ItemTypeValidator[numberOfFields];
+            result.requiredFields = new boolean[numberOfFields];
+            result.defaultValues = new Item[numberOfFields];
+            List<StructField> structFields = new ArrayList<>();
+            int index = 0;
+            for (Map.Entry<String, FieldDescriptor> facet : facets.entrySet()) {
+                FieldDescriptor descriptor = facet.getValue();
+                result.fieldIndices.put(facet.getKey(), index);
+                result.fieldNames[index] = facet.getKey();
+                result.fieldValidators[index] = compile(descriptor.getType(), withDataFrameSupport, compiledTypes);
+                result.requiredFields[index] = descriptor.isRequired();
+                result.defaultValues[index] = descriptor.getDefaultValue();
+                if (withDataFrameSupport) {
+                    structFields.add(
+                        DataTypes.createStructField(
+                            facet.getKey(),
+                            result.fieldValidators[index].getDataType(),
+                            // null values are stored as NULL, even if required
+                            !descriptor.isRequired()
+                                || result.fieldValidators[index].getDataType().equals(DataTypes.NullType)
+                        )
+                    );
+                }
+                ++index;
+            }
+            if (withDataFrameSupport) {
+                result.schema = DataTypes.createStructType(structFields);
+            }
+            return result;
+        }
+        if (itemType.isFunctionItemType()) {
+            return new FunctionValidator(itemType);
+        }
+        return new AnyItemValidator(itemType);
+    }
+
+    /**
+     * Returns the Spark data type of the values produced by toColumn.
+     *
+     * @return the data type.
+     */
+    protected DataType getDataType() {
+        throw new OurBadException("No DataFrame data type for " + this.itemType);
+    }
+
+    private static class AtomicValidator extends ItemTypeValidator {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicColumnConverter converter;
+
+        AtomicValidator(ItemType itemType, AtomicColumnConverter converter) {
+            super(itemType);
+            this.converter = converter;
+        }
+
+        @Override
+        public Item validate(Item item, ExceptionMetadata metadata) {
+            if (!item.isAtomic()) {
+                throw new InvalidInstanceException(
+                        "Expected an atomic item for type " + this.itemType.getIdentifierString()
+                );
+            }
+            if (InstanceOfIterator.doesItemTypeMatchItem(this.itemType, item)) {
+                return item;
+            }
+            Item castType = CastIterator.castItemToType(
+                ItemFactory.getInstance().createStringItem(item.getStringValue()),
+                this.itemType,
+                metadata
+            );
+            if (castType == null) {
+                throw new InvalidInstanceException(
+                        "Cannot cast " + item.serialize() + " to type " + this.itemType.getIdentifierString()
+                );
+            }
+            return castType;
+        }
+
+        @Override
+        public Object toColumn(Item validatedItem) {
+            if (validatedItem == null) {
+                return null;
+            }
+            try {
+                return this.converter.convert(validatedItem);
+            } catch (OurBadException ex) {
+                // OurBadExceptions triggered by invalid use of value getters here are caused by user's schema
+                throw new InvalidInstanceException(ex.getJSONiqErrorMessage());
+            }
+        }
+
+        @Override
+        protected DataType getDataType() {
+            return this.converter.getDataType();
+        }
+    }
+
+    private static class ArrayValidator extends ItemTypeValidator {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Integer minLength;
+        private final Integer maxLength;
+        private final ItemType annotationType;
+        private ItemTypeValidator memberValidator;
+
+        ArrayValidator(ItemType itemType) {
+            super(itemType);
+            this.minLength = itemType.getMinLengthFacet();
+            this.maxLength = itemType.getMaxLengthFacet();
+            this.annotationType = itemType.getName() == null ? itemType.getBaseType() : itemType;
+        }
+
+        private void checkLength(int length) {
+            if (this.minLength != null && length < this.minLength) {
+                throw new InvalidInstanceException(
+                        "Array has " + length + " members but the type requires at least " + this.minLength
+                );
+            }
+            if (this.maxLength != null && length > this.maxLength) {
+                throw new InvalidInstanceException(
+                        "Array has " + length + " members but the type requires at most " + this.maxLength
+                );
+            }
+        }
+
+        private void checkArray(Item item) {
+            if (!item.isArray()) {
+                throw new InvalidInstanceException(
+                        "Expected array item for array type " + this.itemType.getIdentifierString()
+                );
+            }
+        }
+
+        @Override
+        public Item validate(Item item, ExceptionMetadata metadata) {
+            checkArray(item);
+            List<Item> members = new ArrayList<>();
+            for (Item member : item.getItems()) {
+                members.add(this.memberValidator.validate(member, metadata));
+            }
+            checkLength(members.size());
+            Item arrayItem = ItemFactory.getInstance().createArrayItem(members);
+            return ItemFactory.getInstance().createAnnotatedItem(arrayItem, this.annotationType);
+        }
+
+        @Override
+        public Object toColumn(Item validatedItem) {
+            if (validatedItem == null) {
+                return null;
+            }
+            List<Item> members = validatedItem.getItems();
+            Object[] result = new Object[members.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = this.memberValidator.toColumn(members.get(i));
+            }
+            return result;
+        }
+
+        @Override
+        public Object validateToColumn(Item item) {
+            if (item == null) {
+                return null;
+            }
+            checkArray(item);
+            List<Item> members = item.getItems();
+            Object[] result = new Object[members.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = this.memberValidator.validateToColumn(members.get(i));
+            }
+            checkLength(result.length);
+            return result;
+        }
+
+        @Override
+        protected DataType getDataType() {
+            return DataTypes.createArrayType(this.memberValidator.getDataType());
+        }
+    }
+
+    private static class ObjectValidator extends ItemTypeValidator {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean closed;
+        private final ItemType annotationType;
+        private final Map<String, Integer> fieldIndices;
+        private String[] fieldNames;
+        private ItemTypeValidator[] fieldValidators;
+        private boolean[] requiredFields;
+        private Item[] defaultValues;
+        private StructType schema;
+
+        ObjectValidator(ItemType itemType) {
+            super(itemType);
+            this.closed = itemType.getClosedFacet();
+            this.annotationType = itemType.getName() == null ? itemType.getBaseType() : itemType;
+            this.fieldIndices = new HashMap<>();
+        }
+
+        private void checkObject(Item item) {
+            if (!item.isObject()) {
+                throw new InvalidInstanceException(
+                        "Expected an object item for object type "
+                            + this.itemType.getIdentifierString()
+                            + ", but have "
+                            + item.serialize()
+                );
+            }
+        }
+
+        private Integer getFieldIndex(String key) {
+            Integer index = this.fieldIndices.get(key);
+            if (index == null && this.closed) {
+                throw new InvalidInstanceException(
+                        "Unexpected key in closed object type + "
+                            + this.itemType.getIdentifierString()
+                            + " : "
+                            + key
+                );
+            }
+            return index;
+        }
+
+        private void checkMissingField(int index) {
+            if (this.requiredFields[index]) {
+                throw new InvalidInstanceException(
+                        "Missing required key in object type + "
+                            + this.itemType.getIdentifierString()
+                            + " : "
+                            + this.fieldNames[index]
+                );
+            }
+        }
+
+        @Override
+        public Item validate(Item item, ExceptionMetadata metadata) {
+            checkObject(item);
+            List<String> keys = new ArrayList<>();
+            List<Item> values = new ArrayList<>();
+            boolean[] present = new boolean[this.fieldNames.length];
+            for (String key : item.getKeys()) {
+                Integer index = getFieldIndex(key);
+                keys.add(key);
+                if (index != null) {
+                    present[index] = true;
+                    values.add(this.fieldValidators[index].validate(item.getItemByKey(key), metadata));
+                } else {
+                    values.add(item.getItemByKey(key));
+                }
+            }
+            for (int index = 0; index < this.fieldNames.length; index++) {
+                if (!present[index]) {
+                    if (this.defaultValues[index] != null) {
+                        keys.add(this.fieldNames[index]);
+                        values.add(this.defaultValues[index]);
+                    }
+                    checkMissingField(index);
+                }
+            }
+            Item objectItem = ItemFactory.getInstance()
+                .createObjectItem(keys, values, ExceptionMetadata.EMPTY_METADATA);
+            return ItemFactory.getInstance().createAnnotatedItem(objectItem, this.annotationType);
+        }
+
+        @Override
+        public Object toColumn(Item validatedItem) {
+            if (validatedItem == null) {
+                return null;
+            }
+            Object[] columns = new Object[this.fieldNames.length];
+            for (int index = 0; index < columns.length; index++) {
+                columns[index] = this.fieldValidators[index].toColumn(
+                    validatedItem.getItemByKey(this.fieldNames[index])
+                );
+            }
+            return RowFactory.create(columns);
+        }
+
+        @Override
+        public Object validateToColumn(Item item) {
+            if (item == null) {
+                return null;
+            }
+            return validateToRow(item);
+        }
+
+        @Override
+        public Row validateToRow(Item item) {
+            checkObject(item);
+            Object[] columns = new Object[this.fieldNames.length];
+            boolean[] present = new boolean[this.fieldNames.length];
+            for (String key : item.getKeys()) {
+                Integer index = getFieldIndex(key);
+                if (index != null) {
+                    present[index] = true;
+                    columns[index] = this.fieldValidators[index].validateToColumn(item.getItemByKey(key));
+                }
+            }
+            for (int index = 0; index < columns.length; index++) {
+                if (!present[index]) {
+                    columns[index] = this.fieldValidators[index].toColumn(this.defaultValues[index]);
+                    checkMissingField(index);
+                }
+            }
+            return RowFactory.create(columns);
+        }
+
+        @Override
+        public StructType getSchema() {
+            return this.schema;
+        }
+
+        @Override
+        protected DataType getDataType() {
+            return this.schema;
+        }
+    }
+
+    private static class FunctionValidator extends ItemTypeValidator {
+
+        private static final long serialVersionUID = 1L;
+
+        FunctionValidator(ItemType itemType) {
+            super(itemType);
+        }
+
+        @Override
+        public Item validate(Item item, ExceptionMetadata metadata) {
+            if (!item.isFunction()) {
+                throw new InvalidInstanceException(
+                        "Expected function item of type " + this.itemType.getIdentifierString()
+                );
+            }
+            return item;
+        }
+
+        @Override
+        public Object toColumn(Item validatedItem) {
+            throw new OurBadException("Function items cannot be stored in DataFrames.");
+        }
+    }
+
+    private static class AnyItemValidator extends ItemTypeValidator {
+
+        private static final long serialVersionUID = 1L;
+
+        AnyItemValidator(ItemType itemType) {
+            super(itemType);
+        }
+
+        @Override
+        public Item validate(Item item, ExceptionMetadata metadata) {
+            return item;
+        }
+
+        @Override
+        public Object toColumn(Item validatedItem) {
+            throw new OurBadException("Unhandled item type found while generating rows: " + this.itemType);
+        }
+    }
+
+    /**
+     * Converts validated atomic items to the values of a DataFrame column of a given type.
+     */
+    private enum AtomicColumnConverter {
+        BOOLEAN(DataTypes.BooleanType) {
+            @Override
+            Object convert(Item item) {
+                return item.getBooleanValue();
+            }
+        },
+        INTEGER(DataTypes.IntegerType) {
+            @Override
+            Object convert(Item item) {
+                return item.getIntValue();
+            }
+        },
+        BYTE(DataTypes.ByteType) {
+            @Override
+            Object convert(Item item) {
+                return (byte) item.getIntValue();
+            }
+        },
+        SHORT(DataTypes.ShortType) {
+            @Override
+            Object convert(Item item) {
+                return (short) item.getIntValue();
+            }
+        },
+        LONG(DataTypes.LongType) {
+            @Override
+            Object convert(Item item) {
+                return item.getIntegerValue().longValue();
+            }
+        },
+        DOUBLE(DataTypes.DoubleType) {
+            @Override
+            Object convert(Item item) {
+                return item.getDoubleValue();
+            }
+        },
+        FLOAT(DataTypes.FloatType) {
+            @Override
+            Object convert(Item item) {
+                return item.getFloatValue();
+            }
+        },
+        DECIMAL(ItemParser.decimalType) {
+            @Override
+            Object convert(Item item) {
+                return item.getDecimalValue();
+            }
+        },
+        STRING(DataTypes.StringType) {
+            @Override
+            Object convert(Item item) {
+                return item.getStringValue();
+            }
+        },
+        NULL(DataTypes.NullType) {
+            @Override
+            Object convert(Item item) {
+                return null;
+            }
+        },
+        DATE(DataTypes.DateType) {
+            @Override
+            Object convert(Item item) {
+                return new Date(item.getEpochMillis());
+            }
+        },
+        TIMESTAMP(DataTypes.TimestampType) {
+            @Override
+            Object convert(Item item) {
+                return new Timestamp(item.getEpochMillis());
+            }
+        },
+        BINARY(DataTypes.BinaryType) {
+            @Override
+            Object convert(Item item) {
+                return item.getBinaryValue();
+            }
+        };
+
+        private final DataType dataType;
+
+        AtomicColumnConverter(DataType dataType) {
+            this.dataType = dataType;
+        }
+
+        abstract Object convert(Item item);
+
+        DataType getDataType() {
+            return this.dataType;
+        }
+
+        static AtomicColumnConverter forDataType(DataType dataType) {
+            for (AtomicColumnConverter converter : values()) {
+                if (converter.dataType.equals(dataType)) {
+                    return converter;
+                }
+            }
+            throw new OurBadException(
+                    "Unhandled item type found while generating rows: '" + dataType + "' ."
+            );
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.rumbledb.runtime.typing;
 
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.function.Function;
+import org.apache.spark.sql.types.ArrayType;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -12,6 +13,7 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.structured.JSoundDataFrame;
 import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.runtime.functions.sequences.general.TypePromotionClosure;
 import org.rumbledb.types.BuiltinTypesCatalogue;
 import org.rumbledb.types.ItemType;
@@ -218,4 +220,24 @@ public class TypePromotionIterator extends HybridRuntimeIterator {
             );
         }
     }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        NativeClauseContext value = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        if (value == NativeClauseContext.NoNativeQuery) {
+            return NativeClauseContext.NoNativeQuery;
+        }
+        // a native query returns at most one item, so that it is only needed to check its type
+        if (value.getResultingType() != null && value.getResultingType().isSubtypeOf(this.itemType)) {
+            return value;
+        }
+        if (
+            value.getResultingType() == null
+                && value.getSchema() instanceof ArrayType
+                && this.itemType.equals(BuiltinTypesCatalogue.arrayItem)
+        ) {
+            return value;
+        }
+        return NativeClauseContext.NoNativeQuery;
+    }
 }
@@ -0,0 +1,39 @@
+package org.rumbledb.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.items.ItemFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Closes the session given with the session parameter, e.g., /close-session?session=my-session, and removes the values
+ * of its variables from Spark storage. The response tells whether the session was open.
+ */
+@SuppressWarnings("restriction")
+public class CloseSessionHandler implements HttpHandler {
+
+    private ServerSessions sessions;
+
+    public CloseSessionHandler(ServerSessions sessions) {
+        this.sessions = sessions;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String[] args = RumbleHttpHandler.getCLIArguments(exchange.getRequestURI().getQuery());
+        String sessionId = new RumbleRuntimeConfiguration(args).getSessionId();
+        boolean closed = sessionId != null && this.sessions.closeSession(sessionId);
+        Item output = ItemFactory.getInstance().createObjectItem();
+        output.putItemByKey("closed", ItemFactory.getInstance().createBooleanItem(closed));
+        byte[] response = output.serialize().getBytes();
+        exchange.sendResponseHeaders(200, response.length);
+        OutputStream stream = exchange.getResponseBody();
+        stream.write(response);
+        stream.close();
+    }
+}
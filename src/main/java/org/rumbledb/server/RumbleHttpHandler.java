@@ -17,6 +17,7 @@ import org.apache.spark.SparkException;
 import org.rumbledb.api.Item;
 import org.rumbledb.cli.JsoniqQueryExecutor;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.context.InteractiveSession;
 import org.rumbledb.errorcodes.ErrorCode;
 import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.exceptions.RumbleException;
@@ -31,6 +32,7 @@ import sparksoniq.spark.SparkSessionManager;
 public class RumbleHttpHandler implements HttpHandler {
 
     private RumbleRuntimeConfiguration rumbleRuntimeConfiguration;
+    private ServerSessions sessions;
 
     private enum StatusCode {
         SUCCESS(200),
@@ -48,8 +50,9 @@ public class RumbleHttpHandler implements HttpHandler {
         }
     }
 
-    public RumbleHttpHandler(RumbleRuntimeConfiguration rumbleRuntimeConfiguration) {
+    public RumbleHttpHandler(RumbleRuntimeConfiguration rumbleRuntimeConfiguration, ServerSessions sessions) {
         this.rumbleRuntimeConfiguration = rumbleRuntimeConfiguration;
+        this.sessions = sessions;
     }
 
     private void sendResponse(HttpExchange exchange, StatusCode code, String response) throws IOException {
@@ -59,7 +62,7 @@ public class RumbleHttpHandler implements HttpHandler {
         stream.close();
     }
 
-    private String[] getCLIArguments(String query) throws UnsupportedEncodingException {
+    static String[] getCLIArguments(String query) throws UnsupportedEncodingException {
         Map<String, String> queryParameters = new HashMap<String, String>();
         if (query == null) {
             query = "";
@@ -111,7 +114,10 @@ public class RumbleHttpHandler implements HttpHandler {
                 }
                 String JSONiqQuery = sb.toString();
                 items = new ArrayList<Item>();
-                count = translator.runInteractive(JSONiqQuery, items);
+                InteractiveSession session = configuration.getSessionId() == null
+                    ? null
+                    : this.sessions.getOrCreateSession(configuration.getSessionId());
+                count = translator.runInteractive(JSONiqQuery, session, items);
             }
 
             Item output = assembleResponse(configuration, items, count);
@@ -3,6 +3,7 @@ package org.rumbledb.server;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 
+import org.rumbledb.compiler.VisitorHelpers;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.OurBadException;
@@ -13,6 +14,8 @@ import com.sun.net.httpserver.HttpServer;
 @SuppressWarnings("restriction")
 public class RumbleServer {
 
+    private static final int MAXIMUM_NUMBER_OF_SESSIONS = 64;
+
     private RumbleRuntimeConfiguration rumbleRuntimeConfiguration;
 
     public RumbleServer(RumbleRuntimeConfiguration rumbleRuntimeConfiguration) {
@@ -31,12 +34,21 @@ public class RumbleServer {
                 ),
                 0
             );
+            ServerSessions sessions = new ServerSessions(
+                    MAXIMUM_NUMBER_OF_SESSIONS,
+                    this.rumbleRuntimeConfiguration.getSessionTimeout()
+            );
+            sessions.startCleanup();
             HttpContext context = server.createContext("/jsoniq");
-            context.setHandler(new RumbleHttpHandler(this.rumbleRuntimeConfiguration));
+            context.setHandler(new RumbleHttpHandler(this.rumbleRuntimeConfiguration, sessions));
+            context = server.createContext("/close-session");
+            context.setHandler(new CloseSessionHandler(sessions));
             context = server.createContext("/public.html");
             context.setHandler(new MainPageHandler());
             context = server.createContext("/validserver.html");
             context.setHandler(new ValidatorPageHandler());
+            // so that the first queries sent to the server are not parsed with cold parser caches
+            VisitorHelpers.warmUpParsers();
             server.start();
             System.err.println("[INFO] Server running. Press Control+C to stop.");
             while (!Thread.currentThread().isInterrupted()) {
@@ -0,0 +1,140 @@
+package org.rumbledb.server;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.rumbledb.context.InteractiveSession;
+
+/**
+ * The interactive sessions of the HTTP server, by identifier. A session is closed, and the values of its variables
+ * are removed from Spark storage, when it is closed explicitly, when it was not used for longer than the session
+ * timeout, or when it is the least recently used session and there are too many sessions.
+ */
+public class ServerSessions {
+
+    private static final long CLEANUP_PERIOD_SECONDS = 60;
+
+    private final int maximumNumberOfSessions;
+    private final long timeoutMillis;
+    // in access order, so that the least recently used session comes first
+    private final LinkedHashMap<String, ServerSession> sessions;
+    private ScheduledExecutorService cleaner;
+
+    /**
+     * Creates the registry of the sessions of a server.
+     *
+     * @param maximumNumberOfSessions the maximum number of open sessions.
+     * @param timeoutSeconds the duration after which a session that is not used is closed, or 0 for no timeout.
+     */
+    public ServerSessions(int maximumNumberOfSessions, long timeoutSeconds) {
+        this.maximumNumberOfSessions = maximumNumberOfSessions;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns a session, which is created if it does not exist yet.
+     *
+     * @param sessionId the identifier of the session.
+     * @return the session.
+     */
+    public InteractiveSession getOrCreateSession(String sessionId) {
+        List<InteractiveSession> closedSessions = new ArrayList<>();
+        InteractiveSession result;
+        synchronized (this) {
+            removeIdleSessions(closedSessions);
+            ServerSession session = this.sessions.get(sessionId);
+            if (session == null) {
+                session = new ServerSession();
+                this.sessions.put(sessionId, session);
+                Iterator<ServerSession> iterator = this.sessions.values().iterator();
+                while (this.sessions.size() > this.maximumNumberOfSessions) {
+                    closedSessions.add(iterator.next().session);
+                    iterator.remove();
+                }
+            }
+            session.lastAccess = System.currentTimeMillis();
+            result = session.session;
+        }
+        release(closedSessions);
+        return result;
+    }
+
+    /**
+     * Closes a session, and removes the values of its variables from Spark storage.
+     *
+     * @param sessionId the identifier of the session.
+     * @return true if the session was open.
+     */
+    public boolean closeSession(String sessionId) {
+        ServerSession session;
+        synchronized (this) {
+            session = this.sessions.remove(sessionId);
+        }
+        if (session == null) {
+            return false;
+        }
+        session.session.forgetAllVariables();
+        return true;
+    }
+
+    /**
+     * Closes the sessions that were not used for longer than the timeout, also periodically in the background.
+     */
+    public synchronized void startCleanup() {
+        if (this.timeoutMillis == 0 || this.cleaner != null) {
+            return;
+        }
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rumble-session-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cleaner.scheduleWithFixedDelay(() -> {
+            List<InteractiveSession> closedSessions = new ArrayList<>();
+            synchronized (this) {
+                removeIdleSessions(closedSessions);
+            }
+            release(closedSessions);
+        }, CLEANUP_PERIOD_SECONDS, CLEANUP_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public synchronized int getNumberOfSessions() {
+        return this.sessions.size();
+    }
+
+    private void removeIdleSessions(List<InteractiveSession> closedSessions) {
+        if (this.timeoutMillis == 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, ServerSession>> iterator = this.sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            ServerSession session = iterator.next().getValue();
+            if (now - session.lastAccess <= this.timeoutMillis) {
+                // the next sessions were used more recently
+                return;
+            }
+            closedSessions.add(session.session);
+            iterator.remove();
+        }
+    }
+
+    // outside of the lock, as unpersisting may take time
+    private static void release(List<InteractiveSession> closedSessions) {
+        for (InteractiveSession session : closedSessions) {
+            session.forgetAllVariables();
+        }
+    }
+
+    private static class ServerSession {
+        private final InteractiveSession session = new InteractiveSession();
+        private long lastAccess;
+    }
+}
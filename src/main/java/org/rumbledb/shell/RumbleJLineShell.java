@@ -34,6 +34,8 @@ import org.rumbledb.api.Item;
 import org.rumbledb.cli.JsoniqQueryExecutor;
 import org.rumbledb.cli.Main;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.context.InteractiveSession;
+import org.rumbledb.context.Name;
 import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.serialization.Serializer;
@@ -51,12 +53,16 @@ import java.util.stream.Collectors;
 
 public class RumbleJLineShell {
     private static final String EXIT_COMMAND = "exit";
+    private static final String VARIABLES_COMMAND = ":variables";
+    private static final String FORGET_COMMAND = ":forget";
     private static final String PROMPT = ANSIColor.CYAN + "RumbleDB$ " + ANSIColor.RESET;
     private static final String MID_QUERY_PROMPT = ">>> ";
     private final boolean printTime;
     private final RumbleRuntimeConfiguration configuration;
     private LineReader lineReader;
     private JsoniqQueryExecutor jsoniqQueryExecutor;
+    private InteractiveSession session;
+    private volatile boolean queryRunning;
     private boolean queryStarted;
     private String previousLine = "";
     private String currentLine = "";
@@ -74,7 +80,9 @@ public class RumbleJLineShell {
         while (!exitCalled()) {
             try {
                 this.currentLine = this.lineReader.readLine(getPrompt());
-                if (!isConfig()) {
+                if (isConfig()) {
+                    processCommand();
+                } else {
 
                     if (!this.currentLine.isEmpty()) {
                         this.currentQueryContent += "\n" + this.currentLine;
@@ -97,7 +105,13 @@ public class RumbleJLineShell {
         long startTime = System.currentTimeMillis();
         List<Item> results = new ArrayList<>();
         try {
-            long count = this.jsoniqQueryExecutor.runInteractive(query, results);
+            long count;
+            this.queryRunning = true;
+            try {
+                count = this.jsoniqQueryExecutor.runInteractive(query, this.session, results);
+            } finally {
+                this.queryRunning = false;
+            }
             Serializer serializer = this.configuration.getSerializer();
             String result = String.join(
                 "\n",
@@ -145,11 +159,48 @@ public class RumbleJLineShell {
         this.currentQueryContent = "";
     }
 
+    // shell commands act on the global variables kept from the previous queries
+    private void processCommand() {
+        String[] words = this.currentLine.trim().split("\\s+");
+        if (words[0].equals(VARIABLES_COMMAND) && words.length == 1) {
+            List<String> variables = this.session.describeVariables();
+            output(variables.isEmpty() ? "No variables are declared." : String.join("\n", variables));
+        } else if (words[0].equals(FORGET_COMMAND) && words.length == 1) {
+            this.session.forgetAllVariables();
+            output("All variables were forgotten.");
+        } else if (words[0].equals(FORGET_COMMAND)) {
+            for (int i = 1; i < words.length; i++) {
+                String variable = words[i].startsWith("$") ? words[i].substring(1) : words[i];
+                if (this.session.forgetVariable(Name.createVariableInNoNamespace(variable))) {
+                    output("$" + variable + " was forgotten.");
+                } else {
+                    output("$" + variable + " is not declared.");
+                }
+            }
+        } else {
+            output(
+                "Unknown command "
+                    + words[0]
+                    + ". Available commands: "
+                    + VARIABLES_COMMAND
+                    + ", "
+                    + FORGET_COMMAND
+                    + " [$variable ...]"
+            );
+        }
+    }
+
     private void initialize() throws IOException {
         this.welcomeMessage = IOUtils.toString(Main.class.getResourceAsStream("/assets/banner.txt"), "UTF-8");
         Terminal terminal = TerminalBuilder.builder()
             .system(true)
             .build();
+        // outside of readLine(), Ctrl+C cancels the current query instead of exiting
+        terminal.handle(Terminal.Signal.INT, signal -> {
+            if (this.queryRunning) {
+                this.jsoniqQueryExecutor.cancelRunningQueries();
+            }
+        });
         DefaultParser parser = new DefaultParser();
         parser.setEscapeChars(null);
         this.lineReader = LineReaderBuilder.builder()
@@ -160,6 +211,7 @@ public class RumbleJLineShell {
             // .parser(new JiqsJlineParser())
             .build();
         this.jsoniqQueryExecutor = new JsoniqQueryExecutor(this.configuration);
+        this.session = new InteractiveSession();
     }
 
     private void handleException(Throwable ex, boolean showErrorInfo) {
@@ -228,7 +280,7 @@ public class RumbleJLineShell {
     }
 
     private boolean isConfig() {
-        return false;
+        return !this.queryStarted && this.currentLine != null && this.currentLine.trim().startsWith(":");
     }
 
     private boolean exitCalled() {
@@ -397,6 +397,26 @@ public class ItemTypeFactory {
         return new ObjectItemType(null, BuiltinTypesCatalogue.objectItem, true, content, null, null);
     }
 
+    /**
+     * Creates an anonymous, closed object item type.
+     *
+     * @param content the descriptors of the fields, by field name
+     * @return the object item type
+     */
+    public static ItemType createAnonymousObjectItemType(Map<String, FieldDescriptor> content) {
+        return new ObjectItemType(null, BuiltinTypesCatalogue.objectItem, true, content, null, null);
+    }
+
+    /**
+     * Creates an anonymous array item type.
+     *
+     * @param memberType the type of the members
+     * @return the array item type
+     */
+    public static ItemType createAnonymousArrayItemType(ItemType memberType) {
+        return new ArrayItemType(null, BuiltinTypesCatalogue.arrayItem, memberType, null, null, null);
+    }
+
     private static ItemType createArrayTypeWithSparkDataTypeContent(DataType type) {
         return new ArrayItemType(
                 null,
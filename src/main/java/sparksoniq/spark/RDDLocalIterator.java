@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package sparksoniq.spark;
+
+import org.apache.spark.api.java.JavaFutureAction;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.rdd.PartitionPruningRDD;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.QueryCancelledException;
+import scala.runtime.AbstractFunction1;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Iterates over the items of an RDD on the driver one partition at a time, like JavaRDD.toLocalIterator(), so that
+ * the driver only holds one partition (two with prefetching) instead of the whole RDD.
+ *
+ * With prefetching, the job computing the next partition is submitted asynchronously as soon as the current
+ * partition is received, so that the caller can consume the current partition while the next one is computed. The job
+ * belongs to the job group of the thread iterating, i.e., of the query.
+ *
+ * The iterator must be closed if it is not consumed entirely, to cancel the job computing the next partition.
+ */
+public class RDDLocalIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final JavaRDD<T> rdd;
+    private final int numberOfPartitions;
+    private final boolean prefetch;
+    private JavaFutureAction<List<T>> prefetchedPartition;
+    private int nextPartition;
+    private Iterator<T> currentPartition;
+
+    /**
+     * Creates an iterator over an RDD. No job is launched before the first call to hasNext().
+     *
+     * @param rdd the RDD to iterate over.
+     * @param prefetch whether to compute the next partition in the background.
+     */
+    public RDDLocalIterator(JavaRDD<T> rdd, boolean prefetch) {
+        this.rdd = rdd;
+        this.numberOfPartitions = rdd.getNumPartitions();
+        this.prefetch = prefetch && this.numberOfPartitions > 1;
+        this.nextPartition = 0;
+        this.currentPartition = Collections.emptyIterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.currentPartition.hasNext()) {
+            if (this.prefetchedPartition == null && this.nextPartition >= this.numberOfPartitions) {
+                close();
+                return false;
+            }
+            this.currentPartition = fetchNextPartition().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.currentPartition.next();
+    }
+
+    private List<T> fetchNextPartition() {
+        List<T> partition;
+        if (this.prefetchedPartition != null) {
+            partition = getPrefetchedPartition();
+        } else {
+            partition = collectPartition(this.nextPartition++);
+        }
+        if (this.prefetch && this.nextPartition < this.numberOfPartitions) {
+            this.prefetchedPartition = JavaRDD.fromRDD(
+                PartitionPruningRDD.create(this.rdd.rdd(), new IsPartition(this.nextPartition++)),
+                this.rdd.classTag()
+            ).collectAsync();
+        }
+        return partition;
+    }
+
+    private List<T> getPrefetchedPartition() {
+        try {
+            return this.prefetchedPartition.get();
+        } catch (InterruptedException e) {
+            // the thread is interrupted when the query is stopped
+            this.prefetchedPartition.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new QueryCancelledException(
+                    "The query was interrupted while waiting for a partition of the result.",
+                    ExceptionMetadata.EMPTY_METADATA
+            );
+        } catch (ExecutionException e) {
+            // the Spark job failed: the caller sees the same exception as without prefetching
+            throw RDDLocalIterator.<RuntimeException>rethrow(e.getCause());
+        } finally {
+            this.prefetchedPartition = null;
+        }
+    }
+
+    private List<T> collectPartition(int partitionIndex) {
+        return this.rdd.collectPartitions(new int[] { partitionIndex })[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E rethrow(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    /**
+     * Stops the iteration. The Spark job computing the next partition, if any, is cancelled.
+     */
+    @Override
+    public void close() {
+        if (this.prefetchedPartition != null) {
+            this.prefetchedPartition.cancel(true);
+            this.prefetchedPartition = null;
+        }
+        this.nextPartition = this.numberOfPartitions;
+        this.currentPartition = Collections.emptyIterator();
+    }
+
+    // keeps a single partition of an RDD
+    private static final class IsPartition extends AbstractFunction1<Object, Object> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private final int partitionIndex;
+
+        IsPartition(int partitionIndex) {
+            this.partitionIndex = partitionIndex;
+        }
+
+        @Override
+        public Object apply(Object index) {
+            return (Integer) index == this.partitionIndex;
+        }
+    }
+}
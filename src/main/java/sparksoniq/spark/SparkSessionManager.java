@@ -24,9 +24,14 @@ import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.parquet.format.IntType;
 import org.apache.spark.SparkConf;
+import org.apache.spark.scheduler.SparkListener;
+import org.apache.spark.scheduler.SparkListenerJobStart;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
 import org.apache.spark.sql.types.BooleanType;
 import org.apache.spark.sql.types.DoubleType;
 import org.apache.spark.sql.types.FloatType;
@@ -58,6 +63,8 @@ import org.rumbledb.items.IntItem;
 import org.rumbledb.items.IntegerItem;
 import org.rumbledb.items.NullItem;
 import org.rumbledb.items.ObjectItem;
+import org.rumbledb.items.RowArrayItem;
+import org.rumbledb.items.RowObjectItem;
 import org.rumbledb.items.StringItem;
 import org.rumbledb.items.TimeItem;
 import org.rumbledb.items.YearMonthDurationItem;
@@ -69,8 +76,16 @@ import org.rumbledb.types.SequenceType;
 import sparksoniq.jsoniq.tuple.FlworKey;
 import sparksoniq.jsoniq.tuple.FlworTuple;
 
+import scala.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SparkSessionManager {
 
@@ -81,6 +96,11 @@ public class SparkSessionManager {
     private SparkConf configuration;
     private SparkSession session;
     private JavaSparkContext javaSparkContext;
+    // the DataFrames persisted for the running queries, each with the queries that use it
+    private final List<QueryScopedDataFrame> queryScopedCachedDataFrames = new ArrayList<>();
+    private static final ThreadLocal<String> currentQuery = new ThreadLocal<>();
+    private static final ThreadLocal<String> jobGroup = new ThreadLocal<>();
+    private final Set<String> cancelledJobGroups = ConcurrentHashMap.newKeySet();
 
     public static String atomicJSONiqItemColumnName = "0d08af5d-10bb-4a73-af84-c6aac917a830";
     public static String emptyObjectJSONiqItemColumnName = "a84bc646-05af-4383-8853-2e9f31a710f2";
@@ -102,6 +122,30 @@ public class SparkSessionManager {
         return instance;
     }
 
+    /**
+     * Tells whether a Spark session was already created. Queries whose plan is entirely local never create one.
+     *
+     * @return true if the session exists.
+     */
+    public boolean isSessionInitialized() {
+        return this.session != null;
+    }
+
+    /**
+     * Returns the Spark configuration, without creating a Spark session if there is none yet.
+     *
+     * @return the Spark configuration.
+     */
+    public SparkConf getSparkConfiguration() {
+        if (this.session != null) {
+            return this.session.sparkContext().getConf();
+        }
+        if (this.configuration == null) {
+            setDefaultConfiguration();
+        }
+        return this.configuration;
+    }
+
     public SparkSession getOrCreateSession() {
         if (this.configuration == null) {
             setDefaultConfiguration();
@@ -140,6 +184,10 @@ public class SparkSessionManager {
             Logger.getLogger("akka").setLevel(LOG_LEVEL);
 
             this.session = SparkSession.builder().config(this.configuration).getOrCreate();
+            if (jobGroup.get() != null) {
+                this.session.sparkContext().setJobGroup(jobGroup.get(), "RumbleDB query", true);
+            }
+            this.session.sparkContext().addSparkListener(new JobGroupCancellationListener());
         } else {
             throw new OurBadException("Session already exists: new session initialization prevented.");
         }
@@ -154,6 +202,8 @@ public class SparkSessionManager {
                 AnnotatedItem.class,
                 ArrayItem.class,
                 ObjectItem.class,
+                RowArrayItem.class,
+                RowObjectItem.class,
                 AnyURIItem.class,
                 Base64BinaryItem.class,
                 BooleanItem.class,
@@ -223,11 +273,141 @@ public class SparkSessionManager {
         return this.javaSparkContext;
     }
 
+    /**
+     * Makes the current thread evaluate a query, so that the DataFrames persisted by the thread are released with
+     * that query.
+     *
+     * @param queryId the identifier of the query.
+     */
+    public void bindQuery(String queryId) {
+        currentQuery.set(queryId);
+    }
+
+    /**
+     * Releases a query that is done: the DataFrames persisted for it are unpersisted, unless another running query
+     * uses them as well, and the current thread no longer evaluates it.
+     *
+     * @param queryId the identifier of the query.
+     */
+    public void releaseQuery(String queryId) {
+        if (queryId.equals(currentQuery.get())) {
+            currentQuery.remove();
+        }
+        List<Dataset<Row>> unusedDataFrames = new ArrayList<>();
+        synchronized (this) {
+            Iterator<QueryScopedDataFrame> iterator = this.queryScopedCachedDataFrames.iterator();
+            while (iterator.hasNext()) {
+                QueryScopedDataFrame cached = iterator.next();
+                if (cached.queries.remove(queryId) && cached.queries.isEmpty()) {
+                    iterator.remove();
+                    unusedDataFrames.add(cached.dataFrame);
+                }
+            }
+        }
+        for (Dataset<Row> df : unusedDataFrames) {
+            df.unpersist();
+        }
+    }
+
+    /**
+     * Makes the Spark jobs submitted by the current thread (and by the threads it starts) belong to a job group, so
+     * that they can be cancelled together. If there is no Spark session yet, the job group is set when it is created.
+     *
+     * @param jobGroupId the identifier of the job group.
+     */
+    public void setJobGroup(String jobGroupId) {
+        jobGroup.set(jobGroupId);
+        if (this.session != null) {
+            this.session.sparkContext().setJobGroup(jobGroupId, "RumbleDB query", true);
+        }
+    }
+
+    /**
+     * Cancels the running Spark jobs of a job group, interrupting their tasks. The jobs of the group that start later
+     * are cancelled as well, until the job group is released.
+     *
+     * @param jobGroupId the identifier of the job group.
+     */
+    public void cancelJobGroup(String jobGroupId) {
+        this.cancelledJobGroups.add(jobGroupId);
+        if (this.session != null) {
+            this.session.sparkContext().cancelJobGroup(jobGroupId);
+        }
+    }
+
+    /**
+     * Forgets a job group that is not used any more. If the current thread submits its jobs to this job group, its
+     * next jobs no longer belong to any job group.
+     *
+     * @param jobGroupId the identifier of the job group.
+     */
+    public void releaseJobGroup(String jobGroupId) {
+        this.cancelledJobGroups.remove(jobGroupId);
+        if (jobGroupId.equals(jobGroup.get())) {
+            jobGroup.remove();
+            if (this.session != null) {
+                this.session.sparkContext().clearJobGroup();
+            }
+        }
+    }
+
+    // cancels the jobs submitted in a cancelled job group, e.g., after the query was cancelled but before it was done
+    private class JobGroupCancellationListener extends SparkListener {
+        @Override
+        public void onJobStart(SparkListenerJobStart jobStart) {
+            Properties properties = jobStart.properties();
+            if (properties == null) {
+                return;
+            }
+            String jobGroupId = properties.getProperty("spark.jobGroup.id");
+            if (jobGroupId != null && SparkSessionManager.this.cancelledJobGroups.contains(jobGroupId)) {
+                SparkSessionManager.this.session.sparkContext().cancelJob(jobStart.jobId());
+            }
+        }
+    }
+
+    /**
+     * Persists a DataFrame that is only needed while the query evaluated by the current thread is running. It is
+     * unpersisted when the last running query that persisted the same data is released (when its sequence of items is
+     * closed or fully materialized). Nothing is persisted if the current thread is not evaluating a query, and data
+     * that was cached by other means is left alone.
+     *
+     * @param df the DataFrame to persist.
+     */
+    public synchronized void persistForCurrentQuery(Dataset<Row> df) {
+        String queryId = currentQuery.get();
+        if (queryId == null) {
+            return;
+        }
+        LogicalPlan plan = df.queryExecution().analyzed();
+        for (QueryScopedDataFrame cached : this.queryScopedCachedDataFrames) {
+            if (cached.dataFrame.queryExecution().analyzed().sameResult(plan)) {
+                cached.queries.add(queryId);
+                return;
+            }
+        }
+        if (df.sparkSession().sharedState().cacheManager().lookupCachedData(df).isDefined()) {
+            return;
+        }
+        df.persist();
+        this.queryScopedCachedDataFrames.add(new QueryScopedDataFrame(df, queryId));
+    }
+
+    private static class QueryScopedDataFrame {
+        private final Dataset<Row> dataFrame;
+        private final Set<String> queries = new HashSet<>();
+
+        private QueryScopedDataFrame(Dataset<Row> dataFrame, String queryId) {
+            this.dataFrame = dataFrame;
+            this.queries.add(queryId);
+        }
+    }
+
     public static <T> List<T> collectRDDwithLimit(JavaRDD<T> rdd, ExceptionMetadata metadata) {
         if (SparkSessionManager.LIMIT_COLLECT()) {
-            List<T> result = rdd.take(SparkSessionManager.COLLECT_ITEM_LIMIT + 1);
-            if (result.size() == SparkSessionManager.COLLECT_ITEM_LIMIT + 1) {
-                long count = rdd.count();
+            List<T> result = new ArrayList<>();
+            long count = collectWithCap(rdd, SparkSessionManager.COLLECT_ITEM_LIMIT, result);
+            if (count > SparkSessionManager.COLLECT_ITEM_LIMIT) {
                 throw new CannotMaterializeException(
                         "Cannot materialize a sequence of "
                             + count
@@ -247,13 +427,10 @@ public class SparkSessionManager {
         outputList.clear();
         long count = -1;
         if (SparkSessionManager.LIMIT_COLLECT()) {
-            List<T> result = rdd.take(SparkSessionManager.COLLECT_ITEM_LIMIT + 1);
-            if (result.size() == SparkSessionManager.COLLECT_ITEM_LIMIT + 1) {
-                count = rdd.count();
+            long total = collectWithCap(rdd, SparkSessionManager.COLLECT_ITEM_LIMIT, outputList);
+            if (total > SparkSessionManager.COLLECT_ITEM_LIMIT) {
+                count = total;
             }
-            result.stream()
-                .limit(SparkSessionManager.COLLECT_ITEM_LIMIT)
-                .collect(Collectors.toCollection(() -> outputList));
             return count;
         } else {
             outputList.addAll(rdd.collect());
@@ -261,4 +438,40 @@ public class SparkSessionManager {
         }
     }
 
+    /**
+     * Collects the first items of an RDD and counts all of its items in a single job: each partition sends at most
+     * cap items together with its number of items, so that the lineage is not computed a second time to count the
+     * items when the cap is exceeded.
+     *
+     * @param rdd the RDD to collect.
+     * @param cap the maximum number of items to collect.
+     * @param outputList the list to which the first cap items (at most) are added, in order.
+     * @return the total number of items in the RDD.
+     */
+    private static <T> long collectWithCap(JavaRDD<T> rdd, int cap, List<T> outputList) {
+        List<Tuple2<List<T>, Long>> partitions = rdd.mapPartitions(iterator -> {
+            List<T> items = new ArrayList<>();
+            long count = 0;
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                if (count < cap) {
+                    items.add(item);
+                }
+                count++;
+            }
+            return Collections.singletonList(new Tuple2<>(items, count)).iterator();
+        }).collect();
+        long total = 0;
+        for (Tuple2<List<T>, Long> partition : partitions) {
+            for (T item : partition._1()) {
+                if (outputList.size() >= cap) {
+                    break;
+                }
+                outputList.add(item);
+            }
+            total += partition._2();
+        }
+        return total;
+    }
+
 }
@@ -8,6 +8,7 @@ import org.apache.spark.ml.param.ParamMap;
 import org.apache.spark.sql.types.DataType;
 import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.FunctionIdentifier;
 import org.rumbledb.context.Name;
@@ -76,6 +77,24 @@ public class ApplyEstimatorRuntimeIterator extends AtMostOneItemLocalRuntimeIter
             getMetadata()
         );
 
+        String cacheKey = null;
+        if (dynamicContext.getRumbleRuntimeConfiguration().isFittedModelCache()) {
+            cacheKey = FittedModelCache.getKey(
+                this.estimatorShortName,
+                this.estimator,
+                paramMap,
+                this.inputDataset.getDataFrame()
+            );
+            Transformer cachedModel = cacheKey == null ? null : FittedModelCache.get(cacheKey);
+            if (cachedModel != null) {
+                return generateTransformerFunctionItem(
+                    cachedModel,
+                    dynamicContext.getRumbleRuntimeConfiguration(),
+                    getMetadata()
+                );
+            }
+        }
+
         Transformer fittedModel;
         try {
             fittedModel = this.estimator.fit(this.inputDataset.getDataFrame(), paramMap);
@@ -193,7 +212,14 @@ public class ApplyEstimatorRuntimeIterator extends AtMostOneItemLocalRuntimeIter
             throw ex;
         }
 
-        return generateTransformerFunctionItem(fittedModel);
+        if (cacheKey != null) {
+            FittedModelCache.put(cacheKey, fittedModel);
+        }
+        return generateTransformerFunctionItem(
+            fittedModel,
+            dynamicContext.getRumbleRuntimeConfiguration(),
+            getMetadata()
+        );
     }
 
     private JSoundDataFrame getInputDataset(DynamicContext context) {
@@ -342,12 +368,16 @@ public class ApplyEstimatorRuntimeIterator extends AtMostOneItemLocalRuntimeIter
         }
     }
 
-    private Item generateTransformerFunctionItem(Transformer fittedModel) {
+    static Item generateTransformerFunctionItem(
+            Transformer fittedModel,
+            RumbleRuntimeConfiguration configuration,
+            ExceptionMetadata metadata
+    ) {
         RuntimeIterator bodyIterator = new ApplyTransformerRuntimeIterator(
                 RumbleMLCatalog.getRumbleMLShortName(fittedModel.getClass().getName()),
                 fittedModel,
                 ExecutionMode.DATAFRAME,
-                getMetadata()
+                metadata
         );
         List<SequenceType> paramTypes = Collections.unmodifiableList(
             Arrays.asList(
@@ -376,7 +406,7 @@ public class ApplyEstimatorRuntimeIterator extends AtMostOneItemLocalRuntimeIter
                         paramTypes,
                         returnType
                 ),
-                new DynamicContext(this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration()),
+                new DynamicContext(configuration),
                 bodyIterator
         );
     }
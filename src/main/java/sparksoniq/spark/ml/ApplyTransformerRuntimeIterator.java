@@ -13,12 +13,14 @@ import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.Name;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.InvalidRumbleMLParamException;
+import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.exceptions.MLNotADataFrameException;
 import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.structured.JSoundDataFrame;
 import org.rumbledb.runtime.DataFrameRuntimeIterator;
+import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.types.BuiltinTypesCatalogue;
 
 import java.lang.reflect.InvocationTargetException;
@@ -40,6 +42,8 @@ public class ApplyTransformerRuntimeIterator extends DataFrameRuntimeIterator {
     private JSoundDataFrame inputDataset;
     private Item paramMapItem;
     private List<String> columnNamesOfGeneratedVectors = new ArrayList<>();
+    private List<Item> localResult;
+    private int localResultIndex;
 
     public ApplyTransformerRuntimeIterator(
             String transformerShortName,
@@ -56,6 +60,79 @@ public class ApplyTransformerRuntimeIterator extends DataFrameRuntimeIterator {
         return this.transformer;
     }
 
+    @Override
+    public void open(DynamicContext context) {
+        super.open(context);
+        this.localResult = transformLocally(context);
+        this.localResultIndex = 0;
+    }
+
+    @Override
+    public void reset(DynamicContext context) {
+        super.reset(context);
+        this.localResult = transformLocally(context);
+        this.localResultIndex = 0;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        this.localResult = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.localResult == null) {
+            return super.hasNext();
+        }
+        return this.localResultIndex < this.localResult.size();
+    }
+
+    @Override
+    public Item next() {
+        if (this.localResult == null) {
+            return super.next();
+        }
+        if (!hasNext()) {
+            throw new IteratorFlowException(
+                    RuntimeIterator.FLOW_EXCEPTION_MESSAGE + this.getClass().getSimpleName(),
+                    getMetadata()
+            );
+        }
+        return this.localResult.get(this.localResultIndex++);
+    }
+
+    /**
+     * Applies the transformer within the JVM if its input is a local sequence of objects and it supports it, which
+     * avoids the creation of a DataFrame and a Spark job when scoring a few objects.
+     *
+     * @param context the dynamic context of the call.
+     * @return the output objects, or null if the transformer must be applied to a DataFrame.
+     */
+    private List<Item> transformLocally(DynamicContext context) {
+        Name transformerInputVariableName = GetTransformerFunctionIterator.transformerParameterNames.get(0);
+        if (
+            !context.getVariableValues().contains(transformerInputVariableName)
+                || context.getVariableValues().isDataFrame(transformerInputVariableName, getMetadata())
+                || context.getVariableValues().isRDD(transformerInputVariableName, getMetadata())
+        ) {
+            return null;
+        }
+        ParamMap paramMap = convertRumbleObjectItemToSparkMLParamMap(
+            this.transformerShortName,
+            this.transformer,
+            getParamMapItem(context),
+            getMetadata()
+        );
+        Transformer transformerWithParams = this.transformer.copy(paramMap);
+        if (!RumbleMLLocalScoring.supports(transformerWithParams)) {
+            return null;
+        }
+        List<Item> input = context.getVariableValues()
+            .getLocalVariableValue(transformerInputVariableName, getMetadata());
+        return RumbleMLLocalScoring.transform(transformerWithParams, input, getMetadata());
+    }
+
     @Override
     public JSoundDataFrame getDataFrame(DynamicContext context) {
         this.inputDataset = getInputDataset(context);
@@ -0,0 +1,105 @@
+package sparksoniq.spark.ml;
+
+import org.apache.spark.ml.Estimator;
+import org.apache.spark.ml.Transformer;
+import org.apache.spark.ml.param.Param;
+import org.apache.spark.ml.param.ParamMap;
+import org.apache.spark.sql.Column;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.functions;
+import scala.NotImplementedError;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the models fitted by RumbleML estimators in this JVM (shell, server or Java API), activated with
+ * --fitted-model-cache yes.
+ *
+ * A model is keyed by the name of its estimator, the JSON encoding of all the parameters of the estimator (explicit or
+ * default), the schema of the training data and a fingerprint of its content (the number of rows and the sum of the
+ * hashes of the rows), so that the same model is returned if the same estimator is fitted again on the same data.
+ * Estimators with parameters that have no JSON encoding (such as the stages of a Pipeline) are not cached. Only the
+ * most recently used models are kept.
+ */
+final class FittedModelCache {
+
+    private static final int MAXIMUM_SIZE = 16;
+    private static final Map<String, Transformer> models = new LinkedHashMap<String, Transformer>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Transformer> eldest) {
+            return size() > MAXIMUM_SIZE;
+        }
+    };
+
+    private FittedModelCache() {
+    }
+
+    /**
+     * Computes the key of a model. This launches a Spark job over the training data.
+     *
+     * @param estimatorShortName the RumbleML name of the estimator.
+     * @param estimator the estimator.
+     * @param paramMap the parameters with which the estimator is fitted.
+     * @param trainingData the training data.
+     * @return the key, or null if the model cannot be cached.
+     */
+    static String getKey(
+            String estimatorShortName,
+            Estimator<?> estimator,
+            ParamMap paramMap,
+            Dataset<Row> trainingData
+    ) {
+        StringBuilder key = new StringBuilder(estimatorShortName);
+        Estimator<?> estimatorWithParams = estimator.copy(paramMap);
+        for (Param<?> param : estimatorWithParams.params()) {
+            if (!estimatorWithParams.isDefined(param)) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            Param<Object> objectParam = (Param<Object>) param;
+            key.append('\n').append(param.name()).append('=');
+            try {
+                key.append(objectParam.jsonEncode(estimatorWithParams.getOrDefault(objectParam)));
+            } catch (NotImplementedError e) {
+                return null;
+            }
+        }
+        key.append('\n').append(trainingData.schema().json());
+        String[] columnNames = trainingData.columns();
+        Column[] columns = new Column[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columns[i] = trainingData.col(columnNames[i]);
+        }
+        Column rowHash = columns.length == 0 ? functions.lit(0L) : functions.xxhash64(columns);
+        Row fingerprint = trainingData.agg(functions.count(functions.lit(1)), functions.sum(rowHash)).head();
+        key.append('\n').append(fingerprint.getLong(0));
+        if (!fingerprint.isNullAt(1)) {
+            key.append(':').append(fingerprint.getLong(1));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns a model fitted before.
+     *
+     * @param key the key of the model.
+     * @return the model, or null if it must be fitted.
+     */
+    static synchronized Transformer get(String key) {
+        return models.get(key);
+    }
+
+    /**
+     * Keeps a fitted model.
+     *
+     * @param key the key of the model.
+     * @param model the model.
+     */
+    static synchronized void put(String key, Transformer model) {
+        models.put(key, model);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+
+package sparksoniq.spark.ml;
+
+import org.apache.spark.ml.Transformer;
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.CannotRetrieveResourceException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidRumbleMLParamException;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.functions.input.FileSystemUtil;
+import sparksoniq.spark.SparkSessionManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * load-transformer($path) loads a transformer saved with save-transformer() (or by Spark ML in another application)
+ * and returns it as a function item, like those returned by get-transformer() and by estimators. The class of the
+ * transformer is read from the metadata written by Spark ML next to it.
+ */
+public class LoadTransformerFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
+
+    private static final long serialVersionUID = 1L;
+    private static final Pattern classPattern = Pattern.compile("\"class\"\\s*:\\s*\"([^\"]+)\"");
+
+    public LoadTransformerFunctionIterator(
+            List<RuntimeIterator> arguments,
+            ExecutionMode executionMode,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(arguments, executionMode, iteratorMetadata);
+    }
+
+    @Override
+    public Item materializeFirstItemOrNull(
+            DynamicContext dynamicContext
+    ) {
+        String path = this.children.get(0).materializeFirstItemOrNull(dynamicContext).getStringValue();
+        URI uri = FileSystemUtil.resolveURI(this.staticURI, path, getMetadata());
+        if (!FileSystemUtil.exists(uri, dynamicContext.getRumbleRuntimeConfiguration(), getMetadata())) {
+            throw new CannotRetrieveResourceException("No transformer was saved at " + uri + ".", getMetadata());
+        }
+
+        String transformerClassName = readTransformerClassName(uri);
+        Class<?> transformerClass;
+        try {
+            transformerClass = Class.forName(transformerClassName);
+        } catch (ClassNotFoundException e) {
+            throw new InvalidRumbleMLParamException(
+                    "The transformer saved at " + uri + " has an unknown class: " + transformerClassName,
+                    getMetadata()
+            );
+        }
+        if (!Transformer.class.isAssignableFrom(transformerClass)) {
+            throw new InvalidRumbleMLParamException(
+                    "What is saved at " + uri + " is not a transformer, but a " + transformerClassName + ".",
+                    getMetadata()
+            );
+        }
+
+        Transformer transformer;
+        try {
+            transformer = (Transformer) transformerClass.getMethod("load", String.class).invoke(null, uri.toString());
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new InvalidRumbleMLParamException(
+                    RumbleMLCatalog.getRumbleMLShortName(transformerClassName) + " cannot be loaded.",
+                    getMetadata()
+            );
+        } catch (InvocationTargetException e) {
+            RumbleException ex = new CannotRetrieveResourceException(
+                    "The transformer saved at " + uri + " could not be loaded: " + e.getCause().getMessage(),
+                    getMetadata()
+            );
+            ex.initCause(e.getCause());
+            throw ex;
+        }
+        return ApplyEstimatorRuntimeIterator.generateTransformerFunctionItem(
+            transformer,
+            dynamicContext.getRumbleRuntimeConfiguration(),
+            getMetadata()
+        );
+    }
+
+    private String readTransformerClassName(URI uri) {
+        String metadata;
+        try {
+            metadata = SparkSessionManager.getInstance()
+                .getJavaSparkContext()
+                .textFile(uri + "/metadata", 1)
+                .first();
+        } catch (Exception e) {
+            RumbleException ex = new CannotRetrieveResourceException(
+                    "No transformer was saved at " + uri + " (its metadata cannot be read).",
+                    getMetadata()
+            );
+            ex.initCause(e);
+            throw ex;
+        }
+        Matcher matcher = classPattern.matcher(metadata);
+        if (!matcher.find()) {
+            throw new CannotRetrieveResourceException(
+                    "No transformer was saved at " + uri + " (its metadata has no class).",
+                    getMetadata()
+            );
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,430 @@
+package sparksoniq.spark.ml;
+
+import org.apache.spark.ml.PredictionModel;
+import org.apache.spark.ml.Transformer;
+import org.apache.spark.ml.classification.ClassificationModel;
+import org.apache.spark.ml.classification.DecisionTreeClassificationModel;
+import org.apache.spark.ml.classification.GBTClassificationModel;
+import org.apache.spark.ml.classification.LogisticRegressionModel;
+import org.apache.spark.ml.classification.ProbabilisticClassificationModel;
+import org.apache.spark.ml.classification.RandomForestClassificationModel;
+import org.apache.spark.ml.feature.StandardScalerModel;
+import org.apache.spark.ml.feature.StringIndexerModel;
+import org.apache.spark.ml.feature.VectorAssembler;
+import org.apache.spark.ml.linalg.DenseVector;
+import org.apache.spark.ml.linalg.SparseVector;
+import org.apache.spark.ml.linalg.Vector;
+import org.apache.spark.ml.linalg.Vectors;
+import org.apache.spark.ml.regression.DecisionTreeRegressionModel;
+import org.apache.spark.ml.regression.GBTRegressionModel;
+import org.apache.spark.ml.regression.LinearRegressionModel;
+import org.apache.spark.ml.regression.RandomForestRegressionModel;
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidRumbleMLParamException;
+import org.rumbledb.items.ItemFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies fitted models and feature transformers to local objects within the JVM, without creating a DataFrame and
+ * running a Spark job. This is used when a transformer is called on a local sequence of objects, e.g., to score a
+ * handful of objects in a server request.
+ *
+ * The output objects are the same as those obtained by applying the transformer to a DataFrame with the same
+ * objects: the input fields, followed by the output fields of the transformer. Feature vectors are arrays of doubles,
+ * or objects mapping the indices of non-zero values to these values for sparse vectors.
+ */
+public class RumbleMLLocalScoring {
+
+    private static final String HANDLE_INVALID_ERROR = "error";
+    private static final String HANDLE_INVALID_SKIP = "skip";
+
+    private static final List<Class<?>> supportedTransformerClasses = Arrays.asList(
+        LinearRegressionModel.class,
+        LogisticRegressionModel.class,
+        DecisionTreeClassificationModel.class,
+        DecisionTreeRegressionModel.class,
+        RandomForestClassificationModel.class,
+        RandomForestRegressionModel.class,
+        GBTClassificationModel.class,
+        GBTRegressionModel.class,
+        VectorAssembler.class,
+        StringIndexerModel.class,
+        StandardScalerModel.class
+    );
+
+    /**
+     * Tells whether a transformer, with its parameters set, can be applied locally.
+     *
+     * @param transformer the transformer.
+     * @return true if it can be applied to local objects.
+     */
+    public static boolean supports(Transformer transformer) {
+        if (!supportedTransformerClasses.contains(transformer.getClass())) {
+            return false;
+        }
+        if (transformer instanceof DecisionTreeRegressionModel) {
+            // the variance of the prediction is not exposed by the model
+            DecisionTreeRegressionModel model = (DecisionTreeRegressionModel) transformer;
+            return !model.isDefined(model.varianceCol()) || model.getVarianceCol().isEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Applies a transformer to local objects.
+     *
+     * @param transformer a supported transformer, with its parameters set.
+     * @param objects the input objects.
+     * @param metadata the metadata of the call.
+     * @return the output objects.
+     */
+    public static List<Item> transform(Transformer transformer, List<Item> objects, ExceptionMetadata metadata) {
+        List<Item> result = new ArrayList<>(objects.size());
+        for (Item object : objects) {
+            Map<String, Item> outputFields = new HashMap<>();
+            List<String> outputFieldNames = new ArrayList<>();
+            boolean keep;
+            if (transformer instanceof PredictionModel) {
+                keep = predict(transformer, object, outputFieldNames, outputFields, metadata);
+            } else if (transformer instanceof VectorAssembler) {
+                keep = assemble((VectorAssembler) transformer, object, outputFieldNames, outputFields, metadata);
+            } else if (transformer instanceof StringIndexerModel) {
+                keep = index((StringIndexerModel) transformer, object, outputFieldNames, outputFields, metadata);
+            } else {
+                keep = scale((StandardScalerModel) transformer, object, outputFieldNames, outputFields, metadata);
+            }
+            if (keep) {
+                result.add(createOutputObject(object, outputFieldNames, outputFields, metadata));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean predict(
+            Transformer transformer,
+            Item object,
+            List<String> outputFieldNames,
+            Map<String, Item> outputFields,
+            ExceptionMetadata metadata
+    ) {
+        PredictionModel<Vector, ?> model = (PredictionModel<Vector, ?>) transformer;
+        Vector features = getVector(object, model.getFeaturesCol(), model.numFeatures(), metadata);
+        if (features.size() != model.numFeatures()) {
+            throw new InvalidRumbleMLParamException(
+                    "The field "
+                        + model.getFeaturesCol()
+                        + " has "
+                        + features.size()
+                        + " features, but the model expects "
+                        + model.numFeatures()
+                        + ".",
+                    metadata
+            );
+        }
+        if (!(model instanceof ClassificationModel)) {
+            addOutputField(
+                model.getPredictionCol(),
+                ItemFactory.getInstance().createDoubleItem(model.predict(features)),
+                outputFieldNames,
+                outputFields
+            );
+            return true;
+        }
+        // same columns, in the same order, as ProbabilisticClassificationModel.transform()
+        ProbabilisticClassificationModel<Vector, ?> classifier = (ProbabilisticClassificationModel<Vector, ?>) model;
+        Vector rawPrediction = classifier.predictRaw(features);
+        Vector probability = null;
+        addOutputField(
+            classifier.getRawPredictionCol(),
+            createVectorItem(rawPrediction, metadata),
+            outputFieldNames,
+            outputFields
+        );
+        if (!classifier.getProbabilityCol().isEmpty()) {
+            probability = classifier.raw2probability(rawPrediction);
+            addOutputField(
+                classifier.getProbabilityCol(),
+                createVectorItem(probability, metadata),
+                outputFieldNames,
+                outputFields
+            );
+        }
+        double prediction;
+        if (!classifier.getRawPredictionCol().isEmpty() && !classifier.isDefined(classifier.thresholds())) {
+            prediction = classifier.raw2prediction(rawPrediction);
+        } else if (probability != null) {
+            prediction = classifier.probability2prediction(probability);
+        } else {
+            prediction = classifier.predict(features);
+        }
+        addOutputField(
+            classifier.getPredictionCol(),
+            ItemFactory.getInstance().createDoubleItem(prediction),
+            outputFieldNames,
+            outputFields
+        );
+        return true;
+    }
+
+    private static boolean assemble(
+            VectorAssembler assembler,
+            Item object,
+            List<String> outputFieldNames,
+            Map<String, Item> outputFields,
+            ExceptionMetadata metadata
+    ) {
+        List<Double> values = new ArrayList<>();
+        for (String inputField : assembler.getInputCols()) {
+            Item value = object.getItemByKey(inputField);
+            if (value == null || value.isNull()) {
+                switch (assembler.getHandleInvalid()) {
+                    case HANDLE_INVALID_ERROR:
+                        throw new InvalidRumbleMLParamException(
+                                "Encountered null while assembling the field "
+                                    + inputField
+                                    + " with handleInvalid = \"error\". Consider removing nulls from the data or "
+                                    + "using handleInvalid = \"keep\" or \"skip\".",
+                                metadata
+                        );
+                    case HANDLE_INVALID_SKIP:
+                        return false;
+                    default:
+                        values.add(Double.NaN);
+                        continue;
+                }
+            }
+            if (value.isArray() || value.isObject()) {
+                for (double member : toVector(value, inputField, -1, metadata).toArray()) {
+                    values.add(member);
+                }
+            } else {
+                values.add(toDouble(value, inputField, metadata));
+            }
+        }
+        double[] vector = new double[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(i);
+        }
+        addOutputField(
+            assembler.getOutputCol(),
+            createVectorItem(Vectors.dense(vector).compressed(), metadata),
+            outputFieldNames,
+            outputFields
+        );
+        return true;
+    }
+
+    private static boolean index(
+            StringIndexerModel indexer,
+            Item object,
+            List<String> outputFieldNames,
+            Map<String, Item> outputFields,
+            ExceptionMetadata metadata
+    ) {
+        String[] inputFields = indexer.getInOutCols()._1();
+        String[] outputFieldsOfIndexer = indexer.getInOutCols()._2();
+        String[][] labels = indexer.labelsArray();
+        for (int i = 0; i < inputFields.length; i++) {
+            Item value = object.getItemByKey(inputFields[i]);
+            int index = -1;
+            if (value != null && !value.isNull()) {
+                index = Arrays.asList(labels[i]).indexOf(toLabel(value));
+            }
+            if (index == -1) {
+                switch (indexer.getHandleInvalid()) {
+                    case HANDLE_INVALID_ERROR:
+                        throw new InvalidRumbleMLParamException(
+                                "The StringIndexer model does not know the value "
+                                    + (value == null ? "null" : value.serialize())
+                                    + " of the field "
+                                    + inputFields[i]
+                                    + ". To handle or skip such values, set handleInvalid.",
+                                metadata
+                        );
+                    case HANDLE_INVALID_SKIP:
+                        return false;
+                    default:
+                        index = labels[i].length;
+                }
+            }
+            addOutputField(
+                outputFieldsOfIndexer[i],
+                ItemFactory.getInstance().createDoubleItem(index),
+                outputFieldNames,
+                outputFields
+            );
+        }
+        return true;
+    }
+
+    private static boolean scale(
+            StandardScalerModel scaler,
+            Item object,
+            List<String> outputFieldNames,
+            Map<String, Item> outputFields,
+            ExceptionMetadata metadata
+    ) {
+        Vector input = getVector(object, scaler.getInputCol(), scaler.mean().size(), metadata);
+        double[] mean = scaler.mean().toArray();
+        double[] std = scaler.std().toArray();
+        Vector output;
+        if (scaler.getWithMean()) {
+            double[] values = input.toArray();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = values[i] - mean[i];
+                if (scaler.getWithStd()) {
+                    values[i] = std[i] != 0.0 ? values[i] * (1.0 / std[i]) : 0.0;
+                }
+            }
+            output = Vectors.dense(values);
+        } else if (scaler.getWithStd() && input instanceof SparseVector) {
+            SparseVector sparse = (SparseVector) input;
+            double[] values = sparse.values().clone();
+            for (int i = 0; i < values.length; i++) {
+                int index = sparse.indices()[i];
+                values[i] = std[index] != 0.0 ? values[i] * (1.0 / std[index]) : 0.0;
+            }
+            output = Vectors.sparse(sparse.size(), sparse.indices(), values);
+        } else if (scaler.getWithStd()) {
+            double[] values = input.toArray();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = std[i] != 0.0 ? values[i] * (1.0 / std[i]) : 0.0;
+            }
+            output = Vectors.dense(values);
+        } else {
+            output = input;
+        }
+        addOutputField(scaler.getOutputCol(), createVectorItem(output, metadata), outputFieldNames, outputFields);
+        return true;
+    }
+
+    private static void addOutputField(
+            String name,
+            Item value,
+            List<String> outputFieldNames,
+            Map<String, Item> outputFields
+    ) {
+        // an empty column name disables the corresponding output in SparkML
+        if (name.isEmpty()) {
+            return;
+        }
+        outputFieldNames.add(name);
+        outputFields.put(name, value);
+    }
+
+    private static Item createOutputObject(
+            Item object,
+            List<String> outputFieldNames,
+            Map<String, Item> outputFields,
+            ExceptionMetadata metadata
+    ) {
+        List<String> keys = new ArrayList<>(object.getKeys());
+        List<Item> values = new ArrayList<>(object.getValues());
+        for (String name : outputFieldNames) {
+            if (keys.contains(name)) {
+                throw new InvalidRumbleMLParamException(
+                        "Output field " + name + " already exists in the input objects.",
+                        metadata
+                );
+            }
+            keys.add(name);
+            values.add(outputFields.get(name));
+        }
+        return ItemFactory.getInstance().createObjectItem(keys, values, metadata);
+    }
+
+    private static Vector getVector(Item object, String field, int size, ExceptionMetadata metadata) {
+        Item value = object.getItemByKey(field);
+        if (value == null || !(value.isArray() || value.isObject())) {
+            throw new InvalidRumbleMLParamException(
+                    "The field "
+                        + field
+                        + " must contain an array of features in all objects."
+                        + "\nIf you do not have such a field in your data, then you can build it with the VectorAssembler transformer by combining the fields you want to include.",
+                    metadata
+            );
+        }
+        return toVector(value, field, size, metadata);
+    }
+
+    // arrays are dense vectors, and objects are sparse vectors (as in the items converted from DataFrames)
+    private static Vector toVector(Item value, String field, int size, ExceptionMetadata metadata) {
+        if (value.isArray()) {
+            List<Item> members = value.getItems();
+            double[] values = new double[members.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = toDouble(members.get(i), field, metadata);
+            }
+            return new DenseVector(values);
+        }
+        List<String> keys = value.getKeys();
+        int[] indices = new int[keys.size()];
+        double[] values = new double[keys.size()];
+        int maximumIndex = -1;
+        for (int i = 0; i < indices.length; i++) {
+            try {
+                indices[i] = Integer.parseInt(keys.get(i));
+            } catch (NumberFormatException e) {
+                throw new InvalidRumbleMLParamException(
+                        "The sparse vector in the field " + field + " has a key that is not an index: " + keys.get(i),
+                        metadata
+                );
+            }
+            values[i] = toDouble(value.getItemByKey(keys.get(i)), field, metadata);
+            maximumIndex = Math.max(maximumIndex, indices[i]);
+        }
+        return Vectors.sparse(size >= 0 ? size : maximumIndex + 1, indices, values);
+    }
+
+    private static double toDouble(Item value, String field, ExceptionMetadata metadata) {
+        if (value.isNumeric()) {
+            return value.castToDoubleValue();
+        }
+        if (value.isBoolean()) {
+            return value.getBooleanValue() ? 1.0 : 0.0;
+        }
+        throw new InvalidRumbleMLParamException(
+                "The field " + field + " contains a value that is not a number: " + value.serialize(),
+                metadata
+        );
+    }
+
+    // the string to which Spark SQL casts the value
+    private static String toLabel(Item value) {
+        if (value.isString()) {
+            return value.getStringValue();
+        }
+        if (value.isDouble()) {
+            return String.valueOf(value.getDoubleValue());
+        }
+        if (value.isFloat()) {
+            return String.valueOf(value.getFloatValue());
+        }
+        return value.serialize();
+    }
+
+    private static Item createVectorItem(Vector vector, ExceptionMetadata metadata) {
+        if (vector instanceof SparseVector) {
+            SparseVector sparseVector = (SparseVector) vector;
+            List<String> keys = new ArrayList<>();
+            List<Item> values = new ArrayList<>();
+            for (int i = 0; i < sparseVector.indices().length; i++) {
+                keys.add(String.valueOf(sparseVector.indices()[i]));
+                values.add(ItemFactory.getInstance().createDoubleItem(sparseVector.values()[i]));
+            }
+            return ItemFactory.getInstance().createObjectItem(keys, values, metadata);
+        }
+        List<Item> members = new ArrayList<>(vector.size());
+        for (double value : vector.toArray()) {
+            members.add(ItemFactory.getInstance().createDoubleItem(value));
+        }
+        return ItemFactory.getInstance().createArrayItem(members);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+
+package sparksoniq.spark.ml;
+
+import org.apache.spark.ml.Transformer;
+import org.apache.spark.ml.util.MLWritable;
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.CannotRetrieveResourceException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidRumbleMLParamException;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.items.ItemFactory;
+import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.functions.input.FileSystemUtil;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * save-transformer($transformer, $path) writes a transformer (typically a model fitted by an estimator) to a
+ * directory with the persistence of Spark ML, replacing anything previously saved there, and returns the resolved
+ * path. The transformer can then be loaded back with load-transformer($path) by other queries or applications.
+ */
+public class SaveTransformerFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
+
+    private static final long serialVersionUID = 1L;
+
+    public SaveTransformerFunctionIterator(
+            List<RuntimeIterator> arguments,
+            ExecutionMode executionMode,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(arguments, executionMode, iteratorMetadata);
+    }
+
+    @Override
+    public Item materializeFirstItemOrNull(
+            DynamicContext dynamicContext
+    ) {
+        Item transformerItem = this.children.get(0).materializeFirstItemOrNull(dynamicContext);
+        String path = this.children.get(1).materializeFirstItemOrNull(dynamicContext).getStringValue();
+        if (!transformerItem.isTransformer()) {
+            throw new InvalidRumbleMLParamException(
+                    "save-transformer can only save a transformer obtained with get-transformer() or by fitting an estimator.",
+                    getMetadata()
+            );
+        }
+        Transformer transformer = transformerItem.getTransformer();
+        if (!(transformer instanceof MLWritable)) {
+            throw new InvalidRumbleMLParamException(
+                    RumbleMLCatalog.getRumbleMLShortName(transformer.getClass().getName())
+                        + " cannot be saved.",
+                    getMetadata()
+            );
+        }
+        URI uri = FileSystemUtil.resolveURI(this.staticURI, path, getMetadata());
+        try {
+            ((MLWritable) transformer).write().overwrite().save(uri.toString());
+        } catch (IOException e) {
+            RumbleException ex = new CannotRetrieveResourceException(
+                    "The transformer could not be saved to " + uri + ": " + e.getMessage(),
+                    getMetadata()
+            );
+            ex.initCause(e);
+            throw ex;
+        }
+        return ItemFactory.getInstance().createStringItem(uri.toString());
+    }
+}
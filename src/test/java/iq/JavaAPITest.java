@@ -20,19 +20,63 @@
 
 package iq;
 
+import org.apache.commons.lang.SerializationUtils;
+import org.apache.spark.JobExecutionStatus;
 import org.apache.spark.SparkConf;
+import org.apache.spark.SparkException;
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaSparkStatusTracker;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.execution.CacheManager;
+import org.apache.spark.sql.types.ArrayType;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.rumbledb.api.Item;
 import org.rumbledb.api.Rumble;
 import org.rumbledb.api.SequenceOfItems;
+import org.rumbledb.compiler.VisitorHelpers;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.InteractiveSession;
+import org.rumbledb.context.Name;
+import org.rumbledb.context.VariableValues;
+import org.rumbledb.exceptions.CannotMaterializeException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidInstanceException;
+import org.rumbledb.exceptions.ParsingException;
+import org.rumbledb.exceptions.QueryCancelledException;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.expressions.module.MainModule;
+import org.rumbledb.items.FunctionItem;
+import org.rumbledb.items.ItemFactory;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.SharedValueIterator;
+import org.rumbledb.runtime.flwor.clauses.GroupByClauseSparkIterator;
+import org.rumbledb.server.ServerSessions;
 
 import sparksoniq.spark.SparkSessionManager;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.Set;
+import java.util.IdentityHashMap;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 public class JavaAPITest {
 
@@ -122,4 +166,868 @@ public class JavaAPITest {
             Assert.assertTrue(value.getIntValue() == i);
         }
     }
+
+    @Test(timeout = 1000000)
+    public void testQueryScopedCache() throws Throwable {
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        SparkSession session = SparkSessionManager.getInstance().getOrCreateSession();
+        CacheManager cacheManager = session.sharedState().cacheManager();
+        // sequences of other tests may not have been closed
+        session.catalog().clearCache();
+
+        // the input of the count clause is cached until the query is done, even if other queries run meanwhile
+        SequenceOfItems sequence = rumble.runQuery(
+            "for $i in parallelize(1 to 100, 4) count $c where $c le 3 return $c"
+        );
+        sequence.open();
+        Assert.assertTrue(sequence.hasNext());
+        Assert.assertTrue(!cacheManager.isEmpty());
+        List<Item> otherResult = new ArrayList<>();
+        rumble.runQuery("for $i in parallelize(1 to 10, 2) count $c where $i eq 2 return $c")
+            .populateList(otherResult);
+        Assert.assertEquals(1, otherResult.size());
+        Assert.assertEquals("2", otherResult.get(0).serialize());
+        Assert.assertTrue(!cacheManager.isEmpty());
+        List<String> result = new ArrayList<>();
+        while (sequence.hasNext()) {
+            result.add(sequence.next().serialize());
+        }
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals("3", result.get(2));
+        sequence.close();
+        Assert.assertTrue(cacheManager.isEmpty());
+
+        // data persisted for two running queries is only unpersisted once both are done
+        SparkSessionManager manager = SparkSessionManager.getInstance();
+        Dataset<Row> df = session.range(10).toDF();
+        manager.bindQuery("first");
+        manager.persistForCurrentQuery(df);
+        manager.bindQuery("second");
+        manager.persistForCurrentQuery(session.range(10).toDF());
+        manager.releaseQuery("first");
+        Assert.assertTrue(cacheManager.lookupCachedData(df).isDefined());
+        manager.releaseQuery("second");
+        Assert.assertTrue(cacheManager.isEmpty());
+    }
+
+    @Test(timeout = 1000000)
+    public void testFunctionBodyPool() throws Throwable {
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        List<Item> result = new ArrayList<>();
+        rumble.runQuery("function($x) { $x + 1 }").populateList(result);
+        FunctionItem function = (FunctionItem) result.get(0);
+
+        // a released copy is reused by the next call
+        RuntimeIterator bodyIterator = function.acquireBodyIterator();
+        Assert.assertNotSame(function.getBodyIterator(), bodyIterator);
+        function.releaseBodyIterator(bodyIterator);
+        Assert.assertSame(bodyIterator, function.acquireBodyIterator());
+        function.releaseBodyIterator(bodyIterator);
+
+        // simultaneous calls never get the same copy
+        Set<RuntimeIterator> inUse = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            calls.add(executor.submit(() -> {
+                for (int j = 0; j < 1000; ++j) {
+                    RuntimeIterator iterator = function.acquireBodyIterator();
+                    Assert.assertTrue(inUse.add(iterator));
+                    Assert.assertTrue(inUse.remove(iterator));
+                    function.releaseBodyIterator(iterator);
+                }
+            }));
+        }
+        for (Future<?> call : calls) {
+            call.get();
+        }
+        executor.shutdown();
+    }
+
+    @Test(timeout = 1000000)
+    public void testDeepCopyWithNestedClosure() throws Throwable {
+        RumbleRuntimeConfiguration configuration = new RumbleRuntimeConfiguration(new String[] {});
+        MainModule mainModule = VisitorHelpers.parseMainModuleFromQuery(
+            "let $y := 10 "
+                + "let $f := function($x) { let $g := function($z) { $z + $x + $y } return $g(1) } "
+                + "for $i in 1 to 3 "
+                + "return [ $f($i) ]",
+            configuration
+        );
+        RuntimeIterator iterator = VisitorHelpers.generateRuntimeIterator(mainModule, configuration);
+        DynamicContext context = VisitorHelpers.createDynamicContext(mainModule, configuration);
+        RuntimeIterator copy = iterator.deepCopy();
+        Assert.assertNotSame(iterator, copy);
+
+        // the copy is evaluated independently while the original is open
+        iterator.open(context);
+        Assert.assertEquals("[ 12 ]", iterator.next().serialize());
+        List<String> copyResult = new ArrayList<>();
+        for (Item item : copy.materialize(context)) {
+            copyResult.add(item.serialize());
+        }
+        Assert.assertEquals(Arrays.asList("[ 12 ]", "[ 13 ]", "[ 14 ]"), copyResult);
+        Assert.assertEquals("[ 13 ]", iterator.next().serialize());
+        Assert.assertEquals("[ 14 ]", iterator.next().serialize());
+        Assert.assertTrue(!iterator.hasNext());
+        iterator.close();
+    }
+
+    @Test(timeout = 1000000)
+    public void testSharedValueRebinding() throws Throwable {
+        Name x = Name.createVariableInNoNamespace("x");
+        VariableValues values = new VariableValues();
+        List<Item> list = new ArrayList<>(Arrays.asList(ItemFactory.getInstance().createIntItem(1)));
+        values.addVariableValue(x, list);
+        long binding = values.getBinding(x, ExceptionMetadata.EMPTY_METADATA);
+        Assert.assertEquals(binding, values.getBinding(x, ExceptionMetadata.EMPTY_METADATA));
+        VariableValues child = new VariableValues(values);
+        Assert.assertEquals(binding, child.getBinding(x, ExceptionMetadata.EMPTY_METADATA));
+
+        SharedValueIterator.SharedValue sharedValue = new SharedValueIterator.SharedValue();
+        List<Item> value = Arrays.asList(ItemFactory.getInstance().createIntItem(2));
+        sharedValue.set(new long[] { binding }, value);
+        Assert.assertSame(
+            value,
+            sharedValue.get(new long[] { values.getBinding(x, ExceptionMetadata.EMPTY_METADATA) })
+        );
+
+        // the same list, modified and bound again, is a new binding
+        list.set(0, ItemFactory.getInstance().createIntItem(3));
+        values.addVariableValue(x, list);
+        long newBinding = values.getBinding(x, ExceptionMetadata.EMPTY_METADATA);
+        Assert.assertNotEquals(binding, newBinding);
+        Assert.assertNull(sharedValue.get(new long[] { newBinding }));
+
+        // a variable shadowing another one has its own binding
+        child.addVariableValue(x, list);
+        Assert.assertNotEquals(newBinding, child.getBinding(x, ExceptionMetadata.EMPTY_METADATA));
+        Assert.assertEquals(newBinding, values.getBinding(x, ExceptionMetadata.EMPTY_METADATA));
+    }
+
+    @Test(timeout = 1000000)
+    public void testMemoization() throws Throwable {
+        File log = File.createTempFile("trace", ".log");
+        log.deleteOnExit();
+        File module = File.createTempFile("memoized", ".jq");
+        module.deleteOnExit();
+        Files.write(
+            module.toPath(),
+            Arrays.asList(
+                "module namespace m = \"" + module.toURI() + "\";",
+                "declare %memoize function m:traced($x) { trace($x, \"m:traced\") + 1 };",
+                "declare %memoize function m:square($x) { $x * $x };"
+            ),
+            StandardCharsets.UTF_8
+        );
+        Rumble rumble = new Rumble(
+                new RumbleRuntimeConfiguration(new String[] { "--log-path", log.getAbsolutePath() })
+        );
+        SequenceOfItems sequence = rumble.runQuery(
+            "import module namespace m = \""
+                + module.toURI()
+                + "\"; "
+                + "declare %memoize function local:traced($x) { trace($x, \"local:traced\") + 1 }; "
+                + "(local:traced(1), local:traced(1), m:traced(1), m:traced(1), m:square(2), m:square(2))"
+        );
+        Assert.assertEquals(Arrays.asList("2", "2", "2", "2", "4", "4"), materializeSerialized(sequence));
+
+        // functions calling trace, in the main module or in a library module, are not memoized
+        List<String> traces = Files.readAllLines(log.toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals(2, traces.stream().filter(line -> line.startsWith("local:traced")).count());
+        Assert.assertEquals(2, traces.stream().filter(line -> line.startsWith("m:traced")).count());
+    }
+
+    @Test(timeout = 1000000)
+    public void testCostBasedExecutionModes() throws Throwable {
+        RumbleRuntimeConfiguration configuration = new RumbleRuntimeConfiguration(
+                new String[] {
+                    "--local-execution-threshold",
+                    "1000000",
+                    "--parallel-execution-threshold",
+                    "10" }
+        );
+        Rumble rumble = new Rumble(configuration);
+        SequenceOfItems iterator = rumble.runQuery(
+            "json-file(\"./src/test/resources/queries/stores.jsonl\").storeid"
+        );
+        Assert.assertTrue(!iterator.availableAsRDD());
+        iterator.open();
+        for (int i = 1; i <= 7; ++i) {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertTrue(iterator.next().getIntValue() == i);
+        }
+        Assert.assertTrue(!iterator.hasNext());
+        iterator.close();
+
+        // the file is read again on the driver for each evaluation of the call
+        iterator = rumble.runQuery(
+            "for $i in 1 to 2 return count(unparsed-text-lines(\"./src/test/resources/queries/stores.jsonl\"))"
+        );
+        Assert.assertTrue(!iterator.availableAsRDD());
+        List<Item> counts = new ArrayList<>();
+        iterator.populateList(counts);
+        Assert.assertEquals(2, counts.size());
+        Assert.assertEquals(7, counts.get(1).getIntValue());
+
+        iterator = rumble.runQuery("for $i in 1 to 20 return $i * 2");
+        Assert.assertTrue(iterator.availableAsRDD());
+        List<Item> list = iterator.getAsRDD().collect();
+        Assert.assertTrue(list.size() == 20);
+        Assert.assertTrue(list.get(19).getIntValue() == 40);
+
+        iterator = rumble.runQuery("for $i in 1 to 5 return $i * 2");
+        Assert.assertTrue(!iterator.availableAsRDD());
+    }
+
+    @Test(timeout = 1000000)
+    public void testLocalQueryWithoutSparkSession() throws Throwable {
+        // the Spark session of this JVM already exists, so the query runs in a new one
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp",
+                System.getProperty("java.class.path"),
+                LocalQuery.class.getName()
+        ).redirectErrorStream(true).start();
+        String output = new BufferedReader(new InputStreamReader(process.getInputStream())).lines()
+            .collect(Collectors.joining("\n"));
+        Assert.assertEquals(output, 0, process.waitFor());
+        Assert.assertTrue(output, output.endsWith("3 false"));
+    }
+
+    public static class LocalQuery {
+        public static void main(String[] args) {
+            Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+            List<Item> result = new ArrayList<>();
+            rumble.runQuery(
+                "(for $i in 1 to 2 return $i * 2, "
+                    + "count(json-doc(\"./src/test/resources/queries/singleLine.json\")))"
+            ).populateList(result);
+            System.out.println(result.size() + " " + SparkSessionManager.getInstance().isSessionInitialized());
+        }
+    }
+
+    @Test(timeout = 1000000)
+    public void testRowObjectItem() throws Throwable {
+        SparkSession session = SparkSessionManager.getInstance().getOrCreateSession();
+        Row row = session.sql("SELECT 1 AS a, CAST(NULL AS STRING) AS b, 'x' AS c").collectAsList().get(0);
+        Item object = ItemParser.getItemFromRow(row, ExceptionMetadata.EMPTY_METADATA, null);
+        Assert.assertEquals(Arrays.asList("a", "c"), object.getKeys());
+        Assert.assertEquals(2, object.getValues().size());
+        Assert.assertEquals("x", object.getValues().get(1).getStringValue());
+        Assert.assertNull(object.getItemByKey("b"));
+        Assert.assertEquals(
+            ItemFactory.getInstance()
+                .createObjectItem(
+                    new ArrayList<>(Arrays.asList("a", "c")),
+                    new ArrayList<>(object.getValues()),
+                    ExceptionMetadata.EMPTY_METADATA
+                )
+                .hashCode(),
+            object.hashCode()
+        );
+
+        // once materialized, the object has the same fields
+        object.putItemByKey("d", ItemFactory.getInstance().createBooleanItem(true));
+        Assert.assertEquals(Arrays.asList("a", "c", "d"), object.getKeys());
+        Assert.assertEquals(3, object.getValues().size());
+        Assert.assertEquals(1, object.getItemByKey("a").getIntValue());
+        Assert.assertNull(object.getItemByKey("b"));
+        Assert.assertTrue(object.getItemByKey("d").getBooleanValue());
+    }
+
+    @Test(timeout = 1000000)
+    public void testNativeReturnDataFrame() throws Throwable {
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        SequenceOfItems iterator = rumble.runQuery(
+            "for $i in structured-json-file(\"./src/test/resources/queries/confusion_sample.json\") "
+                + "where $i.country eq \"AU\" "
+                + "return { \"guess\" : upper-case($i.guess), \"choices\" : $i.choices, \"n\" : 1 }"
+        );
+        Assert.assertTrue(!iterator.availableAsDataFrame());
+        Assert.assertTrue(iterator.convertibleToDataFrame());
+        Dataset<Row> df = iterator.getAsDataFrame();
+        Assert.assertArrayEquals(new String[] { "guess", "choices", "n" }, df.schema().fieldNames());
+        Assert.assertTrue(df.schema().apply("choices").dataType() instanceof ArrayType);
+        Assert.assertEquals(iterator.getAsRDD().count(), df.count());
+
+        iterator = rumble.runQuery(
+            "for $i in structured-json-file(\"./src/test/resources/queries/confusion_sample.json\") "
+                + "return { \"guess\" : $i.guess, \"sample\" : $i.sample[] }"
+        );
+        Assert.assertTrue(!iterator.convertibleToDataFrame());
+    }
+
+    @Test(timeout = 1000000)
+    public void testNativeDateTimeComparison() throws Throwable {
+        SparkSession session = SparkSessionManager.getInstance().getOrCreateSession();
+        String timeZone = session.conf().get("spark.sql.session.timeZone");
+        File directory = Files.createTempDirectory("timestamps").toFile();
+        try {
+            session.sql("SELECT CAST(id * 3600 AS TIMESTAMP) AS t FROM range(48)")
+                .write()
+                .mode("overwrite")
+                .parquet(directory.getAbsolutePath());
+            Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+            String query = "count(for $i in parquet-file(\""
+                + directory.toURI()
+                + "\") where $i.t lt dateTime(\"1970-01-02T01:00:00+01:00\") return $i)";
+
+            // the instant does not depend on the time zone of the session
+            for (String sessionTimeZone : new String[] { "UTC", "America/Los_Angeles", "Asia/Tokyo" }) {
+                session.conf().set("spark.sql.session.timeZone", sessionTimeZone);
+                Assert.assertEquals(Arrays.asList("24"), materializeSerialized(rumble.runQuery(query)));
+            }
+        } finally {
+            session.conf().set("spark.sql.session.timeZone", timeZone);
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test(timeout = 1000000)
+    public void testSkewResistantGroupBy() throws Throwable {
+        String query = "for $i in parallelize(1 to 1000, 4) "
+            + "let $k := if ($i mod 10 lt 7) then \"hot\" else $i mod 10 "
+            + "group by $k "
+            + "order by string($k) "
+            + "return { \"k\" : $k, \"n\" : count($i), \"s\" : sum($i), \"m\" : max($i) }";
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        List<Item> expected = rumble.runQuery(query).getAsRDD().collect();
+        Rumble saltingRumble = new Rumble(
+                new RumbleRuntimeConfiguration(
+                        new String[] { "--skew-resistant-group-by", "yes", "--group-by-salt-partitions", "3" }
+                )
+        );
+        SparkSession session = SparkSessionManager.getInstance().getOrCreateSession();
+        session.catalog().dropTempView("saltedInput");
+        List<Item> actual = saltingRumble.runQuery(query).getAsRDD().collect();
+        Assert.assertEquals(4, actual.size());
+        Assert.assertEquals(700, actual.get(3).getItemByKey("n").getIntValue());
+        for (int i = 0; i < expected.size(); ++i) {
+            Assert.assertEquals(expected.get(i).serialize(), actual.get(i).serialize());
+        }
+        Assert.assertTrue(
+            Arrays.asList(session.table("saltedInput").columns())
+                .contains(GroupByClauseSparkIterator.SALT_COLUMN_NAME)
+        );
+
+        // native group by, AU accounts for most of the lines, whose order is kept within the group
+        query = "for $i in json-file(\"./src/test/resources/queries/confusion_sample.json\", 4) "
+            + "group by $c := $i.country "
+            + "order by $c "
+            + "return { \"c\" : $c, \"n\" : count($i), \"targets\" : [ $i.target ] }";
+        rumble = new Rumble(
+                new RumbleRuntimeConfiguration(new String[] { "--json-file-schema-inference", "yes" })
+        );
+        saltingRumble = new Rumble(
+                new RumbleRuntimeConfiguration(
+                        new String[] {
+                            "--json-file-schema-inference",
+                            "yes",
+                            "--skew-resistant-group-by",
+                            "yes",
+                            "--group-by-salt-partitions",
+                            "3" }
+                )
+        );
+        session.catalog().dropTempView("saltedInput");
+        List<String> expectedSerialized = materializeSerialized(rumble.runQuery(query));
+        Assert.assertFalse(session.catalog().tableExists("saltedInput"));
+        List<String> actualSerialized = materializeSerialized(saltingRumble.runQuery(query));
+        Assert.assertEquals(expectedSerialized, actualSerialized);
+        Assert.assertTrue(
+            Arrays.asList(session.table("saltedInput").columns())
+                .contains(GroupByClauseSparkIterator.SALT_COLUMN_NAME)
+        );
+    }
+
+    @Test(timeout = 1000000)
+    public void testSpillingLocalOrderByAndGroupBy() throws Throwable {
+        String[] queries = new String[] {
+            "for $i in 1 to 3000 order by $i mod 7 descending, string($i mod 3) return $i",
+            "for $i in 1 to 3000 let $k := $i mod 7 group by $k order by $k "
+                + "return { \"k\" : $k, \"n\" : count($i), \"s\" : sum($i), \"first\" : $i[1], \"last\" : $i[last()] }" };
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        Rumble spillingRumble = new Rumble(
+                new RumbleRuntimeConfiguration(new String[] { "--local-memory-budget", "0" })
+        );
+        for (String query : queries) {
+            List<String> expected = materializeSerialized(rumble.runQuery(query));
+            List<String> actual = materializeSerialized(spillingRumble.runQuery(query));
+            Assert.assertEquals(expected, actual);
+        }
+    }
+
+    @Test(timeout = 1000000)
+    public void testJsonFileSchemaInference() throws Throwable {
+        String query = "for $i in json-file(\"./src/test/resources/queries/confusion_sample.json\") "
+            + "where $i.country eq \"AU\" "
+            + "return $i";
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        Rumble inferringRumble = new Rumble(
+                new RumbleRuntimeConfiguration(new String[] { "--json-file-schema-inference", "yes" })
+        );
+        SequenceOfItems sequence = inferringRumble.runQuery(
+            "json-file(\"./src/test/resources/queries/confusion_sample.json\")"
+        );
+        Assert.assertTrue(sequence.availableAsDataFrame());
+        List<Item> expected = rumble.runQuery(query).getAsRDD().collect();
+        List<Item> actual = inferringRumble.runQuery(query).getAsRDD().collect();
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            Assert.assertEquals(expected.get(i).serialize(), actual.get(i).serialize());
+        }
+
+        // lines with a null field that is an object in other lines are not homogeneous
+        sequence = inferringRumble.runQuery("json-file(\"./src/test/resources/queries/lazy-rows.json\")");
+        Assert.assertTrue(!sequence.availableAsDataFrame());
+
+        File file = File.createTempFile("inferred", ".json");
+        file.deleteOnExit();
+        String fileQuery = "(count(json-file(\""
+            + file.toURI()
+            + "\")[$$.a instance of integer]), json-file(\""
+            + file.toURI()
+            + "\")[300].a)";
+
+        // a sampled line that does not match the schema of the other lines prevents inference
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 300; ++i) {
+            lines.add("{ \"a\" : " + i + " }");
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        Assert.assertTrue(inferringRumble.runQuery("json-file(\"" + file.toURI() + "\")").availableAsDataFrame());
+        lines.set(50, "{ \"a\" : \"50\" }");
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(file.lastModified() + 1000));
+        Assert.assertTrue(!inferringRumble.runQuery("json-file(\"" + file.toURI() + "\")").availableAsDataFrame());
+        Assert.assertEquals(
+            materializeSerialized(rumble.runQuery(fileQuery)),
+            materializeSerialized(inferringRumble.runQuery(fileQuery))
+        );
+
+        // numeric fields are not promoted
+        lines.set(50, "{ \"a\" : 50.5 }");
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(file.lastModified() + 1000));
+        Assert.assertTrue(!inferringRumble.runQuery("json-file(\"" + file.toURI() + "\")").availableAsDataFrame());
+        Assert.assertEquals(
+            materializeSerialized(rumble.runQuery(fileQuery)),
+            materializeSerialized(inferringRumble.runQuery(fileQuery))
+        );
+
+        // the lines that are not sampled are checked when the file is read
+        lines.set(50, "{ \"a\" : 50 }");
+        lines.set(299, "{ \"a\" : \"299\" }");
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(file.lastModified() + 1000));
+        SequenceOfItems mismatchingSequence = inferringRumble.runQuery(fileQuery);
+        try {
+            materializeSerialized(mismatchingSequence);
+            Assert.fail("The line that does not match the inferred schema should have been reported.");
+        } catch (Exception e) {
+            // the line is reported by the Spark job reading the file
+            Assert.assertTrue(e instanceof SparkException);
+            Assert.assertTrue(e.getCause() instanceof InvalidInstanceException);
+            Assert.assertTrue(e.getCause().getMessage().contains("--json-file-schema-inference no"));
+        }
+
+        // a directory is sampled once, when the query is compiled
+        File directory = Files.createTempDirectory("inferred").toFile();
+        try {
+            for (int i = 0; i < 2; ++i) {
+                Files.write(
+                    new File(directory, "part-" + i + ".json").toPath(),
+                    lines.subList(0, 200),
+                    StandardCharsets.UTF_8
+                );
+            }
+            String directoryQuery = "sum(json-file(\"" + directory.toURI() + "\").a)";
+            Assert.assertTrue(
+                inferringRumble.runQuery("json-file(\"" + directory.toURI() + "\")").availableAsDataFrame()
+            );
+            Assert.assertEquals(
+                materializeSerialized(rumble.runQuery(directoryQuery)),
+                materializeSerialized(inferringRumble.runQuery(directoryQuery))
+            );
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test(timeout = 1000000)
+    public void testCappedCollection() throws Throwable {
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] { "--result-size", "10" }));
+        SequenceOfItems sequence = rumble.runQuery("parallelize(1 to 1000, 4)");
+        List<Item> items = new ArrayList<>();
+        long count = sequence.populateListWithWarningOnlyIfCapReached(items);
+        Assert.assertEquals(1000, count);
+        Assert.assertEquals(10, items.size());
+        for (int i = 0; i < items.size(); ++i) {
+            Assert.assertEquals(i + 1, items.get(i).getIntValue());
+        }
+
+        JavaRDD<Item> rdd = rumble.runQuery("parallelize(1 to 1000, 4)").getAsRDD();
+        try {
+            SparkSessionManager.collectRDDwithLimit(rdd, ExceptionMetadata.EMPTY_METADATA);
+            Assert.fail("The materialization cap should have been reached.");
+        } catch (CannotMaterializeException e) {
+            Assert.assertTrue(e.getMessage().contains("sequence of 1000 items"));
+        }
+        rdd = rumble.runQuery("parallelize(1 to 10, 4)").getAsRDD();
+        Assert.assertEquals(10, SparkSessionManager.collectRDDwithLimit(rdd, ExceptionMetadata.EMPTY_METADATA).size());
+    }
+
+    @Test(timeout = 1000000)
+    public void testStreamingOutput() throws Throwable {
+        for (String prefetch : new String[] { "yes", "no" }) {
+            Rumble rumble = new Rumble(
+                    new RumbleRuntimeConfiguration(
+                            new String[] {
+                                "--result-size",
+                                "10",
+                                "--streaming-output",
+                                "yes",
+                                "--prefetch-partitions",
+                                prefetch }
+                    )
+            );
+            // the materialization cap does not apply to streamed sequences
+            SequenceOfItems sequence = rumble.runQuery("parallelize(1 to 1000, 4) ! ($$ * 2)");
+            sequence.open();
+            int expected = 0;
+            while (sequence.hasNext()) {
+                expected += 2;
+                Assert.assertEquals(expected, sequence.next().getIntValue());
+            }
+            sequence.close();
+            Assert.assertEquals(2000, expected);
+
+            // closing before the end stops the iteration
+            sequence = rumble.runQuery("parallelize(1 to 1000, 4)");
+            sequence.open();
+            Assert.assertEquals(1, sequence.next().getIntValue());
+            sequence.close();
+
+            // local sequences are not affected
+            Assert.assertEquals(Arrays.asList("1", "2", "3"), materializeSerialized(rumble.runQuery("1 to 3")));
+
+            // data frames are streamed as rows
+            Rumble inferringRumble = new Rumble(
+                    new RumbleRuntimeConfiguration(
+                            new String[] {
+                                "--streaming-output",
+                                "yes",
+                                "--prefetch-partitions",
+                                prefetch,
+                                "--json-file-schema-inference",
+                                "yes" }
+                    )
+            );
+            String query = "json-file(\"./src/test/resources/queries/confusion_sample.json\", 4)";
+            sequence = inferringRumble.runQuery(query);
+            Assert.assertTrue(sequence.availableAsDataFrame());
+            List<String> streamed = new ArrayList<>();
+            sequence.open();
+            while (sequence.hasNext()) {
+                streamed.add(sequence.next().serialize());
+            }
+            sequence.close();
+            Assert.assertEquals(500, streamed.size());
+            Assert.assertEquals(
+                inferringRumble.runQuery(query)
+                    .getAsRDD()
+                    .map(Item::serialize)
+                    .collect(),
+                streamed
+            );
+        }
+
+        // closing the sequence cancels the job computing the next partition
+        Rumble rumble = new Rumble(
+                new RumbleRuntimeConfiguration(new String[] { "--streaming-output", "yes" })
+        );
+        SequenceOfItems sequence = rumble.runQuery(
+            "parallelize(1 to 2, 2) ! (if ($$ eq 1) then 0 else count(for $i in 1 to 1000000000 return $i))"
+        );
+        sequence.open();
+        Assert.assertEquals(0, sequence.next().getIntValue());
+        sequence.close();
+        // the status tracker is updated asynchronously, so the jobs of the query may not be listed yet
+        JavaSparkStatusTracker tracker = SparkSessionManager.getInstance().getJavaSparkContext().statusTracker();
+        String jobGroup = sequence.getCancellation().getJobGroupId();
+        long start = System.currentTimeMillis();
+        while (
+            (tracker.getJobIdsForGroup(jobGroup).length < 2
+                || Arrays.stream(tracker.getJobIdsForGroup(jobGroup))
+                    .anyMatch(
+                        id -> tracker.getJobInfo(id).status() != JobExecutionStatus.SUCCEEDED
+                            && tracker.getJobInfo(id).status() != JobExecutionStatus.FAILED
+                    ))
+                && System.currentTimeMillis() - start < 20000
+        ) {
+            Thread.sleep(100);
+        }
+        // the first partition was collected, and the job prefetching the second one was cancelled
+        int[] jobs = tracker.getJobIdsForGroup(jobGroup);
+        Arrays.sort(jobs);
+        Assert.assertEquals(2, jobs.length);
+        Assert.assertEquals(JobExecutionStatus.SUCCEEDED, tracker.getJobInfo(jobs[0]).status());
+        Assert.assertEquals(JobExecutionStatus.FAILED, tracker.getJobInfo(jobs[1]).status());
+    }
+
+    @Test(timeout = 1000000)
+    public void testInteractiveSession() throws Throwable {
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        InteractiveSession session = new InteractiveSession();
+        Assert.assertEquals(
+            Arrays.asList("0"),
+            materializeSerialized(
+                rumble.runQuery(
+                    "declare variable $x := parallelize(1 to 10, 2); declare variable $y := 3; 0",
+                    session
+                )
+            )
+        );
+        Assert.assertEquals(2, session.describeVariables().size());
+        Assert.assertEquals(Arrays.asList("13"), materializeSerialized(rumble.runQuery("count($x) + $y", session)));
+
+        // a variable declared again replaces the previous one, and may depend on the other variables
+        rumble.runQuery("declare variable $y := sum($x); 1", session);
+        Assert.assertEquals(Arrays.asList("65"), materializeSerialized(rumble.runQuery("count($x) + $y", session)));
+
+        Assert.assertTrue(session.forgetVariable(Name.createVariableInNoNamespace("x")));
+        Assert.assertTrue(!session.forgetVariable(Name.createVariableInNoNamespace("x")));
+        try {
+            materializeSerialized(rumble.runQuery("count($x)", session));
+            Assert.fail("The variable should have been forgotten.");
+        } catch (RumbleException e) {
+            // expected
+        }
+        session.forgetAllVariables();
+        Assert.assertTrue(session.describeVariables().isEmpty());
+    }
+
+    @Test(timeout = 1000000)
+    public void testServerSessions() throws Throwable {
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        String declaration = "declare variable $x := parallelize(1 to 10, 2); 0";
+
+        // the least recently used session is closed when there are too many
+        ServerSessions sessions = new ServerSessions(2, 0);
+        InteractiveSession first = sessions.getOrCreateSession("first");
+        materializeSerialized(rumble.runQuery(declaration, first));
+        sessions.getOrCreateSession("second");
+        Assert.assertSame(first, sessions.getOrCreateSession("first"));
+        sessions.getOrCreateSession("third");
+        Assert.assertEquals(2, sessions.getNumberOfSessions());
+        Assert.assertEquals(1, first.describeVariables().size());
+        Assert.assertTrue(sessions.closeSession("first"));
+        Assert.assertTrue(first.describeVariables().isEmpty());
+        Assert.assertTrue(!sessions.closeSession("first"));
+        Assert.assertTrue(!sessions.closeSession("second"));
+
+        // sessions that are not used are closed after the timeout
+        sessions = new ServerSessions(2, 1);
+        InteractiveSession idle = sessions.getOrCreateSession("idle");
+        materializeSerialized(rumble.runQuery(declaration, idle));
+        Thread.sleep(1500);
+        sessions.getOrCreateSession("other");
+        Assert.assertEquals(1, sessions.getNumberOfSessions());
+        Assert.assertTrue(idle.describeVariables().isEmpty());
+        Assert.assertNotSame(idle, sessions.getOrCreateSession("idle"));
+    }
+
+    @Test(timeout = 1000000)
+    public void testQueryTimeout() throws Throwable {
+        String[] queries = new String[] {
+            "count(for $i in 1 to 1000000000 where $i mod 7 eq 0 return $i)",
+            "parallelize(1 to 4, 2) ! count(for $i in 1 to 1000000000 where $i mod 7 eq 0 return $i)",
+            "max(1 to 2000000000)",
+            "declare function local:loop($n) { if ($n eq 0) then 0 else local:loop($n - 1) }; local:loop(2000000000)",
+            "declare function local:fib($n) { if ($n lt 2) then $n else local:fib($n - 1) + local:fib($n - 2) }; "
+                + "local:fib(60)" };
+        Rumble rumble = new Rumble(
+                new RumbleRuntimeConfiguration(
+                        new String[] { "--timeout", "2", "--parallel-execution-threshold", "0" }
+                )
+        );
+        for (String query : queries) {
+            long start = System.currentTimeMillis();
+            try {
+                materializeSerialized(rumble.runQuery(query));
+                Assert.fail("The query should have timed out.");
+            } catch (QueryCancelledException e) {
+                Assert.assertTrue(e.getMessage().contains("more than 2 seconds"));
+            }
+            Assert.assertTrue(System.currentTimeMillis() - start < 60000);
+        }
+        // the next queries are not affected
+        rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        Assert.assertEquals(Arrays.asList("5"), materializeSerialized(rumble.runQuery("count(parallelize(1 to 5))")));
+        Assert.assertEquals(Arrays.asList("5"), materializeSerialized(rumble.runQuery("count(1 to 5)")));
+        // the jobs submitted by the thread after a query do not belong to its job group
+        Assert.assertNull(
+            SparkSessionManager.getInstance().getJavaSparkContext().getLocalProperty("spark.jobGroup.id")
+        );
+    }
+
+    @Test(timeout = 1000000)
+    public void testLibraryModuleCache() throws Throwable {
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        File module = File.createTempFile("cached-module", ".jq");
+        module.deleteOnExit();
+        String uri = module.toURI().toString();
+        String query = "import module namespace m = \"" + uri + "\"; m:f(10)";
+
+        Files.write(module.toPath(), moduleWithIncrement(uri, 1).getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(Arrays.asList("11"), materializeSerialized(rumble.runQuery(query)));
+        long hits = VisitorHelpers.getNumberOfCachedLibraryModuleParses();
+        Assert.assertEquals(Arrays.asList("11"), materializeSerialized(rumble.runQuery(query)));
+        Assert.assertEquals(hits + 1, VisitorHelpers.getNumberOfCachedLibraryModuleParses());
+
+        // a modified module is parsed again
+        Files.write(module.toPath(), moduleWithIncrement(uri, 2).getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(Arrays.asList("12"), materializeSerialized(rumble.runQuery(query)));
+        Assert.assertEquals(hits + 1, VisitorHelpers.getNumberOfCachedLibraryModuleParses());
+        Assert.assertEquals(Arrays.asList("12"), materializeSerialized(rumble.runQuery(query)));
+        Assert.assertEquals(hits + 2, VisitorHelpers.getNumberOfCachedLibraryModuleParses());
+    }
+
+    @Test(timeout = 1000000)
+    public void testTwoStageParsing() throws Throwable {
+        VisitorHelpers.warmUpParsers();
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        SequenceOfItems sequence = rumble.runQuery("for $i in 1 to 3 where $i ge 2 return { \"i\" : [ $i ] }.i[]");
+        Assert.assertTrue(sequence.getParsingTime() >= 0);
+        Assert.assertTrue(sequence.getTranslationTime() >= 0);
+        Assert.assertFalse(sequence.isParsedWithFullLL());
+        Assert.assertEquals(Arrays.asList("2", "3"), materializeSerialized(sequence));
+
+        // SLL prediction takes * as an occurrence indicator, as it ignores that the treat expression is an operand
+        sequence = rumble.runQuery("let $x := 2 return 3 treat as integer * $x");
+        Assert.assertTrue(sequence.isParsedWithFullLL());
+        Assert.assertEquals(Arrays.asList("6"), materializeSerialized(sequence));
+
+        // syntax errors are still reported by the second, full LL stage, at the same position
+        try {
+            rumble.runQuery("1 +\n for $i in");
+            Assert.fail();
+        } catch (ParsingException e) {
+            Assert.assertEquals(2, e.getMetadata().getTokenLineNumber());
+        }
+    }
+
+    @Test(timeout = 1000000)
+    public void testSaveLoadAndCacheFittedModels() throws Throwable {
+        String fit = "let $data := annotate("
+            + "({ \"x\" : 1.0, \"label\" : 2.0 }, { \"x\" : 2.0, \"label\" : 4.1 }, { \"x\" : 3.0, \"label\" : 5.9 }),"
+            + " { \"x\" : \"double\", \"label\" : \"double\" })"
+            + " let $vector-assembler := get-transformer(\"VectorAssembler\")"
+            + " let $data := $vector-assembler($data, { \"inputCols\" : [ \"x\" ], \"outputCol\" : \"features\" })"
+            + " let $est := get-estimator(\"LinearRegression\")"
+            + " let $model := $est($data, { \"featuresCol\" : \"features\" }) ";
+        String predictions = "$model(({ \"features\" : [ 4.0 ] }, { \"features\" : [ 5.0 ] }), { }).prediction";
+
+        Rumble rumble = new Rumble(new RumbleRuntimeConfiguration(new String[] { "--fitted-model-cache", "yes" }));
+        Item model = materialize(rumble.runQuery(fit + "return $model")).get(0);
+        Assert.assertTrue(model.isTransformer());
+        Assert.assertSame(
+            model.getTransformer(),
+            materialize(rumble.runQuery(fit + "return $model")).get(0).getTransformer()
+        );
+        Rumble uncachedRumble = new Rumble(new RumbleRuntimeConfiguration(new String[] {}));
+        Assert.assertNotSame(
+            model.getTransformer(),
+            materialize(uncachedRumble.runQuery(fit + "return $model")).get(0).getTransformer()
+        );
+
+        File directory = Files.createTempDirectory("saved-model").toFile();
+        try {
+            String path = new File(directory, "model").toURI().toString();
+            List<String> saved = materializeSerialized(
+                rumble.runQuery(fit + "return (save-transformer($model, \"" + path + "\"), " + predictions + ")")
+            );
+            Assert.assertEquals(3, saved.size());
+            List<String> loaded = materializeSerialized(
+                rumble.runQuery("let $model := load-transformer(\"" + path + "\") return " + predictions)
+            );
+            Assert.assertEquals(saved.subList(1, 3), loaded);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test(timeout = 1000000)
+    public void testLocalVariableBroadcast() throws Throwable {
+        List<Item> skus = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            skus.add(ItemFactory.getInstance().createStringItem("sku" + i));
+        }
+        Name name = Name.createVariableInNoNamespace("skus");
+        DynamicContext broadcastingContext = new DynamicContext(
+                new RumbleRuntimeConfiguration(new String[] { "--local-variable-broadcast-threshold", "100" })
+        );
+        broadcastingContext.getVariableValues().addVariableValue(name, skus);
+        DynamicContext serializingContext = new DynamicContext(
+                new RumbleRuntimeConfiguration(new String[] { "--local-variable-broadcast-threshold", "0" })
+        );
+        serializingContext.getVariableValues().addVariableValue(name, skus);
+
+        // the closures capturing the variable only ship the handle of a broadcast variable
+        byte[] broadcastingBytes = SerializationUtils.serialize(new DynamicContext(broadcastingContext));
+        byte[] serializingBytes = SerializationUtils.serialize(new DynamicContext(serializingContext));
+        Assert.assertTrue(broadcastingBytes.length * 10 < serializingBytes.length);
+        DynamicContext deserialized = (DynamicContext) SerializationUtils.deserialize(broadcastingBytes);
+        Assert.assertEquals(
+            skus,
+            deserialized.getVariableValues().getLocalVariableValue(name, ExceptionMetadata.EMPTY_METADATA)
+        );
+
+        String query = "let $skus := for $i in 1 to 1000 return \"sku\" || $i "
+            + "return (count(for $i in parallelize(1 to 3000, 8) where (\"sku\" || $i) = $skus return $i),"
+            + " count(parallelize(1 to 3000, 8)[(\"sku\" || $$) = $skus]))";
+        Rumble rumble = new Rumble(
+                new RumbleRuntimeConfiguration(new String[] { "--local-variable-broadcast-threshold", "100" })
+        );
+        Assert.assertEquals(Arrays.asList("1000", "1000"), materializeSerialized(rumble.runQuery(query)));
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String moduleWithIncrement(String uri, int increment) {
+        return "module namespace m = \""
+            + uri
+            + "\"; declare function m:f($x) { $x + $m:increment }; declare variable $m:increment := "
+            + increment
+            + ";";
+    }
+
+    private static List<Item> materialize(SequenceOfItems sequence) {
+        List<Item> result = new ArrayList<>();
+        sequence.open();
+        while (sequence.hasNext()) {
+            result.add(sequence.next());
+        }
+        sequence.close();
+        return result;
+    }
+
+    private static List<String> materializeSerialized(SequenceOfItems sequence) {
+        List<String> result = new ArrayList<>();
+        sequence.open();
+        while (sequence.hasNext()) {
+            result.add(sequence.next().serialize());
+        }
+        sequence.close();
+        return result;
+    }
 }
@@ -70,7 +70,12 @@ public class NativeFLWORRuntimeTests extends RuntimeTests {
             String expectedOutput,
             SequenceOfItems sequence
     ) {
-        String actualOutput = runIterators(sequence);
+        String actualOutput;
+        try {
+            actualOutput = runIterators(sequence);
+        } finally {
+            sequence.close();
+        }
         Assert.assertTrue(
             "Expected output: " + expectedOutput + " Actual result: " + actualOutput,
             expectedOutput.equals(actualOutput)
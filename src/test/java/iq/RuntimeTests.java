@@ -107,10 +107,14 @@ public class RuntimeTests extends AnnotationsTestsBase {
             SequenceOfItems sequence
     ) {
         String actualOutput;
-        if (!sequence.availableAsRDD()) {
-            actualOutput = runIterators(sequence);
-        } else {
-            actualOutput = getRDDResults(sequence);
+        try {
+            if (!sequence.availableAsRDD()) {
+                actualOutput = runIterators(sequence);
+            } else {
+                actualOutput = getRDDResults(sequence);
+            }
+        } finally {
+            sequence.close();
         }
         Assert.assertTrue(
             "Expected output: " + expectedOutput + "\nActual result: " + actualOutput,
@@ -56,7 +56,12 @@ public class SparkRuntimeTests extends RuntimeTests {
             String expectedOutput,
             SequenceOfItems sequence
     ) {
-        String actualOutput = runIterators(sequence);
+        String actualOutput;
+        try {
+            actualOutput = runIterators(sequence);
+        } finally {
+            sequence.close();
+        }
         Assert.assertTrue(
             "Expected output: " + expectedOutput + " Actual result: " + actualOutput,
             expectedOutput.equals(actualOutput)